@@ -21,6 +21,7 @@ package io.github.palexdev.virtualizedfx.base;
 import io.github.palexdev.mfxcore.base.properties.styleable.StyleableObjectProperty;
 import io.github.palexdev.virtualizedfx.enums.BufferSize;
 import io.github.palexdev.virtualizedfx.events.VFXContainerEvent;
+import io.github.palexdev.virtualizedfx.utils.VFXPagedList;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.*;
 import javafx.collections.ObservableList;
@@ -75,6 +76,8 @@ public interface VFXContainer<T> {
     /// We use a [ListProperty] because it offers many commodities such as both the size and emptiness of the list
     /// as observable properties, as well as the possibility of adding an [InvalidationListener] that will both inform
     /// about changes of the property and in the list.
+    ///
+    /// For data sets too big to be loaded in memory, see [VFXPagedList].
     ListProperty<T> itemsProperty();
 
     default void setItems(ObservableList<T> items) {
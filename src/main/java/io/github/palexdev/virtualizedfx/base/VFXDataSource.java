@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.base;
+
+import java.util.List;
+
+import io.github.palexdev.virtualizedfx.utils.VFXPagedList;
+
+/// Defines a source of items for virtualized containers that cannot, or should not, be fully loaded in memory. Think of
+/// a database cursor over millions of rows, or a remote paged API.
+///
+/// A data source is not meant to be used directly by the containers, rather it should be wrapped by a [VFXPagedList],
+/// which is an [javafx.collections.ObservableList] that loads the items asynchronously, one page at a time, and keeps
+/// only a bounded number of pages in memory.
+///
+/// Implementations must be thread-safe, as [#load(int, int)] is called on background threads, potentially concurrently.
+public interface VFXDataSource<T> {
+
+    /// @return the total number of items in the source. It can also be an estimate, in which case [#isSizeExact()]
+    /// should return `false`
+    int size();
+
+    /// Specifies whether [#size()] is the exact number of items or just an estimate.
+    ///
+    /// When it's an estimate, the [VFXPagedList] will correct it as soon as it finds out the real size, which happens
+    /// when a page returns fewer items than requested.
+    default boolean isSizeExact() {
+        return true;
+    }
+
+    /// Loads `count` items starting from the given offset. This is a blocking call, and it's never called on the
+    /// JavaFX thread.
+    ///
+    /// The returned list can contain fewer items than requested only if the end of the source is reached.
+    ///
+    /// @throws Exception if the items could not be loaded, the [VFXPagedList] will keep showing placeholders for them
+    /// and will try again the next time they are requested
+    List<T> load(int offset, int count) throws Exception;
+
+    /// @return the item to show at the given index while its page is being loaded. By default, `null`, which means that
+    /// the cells will appear empty
+    default T placeholder(int index) {
+        return null;
+    }
+}
@@ -27,6 +27,7 @@ import io.github.palexdev.mfxcore.controls.MFXControl;
 import io.github.palexdev.mfxcore.utils.fx.StyleUtils;
 import io.github.palexdev.virtualizedfx.base.VFXContext;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -62,14 +63,15 @@ import javafx.scene.Node;
 /// [#indexProperty()] and [#itemProperty()]. This means that your operations will run only and only if the
 /// property fires an invalidation/change event. In this base class the [#updateIndex(int)] and [#updateItem(Object)]
 /// methods are implemented naively, because we work on generic items, we don't know the model, which means that they
-/// update the respective properties without any check.
+/// update the respective properties without any check. The only exception is that [#updateItem(Object)] is skipped
+/// entirely if the cell already holds the very same instance, see [#isSameItem(Object)].
 ///
 /// - For the [#indexProperty()] it's tricky: the JVM caches Integers
 /// between -128 and 127, which means that the '==' operator only works in that range; for larger datasets, you may want to
 /// override the [#updateIndex(int)] method to actually check for equality.
 ///
 /// For the [#itemProperty()] it's the same concept. If you know the model, you may want to perform some equality
-/// check in the [#updateItem(Object)] method to avoid useless updates. For example, if in your dataset there are two
+/// check in the [#updateItem(Object)] method (or override [#isSameItem(Object)]) to avoid useless updates. For example, if in your dataset there are two
 /// `Person` objects with the same attributes but different references you may want to update the property (so that the
 /// reference is correct) but not perform any operation that strictly depends on the attributes (if a label displays the attributes,
 /// there's no need to re-compute the text)
@@ -120,12 +122,30 @@ public abstract class VFXCellBase<T> extends MFXControl implements VFXCell<T> {
 
     /// {@inheritDoc}
     ///
-    /// Updates the [#itemProperty()].
+    /// Updates the [#itemProperty()], unless [#isSameItem(Object)] returns `true`, in which case the call is a no-op.
+    /// Both the updates and the skipped calls are counted by the [VFXMetrics] service, if installed.
     @Override
     public void updateItem(T item) {
+        if (isSameItem(item)) {
+            VFXMetrics.onUpdateItemSkipped(context);
+            return;
+        }
+        VFXMetrics.onUpdateItem(context);
         setItem(item);
     }
 
+    /// Used by [#updateItem(Object)] to skip redundant updates. Containers may call it with the item the cell already
+    /// holds, for example when a cell is moved to a different index.
+    ///
+    /// By default, checks whether the given item is the same instance as the current one. Subclasses that know the model
+    /// can override this to use a cheaper or broader check, or return `false` to always update.
+    ///
+    /// **Beware:** this is also called from the constructor, through [#updateItem(Object)], which means that overrides
+    /// run before the subclass' fields are initialized, and thus must not depend on them.
+    protected boolean isSameItem(T item) {
+        return item == getItem();
+    }
+
     /// {@inheritDoc}
     ///
     /// Updates the [#indexProperty()].
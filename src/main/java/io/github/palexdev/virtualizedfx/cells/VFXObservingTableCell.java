@@ -84,10 +84,11 @@ public class VFXObservingTableCell<T, E> extends VFXSimpleTableCell<T, Observabl
 
     /// {@inheritDoc}
     ///
-    /// Before updating the item this disposes the [ObservableValue] previously extracted by [#getProperty()].
+    /// Before updating the item this disposes the [ObservableValue] previously extracted by [#getProperty()],
+    /// unless the update is going to be skipped, see [#isSameItem(Object)].
     @Override
     public void updateItem(T item) {
-        property = null;
+        if (!isSameItem(item)) property = null;
         super.updateItem(item);
     }
 
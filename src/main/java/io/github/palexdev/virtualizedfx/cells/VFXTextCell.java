@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.cells;
+
+import java.util.function.Function;
+
+import io.github.palexdev.mfxcore.controls.MFXControl;
+import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
+import io.github.palexdev.virtualizedfx.base.VFXContext;
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.events.VFXContainerEvent;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Text;
+import javafx.util.StringConverter;
+
+/// Lightweight alternative to [VFXSimpleCell], meant for containers that display a huge number of text lines, such as
+/// log or trace viewers, where the number of nodes in the scene graph dominates the frame time.
+///
+/// [VFXSimpleCell] is a full [MFXControl]: every instance comes with a behavior,
+/// a skin, a `Label` (which in turn is a control with its own skin and `Text`), properties, bindings and style classes.
+/// This cell instead is just a [Region] that draws the item with a single [Text] node and, only if an icon function is
+/// set and returns an image for the item, an [ImageView] on its left.
+///
+/// Compared to [VFXCellBase]:
+/// - there is no skin and no behavior, the layout is done here in [#layoutChildren()]. The children are not managed, so
+/// changing the text does not request a layout of the container's viewport
+/// - the index and the item are plain fields, not properties, so nothing can listen to them
+/// - there are no default style classes and no styleable properties. The text is styled in code through
+/// [#getTextNode()], for example by setting its font and fill
+///
+/// The text is computed by the [StringConverter] (by default `toString()`, or an empty string for `null` items), only
+/// when the item actually changes. Just like [VFXCellBase], updates with the same item instance are skipped and counted
+/// by [VFXMetrics], if installed. A manual update, through an event of type [VFXContainerEvent#UPDATE], re-renders the
+/// cell regardless.
+public class VFXTextCell<T> extends Region implements VFXCell<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private VFXContext<T> context;
+    private int index = -1;
+    private T item;
+
+    private final Text text = new Text();
+    private ImageView icon;
+    private StringConverter<T> converter;
+    private Function<T, Image> iconFunction;
+    private double gap = 4.0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXTextCell(T item) {
+        this(item, FunctionalStringConverter.to(t -> (t != null) ? t.toString() : ""));
+    }
+
+    public VFXTextCell(T item, StringConverter<T> converter) {
+        this.converter = converter;
+        text.setTextOrigin(VPos.TOP);
+        text.setManaged(false);
+        getChildren().add(text);
+        setFocusTraversable(false);
+        addEventHandler(VFXContainerEvent.UPDATE, e -> {
+            render();
+            e.consume();
+        });
+        this.item = item;
+        render();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Updates the text and, if an icon function is set, the icon for the current item. Cheap operations, but still
+    /// called only when the item changes.
+    protected void render() {
+        text.setText(converter.toString(item));
+        if (iconFunction == null) return;
+        boolean hadIcon = hasIcon();
+        Image image = iconFunction.apply(item);
+        if (image == null) {
+            if (icon != null) icon.setVisible(false);
+        } else {
+            if (icon == null) {
+                icon = new ImageView();
+                icon.setManaged(false);
+                getChildren().add(icon);
+            }
+            icon.setImage(image);
+            icon.setVisible(true);
+        }
+        if (hadIcon != hasIcon()) setNeedsLayout(true);
+    }
+
+    /// @return whether the icon is present and visible
+    protected boolean hasIcon() {
+        return icon != null && icon.isVisible();
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// Lays out the icon (if any) and the text horizontally, from the left inset, centered vertically.
+    /// The text is not clipped nor truncated.
+    @Override
+    protected void layoutChildren() {
+        double x = snappedLeftInset();
+        double top = snappedTopInset();
+        double h = getHeight() - top - snappedBottomInset();
+        if (hasIcon()) {
+            double iw = icon.prefWidth(-1);
+            double ih = icon.prefHeight(-1);
+            icon.relocate(snapPositionX(x), snapPositionY(top + (h - ih) / 2.0));
+            x += iw + gap;
+        }
+        double th = text.getLayoutBounds().getHeight();
+        text.relocate(snapPositionX(x), snapPositionY(top + (h - th) / 2.0));
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        double w = text.getLayoutBounds().getWidth();
+        if (hasIcon()) w += icon.prefWidth(-1) + gap;
+        return snappedLeftInset() + w + snappedRightInset();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        double h = text.getLayoutBounds().getHeight();
+        if (hasIcon()) h = Math.max(h, icon.prefHeight(-1));
+        return snappedTopInset() + h + snappedBottomInset();
+    }
+
+    @Override
+    public Node toNode() {
+        return this;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Just stores the index, nothing depends on it.
+    @Override
+    public void updateIndex(int index) {
+        this.index = index;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Stores the item and re-renders the cell, unless it's the same instance the cell already holds, in which case the
+    /// call is a no-op. Both the updates and the skipped calls are counted by the [VFXMetrics] service, if installed.
+    @Override
+    public void updateItem(T item) {
+        if (item == this.item) {
+            VFXMetrics.onUpdateItemSkipped(context);
+            return;
+        }
+        VFXMetrics.onUpdateItem(context);
+        this.item = item;
+        render();
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The implementation stores the context and prevents overwrites once the instance is set (not null anymore).
+    @Override
+    public void onCreated(VFXContext<T> context) {
+        if (this.context == null)
+            this.context = context;
+    }
+
+    @Override
+    public void dispose() {
+        context = null;
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+
+    /// @return the context of the container this cell was created by
+    protected VFXContext<T> getContext() {
+        return context;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    /// @return the [Text] node used to display the item. Use it to set the font, fill, and other text attributes in code
+    public Text getTextNode() {
+        return text;
+    }
+
+    public StringConverter<T> getConverter() {
+        return converter;
+    }
+
+    /// Sets the [StringConverter] used to convert the item to the displayed text, and re-renders the cell.
+    public void setConverter(StringConverter<T> converter) {
+        this.converter = converter;
+        render();
+    }
+
+    public Function<T, Image> getIconFunction() {
+        return iconFunction;
+    }
+
+    /// Sets the function used to get the icon for an item, and re-renders the cell. The function may return `null`
+    /// for items that have no icon. Set it to `null` to remove the icon altogether.
+    public void setIconFunction(Function<T, Image> iconFunction) {
+        this.iconFunction = iconFunction;
+        if (iconFunction == null && icon != null) {
+            getChildren().remove(icon);
+            icon = null;
+        }
+        render();
+        setNeedsLayout(true);
+    }
+
+    public double getGap() {
+        return gap;
+    }
+
+    /// Sets the horizontal gap between the icon and the text.
+    public void setGap(double gap) {
+        this.gap = gap;
+        setNeedsLayout(true);
+    }
+}
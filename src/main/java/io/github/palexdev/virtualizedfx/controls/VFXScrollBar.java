@@ -19,6 +19,7 @@
 package io.github.palexdev.virtualizedfx.controls;
 
 import java.util.List;
+import java.util.function.DoubleConsumer;
 import java.util.function.Supplier;
 
 import io.github.palexdev.mfxcore.base.properties.styleable.StyleableBooleanProperty;
@@ -55,6 +56,7 @@ import javafx.scene.Node;
 /// - the possibility of controlling the gap between the buttons and the thumb, [#buttonsGapProperty()]
 /// - inbuilt smooth scroll both for the thumb and the track, [#smoothScrollProperty()], [#trackSmoothScrollProperty()]
 /// - the possibility of querying the scroll direction, [#scrollDirectionProperty()]
+/// - the possibility of handling relative increments (buttons and scroll events) externally, [#incrementHandlerProperty()]
 ///
 /// Three [PseudoClass] worth mentioning:
 ///
@@ -94,6 +96,7 @@ public class VFXScrollBar extends MFXControl {
     );
 
     private final ObjectProperty<ScrollDirection> scrollDirection = new SimpleObjectProperty<>();
+    private final ObjectProperty<DoubleConsumer> incrementHandler = new SimpleObjectProperty<>();
 
     //================================================================================
     // Constructors
@@ -445,4 +448,21 @@ public class VFXScrollBar extends MFXControl {
     public ReadOnlyObjectProperty<ScrollDirection> scrollDirectionProperty() {
         return scrollDirection;
     }
+
+    public DoubleConsumer getIncrementHandler() {
+        return incrementHandler.get();
+    }
+
+    /// Specifies the function which applies relative increments, the ones given by the [#unitIncrementProperty()]
+    /// (the buttons and scroll events). The function receives the delta to add to the [#valueProperty()].
+    ///
+    /// By default, this is `null`, meaning that the delta is simply added to the value. Components whose position is not
+    /// linear with respect to the value can use this to apply increments on their own, see [VFXScrollBarBehavior].
+    public ObjectProperty<DoubleConsumer> incrementHandlerProperty() {
+        return incrementHandler;
+    }
+
+    public void setIncrementHandler(DoubleConsumer incrementHandler) {
+        this.incrementHandler.set(incrementHandler);
+    }
 }
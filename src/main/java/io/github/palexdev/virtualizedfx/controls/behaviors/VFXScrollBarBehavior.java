@@ -20,6 +20,7 @@ package io.github.palexdev.virtualizedfx.controls.behaviors;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.DoubleConsumer;
 
 import io.github.palexdev.mfxcore.base.beans.range.DoubleRange;
 import io.github.palexdev.mfxcore.behavior.MFXBehavior;
@@ -273,13 +274,21 @@ public class VFXScrollBarBehavior extends MFXBehavior<VFXScrollBar> {
     /// has been adjusted, but the mouse is still pressed. Here's when the second animation comes into play.
     /// It basically detects if the mouse is being hold (the delay is specified by [#HOLD_DELAY]) and makes the
     /// thumb reposition with a [ConsumerTransition].
+    ///
+    /// If the [VFXScrollBar#incrementHandlerProperty()] is set, the first tick is not animated, and every adjustment is
+    /// made through [#increment(double)].
     public void buttonPressed(MouseEvent me, int mul) {
         stopAnimations();
         requestFocus();
 
         VFXScrollBar bar = getNode();
         // First scroll tick
-        Animation firstTick = firstTick(bar.getValue() + bar.getUnitIncrement() * mul);
+        Animation firstTick = null;
+        if (bar.getIncrementHandler() == null) {
+            firstTick = firstTick(bar.getValue() + bar.getUnitIncrement() * mul);
+        } else {
+            increment(bar.getUnitIncrement() * mul);
+        }
 
         // Detect hold
         holdAnimation = onHold(e -> {
@@ -293,14 +302,14 @@ public class VFXScrollBarBehavior extends MFXBehavior<VFXScrollBar> {
              * by a fourth
              */
             scrollAnimation = ConsumerTransition.of(
-                f -> bar.setValue(bar.getValue() + bar.getUnitIncrement() * 0.25 * mul),
+                f -> increment(bar.getUnitIncrement() * 0.25 * mul),
                 15.0
             );
             scrollAnimation.setCycleCount(Animation.INDEFINITE);
             scrollAnimation.play();
         });
         getAndSetScrollDirection(mul == 1);
-        firstTick.play();
+        if (firstTick != null) firstTick.play();
         holdAnimation.play();
     }
 
@@ -339,6 +348,18 @@ public class VFXScrollBarBehavior extends MFXBehavior<VFXScrollBar> {
         return (delta != 0) ? delta : (se.getDeltaY() != 0) ? se.getDeltaY() : se.getDeltaX();
     }
 
+    /// Adjusts the scroll bar's value by the given delta. This is used for relative increments (buttons and scroll
+    /// events). If the [VFXScrollBar#incrementHandlerProperty()] is set, the delta is passed to it instead.
+    protected void increment(double delta) {
+        VFXScrollBar bar = getNode();
+        DoubleConsumer handler = bar.getIncrementHandler();
+        if (handler != null) {
+            handler.accept(delta);
+        } else {
+            bar.setValue(bar.getValue() + delta);
+        }
+    }
+
     /// Requests focus for the scroll bar if it's not already focused and if it's focus traversable.
     protected void requestFocus() {
         VFXScrollBar bar = getNode();
@@ -406,7 +427,7 @@ public class VFXScrollBarBehavior extends MFXBehavior<VFXScrollBar> {
     ///
     /// Then we determine the scroll direction with [#getAndSetScrollDirection(boolean)] and depending on the
     /// [VFXScrollBar#smoothScrollProperty()] the scroll value is adjuster either by a [MomentumTransition] or
-    /// by the setter.
+    /// directly. In both cases, the adjustments are made through [#increment(double)].
     @Override
     public void scroll(ScrollEvent se, Runnable callback) {
         VFXScrollBar bar = getNode();
@@ -420,13 +441,13 @@ public class VFXScrollBarBehavior extends MFXBehavior<VFXScrollBar> {
         if (bar.isSmoothScroll()) {
             double deltaVal = bar.getValue() - (bar.getValue() + bar.getUnitIncrement() * -mul);
             Animation mt = withMomentum(deltaVal, SMOOTH_SCROLL_DURATION)
-                .setOnUpdate(u -> bar.setValue(bar.getValue() + u))
+                .setOnUpdate(this::increment)
                 .setInterpolatorFluent(Motion.EASE);
             mt.setOnFinished(e -> smoothScrollAnimations.remove(mt));
             smoothScrollAnimations.add(mt);
             mt.play();
         } else {
-            bar.setValue(bar.getValue() + bar.getUnitIncrement() * mul);
+            increment(bar.getUnitIncrement() * mul);
         }
         callback.run();
     }
@@ -25,6 +25,9 @@ import io.github.palexdev.virtualizedfx.enums.ScrollPaneEnums.HBarPos;
 import io.github.palexdev.virtualizedfx.enums.ScrollPaneEnums.ScrollBarPolicy;
 import io.github.palexdev.virtualizedfx.enums.ScrollPaneEnums.ScrollBarsAlignment;
 import io.github.palexdev.virtualizedfx.enums.ScrollPaneEnums.VBarPos;
+import io.github.palexdev.virtualizedfx.enums.ScrollUnits;
+import io.github.palexdev.virtualizedfx.list.VFXList;
+import io.github.palexdev.virtualizedfx.list.VFXListHelper;
 import io.github.palexdev.virtualizedfx.table.VFXTable;
 import javafx.animation.Animation;
 import javafx.animation.Interpolator;
@@ -306,11 +309,18 @@ public class VFXScrollPaneSkin extends MFXSkinBase<VFXScrollPane> {
     /// Virtualized content ([VFXContainer]) and standard content are treated differently! While the latter is
     /// translated for real by using the translateX/Y properties, the virtualized content is not moved but its
     /// [VFXContainer#vPosProperty()] and [VFXContainer#hPosProperty()] are bound appropriately.
+    ///
+    /// For [VFXList]s, relative increments along the virtualized axis are also handled by [VFXList#scrollBy(double)]
+    /// (see [VFXScrollBar#incrementHandlerProperty()]), because the position may not be linear (see
+    /// [VFXListHelper.AbstractAnchoredHelper]). The increment is converted to pixels by multiplying it by the max scroll, which is
+    /// exactly the inverse of what [ScrollUnits] do.
     protected void updateScrollBindings(Node oldContent, Node newContent) {
         if (oldContent != null) {
             oldContent.translateXProperty().unbind();
             oldContent.translateYProperty().unbind();
         }
+        vBar.setIncrementHandler(null);
+        hBar.setIncrementHandler(null);
         if (newContent == null) return;
 
         VFXScrollPane pane = getSkinnable();
@@ -344,6 +354,24 @@ public class VFXScrollPaneSkin extends MFXSkinBase<VFXScrollPane> {
             vBinding = new VirtualScrollBinding(Orientation.VERTICAL, c).bind();
             hBinding = new VirtualScrollBinding(Orientation.HORIZONTAL, c).bind();
             virtualBoundsListener = observe(pane::requestLayout, c.maxHScrollProperty(), c.maxVScrollProperty()).listen();
+            if (c instanceof VFXList<?, ?> l) {
+                vBar.setIncrementHandler(d -> {
+                    double px = d * l.getMaxVScroll();
+                    if (l.getOrientation() == Orientation.VERTICAL) {
+                        l.scrollBy(px);
+                    } else {
+                        l.setVPos(l.getVPos() + px);
+                    }
+                });
+                hBar.setIncrementHandler(d -> {
+                    double px = d * l.getMaxHScroll();
+                    if (l.getOrientation() == Orientation.HORIZONTAL) {
+                        l.scrollBy(px);
+                    } else {
+                        l.setHPos(l.getHPos() + px);
+                    }
+                });
+            }
         }
     }
 
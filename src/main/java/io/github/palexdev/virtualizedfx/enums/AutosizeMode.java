@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.enums;
+
+import io.github.palexdev.virtualizedfx.cells.base.VFXMappingTableCell;
+import io.github.palexdev.virtualizedfx.table.AutosizeSampler;
+import io.github.palexdev.virtualizedfx.table.VFXTable;
+import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
+import io.github.palexdev.virtualizedfx.table.VFXTableRow;
+
+/// Enumerator to specify which items are considered when auto-sizing the columns of a [VFXTable].
+///
+/// All modes except [#VIEWPORT] measure the cells' text off-scene through an [AutosizeSampler], which requires
+/// the columns to produce cells implementing [VFXMappingTableCell]. For columns that don't, the table falls back
+/// to [#VIEWPORT].
+///
+/// @see VFXTable#autosizeModeProperty()
+/// @see VFXTable#autosizeSampleSizeProperty()
+public enum AutosizeMode {
+
+    /// Only the rows currently in the viewport are measured, by asking their cells the preferred width,
+    /// see [VFXTableRow#getWidthOf(VFXTableColumn, boolean)].
+    VIEWPORT,
+
+    /// The text of every item is measured. The most accurate, but also the slowest for huge datasets.
+    ALL,
+
+    /// Every item is converted to a string, but only the N longest strings (by number of characters) are measured,
+    /// where N is given by [VFXTable#autosizeSampleSizeProperty()]. The string conversion is usually way cheaper than
+    /// the measurement, so this is a good compromise between speed and accuracy.
+    LONGEST,
+
+    /// Only N random items are converted and measured, where N is given by [VFXTable#autosizeSampleSizeProperty()].
+    /// The fastest, but the result is an estimate.
+    RANDOM,
+    ;
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.enums;
+
+import io.github.palexdev.virtualizedfx.jfr.VFXStateEvent;
+
+/// Enumerates the kinds of changes that can lead a virtualized container to compute a new state.
+/// Used by the [VFXStateEvent] JFR event.
+public enum StateTrigger {
+    GEOMETRY,
+    POSITION,
+    PAGE,
+    ITEMS,
+    FACTORY,
+    SIZE,
+    SPACING,
+    ORIENTATION,
+    COLUMNS,
+    OTHER,
+    ;
+}
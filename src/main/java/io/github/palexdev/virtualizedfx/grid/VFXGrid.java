@@ -45,9 +45,12 @@ import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.controls.VFXScrollPane;
 import io.github.palexdev.virtualizedfx.enums.BufferSize;
 import io.github.palexdev.virtualizedfx.events.VFXContainerEvent;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXStateEvent;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.properties.VFXGridStateProperty;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -57,6 +60,7 @@ import javafx.css.StyleablePropertyFactory;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
 
 import static io.github.palexdev.virtualizedfx.utils.ScrollParams.cells;
 
@@ -250,8 +254,17 @@ public class VFXGrid<T, C extends VFXCell<T>> extends MFXControl
         return new VFXCellsCache<>(cellFactory, getCacheCapacity());
     }
 
-    /// Setter for the [#stateProperty()].
+    /// Setter for the [#stateProperty()]. The update is also counted by the [VFXMetrics] service, if installed, and
+    /// commits the pending [VFXStateEvent], see [VFXEvents].
     protected void update(VFXGridState<T, C> state) {
+        VFXGridState<T, C> old = getState();
+        VFXMetrics.onStateUpdate(this, state.size());
+        VFXEvents.commitState(
+            this,
+            old.getRowsRange(), old.getColumnsRange(),
+            state.getRowsRange(), state.getColumnsRange(),
+            state.size()
+        );
         setState(state);
     }
 
@@ -342,6 +355,23 @@ public class VFXGrid<T, C extends VFXCell<T>> extends MFXControl
         return this;
     }
 
+    /// Delegate for [VFXCellsCache#populateAsync()].
+    public VFXGrid<T, C> populateCacheAsync() {
+        cache.populateAsync();
+        return this;
+    }
+
+    /// Delegate for [VFXCellsCache#populateAsync(int, Duration)].
+    public VFXGrid<T, C> populateCacheAsync(int cellsPerPulse, Duration budget) {
+        cache.populateAsync(cellsPerPulse, budget);
+        return this;
+    }
+
+    /// Delegate for [VFXCellsCache#populateProgressProperty()].
+    public ReadOnlyDoubleProperty cachePopulateProgressProperty() {
+        return cache.populateProgressProperty();
+    }
+
     /// Delegate for [VFXGridState#getRowsRange()]
     public IntegerRange getRowsRange() {return getState().getRowsRange();}
 
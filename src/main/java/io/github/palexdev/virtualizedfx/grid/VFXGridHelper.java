@@ -30,13 +30,16 @@ import io.github.palexdev.mfxcore.builders.bindings.DoubleBindingBuilder;
 import io.github.palexdev.mfxcore.builders.bindings.ObjectBindingBuilder;
 import io.github.palexdev.mfxcore.utils.GridUtils;
 import io.github.palexdev.mfxcore.utils.NumberUtils;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.base.VFXContainerHelper;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.utils.DirectionalBuffer;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.geometry.Orientation;
 import javafx.scene.Node;
 
 import static io.github.palexdev.mfxcore.base.beans.Position.position;
@@ -196,6 +199,8 @@ public interface VFXGridHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
     /// reaches the max scroll.
     /// The range computation has the following dependencies: the number of columns, the grid's height, vertical position,
     /// the buffer size, the number of items, the cell size and the vertical spacing.
+    /// When a [DirectionalBuffer] is installed on the grid, the start of both ranges is shifted towards the scroll
+    /// direction, see [DirectionalBuffer#rangeStart(VFXContainer, Orientation, int, int, double, double)].
     ///
     /// - the viewport position, a computation that is at the core of virtual scrolling. The viewport, which contains the cells,
     /// is not supposed to scroll by insane numbers of pixels both for performance reasons and because it is not necessary.
@@ -240,7 +245,10 @@ public interface VFXGridHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
                     int needed = totalColumns();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstColumn() - container.getBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.HORIZONTAL, firstColumn(), container.getBufferSize().val(),
+                        container.getHPos(), getTotalCellSize().width()
+                    );
                     int end = Math.min(maxColumns() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
                     return IntegerRange.of(start, end);
@@ -258,9 +266,19 @@ public interface VFXGridHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
                     int needed = totalRows();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstRow() - container.getBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.VERTICAL, firstRow(), container.getBufferSize().val(),
+                        container.getVPos(), getTotalCellSize().height()
+                    );
                     int end = Math.min(maxRows() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
+
+                    // Items are prefetched by linear index
+                    int nColumns = maxColumns();
+                    DirectionalBuffer.prefetchItems(container, Orientation.VERTICAL, IntegerRange.of(
+                        start * nColumns,
+                        Math.min(container.size() - 1, (end + 1) * nColumns - 1)
+                    ));
                     return IntegerRange.of(start, end);
                 })
                 .addSources(container.columnsNumProperty())
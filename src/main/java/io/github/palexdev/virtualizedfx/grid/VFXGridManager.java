@@ -18,22 +18,26 @@
 
 package io.github.palexdev.virtualizedfx.grid;
 
-import java.util.LinkedHashSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.SequencedMap;
-import java.util.Set;
 
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.behavior.MFXBehavior;
 import io.github.palexdev.mfxcore.utils.GridUtils;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
 import io.github.palexdev.virtualizedfx.list.VFXListManager;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.utils.IndexBiMap.StateMap;
+import io.github.palexdev.virtualizedfx.utils.IndexBuffer;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ListProperty;
+import javafx.collections.ListChangeListener.Change;
 import javafx.geometry.Orientation;
 
 /// Default behavior implementation for[VFXGrid]. Although, to be precise, and as the name also suggests,
@@ -49,7 +53,7 @@ import javafx.geometry.Orientation;
 /// - cell factory changes, [#onCellFactoryChanged()]
 /// - cell size changes, [#onCellSizeChanged()]
 /// - spacing changes, [#onSpacingChanged()]
-/// - items changes, [#onItemsChanged()]
+/// - items changes, [#onItemsChanged(Change)] and [#onItemsChanged()]
 ///
 /// Last but not least, some of these computations may need to ensure the current vertical and horizontal positions are correct,
 /// so that a valid new state can be produced. To achieve this, [VFXGridHelper#invalidatePos()] is called when necessary.
@@ -57,11 +61,15 @@ import javafx.geometry.Orientation;
 /// triggered, thus generating an unwanted 'middle' state. For this reason a special flag [#invalidatingPos] is set
 /// to `true` before the invalidation, so that the other method will exit immediately. It's reset back to false
 /// after the computation or if any of the checks before the actual computation fails.
+///
+/// The algorithms iterate on the ranges with primitive loops and collect the linear indexes that need a cell update in a
+/// reusable [IndexBuffer], [#remaining], so that a steady-state scroll neither boxes indexes nor builds temporary sets.
 public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid<T, C>> {
     //================================================================================
     // Properties
     //================================================================================
     protected boolean invalidatingPos = false;
+    protected final IndexBuffer remaining = new IndexBuffer();
 
     //================================================================================
     // Constructors
@@ -86,6 +94,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     protected void onGeometryChanged() {
         invalidatingPos = true;
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.GEOMETRY);
         VFXGridHelper<T, C> helper = grid.getHelper();
         if (!gridFactorySizeCheck()) return;
 
@@ -108,6 +117,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     /// This core method is responsible for updating the grid's state when the vertical and horizontal positions change.
     /// Since the grid doesn't use any throttling technique to limit the number of events/changes,
     /// and since scrolling can happen very fast, performance here is crucial.
+    /// (By default, this runs on every position change. Installing a [PositionCoalescer] limits it to once per pulse.)
     ///
     /// Immediately exits if: the special flag [#invalidatingPos] is true or the current state is [VFXGridState#INVALID].
     /// Many other computations here need to validate the positions by calling [VFXGridHelper#invalidatePos()],
@@ -144,6 +154,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     protected void onPositionChanged(Orientation axis) {
         if (invalidatingPos) return;
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.POSITION);
         VFXGridState<T, C> state = grid.getState();
         if (state == VFXGridState.INVALID) return;
 
@@ -185,6 +196,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     protected void onColumnsNumChanged() {
         invalidatingPos = true;
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.COLUMNS);
         if (!gridFactorySizeCheck()) return;
         VFXGridHelper<T, C> helper = grid.getHelper();
 
@@ -223,6 +235,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     /// The great thing about the factory change is that there is no need to invalidate the position.
     protected void onCellFactoryChanged() {
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.FACTORY);
 
         // Dispose current state, cells if any (not INVALID) are now in cache
         // Purge cache too, cells are from old factory
@@ -253,6 +266,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     protected void onCellSizeChanged() {
         invalidatingPos = true;
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.SIZE);
         VFXGridHelper<T, C> helper = grid.getHelper();
 
         // Ensure positions are valid!
@@ -284,6 +298,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     protected void onSpacingChanged() {
         invalidatingPos = true;
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.SPACING);
         if (!gridFactorySizeCheck()) return;
         VFXGridHelper<T, C> helper = grid.getHelper();
 
@@ -339,14 +354,12 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     /// [VFXGridState#removeCell(Object)]. First, we retrieve the item from the list from the row and column
     /// coordinates (make sure to read the [VFXGridState] docs to understand how indexes are managed!), then we try
     /// to remove tge cell for that item from the current state. If the cell is found, we update it by index and add it to
-    /// the new state. Here's a difference between this method and the one used by [VFXListManager]: the latter expands
-    /// the range of items to display to a `Set` and removes every index for which a cell is found in the current state.
-    /// This, however, is not possible here, because we have two ranges, so instead we do the opposite. While iterating on
-    /// the ranges, if the cell was not found, then we add the index to a `Set`, this set represents the remaining items,
-    /// those for which any of these three things may happen: a new cell is created, a cell is polled from the cache and
-    /// updated, a cell from the current state is updated and moved to the new state.
+    /// the new state. Just like in [VFXListManager], while iterating on the ranges, if the cell was not found, then we add
+    /// the linear index to the [#remaining] buffer, which represents the remaining items, those for which any of these
+    /// three things may happen: a new cell is created, a cell is polled from the cache and updated, a cell from the current
+    /// state is updated and moved to the new state.
     ///
-    /// The processing of those remaining elements is delegated to the [#remainingAlgorithm(Set, VFXGridState)].
+    /// The processing of those remaining elements is delegated to the [#remainingAlgorithm(IndexBuffer, VFXGridState)].
     ///
     /// Last notes:
     ///
@@ -362,6 +375,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     protected void onItemsChanged() {
         invalidatingPos = true;
         VFXGrid<T, C> grid = getNode();
+        VFXEvents.beginState(grid, StateTrigger.ITEMS);
         VFXGridHelper<T, C> helper = grid.getHelper();
 
         /*
@@ -387,13 +401,13 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
         int nColumns = helper.maxColumns();
         IntegerRange rowsRange = helper.rowsRange();
         IntegerRange columnsRange = helper.columnsRange();
-        Set<Integer> remaining = new LinkedHashSet<>();
+        IndexBuffer remaining = this.remaining.clear();
         VFXGridState<T, C> newState = new VFXGridState<>(grid, rowsRange, columnsRange);
 
         // Index updates
         outer_loop:
-        for (Integer rIdx : rowsRange) {
-            for (Integer cIdx : columnsRange) {
+        for (int rIdx = rowsRange.getMin(); rIdx <= rowsRange.getMax(); rIdx++) {
+            for (int cIdx = columnsRange.getMin(); cIdx <= columnsRange.getMax(); cIdx++) {
                 int linear = GridUtils.subToInd(nColumns, rIdx, cIdx);
                 if (linear >= grid.size()) break outer_loop;
                 T item = helper.indexToItem(linear);
@@ -416,6 +430,173 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
         invalidatingPos = false;
     }
 
+    /// Incremental version of [#onItemsChanged()] which makes use of the information carried by the [Change].
+    ///
+    /// The full algorithm looks up the cell of every item in range by identity, even if the change happened far away
+    /// from the viewport (e.g. an append at the end of a huge gallery). Here instead, the linear indexes of the cells in
+    /// the current state ([#stateIndexes(VFXGridState)]) are 'replayed' through the change by [Utils#shiftIndexes(Change, int\[\])].
+    /// This way we know for each cell: whether its item was removed, or the new linear index of its item.
+    ///
+    /// At this point, after invalidating the virtual sizes and the positions as [#onItemsChanged()] does, two things can happen:
+    ///
+    /// 1) The ranges, the number of columns ([VFXGridHelper#maxColumns()]), the number of cells and the indexes of the cells
+    /// did not change. This means that the change occurred completely outside the viewport (or was an update of the items'
+    /// content). There's no need to compute a new state.
+    ///
+    /// 2) Otherwise, cells whose item is still in the new ranges are moved to the new state, updated only by index if needed.
+    /// The remaining linear indexes are processed by the [#remainingAlgorithm(IndexBuffer, VFXGridState)].
+    ///
+    /// Falls back to [#onItemsChanged()] if the current state is [VFXGridState#INVALID] or empty, or when a replacement
+    /// overlaps the cells in the viewport.
+    protected void onItemsChanged(Change<? extends T> change) {
+        VFXGrid<T, C> grid = getNode();
+        VFXGridState<T, C> current = grid.getState();
+        if (current == VFXGridState.INVALID || current.isEmpty()) {
+            onItemsChanged();
+            return;
+        }
+
+        int[] lastIndexes = stateIndexes(current);
+        int[] indexes = lastIndexes.clone();
+        if (!Utils.shiftIndexes(change, indexes)) {
+            onItemsChanged();
+            return;
+        }
+
+        invalidatingPos = true;
+        VFXEvents.beginState(grid, StateTrigger.ITEMS);
+        VFXGridHelper<T, C> helper = grid.getHelper();
+        helper.invalidateVirtualSizes();
+        helper.invalidatePos();
+        if (!gridFactorySizeCheck()) return;
+
+        int nColumns = helper.maxColumns();
+        IntegerRange rowsRange = helper.rowsRange();
+        IntegerRange columnsRange = helper.columnsRange();
+
+        // Check whether the state is still valid as it is
+        boolean unchanged = nColumns == current.getMaxColumns() &&
+                            rowsRange.equals(current.getRowsRange()) &&
+                            columnsRange.equals(current.getColumnsRange()) &&
+                            Arrays.equals(lastIndexes, indexes) &&
+                            helper.visibleCells() == current.size();
+        if (unchanged) {
+            invalidatingPos = false;
+            return;
+        }
+
+        VFXGridState<T, C> newState = new VFXGridState<>(grid, rowsRange, columnsRange);
+        StateMap<T, C> cells = current.getCells();
+
+        // Retained cells are just shifted
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (index < 0) continue;
+            int rIdx = index / nColumns;
+            int cIdx = index % nColumns;
+            if (rIdx < rowsRange.getMin() || rIdx > rowsRange.getMax() ||
+                cIdx < columnsRange.getMin() || cIdx > columnsRange.getMax()) continue;
+            C c = cells.remove(lastIndexes[i]);
+            if (index != lastIndexes[i]) c.updateIndex(index);
+            newState.addCell(index, c);
+        }
+
+        // Indexes that were not filled by the retained cells
+        IndexBuffer remaining = this.remaining.clear();
+        StateMap<T, C> newCells = newState.getCells();
+        outer_loop:
+        for (int rIdx = rowsRange.getMin(); rIdx <= rowsRange.getMax(); rIdx++) {
+            for (int cIdx = columnsRange.getMin(); cIdx <= columnsRange.getMax(); cIdx++) {
+                int linear = GridUtils.subToInd(nColumns, rIdx, cIdx);
+                if (linear >= grid.size()) break outer_loop;
+                if (!newCells.contains(linear)) remaining.add(linear);
+            }
+        }
+
+        // Process remaining with the "remaining' algorithm"
+        remainingAlgorithm(remaining, newState);
+
+        if (disposeCurrent()) newState.setCellsChanged(true);
+        grid.update(newState);
+        if (!newState.haveCellsChanged()) grid.requestViewportLayout();
+        invalidatingPos = false;
+    }
+
+    /// Collects the linear indexes of the cells in the given state, in order, by iterating on its ranges with the number
+    /// of columns the state was built for, [VFXGridState#getMaxColumns()].
+    protected int[] stateIndexes(VFXGridState<T, C> state) {
+        int nColumns = state.getMaxColumns();
+        IntegerRange rowsRange = state.getRowsRange();
+        IntegerRange columnsRange = state.getColumnsRange();
+        StateMap<T, C> cells = state.getCells();
+        int[] indexes = new int[state.size()];
+        int i = 0;
+        outer_loop:
+        for (int rIdx = rowsRange.getMin(); rIdx <= rowsRange.getMax(); rIdx++) {
+            for (int cIdx = columnsRange.getMin(); cIdx <= columnsRange.getMax(); cIdx++) {
+                if (i == indexes.length) break outer_loop;
+                int linear = GridUtils.subToInd(nColumns, rIdx, cIdx);
+                if (cells.contains(linear)) indexes[i++] = linear;
+            }
+        }
+        return indexes;
+    }
+
+    /// Alternative to the [#moveReuseCreateAlgorithm(IntegerRange, IntegerRange, VFXGridState)] meant for 'jumps',
+    /// changes after which the given ranges are unlikely to share any index with the current state but have the same shape.
+    /// The typical example is a page change in a paginated grid, see `VFXPaginatedGridManager`.
+    ///
+    /// In such cases, looking for common indexes would be a waste of time, so this simply re-binds the cells of the
+    /// current state to the new indexes and items, in order. Since the state's cells are sorted by index, and for the same
+    /// columns range the linear indexes grow with the layout coordinates, each cell ends up at the same layout position
+    /// it had before. This means that there is no need to request a layout unless cells are added or removed, or the
+    /// number of columns in range changes.
+    ///
+    /// If the new ranges need more cells than the current state has, they are taken from the cache or created by the
+    /// cell factory, [VFXGridHelper#itemToCell(Object)]. If they need fewer cells (e.g. an incomplete last page), the exceeding
+    /// ones are disposed with the current state by [#disposeCurrent()]. In both cases, the new state's
+    /// [VFXGridState#haveCellsChanged()] flag is set to `true`.
+    ///
+    /// Exits immediately if: the special flag [#invalidatingPos] is true, the current state is [VFXGridState#INVALID],
+    /// the given ranges are invalid or equal to the current ones.
+    protected void rebindState(IntegerRange rowsRange, IntegerRange columnsRange) {
+        if (invalidatingPos) return;
+        VFXGrid<T, C> grid = getNode();
+        VFXGridState<T, C> current = grid.getState();
+        if (current == VFXGridState.INVALID) return;
+        if (!rangeCheck(rowsRange, columnsRange, false, false)) return;
+        if (Objects.equals(current.getRowsRange(), rowsRange) &&
+            Objects.equals(current.getColumnsRange(), columnsRange)) return;
+
+        VFXGridHelper<T, C> helper = grid.getHelper();
+        StateMap<T, C> cells = current.getCells();
+        boolean sameShape = current.getColumnsRange().diff() == columnsRange.diff();
+        int nColumns = helper.maxColumns();
+        VFXGridState<T, C> newState = new VFXGridState<>(grid, rowsRange, columnsRange);
+        outer_loop:
+        for (int rIdx = rowsRange.getMin(); rIdx <= rowsRange.getMax(); rIdx++) {
+            for (int cIdx = columnsRange.getMin(); cIdx <= columnsRange.getMax(); cIdx++) {
+                int linear = GridUtils.subToInd(nColumns, rIdx, cIdx);
+                if (linear >= grid.size()) break outer_loop;
+                T item = helper.indexToItem(linear);
+                C c = cells.pollFirstValue();
+                if (c != null) {
+                    c.updateIndex(linear);
+                    c.updateItem(item);
+                } else {
+                    c = helper.itemToCell(item);
+                    c.updateIndex(linear);
+                    newState.setCellsChanged(true);
+                }
+                newState.addCell(linear, item, c);
+            }
+        }
+
+        if (disposeCurrent()) newState.setCellsChanged(true);
+        grid.update(newState);
+        if (!sameShape && !newState.haveCellsChanged()) grid.requestViewportLayout();
+    }
+
     //================================================================================
     // Common
     //================================================================================
@@ -424,7 +605,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     /// it's enough to move the cells from the current state to the new state. For indexes which are not found
     /// in the current state, a new cell is either taken from the old state, taken from cache or created by the cell factory.
     ///
-    /// (The last operations are delegated to the [#remainingAlgorithm(Set, VFXGridState)]).
+    /// (The last operations are delegated to the [#remainingAlgorithm(IndexBuffer, VFXGridState)]).
     ///
     /// @see VFXGridHelper#indexToCell(int)
     /// @see VFXGrid#getCellFactory()
@@ -432,10 +613,10 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
         VFXGrid<T, C> grid = getNode();
         int nColumns = grid.getHelper().maxColumns();
         VFXGridState<T, C> current = grid.getState();
-        Set<Integer> remaining = new LinkedHashSet<>();
+        IndexBuffer remaining = this.remaining.clear();
         outer_loop:
-        for (Integer rIdx : rowsRange) {
-            for (Integer cIdx : columnsRange) {
+        for (int rIdx = rowsRange.getMin(); rIdx <= rowsRange.getMax(); rIdx++) {
+            for (int cIdx = columnsRange.getMin(); cIdx <= columnsRange.getMax(); cIdx++) {
                 int linear = GridUtils.subToInd(nColumns, rIdx, cIdx);
                 if (linear < 0 || linear >= grid.size()) break outer_loop;
                 C c = current.removeCell(linear);
@@ -451,11 +632,11 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
 
     /// Avoids code duplication. Typically used to process indexes not found in the current state.
     ///
-    /// For any index in the given collection, a cell is needed. Also, it needs to be updated by index and item both.
+    /// For any index in the given buffer, a cell is needed. Also, it needs to be updated by index and item both.
     /// This cell can come from three sources:
     ///
     /// 1) from the current state if it's not empty yet. Since the cells are stored in a [SequencedMap], one
-    /// is removed by calling [StateMap#pollFirst()].
+    /// is removed by calling [StateMap#pollFirstValue()].
     ///
     /// 2) from the [VFXCellsCache] if not empty
     ///
@@ -464,7 +645,7 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
     /// - See [VFXGridHelper#indexToCell(int)]: this handles the second and third cases. If a cell can
     /// be taken from the cache, automatically updates its item then returns it. Otherwise, invokes the
     /// [VFXGrid#getCellFactory()] to create a new one
-    protected void remainingAlgorithm(Set<Integer> remaining, VFXGridState<T, C> newState) {
+    protected void remainingAlgorithm(IndexBuffer remaining, VFXGridState<T, C> newState) {
         VFXGrid<T, C> grid = getNode();
         VFXGridHelper<T, C> helper = grid.getHelper();
         VFXGridState<T, C> current = grid.getState();
@@ -472,12 +653,13 @@ public class VFXGridManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXGrid
         // Indexes in the given set were not found in the current state.
         // Which means item updates. Cells are retrieved either from the current state (if not empty), from the cache,
         // or created from the factory
-        for (Integer index : remaining) {
-            // We don't check the index here since we expect that the 'remaining' Set already contains valid indexes
+        for (int i = 0; i < remaining.size(); i++) {
+            // We don't check the index here since we expect that the 'remaining' buffer already contains valid indexes
+            int index = remaining.get(i);
             T item = helper.indexToItem(index);
             C c;
             if (!current.isEmpty()) {
-                c = current.getCells().pollFirst().getValue();
+                c = current.getCells().pollFirstValue();
                 c.updateIndex(index);
                 c.updateItem(item);
             } else {
@@ -19,13 +19,21 @@
 package io.github.palexdev.virtualizedfx.grid;
 
 import java.util.SequencedMap;
+import java.util.function.Consumer;
 
 import io.github.palexdev.mfxcore.base.beans.Position;
 import io.github.palexdev.mfxcore.controls.MFXSkinBase;
+import io.github.palexdev.mfxcore.observables.When;
 import io.github.palexdev.mfxcore.utils.GridUtils;
 import io.github.palexdev.mfxcore.utils.fx.LayoutUtils;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXLayoutEvent;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.scene.Parent;
@@ -58,6 +66,10 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
     protected final Pane viewport;
     protected double DEFAULT_SIZE = 100.0;
 
+    // Items changes are processed incrementally, so we need the Change object rather than a simple invalidation.
+    // Being added on the ListProperty, this listener also triggers when the list itself is replaced
+    protected ListChangeListener<T> icl = c -> getBehavior().onItemsChanged(c);
+
     //================================================================================
     // Constructors
     //================================================================================
@@ -74,6 +86,7 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
         viewport.getStyleClass().add("viewport");
 
         // End initialization
+        grid.itemsProperty().addListener(icl);
         addListeners();
         getChildren().setAll(viewport);
     }
@@ -118,13 +131,22 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
     ///
     /// - Listener on [VFXGrid#hSpacingProperty()], will invoke [VFXGridManager#onSpacingChanged()]
     ///
-    /// - Listener on [VFXGrid#itemsProperty()], will invoke [VFXGridManager#onItemsChanged()]
+    /// - [ListChangeListener] on [VFXGrid#itemsProperty()], will invoke [VFXGridManager#onItemsChanged(ListChangeListener.Change)].
+    /// Note that this is not added through [#listeners(When\[\])], its disposal is done in the overridden [#dispose()]
     ///
     /// - Listener on [VFXGrid#alignmentProperty()], will invoke [Parent#requestLayout()]
+    ///
+    /// Position changes go through [PositionCoalescer#schedule(VFXContainer, Orientation, Consumer)], so that if the
+    /// service is installed on the grid, the state update runs at most once per pulse for each axis.
     protected void addListeners() {
         VFXGrid<T, C> grid = getSkinnable();
 
         InvalidationListener gcl = i -> getBehavior().onGeometryChanged();
+        Consumer<Orientation> pu = a -> {
+            long start = VFXMetrics.begin(grid);
+            getBehavior().onPositionChanged(a);
+            VFXMetrics.endPosition(grid, start);
+        };
         listeners(
             // Core changes
             onInvalidated(grid.stateProperty())
@@ -153,9 +175,9 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
 
             // Position changes
             onInvalidated(grid.vPosProperty())
-                .then(v -> getBehavior().onPositionChanged(Orientation.VERTICAL)),
+                .then(v -> PositionCoalescer.schedule(grid, Orientation.VERTICAL, pu)),
             onInvalidated(grid.hPosProperty())
-                .then(h -> getBehavior().onPositionChanged(Orientation.HORIZONTAL)),
+                .then(h -> PositionCoalescer.schedule(grid, Orientation.HORIZONTAL, pu)),
 
             // Others
             onInvalidated(grid.columnsNumProperty())
@@ -168,8 +190,6 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
                 .then(s -> getBehavior().onSpacingChanged()),
             onInvalidated(grid.vSpacingProperty())
                 .then(s -> getBehavior().onSpacingChanged()),
-            onInvalidated(grid.itemsProperty())
-                .then(it -> getBehavior().onItemsChanged()),
             onInvalidated(grid.alignmentProperty())
                 .then(a -> grid.requestLayout())
         );
@@ -204,6 +224,8 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
         VFXGrid<T, C> grid = getSkinnable();
         if (!grid.isNeedsViewportLayout()) return;
 
+        long start = VFXMetrics.begin(grid);
+        VFXLayoutEvent event = VFXEvents.beginLayout();
         VFXGridHelper<T, C> helper = grid.getHelper();
         VFXGridState<T, C> state = grid.getState();
         int nColumns = helper.maxColumns();
@@ -221,6 +243,8 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
                 i++;
                 j = 0;
             }
+            VFXMetrics.endLayout(grid, start);
+            VFXEvents.commitLayout(event, grid, state.size(), false);
             onLayoutCompleted(true);
             return;
         }
@@ -280,6 +304,9 @@ public class VFXGridSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXGrid<T,
     @Override
     public void dispose() {
         VFXGrid<T, C> grid = getSkinnable();
+        grid.itemsProperty().removeListener(icl);
+        PositionCoalescer.cancel(grid);
+        icl = null;
         grid.update(VFXGridState.INVALID);
         super.dispose();
     }
@@ -134,7 +134,7 @@ public class VFXGridState<T, C extends VFXCell<T>> {
     private final IntegerRange rowsRange;
     private final IntegerRange columnsRange;
     private final int nColumns;
-    private final StateMap<T, C> cells = new StateMap<>();
+    private final StateMap<T, C> cells;
     private boolean cellsChanged = false;
 
     //================================================================================
@@ -145,6 +145,7 @@ public class VFXGridState<T, C extends VFXCell<T>> {
         this.rowsRange = Utils.INVALID_RANGE;
         this.columnsRange = Utils.INVALID_RANGE;
         this.nColumns = 0;
+        this.cells = new StateMap<>();
     }
 
     public VFXGridState(VFXGrid<T, C> grid, IntegerRange rowsRange, IntegerRange columnsRange) {
@@ -152,12 +153,26 @@ public class VFXGridState<T, C extends VFXCell<T>> {
         this.rowsRange = rowsRange;
         this.columnsRange = columnsRange;
         this.nColumns = grid.getHelper().maxColumns();
+        this.cells = createCellsMap();
     }
 
     //================================================================================
     // Methods
     //================================================================================
 
+    /// Creates the [StateMap] for this state, pre-sized to hold the linear indexes from `[rowsRange.min, columnsRange.min]`
+    /// to `[rowsRange.max, columnsRange.max]`.
+    ///
+    /// Note that the map's size depends on the span of the linear indexes, which means that all the columns of the
+    /// rows in range are accounted for, not just the ones in the columns range.
+    private StateMap<T, C> createCellsMap() {
+        if (nColumns <= 0 || Utils.INVALID_RANGE.equals(rowsRange) || Utils.INVALID_RANGE.equals(columnsRange))
+            return new StateMap<>();
+        int min = GridUtils.subToInd(nColumns, rowsRange.getMin(), columnsRange.getMin());
+        int max = GridUtils.subToInd(nColumns, rowsRange.getMax(), columnsRange.getMax());
+        return new StateMap<>(min, max);
+    }
+
     /// Converts the given row and column indexes to a linear index and delegates to [#addCell(int, Object, VFXCell)].
     protected void addCell(int rIndex, int cIndex, C cell) {
         int linear = GridUtils.subToInd(nColumns, rIndex, cIndex);
@@ -221,6 +236,11 @@ public class VFXGridState<T, C extends VFXCell<T>> {
         return columnsRange;
     }
 
+    /// @return the number of columns used to compute the linear indexes of this state, see [VFXGridHelper#maxColumns()]
+    public int getMaxColumns() {
+        return nColumns;
+    }
+
     /// @return the map containing the cells
     /// @see StateMap
     protected StateMap<T, C> getCells() {
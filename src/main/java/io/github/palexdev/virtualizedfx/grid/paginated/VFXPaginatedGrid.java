@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.grid.paginated;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.github.palexdev.mfxcore.base.properties.styleable.StyleableIntegerProperty;
+import io.github.palexdev.mfxcore.behavior.MFXBehavior;
+import io.github.palexdev.mfxcore.builders.bindings.IntegerBindingBuilder;
+import io.github.palexdev.mfxcore.controls.MFXSkinBase;
+import io.github.palexdev.mfxcore.utils.fx.PropUtils;
+import io.github.palexdev.mfxcore.utils.fx.StyleUtils;
+import io.github.palexdev.virtualizedfx.base.VFXPaginated;
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.controls.VFXScrollPane;
+import io.github.palexdev.virtualizedfx.enums.ScrollPaneEnums.ScrollBarPolicy;
+import io.github.palexdev.virtualizedfx.grid.VFXGrid;
+import io.github.palexdev.virtualizedfx.grid.VFXGridHelper;
+import io.github.palexdev.virtualizedfx.list.paginated.VFXPaginatedList;
+import io.github.palexdev.virtualizedfx.utils.ScrollParams;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ObservableList;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.css.StyleablePropertyFactory;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+
+/// Implementation of a paginated variant of [VFXGrid].
+/// The default style class is extended to: '.vfx-grid.paginated'.
+///
+/// Extends [VFXGrid], implements [VFXPaginated], has its own skin [VFXPaginatedGridSkin] and behavior
+/// [VFXPaginatedGridManager].
+///
+/// Each page displays exactly [#rowsPerPageProperty()] rows of [VFXGrid#columnsNumProperty()] cells, which means that
+/// the [#cellsPerPageProperty()] is not independent here, it's bound to `rowsPerPage * columnsNum`. To change it, use
+/// either [#setRowsPerPage(int)] or [#setCellsPerPage(int)], which rounds the given number up to complete rows.
+///
+/// Just like [VFXPaginatedList], the vertical position is bound to the current page, and the container's height adapts
+/// to the number of rows per page. Unlike the list though, there are no buffer rows: the state always contains the cells
+/// for the rows of the current page and nothing more. When the page changes, the grid doesn't go through the usual
+/// scroll-based algorithm; the cells of the current page are simply re-bound to the items of the new page, in place,
+/// see [VFXPaginatedGridManager#onPageChanged()]. Since each cell keeps its position, no layout is needed either,
+/// making page switches very cheap even for big pages.
+///
+/// Columns are virtualized as usual, and you can scroll horizontally.
+///
+/// This variant is intended to use implementations of [VFXPaginatedGridHelper]. Nothing prevents you from setting a
+/// [#helperFactoryProperty()] that produces helpers of type [VFXGridHelper], don't do that!
+/// You may end up with invalid states, thus a broken component.
+public class VFXPaginatedGrid<T, C extends VFXCell<T>> extends VFXGrid<T, C> implements VFXPaginated<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final IntegerProperty page = PropUtils.clampedIntProperty(
+        () -> 0,
+        this::getMaxPage
+    );
+    private final ReadOnlyIntegerWrapper maxPage = new ReadOnlyIntegerWrapper();
+    private final IntegerProperty cellsPerPage = new SimpleIntegerProperty(this, "cellsPerPage");
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPaginatedGrid() {
+        super();
+        initialize();
+    }
+
+    public VFXPaginatedGrid(ObservableList<T> items, Function<T, C> cellFactory) {
+        super(items, cellFactory);
+        initialize();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+    private void initialize() {
+        cellsPerPage.bind(IntegerBindingBuilder.build()
+            .setMapper(() -> getRowsPerPage() * getColumnsNum())
+            .addSources(rowsPerPageProperty(), columnsNumProperty())
+            .get()
+        );
+        maxPage.bind(IntegerBindingBuilder.build()
+            .setMapper(this::computeMaxPage)
+            .addSources(sizeProperty(), cellsPerPageProperty())
+            .get()
+        );
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// Overridden to use implementations of [VFXPaginatedGridHelper] instead.
+    @Override
+    protected Supplier<VFXGridHelper<T, C>> defaultHelperFactory() {
+        return () -> new VFXPaginatedGridHelper.DefaultHelper<>(this);
+    }
+
+    @Override
+    public Supplier<MFXBehavior<? extends Node>> defaultBehaviorFactory() {
+        return () -> new VFXPaginatedGridManager<>(this);
+    }
+
+    @Override
+    public Supplier<MFXSkinBase<? extends Node>> defaultSkinFactory() {
+        return () -> new VFXPaginatedGridSkin<>(this);
+    }
+
+    @Override
+    public List<String> defaultStyleClasses() {
+        return List.of("vfx-grid", "paginated");
+    }
+
+    /// Since for the paginated variant the vertical position is bound to the [#pageProperty()], this setter won't do
+    /// anything. You could still use the [#vPosProperty()] to set the position, but that would generate an exception.
+    /// Unbinding the property would result in invalid states, so, don't do it.
+    @Override
+    public void setVPos(double vPos) {
+        if (vPosProperty().isBound()) return;
+        super.setVPos(vPos);
+    }
+
+    /// The cells per page are given by `rowsPerPage * columnsNum`, the property is bound and cannot be set directly.
+    /// This converts the given number of cells to the number of rows needed to show them (rounded up), and sets it as
+    /// the [#rowsPerPageProperty()].
+    @Override
+    public void setCellsPerPage(int cellsPerPage) {
+        int nColumns = Math.max(1, getColumnsNum());
+        setRowsPerPage((int) Math.ceil(cellsPerPage / (double) nColumns));
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Note that a paginated component cannot scroll on the virtualized axis. The grid is paginated on the y-axis,
+    /// which means you will be able to scroll only horizontally.
+    @Override
+    public VFXScrollPane makeScrollable() {
+        VFXScrollPane vsp = new VFXScrollPane(this);
+        vsp.setVBarPolicy(ScrollBarPolicy.NEVER);
+        ScrollParams.cells(1).bind(vsp, Orientation.HORIZONTAL);
+        return vsp;
+    }
+
+    //================================================================================
+    // Styleable Properties
+    //================================================================================
+    private final StyleableIntegerProperty rowsPerPage = new StyleableIntegerProperty(
+        StyleableProperties.ROWS_PER_PAGE,
+        this,
+        "rowsPerPage",
+        5
+    );
+
+    public int getRowsPerPage() {
+        return rowsPerPage.get();
+    }
+
+    /// Specifies the number of rows to show per each page. The number of cells per page depends on this and the
+    /// number of columns, see [#cellsPerPageProperty()].
+    ///
+    /// Can be set in CSS via the property: '-vfx-rows-per-page'.
+    public StyleableIntegerProperty rowsPerPageProperty() {
+        return rowsPerPage;
+    }
+
+    public void setRowsPerPage(int rowsPerPage) {
+        this.rowsPerPage.set(rowsPerPage);
+    }
+
+    //================================================================================
+    // CssMetaData
+    //================================================================================
+    private static class StyleableProperties {
+        private static final StyleablePropertyFactory<VFXPaginatedGrid<?, ?>> FACTORY = new StyleablePropertyFactory<>(VFXGrid.getClassCssMetaData());
+        private static final List<CssMetaData<? extends Styleable, ?>> cssMetaDataList;
+
+        private static final CssMetaData<VFXPaginatedGrid<?, ?>, Number> ROWS_PER_PAGE =
+            FACTORY.createSizeCssMetaData(
+                "-vfx-rows-per-page",
+                VFXPaginatedGrid::rowsPerPageProperty,
+                5
+            );
+
+        static {
+            cssMetaDataList = StyleUtils.cssMetaDataList(
+                VFXGrid.getClassCssMetaData(),
+                ROWS_PER_PAGE
+            );
+        }
+    }
+
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return StyleableProperties.cssMetaDataList;
+    }
+
+    @Override
+    protected List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() {
+        return getClassCssMetaData();
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+
+    @Override
+    public IntegerProperty pageProperty() {
+        return page;
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty maxPageProperty() {
+        return maxPage.getReadOnlyProperty();
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// For the grid, this is bound to `rowsPerPage * columnsNum`, see [#setCellsPerPage(int)].
+    @Override
+    public IntegerProperty cellsPerPageProperty() {
+        return cellsPerPage;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.grid.paginated;
+
+import io.github.palexdev.mfxcore.base.beans.Position;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.mfxcore.builders.bindings.ObjectBindingBuilder;
+import io.github.palexdev.mfxcore.utils.NumberUtils;
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.grid.VFXGridHelper;
+import io.github.palexdev.virtualizedfx.utils.Utils;
+
+import static io.github.palexdev.mfxcore.base.beans.Position.position;
+
+/// Simple extension of [VFXGridHelper] with one concrete implementation [DefaultHelper], which changes the way rows
+/// are computed, so that the grid always displays exactly the rows of the current page
+/// ([VFXPaginatedGrid#pageProperty()], [VFXPaginatedGrid#rowsPerPageProperty()]). Columns are still virtualized as usual.
+public interface VFXPaginatedGridHelper<T, C extends VFXCell<T>> extends VFXGridHelper<T, C> {
+
+    /// Concrete implementation of [VFXPaginatedGridHelper], extends [VFXGridHelper.DefaultHelper].
+    ///
+    /// Here the rows range and the viewport position are defined as follows:
+    ///
+    /// - the rows range goes from `page * rowsPerPage` to `page * rowsPerPage + rowsPerPage - 1` (cannot exceed the
+    /// maximum number of rows [#maxRows()]). There are no buffer rows, the cells of a page act as the buffer of the
+    /// next/previous one since, on page changes, they are simply re-bound to the new items, see
+    /// [VFXPaginatedGridManager#onPageChanged()]. Note that neither the page nor the rows per page are dependencies of the
+    /// binding; both determine the vertical position ([VFXPaginatedGridSkin]) and the grid's height, which are.
+    ///
+    /// - the viewport position on the y-axis is always 0, because the grid is at the exact start of a page by definition.
+    /// The x position is computed as described by [VFXGridHelper.DefaultHelper].
+    class DefaultHelper<T, C extends VFXCell<T>> extends VFXGridHelper.DefaultHelper<T, C> implements VFXPaginatedGridHelper<T, C> {
+        public DefaultHelper(VFXPaginatedGrid<T, C> grid) {
+            super(grid);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Overridden to replace the rows range and the viewport position bindings.
+        @Override
+        protected void createBindings() {
+            super.createBindings();
+            rowsRange.bind(ObjectBindingBuilder.<IntegerRange>build()
+                .setMapper(() -> {
+                    if (container.getHeight() <= 0) return Utils.INVALID_RANGE;
+                    int needed = totalRows();
+                    if (needed == 0) return Utils.INVALID_RANGE;
+
+                    int start = firstRow();
+                    int end = Math.min(maxRows() - 1, start + needed - 1);
+                    return IntegerRange.of(start, end);
+                })
+                .addSources(container.columnsNumProperty())
+                .addSources(container.heightProperty())
+                .addSources(container.vPosProperty())
+                .addSources(container.sizeProperty())
+                .get()
+            );
+
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    if (container.isEmpty()) return Position.origin();
+                    IntegerRange columnsRange = columnsRange();
+                    if (Utils.INVALID_RANGE.equals(columnsRange)) return Position.origin();
+
+                    double w = getTotalCellSize().width();
+                    IntegerRange cRangeToFirstVisible = IntegerRange.of(columnsRange.getMin(), firstColumn());
+                    double cPixelsToFirst = cRangeToFirstVisible.diff() * w;
+                    double cVisibleAmount = container.getHPos() % w;
+                    return position(-(cPixelsToFirst + cVisibleAmount), 0);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty())
+                .addSources(container.cellSizeProperty())
+                .addSources(container.hSpacingProperty())
+                .get()
+            );
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by `page * rowsPerPage`, clamped between 0 and [#maxRows()] - 1.
+        @Override
+        public int firstRow() {
+            VFXPaginatedGrid<T, C> grid = getContainer();
+            return NumberUtils.clamp(grid.getPage() * grid.getRowsPerPage(), 0, maxRows() - 1);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by [VFXPaginatedGrid#rowsPerPageProperty()].
+        @Override
+        public int visibleRows() {
+            return Math.max(0, getContainer().getRowsPerPage());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Same as [#visibleRows()] restricted to the maximum number of rows allowed, [#maxRows()]. No buffer!
+        @Override
+        public int totalRows() {
+            return Math.min(visibleRows(), maxRows());
+        }
+
+        /// Scrolls to the page containing the given row.
+        @Override
+        public void scrollToRow(int row) {
+            VFXPaginatedGrid<T, C> grid = getContainer();
+            grid.setPage(row / Math.max(1, grid.getRowsPerPage()));
+        }
+
+        @Override
+        public VFXPaginatedGrid<T, C> getContainer() {
+            return (VFXPaginatedGrid<T, C>) super.getContainer();
+        }
+    }
+}
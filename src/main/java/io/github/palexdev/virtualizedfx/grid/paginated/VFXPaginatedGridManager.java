@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.grid.paginated;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import io.github.palexdev.virtualizedfx.grid.VFXGridHelper;
+import io.github.palexdev.virtualizedfx.grid.VFXGridManager;
+import io.github.palexdev.virtualizedfx.grid.VFXGridState;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import javafx.geometry.Orientation;
+import javafx.scene.Parent;
+
+/// Default behavior implementation for [VFXPaginatedGrid], extends [VFXGridManager].
+///
+/// This is necessary to respond to the following property changes introduced by the paginated variant:
+///
+/// - page changes, [#onPageChanged()]
+/// - rows per page changes, [#onRowsPerPageChanged()]
+/// - max page changes, [#onMaxPageChanged()]
+public class VFXPaginatedGridManager<T, C extends VFXCell<T>> extends VFXGridManager<T, C> {
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPaginatedGridManager(VFXPaginatedGrid<T, C> grid) {
+        super(grid);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// This core method is responsible for updating the grid's state when the [VFXPaginatedGrid#pageProperty()] changes.
+    ///
+    /// Rather than going through the [#moveReuseCreateAlgorithm(IntegerRange, IntegerRange, VFXGridState)],
+    /// which would find no common index between two different pages anyway, this delegates to
+    /// [#rebindState(IntegerRange, IntegerRange)]. The cells of the current page are re-bound to the items of the new
+    /// one in place, which means: no cell is created (except for when the previous page was incomplete), no cell is moved,
+    /// and no layout is needed.
+    protected void onPageChanged() {
+        VFXEvents.beginState(getNode(), StateTrigger.PAGE);
+        VFXGridHelper<T, C> helper = getNode().getHelper();
+        rebindState(helper.rowsRange(), helper.columnsRange());
+    }
+
+    /// A paginated container's size strictly depends on how many rows it is set to display per page, and this is
+    /// enforced by the default skin [VFXPaginatedGridSkin], see [VFXPaginatedGridSkin#getLength()].
+    ///
+    /// This core method is called whenever the [VFXPaginatedGrid#rowsPerPageProperty()] changes and ensures that
+    /// the layout bounds of the container become invalid ([Parent#isNeedsLayout()] becomes 'true'), by calling
+    /// [Parent#requestLayout()]. The resulting height change will then trigger [#onGeometryChanged()].
+    protected void onRowsPerPageChanged() {
+        getNode().requestLayout();
+    }
+
+    /// This core method ensures that the paginated container is always at a valid page/position when the
+    /// [VFXPaginatedGrid#maxPageProperty()] changes.
+    ///
+    /// The only one case this needs to correct the position is when the current page is greater than the new max page.
+    ///
+    /// Unlike `VFXPaginatedListManager`, the page change here is not hidden from [#onPositionChanged(Orientation)].
+    /// The max page can change because of the items or the number of columns, and there is no guarantee that this is
+    /// called after the respective state computation. Re-binding the cells of a page is cheap, and this way the state
+    /// always reflects the current page, regardless of the order.
+    protected void onMaxPageChanged() {
+        VFXPaginatedGrid<T, C> grid = getNode();
+        if (grid.getPage() > grid.getMaxPage()) grid.moveBy(0);
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// For the paginated variant, the vertical position is bound to the page, which means that vertical position changes
+    /// are handled as page changes by [#onPageChanged()]. Horizontal changes are handled by the super method.
+    @Override
+    protected void onPositionChanged(Orientation axis) {
+        if (axis == Orientation.VERTICAL) {
+            onPageChanged();
+            return;
+        }
+        super.onPositionChanged(axis);
+    }
+
+    /// Overridden to cast to [VFXPaginatedGrid] since this behavior only allows that type.
+    @Override
+    public VFXPaginatedGrid<T, C> getNode() {
+        return (VFXPaginatedGrid<T, C>) super.getNode();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.grid.paginated;
+
+import io.github.palexdev.mfxcore.builders.bindings.DoubleBindingBuilder;
+import io.github.palexdev.mfxcore.observables.When;
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.grid.VFXGrid;
+import io.github.palexdev.virtualizedfx.grid.VFXGridManager;
+import io.github.palexdev.virtualizedfx.grid.VFXGridSkin;
+import javafx.beans.binding.DoubleBinding;
+import javafx.geometry.Orientation;
+import javafx.scene.control.SkinBase;
+
+/// Default skin implementation for the paginated variant of [VFXGrid]: [VFXPaginatedGrid].
+/// Extends [VFXGridSkin] and expects behaviors of type [VFXPaginatedGridManager].
+///
+/// Just like the paginated list's skin, the grid's vertical position is bound to the current page specified by
+/// [VFXPaginatedGrid#pageProperty()], and there are a couple of extra listeners, [#addListeners()].
+///
+/// As for the layout, the only thing that changes is that the container's height will adapt to the cell size and the
+/// number of rows per page, the exact computation is described and done by [#getLength()].
+public class VFXPaginatedGridSkin<T, C extends VFXCell<T>> extends VFXGridSkin<T, C> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    protected DoubleBinding posBinding;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPaginatedGridSkin(VFXPaginatedGrid<T, C> grid) {
+        super(grid);
+
+        // Init pos binding
+        posBinding = DoubleBindingBuilder.build()
+            .setMapper(() -> grid.getPage() * grid.getRowsPerPage() * (grid.getCellSize().height() + grid.getVSpacing()))
+            .addSources(grid.pageProperty(), grid.rowsPerPageProperty(), grid.cellSizeProperty(), grid.vSpacingProperty())
+            .get();
+        grid.vPosProperty().bind(posBinding);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Computes the height the container should have, according to the following three properties:
+    ///
+    /// - [VFXPaginatedGrid#rowsPerPageProperty()]
+    ///
+    /// - [VFXPaginatedGrid#cellSizeProperty()]
+    ///
+    /// - [VFXPaginatedGrid#vSpacingProperty()]
+    ///
+    /// The formula is as follows: `(rowsPerPage * (cellHeight + vSpacing)) - vSpacing`.
+    ///
+    /// The result is enforced by the 'compute min/pref/max height' methods defined by [SkinBase] and overridden here.
+    /// The width can be changed as preferred.
+    protected final double getLength() {
+        VFXPaginatedGrid<T, C> grid = getGrid();
+        return (grid.getRowsPerPage() * (grid.getCellSize().height() + grid.getVSpacing())) - grid.getVSpacing();
+    }
+
+    /// Convenience method to cast [#getSkinnable()] to [VFXPaginatedGrid].
+    protected VFXPaginatedGrid<T, C> getGrid() {
+        return (VFXPaginatedGrid<T, C>) getSkinnable();
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// For the paginated variant there are the following additional listeners:
+    ///
+    /// - Listener on [VFXPaginatedGrid#rowsPerPageProperty()], will invoke [VFXPaginatedGridManager#onRowsPerPageChanged()]
+    ///
+    /// - Listener on [VFXPaginatedGrid#maxPageProperty()], will invoke [VFXPaginatedGridManager#onMaxPageChanged()]
+    ///
+    /// Page changes are caught by the listener on the [VFXPaginatedGrid#vPosProperty()] (bound to the page), see
+    /// [VFXPaginatedGridManager#onPositionChanged(Orientation)].
+    @Override
+    protected void addListeners() {
+        VFXPaginatedGrid<T, C> grid = getGrid();
+        super.addListeners();
+        listeners(
+            When.onInvalidated(grid.rowsPerPageProperty())
+                .then(rpp -> getBehavior().onRowsPerPageChanged()),
+            When.onInvalidated(grid.maxPageProperty())
+                .then(mp -> getBehavior().onMaxPageChanged())
+        );
+    }
+
+    /// Overridden to cast the behavior to [VFXPaginatedGridManager].
+    ///
+    /// Since [VFXPaginatedGrid] extends [VFXGrid] nothing prevents the user from using behaviors of type
+    /// [VFXGridManager], but that would result in exceptions being thrown and invalid states.
+    /// Long story short: don't do it!
+    @Override
+    protected VFXPaginatedGridManager<T, C> getBehavior() {
+        return (VFXPaginatedGridManager<T, C>) super.getBehavior();
+    }
+
+    @Override
+    protected double computeMinHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return getLength();
+    }
+
+    @Override
+    protected double computePrefHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return getLength();
+    }
+
+    @Override
+    protected double computeMaxHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return getLength();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.jfr;
+
+import java.lang.ref.WeakReference;
+
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
+import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import javafx.scene.Node;
+
+/// Utility class that connects the framework to the JFR events defined in this package.
+///
+/// **State rebuilds:** managers call [#beginState(VFXContainer, StateTrigger)] when they start processing a change,
+/// the cell factory and the cache report created and recycled cells, and finally the container commits the
+/// [VFXStateEvent] when the new state is set, [#commitState(VFXContainer, Object, Object, int)].
+/// If the manager exits early because no new state is needed, no event is committed. If a handler delegates to another
+/// one, the trigger of the latter wins, since it's the one that actually produced the state.
+/// The container of the pending event is referenced weakly, so that an event which is never committed doesn't keep it
+/// in memory.
+///
+/// **Layout passes:** skins wrap their viewport layout between [#beginLayout()] and
+/// [#commitLayout(VFXLayoutEvent, VFXContainer, int, boolean)].
+///
+/// When the events are not enabled in the recording (or there is no recording at all), these methods do nothing but a
+/// check, no event object is allocated. Since changes are processed on the JavaFX thread, there is only one pending
+/// state event at a time.
+public final class VFXEvents {
+    //================================================================================
+    // Static Properties
+    //================================================================================
+    // Never begun nor committed, only used to check whether the events are enabled without allocating a new one each time
+    private static final VFXStateEvent STATE_PROBE = new VFXStateEvent();
+    private static final VFXLayoutEvent LAYOUT_PROBE = new VFXLayoutEvent();
+
+    private static VFXStateEvent pending;
+    private static WeakReference<VFXContainer<?>> owner;
+    private static int created;
+    private static int recycled;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    private VFXEvents() {}
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Starts a [VFXStateEvent] for the given container and trigger, if the event is enabled.
+    /// Any other pending event is discarded.
+    public static void beginState(VFXContainer<?> container, StateTrigger trigger) {
+        if (!STATE_PROBE.isEnabled()) {
+            pending = null;
+            owner = null;
+            return;
+        }
+        VFXStateEvent event = new VFXStateEvent();
+        event.setTrigger(trigger);
+        event.begin();
+        pending = event;
+        owner = new WeakReference<>(container);
+        created = 0;
+        recycled = 0;
+    }
+
+    /// Discards the pending [VFXStateEvent], if any. Managers can call this when they know that no new state will be
+    /// produced, so that the event is not left open until the next [#beginState(VFXContainer, StateTrigger)].
+    public static void discardState() {
+        pending = null;
+        owner = null;
+    }
+
+    /// Called by the cell factory when a new cell is created. Table cells are not counted, rows are.
+    public static void onCellCreated(Object cell) {
+        if (pending != null && !(cell instanceof VFXTableCell<?>)) created++;
+    }
+
+    /// Called by the cache when a cell is taken from it. Table cells are not counted, rows are.
+    public static void onCellRecycled(Object cell) {
+        if (pending != null && cell != null && !(cell instanceof VFXTableCell<?>)) recycled++;
+    }
+
+    /// Commits the pending [VFXStateEvent], if it belongs to the given container.
+    ///
+    /// The number of reused cells is given by the new state's size minus the created and recycled cells.
+    public static void commitState(VFXContainer<?> container, Object oldRange, Object newRange, int size) {
+        VFXStateEvent event = pending;
+        if (event == null || !isOwner(container)) return;
+        pending = null;
+        owner = null;
+
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.container = nameOf(container);
+        event.oldRange = String.valueOf(oldRange);
+        event.newRange = String.valueOf(newRange);
+        event.created = created;
+        event.recycled = recycled;
+        event.reused = Math.max(0, size - created - recycled);
+        event.commit();
+    }
+
+    /// Variant of [#commitState(VFXContainer, Object, Object, int)] for containers virtualized on both axes.
+    public static void commitState(
+        VFXContainer<?> container,
+        Object oldRows, Object oldColumns,
+        Object newRows, Object newColumns,
+        int size
+    ) {
+        if (pending == null || !isOwner(container)) return;
+        commitState(container, "rows: " + oldRows + ", columns: " + oldColumns, "rows: " + newRows + ", columns: " + newColumns, size);
+    }
+
+    /// @return whether the pending [VFXStateEvent] was begun for the given container
+    private static boolean isOwner(VFXContainer<?> container) {
+        return owner != null && owner.get() == container;
+    }
+
+    /// Creates and begins a new [VFXLayoutEvent], if the event is enabled.
+    ///
+    /// @return the event to pass to [#commitLayout(VFXLayoutEvent, VFXContainer, int, boolean)], or `null` if disabled
+    public static VFXLayoutEvent beginLayout() {
+        if (!LAYOUT_PROBE.isEnabled()) return null;
+        VFXLayoutEvent event = new VFXLayoutEvent();
+        event.begin();
+        return event;
+    }
+
+    /// Ends and commits the given [VFXLayoutEvent], if enabled. Does nothing if the event is `null`,
+    /// see [#beginLayout()].
+    ///
+    /// @param cells   the number of cells (or rows) laid out
+    /// @param partial whether only a part of the viewport was laid out
+    public static void commitLayout(VFXLayoutEvent event, VFXContainer<?> container, int cells, boolean partial) {
+        if (event == null) return;
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.container = nameOf(container);
+        event.cells = cells;
+        event.partial = partial;
+        event.commit();
+    }
+
+    /// @return a name identifying the given container in the events: the node's id if set, otherwise the class' simple
+    /// name followed by the identity hash code
+    public static String nameOf(Object container) {
+        if (container instanceof Node node && node.getId() != null) return node.getId();
+        return container.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(container));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.jfr;
+
+import jdk.jfr.*;
+
+/// JFR event committed by the default skins for every viewport layout pass, see [VFXEvents#beginLayout()].
+@Name("io.github.palexdev.virtualizedfx.Layout")
+@Label("Viewport Layout")
+@Category({"VirtualizedFX"})
+@Description("A virtualized container laid out its viewport")
+@StackTrace(false)
+public class VFXLayoutEvent extends Event {
+    @Label("Container")
+    public String container;
+
+    @Label("Cells")
+    @Description("The number of cells (or rows) in the state being laid out")
+    public int cells;
+
+    @Label("Partial")
+    @Description("Whether only a part of the viewport was laid out")
+    public boolean partial;
+}
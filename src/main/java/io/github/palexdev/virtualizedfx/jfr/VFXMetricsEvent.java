@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.jfr;
+
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
+import jdk.jfr.*;
+
+/// JFR event committed by [VFXMetrics] at the end of every pulse in which something changed.
+///
+/// Counters are deltas, relative to the previous event of the same container, while times are the total amount spent in
+/// the pulse.
+@Name("io.github.palexdev.virtualizedfx.Metrics")
+@Label("Container Metrics")
+@Category({"VirtualizedFX"})
+@Description("Cells and timings of a virtualized container during a pulse")
+@StackTrace(false)
+public class VFXMetricsEvent extends Event {
+    @Label("Container")
+    public String container;
+
+    @Label("Cells Created")
+    public long cellsCreated;
+
+    @Label("Cells Reused")
+    @Description("Cells moved from the old state to the new one")
+    public long cellsReused;
+
+    @Label("Cache Hits")
+    public long cacheHits;
+
+    @Label("Cache Misses")
+    public long cacheMisses;
+
+    @Label("Cells Cached")
+    public long cellsCached;
+
+    @Label("Cells Disposed")
+    public long cellsDisposed;
+
+    @Label("UpdateItem Calls")
+    public long updateItemCalls;
+
+    @Label("Skipped Updates")
+    @Description("UpdateItem calls skipped because the cell already held the item")
+    public long skippedUpdates;
+
+    @Label("State Updates")
+    public long stateUpdates;
+
+    @Label("Position Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long positionTime;
+
+    @Label("Layout Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long layoutTime;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.jfr;
+
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import jdk.jfr.*;
+
+/// JFR event committed every time a virtualized container's state is rebuilt, see [VFXEvents].
+///
+/// The duration goes from the moment the manager started processing the change, to the moment the new state is set.
+@Name("io.github.palexdev.virtualizedfx.StateRebuild")
+@Label("State Rebuild")
+@Category({"VirtualizedFX"})
+@Description("A virtualized container computed a new state")
+@StackTrace(false)
+public class VFXStateEvent extends Event {
+    @Label("Container")
+    public String container;
+
+    @Label("Trigger")
+    @Description("The kind of change that caused the rebuild, see StateTrigger")
+    public String trigger;
+
+    @Label("Old Range")
+    public String oldRange;
+
+    @Label("New Range")
+    public String newRange;
+
+    @Label("Cells Reused")
+    @Description("Cells moved from the old state to the new one")
+    public int reused;
+
+    @Label("Cells Recycled")
+    @Description("Cells taken from the cache")
+    public int recycled;
+
+    @Label("Cells Created")
+    public int created;
+
+    /// @see StateTrigger
+    public void setTrigger(StateTrigger trigger) {
+        this.trigger = trigger.name();
+    }
+}
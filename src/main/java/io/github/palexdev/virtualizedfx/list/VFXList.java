@@ -43,11 +43,14 @@ import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.controls.VFXScrollPane;
 import io.github.palexdev.virtualizedfx.enums.BufferSize;
 import io.github.palexdev.virtualizedfx.events.VFXContainerEvent;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXStateEvent;
 import io.github.palexdev.virtualizedfx.list.VFXListHelper.HorizontalHelper;
 import io.github.palexdev.virtualizedfx.list.VFXListHelper.VerticalHelper;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.properties.VFXListStateProperty;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -57,6 +60,7 @@ import javafx.css.StyleablePropertyFactory;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
 
 import static io.github.palexdev.virtualizedfx.utils.ScrollParams.cells;
 import static io.github.palexdev.virtualizedfx.utils.ScrollParams.pixels;
@@ -219,8 +223,11 @@ public class VFXList<T, C extends VFXCell<T>> extends MFXControl
         return new VFXCellsCache<>(cellFactory, getCacheCapacity());
     }
 
-    /// Setter for the [#stateProperty()].
+    /// Setter for the [#stateProperty()]. The update is also counted by the [VFXMetrics] service, if installed, and
+    /// commits the pending [VFXStateEvent], see [VFXEvents].
     protected void update(VFXListState<T, C> state) {
+        VFXMetrics.onStateUpdate(this, state.size());
+        VFXEvents.commitState(this, getState().getRange(), state.getRange(), state.size());
         setState(state);
     }
 
@@ -317,6 +324,23 @@ public class VFXList<T, C extends VFXCell<T>> extends MFXControl
         return this;
     }
 
+    /// Delegate for [VFXCellsCache#populateAsync()].
+    public VFXList<T, C> populateCacheAsync() {
+        cache.populateAsync();
+        return this;
+    }
+
+    /// Delegate for [VFXCellsCache#populateAsync(int, Duration)].
+    public VFXList<T, C> populateCacheAsync(int cellsPerPulse, Duration budget) {
+        cache.populateAsync(cellsPerPulse, budget);
+        return this;
+    }
+
+    /// Delegate for [VFXCellsCache#populateProgressProperty()].
+    public ReadOnlyDoubleProperty cachePopulateProgressProperty() {
+        return cache.populateProgressProperty();
+    }
+
     /// Delegate for [VFXListState#getRange()]
     public IntegerRange getRange() {
         return getState().getRange();
@@ -28,12 +28,19 @@ import io.github.palexdev.mfxcore.builders.bindings.DoubleBindingBuilder;
 import io.github.palexdev.mfxcore.builders.bindings.ObjectBindingBuilder;
 import io.github.palexdev.mfxcore.utils.NumberUtils;
 import io.github.palexdev.mfxcore.utils.fx.LayoutUtils;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.base.VFXContainerHelper;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.controls.VFXScrollPane;
+import io.github.palexdev.virtualizedfx.utils.DirectionalBuffer;
+import io.github.palexdev.virtualizedfx.utils.SizeIndex;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
 import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener.Change;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 
@@ -43,6 +50,21 @@ import static io.github.palexdev.mfxcore.base.beans.Position.position;
 /// orientation, [VFXList#orientationProperty()]. There are two concrete implementations: [VerticalHelper]
 /// and [HorizontalHelper]
 ///
+/// Both the default implementations assume that all cells have the same size, given by [VFXList#cellSizeProperty()].
+/// For lists whose cells can have different sizes along the virtualized axis, there are two more implementations:
+/// [VariableVerticalHelper] and [VariableHorizontalHelper]. They can be enabled through the [VFXList#helperFactoryProperty()],
+/// for example:
+/// ```java
+/// list.setHelperFactory(o -> o == Orientation.VERTICAL ?
+///     new VariableVerticalHelper<>(list) :
+///     new VariableHorizontalHelper<>(list)
+/// );
+///```
+///
+/// For huge lists (tens of millions of items and more), pixel positions get too large to be precise. The
+/// [AnchoredVerticalHelper] and [AnchoredHorizontalHelper] implementations keep the position as the index of the first
+/// visible item plus a pixel offset, and scale the scroll position to a bounded range, see [AbstractAnchoredHelper].
+///
 /// A little **note** on the virtual max X/Y properties.
 ///
 /// The axis property which is the opposite of the current container's orientation ([VFXList#orientationProperty()]),
@@ -99,6 +121,10 @@ public interface VFXListHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
     /// Scrolls in the viewport to the given item's index.
     void scrollToIndex(int index);
 
+    /// This is called by the [VFXListManager] when the items list changes, before the new state is computed, so that
+    /// cells' measurements (if any) can follow the items they belong to. By default, does nothing.
+    default void onItemsChanged(Change<? extends T> change) {}
+
     /// Converts the given index to a cell. Uses [#itemToCell(Object)].
     default C indexToCell(int index) {
         T item = indexToItem(index);
@@ -156,6 +182,8 @@ public interface VFXListHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
     /// (cannot exceed the number of items - 1). It may happen the number of indexes given by the range `end - start + 1` is lesser
     /// than the total number of cells we need. In such cases, the range start is corrected to be `end - needed + 1`.
     /// A typical situation for this is when the list position reaches the max scroll.
+    /// If a [DirectionalBuffer] is installed, the start is shifted towards the scroll direction, see
+    /// [DirectionalBuffer#rangeStart(VFXContainer, Orientation, int, int, double, double)].
     /// The range computation has the following dependencies: the list's height, the virtual max y, the buffer size and
     /// the vertical position.
     ///
@@ -191,10 +219,14 @@ public interface VFXListHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
                     int needed = totalNum();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstVisible() - container.getBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.VERTICAL, firstVisible(), container.getBufferSize().val(), container.getVPos(), getTotalCellSize()
+                    );
                     int end = Math.min(container.size() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
-                    return IntegerRange.of(start, end);
+                    IntegerRange newRange = IntegerRange.of(start, end);
+                    DirectionalBuffer.prefetchItems(container, Orientation.VERTICAL, newRange);
+                    return newRange;
                 })
                 .addSources(container.heightProperty())
                 .addSources(container.bufferSizeProperty())
@@ -343,6 +375,8 @@ public interface VFXListHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
     /// exceed the number of items - 1. It may happen the number of indexes given by the range `end - start + 1` is lesser
     /// than the total number of cells we need, in such cases, the range start is corrected to be `end - needed + 1`.
     /// A typical situation for this is when the list position reaches the max scroll.
+    /// If a [DirectionalBuffer] is installed, the start is shifted towards the scroll direction, see
+    /// [DirectionalBuffer#rangeStart(VFXContainer, Orientation, int, int, double, double)].
     /// The range computation has the following dependencies: the list's width, the virtual max x, the buffer size and
     /// the horizontal position.
     ///
@@ -378,10 +412,14 @@ public interface VFXListHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
                     int needed = totalNum();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstVisible() - container.getBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.HORIZONTAL, firstVisible(), container.getBufferSize().val(), container.getHPos(), getTotalCellSize()
+                    );
                     int end = Math.min(container.size() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
-                    return IntegerRange.of(start, end);
+                    IntegerRange newRange = IntegerRange.of(start, end);
+                    DirectionalBuffer.prefetchItems(container, Orientation.HORIZONTAL, newRange);
+                    return newRange;
                 })
                 .addSources(container.widthProperty())
                 .addSources(container.bufferSizeProperty())
@@ -521,4 +559,1065 @@ public interface VFXListHelper<T, C extends VFXCell<T>> extends VFXContainerHelp
             super.dispose();
         }
     }
+
+    /// Extension of [AbstractHelper] and base class for [VariableVerticalHelper] and [VariableHorizontalHelper].
+    ///
+    /// Rather than assuming that every cell has the same size, cells are measured lazily when they are laid out, and
+    /// their sizes are stored in a [SizeIndex]. This allows converting indexes to pixels and vice versa in O(log n),
+    /// as well as updating the size of a single item in O(log n) when its cell is re-measured.
+    ///
+    /// **The meaning of the cell size**
+    ///
+    /// In this mode, the [VFXList#cellSizeProperty()] has two roles:
+    ///
+    /// 1) It's the estimated size for items that have never been measured. The virtual max X/Y is thus an estimate that
+    /// becomes more and more accurate as the user scrolls through the list
+    ///
+    /// 2) It's the minimum size a cell can have. Measured sizes below this value are clamped to it. This is important
+    /// because it guarantees that `viewportLength / totalCellSize` cells are always enough to fill the viewport,
+    /// which means that the number of cells does not depend on the position, and the [VFXListManager] algorithms
+    /// work as they are.
+    ///
+    /// So, it's recommended to set the cell size to the size of the smallest possible cell (for example, a single line
+    /// of text for a log viewer).
+    ///
+    /// **Keeping the viewport stable**
+    ///
+    /// When a cell that comes before the first visible one (e.g., a buffer cell) is measured with a different size, every
+    /// cell after it moves. To avoid the content 'jumping', the position is corrected by the same amount, so that the
+    /// first visible cell stays where it was. The virtual max, the range and the viewport position are invalidated
+    /// once all the cells have been laid out.
+    ///
+    /// **Items changes**
+    ///
+    /// When the items list changes, the measurements are shifted accordingly by [#onItemsChanged(Change)], so that they
+    /// stay on the items they belong to (think of a log viewer which trims the head while appending). Removed and replaced
+    /// items lose their measurements, while added ones get the estimate. In case you want to discard all the measurements
+    /// anyway, you can call [#invalidateMeasurements()].
+    abstract class AbstractVariableHelper<T, C extends VFXCell<T>> extends AbstractHelper<T, C> {
+        protected final SizeIndex sizes = new SizeIndex(0.0);
+        protected final IntegerProperty measurements = new SimpleIntegerProperty();
+        private double lastCellSize;
+
+        // Layout
+        private int anchor = -1;
+        private double anchorShift = 0.0;
+        private boolean measured = false;
+
+        public AbstractVariableHelper(VFXList<T, C> list) {
+            super(list);
+            lastCellSize = list.getCellSize();
+            sizes.setBase(getTotalCellSize());
+            sizes.setSize(list.size());
+        }
+
+        /// @return the position along the virtualized axis
+        protected abstract double getPos();
+
+        /// Sets the position along the virtualized axis.
+        protected abstract void setPos(double pos);
+
+        /// @return the length of the viewport along the virtualized axis
+        protected abstract double getViewportLength();
+
+        /// Measures the given node along the virtualized axis. The value is clamped to be at least the
+        /// [VFXList#cellSizeProperty()].
+        ///
+        /// @param other the node's size along the other axis, given by [#computeSize(Node)]
+        protected abstract double measure(Node node, double other);
+
+        /// @return the [SizeIndex] storing the items' sizes along the virtualized axis, spacing included
+        public SizeIndex sizes() {
+            return sizes;
+        }
+
+        /// Syncs the [SizeIndex] with the list's state. More specifically:
+        ///
+        /// - if the [VFXList#cellSizeProperty()] changed, all measurements are discarded since they are stored as deltas
+        /// from it
+        ///
+        /// - the base size is updated to [#getTotalCellSize()]. Since the spacing is part of each item's size, a spacing
+        /// change does not invalidate the measurements
+        ///
+        /// - if the number of measurements is not [VFXList#size()], which means that the items changed without
+        /// [#onItemsChanged(Change)] being called (e.g. before the list was shown), all measurements are discarded
+        /// since there's no way to know where they belong
+        protected void syncSizes() {
+            double cellSize = container.getCellSize();
+            if (cellSize != lastCellSize) {
+                sizes.clear();
+                lastCellSize = cellSize;
+            }
+            sizes.setBase(getTotalCellSize());
+            if (sizes.size() != container.size()) {
+                sizes.clear();
+                sizes.setSize(container.size());
+            }
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Replays the given [Change] on the [SizeIndex]: removals and additions are applied with
+        /// [SizeIndex#remove(int, int)] and [SizeIndex#insert(int, int)] (a replacement is both), permutations move the
+        /// sizes to the new indexes, and updates are ignored.
+        ///
+        /// If the index is not synced with the list as it was before the change, all the measurements are discarded
+        /// instead, see [#syncSizes()].
+        ///
+        /// The change is reset before returning, so that it can still be iterated by others.
+        @Override
+        public void onItemsChanged(Change<? extends T> change) {
+            int delta = 0;
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) continue;
+                delta += change.getAddedSize() - change.getRemovedSize();
+            }
+            change.reset();
+            if (sizes.size() != container.size() - delta) {
+                syncSizes();
+                return;
+            }
+
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    int to = change.getTo();
+                    double[] moved = new double[to - from];
+                    for (int i = from; i < to; i++) moved[i - from] = sizes.get(i);
+                    for (int i = from; i < to; i++) sizes.set(change.getPermutation(i), moved[i - from]);
+                    continue;
+                }
+                if (change.wasUpdated()) continue;
+                sizes.remove(from, change.getRemovedSize());
+                sizes.insert(from, change.getAddedSize());
+            }
+            change.reset();
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Since the [VFXListManager] calls this whenever the items, the cell size or the spacing change, the
+        /// [SizeIndex] is synced first by [#syncSizes()], as the positions depend on it.
+        @Override
+        public void invalidatePos() {
+            syncSizes();
+            super.invalidatePos();
+        }
+
+        /// Discards all the measurements, every item will be assumed to have the [VFXList#cellSizeProperty()] size
+        /// until it is laid out again. Also invalidates the virtual sizes, the range and the viewport position.
+        public void invalidateMeasurements() {
+            sizes.clear();
+            onMeasurementsChanged();
+        }
+
+        /// Invalidates the virtual sizes, the range and the viewport position because they depend on the items' sizes.
+        protected void onMeasurementsChanged() {
+            invalidateVirtualSizes();
+            measurements.set(measurements.get() + 1);
+        }
+
+        /// @return the item's size along the virtualized axis, spacing excluded. For items that have never been measured,
+        /// this is the [VFXList#cellSizeProperty()]
+        public double getItemSize(int index) {
+            return sizes().get(index) - container.getSpacing();
+        }
+
+        /// @return the position at which the given item starts along the virtualized axis
+        public double getItemPos(int index) {
+            SizeIndex sizes = sizes();
+            return sizes.offsetOf(NumberUtils.clamp(index, 0, sizes.size()));
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by searching the position in the [SizeIndex], clamped between 0 and itemsNum - 1.
+        @Override
+        public int firstVisible() {
+            return NumberUtils.clamp(sizes().indexAt(getPos()), 0, container.size() - 1);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by searching the position plus the viewport's length in the [SizeIndex], clamped between 0 and itemsNum - 1.
+        @Override
+        public int lastVisible() {
+            return NumberUtils.clamp(sizes().indexAt(getPos() + getViewportLength()), 0, container.size() - 1);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by `Math.ceil(viewportLength / totalCellSize)`. Since the cell size is also the minimum size
+        /// a cell can have, this is the maximum number of cells that can fit in the viewport.
+        @Override
+        public int visibleNum() {
+            double size = getTotalCellSize();
+            return size > 0 ?
+                (int) Math.ceil(getViewportLength() / size) :
+                0;
+        }
+
+        /// Creates the binding for the range of items to display, the computation is the same as
+        /// [VerticalHelper] and [HorizontalHelper], but the first visible item is given by the [SizeIndex].
+        protected void bindRange() {
+            range.bind(ObjectBindingBuilder.<IntegerRange>build()
+                .setMapper(() -> {
+                    if (getViewportLength() <= 0) return Utils.INVALID_RANGE;
+                    int needed = totalNum();
+                    if (needed == 0) return Utils.INVALID_RANGE;
+
+                    int start = DirectionalBuffer.rangeStart(
+                        container, container.getOrientation(), firstVisible(), container.getBufferSize().val(), getPos(), getTotalCellSize()
+                    );
+                    int end = Math.min(container.size() - 1, start + needed - 1);
+                    if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
+                    IntegerRange newRange = IntegerRange.of(start, end);
+                    DirectionalBuffer.prefetchItems(container, container.getOrientation(), newRange);
+                    return newRange;
+                })
+                .addSources(container.widthProperty(), container.heightProperty())
+                .addSources(container.bufferSizeProperty())
+                .addSources(container.vPosProperty(), container.hPosProperty())
+                .addSources(container.sizeProperty(), container.cellSizeProperty(), container.spacingProperty())
+                .addSources(measurements)
+                .get()
+            );
+        }
+
+        /// @return the number of pixels between the first item in the range and the current position. Since the
+        /// [SizeIndex] gives the exact position of each item, this is just `pos - offsetOf(range.getMin())`
+        protected double computeViewportOffset() {
+            if (container.isEmpty()) return 0.0;
+            IntegerRange range = range();
+            if (Utils.INVALID_RANGE.equals(range)) return 0.0;
+            return getPos() - sizes().offsetOf(range.getMin());
+        }
+
+        /// @return the virtual max along the virtualized axis, given by the sum of all items' sizes minus the spacing
+        /// for the last item
+        protected DoubleBinding createVirtualMaxBinding() {
+            return DoubleBindingBuilder.build()
+                .setMapper(() -> sizes().total() - container.getSpacing())
+                .addSources(container.sizeProperty(), container.cellSizeProperty(), container.spacingProperty())
+                .get();
+        }
+
+        /// Stores the given size for the item at `range.getMin() + layoutIndex` in the [SizeIndex].
+        /// Also keeps track of the correction to apply to the position so that the first visible cell doesn't move,
+        /// see [#onCellLaidOut(int)].
+        ///
+        /// @param size the cell's size along the virtualized axis, given by [#measure(Node, double)]
+        /// @return the pixel at which the cell must be placed along the virtualized axis
+        protected double layoutPos(int layoutIndex, double size) {
+            IntegerRange range = range();
+            int index = range.getMin() + layoutIndex;
+            SizeIndex sizes = sizes();
+            if (layoutIndex == 0) {
+                anchor = firstVisible();
+                anchorShift = 0.0;
+                measured = false;
+            }
+
+            if (index < sizes.size()) {
+                double old = sizes.get(index);
+                if (sizes.set(index, size + container.getSpacing())) {
+                    measured = true;
+                    if (index < anchor) anchorShift += sizes.get(index) - old;
+                }
+            }
+            return sizes.offsetOf(Math.min(index, sizes.size())) - sizes.offsetOf(range.getMin());
+        }
+
+        /// To be called after a cell has been resized and relocated. When the last cell in the range is processed, if any
+        /// size changed, calls [#onMeasurementsChanged()] and corrects the position by the accumulated amount.
+        ///
+        /// This must happen after the relocation because changing the position may produce a new state and thus a new
+        /// layout pass.
+        protected void onCellLaidOut(int layoutIndex) {
+            IntegerRange range = range();
+            if (range.getMin() + layoutIndex < range.getMax() || !measured) return;
+            measured = false;
+            onMeasurementsChanged();
+            if (anchorShift != 0.0) {
+                double shift = anchorShift;
+                anchorShift = 0.0;
+                setPos(getPos() + shift);
+            }
+        }
+
+        @Override
+        public void scrollBy(double pixels) {
+            setPos(getPos() + pixels);
+        }
+
+        @Override
+        public void scrollToPixel(double pixel) {
+            setPos(pixel);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The pixel is given by the position of the item in the [SizeIndex]. Note that for items that have never been
+        /// measured, the position is an estimate.
+        @Override
+        public void scrollToIndex(int index) {
+            scrollToPixel(getItemPos(index));
+        }
+
+        @Override
+        public void dispose() {
+            range.unbind();
+            viewportPosition.unbind();
+            sizes.clear();
+            super.dispose();
+        }
+    }
+
+    /// Concrete implementation of [AbstractVariableHelper] for [Orientation#VERTICAL].
+    ///
+    /// Works exactly like [VerticalHelper] but cells can have different heights, the differences are:
+    ///
+    /// - the first and last visible items are found by searching the [SizeIndex]
+    ///
+    /// - the viewport's vertical position is given by `-(vPos - offsetOf(range.getMin()))`
+    ///
+    /// - the virtual max y is the sum of all items' heights, where unmeasured items count as [VFXList#cellSizeProperty()]
+    ///
+    /// - cells are measured by [#measure(Node, double)] every time they are laid out
+    class VariableVerticalHelper<T, C extends VFXCell<T>> extends AbstractVariableHelper<T, C> {
+
+        public VariableVerticalHelper(VFXList<T, C> list) {
+            super(list);
+            createBindings();
+        }
+
+        @Override
+        protected void createBindings() {
+            bindRange();
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    double x = -NumberUtils.clamp(container.getHPos(), 0.0, getMaxHScroll());
+                    double y = -computeViewportOffset();
+                    return position(x, y);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty(), container.vPosProperty())
+                .addSources(container.cellSizeProperty(), container.spacingProperty())
+                .addSources(measurements)
+                .get()
+            );
+            super.createBindings();
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxXBinding() {
+            return null; // null for vertical!
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxYBinding() {
+            return createVirtualMaxBinding();
+        }
+
+        @Override
+        protected double getPos() {
+            return container.getVPos();
+        }
+
+        @Override
+        protected void setPos(double pos) {
+            container.setVPos(pos);
+        }
+
+        @Override
+        protected double getViewportLength() {
+            return container.getHeight();
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The height is given by [Node#prefHeight(double)] for the given width.
+        @Override
+        protected double measure(Node node, double other) {
+            double h = node.prefHeight(other);
+            if (h <= 0) {
+                node.applyCss();
+                h = node.prefHeight(other);
+            }
+            return Math.max(container.getCellSize(), h);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// If [VFXList#fitToViewportProperty()] is true, then the computation will always return the
+        /// list's width, otherwise the node width is computed by [LayoutUtils#boundWidth(Node)].
+        /// Also, in the latter case, if the found width is greater than the current max x, then the property
+        /// [#virtualMaxXProperty()] is updated with the new value.
+        @Override
+        public double computeSize(Node node) {
+            boolean fitToViewport = container.isFitToViewport();
+            if (fitToViewport) {
+                double fW = container.getWidth();
+                virtualMaxX.set(fW);
+                return fW;
+            }
+            double nW = LayoutUtils.boundWidth(node);
+            if (nW == 0) {
+                node.applyCss();
+                nW = LayoutUtils.boundWidth(node);
+            }
+            if (nW > virtualMaxX.get()) virtualMaxX.set(nW);
+            return nW;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The x position is 0. The y position is the item's offset relative to the first item in the range, given by
+        /// the [SizeIndex]. The width is computed by [#computeSize(Node)], and the height by [#measure(Node, double)].
+        @Override
+        public void layout(int layoutIndex, VFXCell<T> cell) {
+            Node node = cell.toNode();
+            double w = computeSize(node);
+            double h = measure(node, w);
+            double y = layoutPos(layoutIndex, h);
+            cell.beforeLayout();
+            node.resizeRelocate(0, y, w, h);
+            cell.afterLayout();
+            onCellLaidOut(layoutIndex);
+        }
+    }
+
+    /// Concrete implementation of [AbstractVariableHelper] for [Orientation#HORIZONTAL].
+    ///
+    /// Works exactly like [HorizontalHelper] but cells can have different widths, the differences are:
+    ///
+    /// - the first and last visible items are found by searching the [SizeIndex]
+    ///
+    /// - the viewport's horizontal position is given by `-(hPos - offsetOf(range.getMin()))`
+    ///
+    /// - the virtual max x is the sum of all items' widths, where unmeasured items count as [VFXList#cellSizeProperty()]
+    ///
+    /// - cells are measured by [#measure(Node, double)] every time they are laid out
+    class VariableHorizontalHelper<T, C extends VFXCell<T>> extends AbstractVariableHelper<T, C> {
+
+        public VariableHorizontalHelper(VFXList<T, C> list) {
+            super(list);
+            createBindings();
+        }
+
+        @Override
+        protected void createBindings() {
+            bindRange();
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    double x = -computeViewportOffset();
+                    double y = -NumberUtils.clamp(container.getVPos(), 0.0, getMaxVScroll());
+                    return position(x, y);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty(), container.vPosProperty())
+                .addSources(container.cellSizeProperty(), container.spacingProperty())
+                .addSources(measurements)
+                .get()
+            );
+            super.createBindings();
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxXBinding() {
+            return createVirtualMaxBinding();
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxYBinding() {
+            return null; // null for horizontal!
+        }
+
+        @Override
+        protected double getPos() {
+            return container.getHPos();
+        }
+
+        @Override
+        protected void setPos(double pos) {
+            container.setHPos(pos);
+        }
+
+        @Override
+        protected double getViewportLength() {
+            return container.getWidth();
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The width is given by [Node#prefWidth(double)] for the given height.
+        @Override
+        protected double measure(Node node, double other) {
+            double w = node.prefWidth(other);
+            if (w <= 0) {
+                node.applyCss();
+                w = node.prefWidth(other);
+            }
+            return Math.max(container.getCellSize(), w);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// If [VFXList#fitToViewportProperty()] is true, then the computation will always return the
+        /// list's height, otherwise the node height is computed by [LayoutUtils#boundHeight(Node)].
+        /// Also, in the latter case, if the found height is greater than the current max y, then the property
+        /// [#virtualMaxYProperty()] is updated with the new value.
+        @Override
+        public double computeSize(Node node) {
+            boolean fitToViewport = container.isFitToViewport();
+            if (fitToViewport) {
+                double fH = container.getHeight();
+                virtualMaxY.set(fH);
+                return fH;
+            }
+            double nH = LayoutUtils.boundHeight(node);
+            if (nH == 0) {
+                node.applyCss();
+                nH = LayoutUtils.boundHeight(node);
+            }
+            if (nH > virtualMaxY.get()) virtualMaxY.set(nH);
+            return nH;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The y position is 0. The x position is the item's offset relative to the first item in the range, given by
+        /// the [SizeIndex]. The height is computed by [#computeSize(Node)], and the width by [#measure(Node, double)].
+        @Override
+        public void layout(int layoutIndex, VFXCell<T> cell) {
+            Node node = cell.toNode();
+            double h = computeSize(node);
+            double w = measure(node, h);
+            double x = layoutPos(layoutIndex, w);
+            cell.beforeLayout();
+            node.resizeRelocate(x, 0, w, h);
+            cell.afterLayout();
+            onCellLaidOut(layoutIndex);
+        }
+    }
+
+    /// Extension of [AbstractHelper] and base class for [AnchoredVerticalHelper] and [AnchoredHorizontalHelper].
+    ///
+    /// Just like [VerticalHelper] and [HorizontalHelper], this assumes that all cells have the same size, but it's meant
+    /// for huge lists, up to [Integer#MAX_VALUE] items.
+    ///
+    /// **The problem**
+    ///
+    /// The default helpers keep the scroll position only as a pixel value, [VFXList#vPosProperty()] or
+    /// [VFXList#hPosProperty()], and the virtual max is `itemsNum * totalCellSize`. With tens of millions of items, these
+    /// numbers get so large that the `double` loses precision in the fractional part, which makes the first visible item
+    /// and the `pos % totalCellSize` offset jittery. Not to mention that the scroll bars are barely usable with such
+    /// a range.
+    ///
+    /// **The anchor**
+    ///
+    /// Here instead, the position is kept as a pair: the index of the first visible item, the `anchor`, and the number of
+    /// pixels by which it is scrolled out of the viewport, the `offset`, always in `[0, totalCellSize)`. The range and
+    /// the viewport position are computed from this pair, so scrolling by pixels, [#scrollBy(double)], and to an index,
+    /// [#scrollToIndex(int)], are exact and O(1) no matter how far in the list the position is.
+    ///
+    /// **The scaled position**
+    ///
+    /// The position property along the virtualized axis becomes a view of the anchor, scaled to fit in at most
+    /// [#getMaxScrollSpace()] pixels. In other words, the max scroll is `min(realMaxScroll, maxScrollSpace)` and
+    /// the position is `(anchor * totalCellSize + offset) * scale`, see [#getScale()]. When the list is small enough,
+    /// the scale is 1.0, and the position is exactly the same as with the default helpers.
+    ///
+    /// The position can still be set directly (which is what scroll bars do). In such cases, the anchor is re-computed from
+    /// the position the next time it's needed, which means that the resolution of such changes is `1 / scale` pixels.
+    /// A change made by the helper's methods that is too small to be represented by the scaled position is ignored.
+    /// The increments of a [VFXScrollPane] (buttons, mouse wheel) are not applied to the position, they are real pixels
+    /// routed through [#scrollBy(double)], so that scrolling by one cell moves by exactly one cell no matter the scale.
+    ///
+    /// Since the scale depends on the number of items and on the viewport's size, [#invalidatePos()] keeps the anchor
+    /// and re-computes the position from it, so that the viewport doesn't move when the list changes.
+    abstract class AbstractAnchoredHelper<T, C extends VFXCell<T>> extends AbstractHelper<T, C> {
+        /// The default value for [#getMaxScrollSpace()], `2^24` pixels. Beyond this value, floats (used by the graphics
+        /// pipeline and by the scroll bars) cannot represent every integer pixel.
+        public static final double DEFAULT_MAX_SCROLL_SPACE = 1 << 24;
+
+        private final double maxScrollSpace;
+        private int anchor = 0;
+        private double offset = 0.0;
+        private double syncedPos = 0.0;
+
+        public AbstractAnchoredHelper(VFXList<T, C> list, double maxScrollSpace) {
+            super(list);
+            if (maxScrollSpace <= 0)
+                throw new IllegalArgumentException("Max scroll space must be greater than 0, got %f".formatted(maxScrollSpace));
+            this.maxScrollSpace = maxScrollSpace;
+        }
+
+        /// @return the position along the virtualized axis
+        protected abstract double getPos();
+
+        /// Sets the position along the virtualized axis.
+        protected abstract void setPos(double pos);
+
+        /// @return the max scroll along the virtualized axis
+        protected abstract double getMaxScroll();
+
+        /// @return the length of the viewport along the virtualized axis
+        protected abstract double getViewportLength();
+
+        /// Forces the invalidation of the position along the other axis.
+        protected abstract void invalidateOtherPos();
+
+        /// @return the maximum number of pixels the position along the virtualized axis can span
+        public double getMaxScrollSpace() {
+            return maxScrollSpace;
+        }
+
+        /// @return the virtual max along the virtualized axis as if there was no scaling, `itemsNum * totalCellSize - spacing`
+        public double getRealVirtualMax() {
+            return (double) container.size() * getTotalCellSize() - container.getSpacing();
+        }
+
+        /// @return the max scroll along the virtualized axis as if there was no scaling, `realVirtualMax - viewportLength`
+        public double getRealMaxScroll() {
+            return Math.max(0.0, getRealVirtualMax() - getViewportLength());
+        }
+
+        /// @return the factor by which real pixels are multiplied to obtain the position. 1.0 if the real max scroll
+        /// fits in [#getMaxScrollSpace()], `maxScrollSpace / realMaxScroll` otherwise
+        public double getScale() {
+            double realMax = getRealMaxScroll();
+            return realMax > maxScrollSpace ? maxScrollSpace / realMax : 1.0;
+        }
+
+        /// @return the index of the first visible item, which is the anchor of the position
+        public int getAnchor() {
+            syncAnchor();
+            return anchor;
+        }
+
+        /// @return the number of pixels by which the anchor is scrolled out of the viewport, in `[0, totalCellSize)`
+        public double getAnchorOffset() {
+            syncAnchor();
+            return offset;
+        }
+
+        /// If the position was changed from outside since the last time the anchor was computed, converts it back to
+        /// the `[anchor, offset]` pair.
+        protected void syncAnchor() {
+            double pos = getPos();
+            if (pos == syncedPos) return;
+            double maxScroll = getMaxScroll();
+            double real = (maxScroll > 0 && pos >= maxScroll) ? getRealMaxScroll() : pos / getScale();
+            setReal(real);
+            syncedPos = pos;
+        }
+
+        /// Converts the given real pixel to the `[anchor, offset]` pair, clamped between 0 and the real max scroll.
+        protected void setReal(double real) {
+            double size = getTotalCellSize();
+            if (size <= 0 || container.isEmpty()) {
+                anchor = 0;
+                offset = 0.0;
+                return;
+            }
+            real = NumberUtils.clamp(real, 0.0, getRealMaxScroll());
+            long idx = Math.min((long) Math.floor(real / size), container.size() - 1L);
+            anchor = (int) idx;
+            offset = Math.max(0.0, real - idx * size);
+        }
+
+        /// Clamps the given `[anchor, offset]` pair so that it doesn't exceed the real max scroll, then updates the
+        /// position accordingly.
+        ///
+        /// If the new pair doesn't change the scaled position, it is discarded (see [AbstractAnchoredHelper]) unless
+        /// the `force` flag is true.
+        ///
+        /// @return whether the pair was applied
+        protected boolean moveTo(long anchor, double offset, boolean force) {
+            double size = getTotalCellSize();
+            if (size <= 0 || container.isEmpty()) return false;
+
+            // Normalize the offset
+            if (offset < 0 || offset >= size) {
+                long steps = (long) Math.floor(offset / size);
+                anchor += steps;
+                offset -= steps * size;
+            }
+
+            // Clamp to [0, realMaxScroll]
+            double realMax = getRealMaxScroll();
+            long maxAnchor = Math.min((long) Math.floor(realMax / size), container.size() - 1L);
+            double maxOffset = realMax - maxAnchor * size;
+            if (anchor < 0) {
+                anchor = 0;
+                offset = 0.0;
+            } else if (anchor > maxAnchor || (anchor == maxAnchor && offset > maxOffset)) {
+                anchor = maxAnchor;
+                offset = maxOffset;
+            }
+
+            double pos = Math.min(((double) anchor * size + offset) * getScale(), getMaxScroll());
+            if (!force && pos == getPos() && (anchor != this.anchor || offset != this.offset)) return false;
+            this.anchor = (int) anchor;
+            this.offset = offset;
+            syncedPos = pos;
+            setPos(pos);
+            return true;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by the anchor, clamped between 0 and itemsNum - 1.
+        @Override
+        public int firstVisible() {
+            return NumberUtils.clamp(getAnchor(), 0, container.size() - 1);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by `anchor + (offset + viewportLength) / totalCellSize`, clamped between 0 and itemsNum - 1.
+        @Override
+        public int lastVisible() {
+            double size = getTotalCellSize();
+            if (size <= 0) return 0;
+            long last = getAnchor() + (long) Math.floor((getAnchorOffset() + getViewportLength()) / size);
+            return (int) Math.max(0, Math.min(last, container.size() - 1L));
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by `Math.ceil(viewportLength / totalCellSize)`.
+        @Override
+        public int visibleNum() {
+            double size = getTotalCellSize();
+            return size > 0 ?
+                (int) Math.ceil(getViewportLength() / size) :
+                0;
+        }
+
+        /// Creates the binding for the range of items to display, the computation is the same as
+        /// [VerticalHelper] and [HorizontalHelper], but the first visible item is the anchor.
+        protected void bindRange() {
+            range.bind(ObjectBindingBuilder.<IntegerRange>build()
+                .setMapper(() -> {
+                    if (getViewportLength() <= 0) return Utils.INVALID_RANGE;
+                    int needed = totalNum();
+                    if (needed == 0) return Utils.INVALID_RANGE;
+
+                    int start = DirectionalBuffer.rangeStart(
+                        container, container.getOrientation(), firstVisible(), container.getBufferSize().val(), getPos(), getTotalCellSize()
+                    );
+                    int end = (int) Math.min(container.size() - 1L, (long) start + needed - 1);
+                    if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
+                    IntegerRange newRange = IntegerRange.of(start, end);
+                    DirectionalBuffer.prefetchItems(container, container.getOrientation(), newRange);
+                    return newRange;
+                })
+                .addSources(container.widthProperty(), container.heightProperty())
+                .addSources(container.bufferSizeProperty())
+                .addSources(container.vPosProperty(), container.hPosProperty())
+                .addSources(container.sizeProperty(), container.cellSizeProperty(), container.spacingProperty())
+                .get()
+            );
+        }
+
+        /// @return the number of pixels between the first item in the range and the current position, given by
+        /// `(anchor - range.getMin()) * totalCellSize + offset`. Unlike the default helpers, the numbers involved
+        /// here are always small
+        protected double computeViewportOffset() {
+            if (container.isEmpty()) return 0.0;
+            IntegerRange range = range();
+            if (Utils.INVALID_RANGE.equals(range)) return 0.0;
+            return (firstVisible() - range.getMin()) * getTotalCellSize() + getAnchorOffset();
+        }
+
+        /// @return the virtual max along the virtualized axis. This is [#getRealVirtualMax()] unless the real max scroll
+        /// exceeds [#getMaxScrollSpace()], in which case it's `maxScrollSpace + viewportLength`
+        protected DoubleBinding createVirtualMaxBinding() {
+            return DoubleBindingBuilder.build()
+                .setMapper(() -> getRealMaxScroll() > maxScrollSpace ?
+                    maxScrollSpace + getViewportLength() :
+                    getRealVirtualMax()
+                )
+                .addSources(container.sizeProperty(), container.cellSizeProperty(), container.spacingProperty())
+                .addSources(container.widthProperty(), container.heightProperty())
+                .get();
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Overridden to keep the anchor: the position is re-computed from it, as the scale may have changed.
+        @Override
+        public void invalidatePos() {
+            syncAnchor();
+            if (!moveTo(anchor, offset, true)) setPos(getPos());
+            invalidateOtherPos();
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Both the anchor and the offset are updated by the exact given amount.
+        @Override
+        public void scrollBy(double pixels) {
+            syncAnchor();
+            moveTo(anchor, offset + pixels, false);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The given pixel is a real pixel, not a scaled position.
+        @Override
+        public void scrollToPixel(double pixel) {
+            double size = getTotalCellSize();
+            if (size <= 0) return;
+            long idx = (long) Math.floor(pixel / size);
+            moveTo(idx, pixel - idx * size, false);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// This doesn't involve any pixel computation, the given index simply becomes the anchor.
+        @Override
+        public void scrollToIndex(int index) {
+            moveTo(index, 0.0, false);
+        }
+
+        @Override
+        public void dispose() {
+            range.unbind();
+            viewportPosition.unbind();
+            super.dispose();
+        }
+    }
+
+    /// Concrete implementation of [AbstractAnchoredHelper] for [Orientation#VERTICAL].
+    ///
+    /// Works exactly like [VerticalHelper], the differences are:
+    ///
+    /// - the first visible item is the anchor
+    ///
+    /// - the viewport's vertical position is given by `-((anchor - range.getMin()) * totalCellSize + offset)`
+    ///
+    /// - the virtual max y is capped, so that the max vertical scroll doesn't exceed [#getMaxScrollSpace()]
+    ///
+    /// It can be enabled through the [VFXList#helperFactoryProperty()], for example:
+    /// ```java
+    /// list.setHelperFactory(o -> o == Orientation.VERTICAL ?
+    ///     new AnchoredVerticalHelper<>(list) :
+    ///     new AnchoredHorizontalHelper<>(list)
+    /// );
+    ///```
+    class AnchoredVerticalHelper<T, C extends VFXCell<T>> extends AbstractAnchoredHelper<T, C> {
+
+        public AnchoredVerticalHelper(VFXList<T, C> list) {
+            this(list, DEFAULT_MAX_SCROLL_SPACE);
+        }
+
+        public AnchoredVerticalHelper(VFXList<T, C> list, double maxScrollSpace) {
+            super(list, maxScrollSpace);
+            createBindings();
+        }
+
+        @Override
+        protected void createBindings() {
+            bindRange();
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    double x = -NumberUtils.clamp(container.getHPos(), 0.0, getMaxHScroll());
+                    double y = -computeViewportOffset();
+                    return position(x, y);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty(), container.vPosProperty())
+                .addSources(container.cellSizeProperty(), container.spacingProperty())
+                .get()
+            );
+            super.createBindings();
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxXBinding() {
+            return null; // null for vertical!
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxYBinding() {
+            return createVirtualMaxBinding();
+        }
+
+        @Override
+        protected double getPos() {
+            return container.getVPos();
+        }
+
+        @Override
+        protected void setPos(double pos) {
+            container.setVPos(pos);
+        }
+
+        @Override
+        protected double getMaxScroll() {
+            return getMaxVScroll();
+        }
+
+        @Override
+        protected double getViewportLength() {
+            return container.getHeight();
+        }
+
+        @Override
+        protected void invalidateOtherPos() {
+            container.setHPos(container.getHPos());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// If [VFXList#fitToViewportProperty()] is true, then the computation will always return the
+        /// list's width, otherwise the node width is computed by [LayoutUtils#boundWidth(Node)].
+        /// Also, in the latter case, if the found width is greater than the current max x, then the property
+        /// [#virtualMaxXProperty()] is updated with the new value.
+        @Override
+        public double computeSize(Node node) {
+            boolean fitToViewport = container.isFitToViewport();
+            if (fitToViewport) {
+                double fW = container.getWidth();
+                virtualMaxX.set(fW);
+                return fW;
+            }
+            double nW = LayoutUtils.boundWidth(node);
+            if (nW == 0) {
+                node.applyCss();
+                nW = LayoutUtils.boundWidth(node);
+            }
+            if (nW > virtualMaxX.get()) virtualMaxX.set(nW);
+            return nW;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The x position is 0. The y position is the total cell size multiplied by the given index. The width is
+        /// computed by [#computeSize(Node)], and the height is given by the [VFXList#cellSizeProperty()].
+        @Override
+        public void layout(int layoutIndex, VFXCell<T> cell) {
+            Node node = cell.toNode();
+            double y = getTotalCellSize() * layoutIndex;
+            double w = computeSize(node);
+            double h = container.getCellSize();
+            cell.beforeLayout();
+            node.resizeRelocate(0, y, w, h);
+            cell.afterLayout();
+        }
+    }
+
+    /// Concrete implementation of [AbstractAnchoredHelper] for [Orientation#HORIZONTAL].
+    ///
+    /// Works exactly like [HorizontalHelper], the differences are:
+    ///
+    /// - the first visible item is the anchor
+    ///
+    /// - the viewport's horizontal position is given by `-((anchor - range.getMin()) * totalCellSize + offset)`
+    ///
+    /// - the virtual max x is capped, so that the max horizontal scroll doesn't exceed [#getMaxScrollSpace()]
+    class AnchoredHorizontalHelper<T, C extends VFXCell<T>> extends AbstractAnchoredHelper<T, C> {
+
+        public AnchoredHorizontalHelper(VFXList<T, C> list) {
+            this(list, DEFAULT_MAX_SCROLL_SPACE);
+        }
+
+        public AnchoredHorizontalHelper(VFXList<T, C> list, double maxScrollSpace) {
+            super(list, maxScrollSpace);
+            createBindings();
+        }
+
+        @Override
+        protected void createBindings() {
+            bindRange();
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    double x = -computeViewportOffset();
+                    double y = -NumberUtils.clamp(container.getVPos(), 0.0, getMaxVScroll());
+                    return position(x, y);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty(), container.vPosProperty())
+                .addSources(container.cellSizeProperty(), container.spacingProperty())
+                .get()
+            );
+            super.createBindings();
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxXBinding() {
+            return createVirtualMaxBinding();
+        }
+
+        @Override
+        protected DoubleBinding createVirtualMaxYBinding() {
+            return null; // null for horizontal!
+        }
+
+        @Override
+        protected double getPos() {
+            return container.getHPos();
+        }
+
+        @Override
+        protected void setPos(double pos) {
+            container.setHPos(pos);
+        }
+
+        @Override
+        protected double getMaxScroll() {
+            return getMaxHScroll();
+        }
+
+        @Override
+        protected double getViewportLength() {
+            return container.getWidth();
+        }
+
+        @Override
+        protected void invalidateOtherPos() {
+            container.setVPos(container.getVPos());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// If [VFXList#fitToViewportProperty()] is true, then the computation will always return the
+        /// list's height, otherwise the node height is computed by [LayoutUtils#boundHeight(Node)].
+        /// Also, in the latter case, if the found height is greater than the current max y, then the property
+        /// [#virtualMaxYProperty()] is updated with the new value.
+        @Override
+        public double computeSize(Node node) {
+            boolean fitToViewport = container.isFitToViewport();
+            if (fitToViewport) {
+                double fH = container.getHeight();
+                virtualMaxY.set(fH);
+                return fH;
+            }
+            double nH = LayoutUtils.boundHeight(node);
+            if (nH == 0) {
+                node.applyCss();
+                nH = LayoutUtils.boundHeight(node);
+            }
+            if (nH > virtualMaxY.get()) virtualMaxY.set(nH);
+            return nH;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The y position is 0. The x position is the total cell size multiplied by the given index. The height is
+        /// computed by [#computeSize(Node)], and the width is given by the [VFXList#cellSizeProperty()].
+        @Override
+        public void layout(int layoutIndex, VFXCell<T> cell) {
+            Node node = cell.toNode();
+            double x = getTotalCellSize() * layoutIndex;
+            double w = container.getCellSize();
+            double h = computeSize(node);
+            cell.beforeLayout();
+            node.resizeRelocate(x, 0, w, h);
+            cell.afterLayout();
+        }
+    }
 }
@@ -20,16 +20,21 @@ package io.github.palexdev.virtualizedfx.list;
 
 import java.util.*;
 
-import io.github.palexdev.mfxcore.base.beans.range.ExcludingIntegerRange;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.behavior.MFXBehavior;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.utils.IndexBiMap.StateMap;
+import io.github.palexdev.virtualizedfx.utils.IndexBuffer;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ListProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
 
 /// Default behavior implementation for [VFXList]. Although, to be precise, and as the name also suggests,
 /// this can be considered more like a 'manager' than a behavior. Behaviors typically respond to user input, and then update
@@ -42,7 +47,7 @@ import javafx.beans.property.ListProperty;
 /// - geometry changes (width/height changes), [#onGeometryChanged()]
 /// - position changes, [#onPositionChanged()]
 /// - cell factory changes, [#onCellFactoryChanged()]
-/// - items change, [#onItemsChanged()]
+/// - items change, [#onItemsChanged(Change)] and [#onItemsChanged()]
 /// - fit to viewport flag changes, [#onFitToViewportChanged()]
 /// - cell size changes, [#onCellSizeChanged()]
 /// - orientation changes, [#onOrientationChanged()]
@@ -54,11 +59,16 @@ import javafx.beans.property.ListProperty;
 /// triggered, thus generating an unwanted 'middle' state. For this reason a special flag [#invalidatingPos] is set
 /// to `true` before the invalidation, so that the other method will exit immediately. It's reset back to false
 /// after the computation or if any of the checks before the actual computation fails.
+///
+/// The algorithms iterate on the ranges with primitive loops and collect the indexes that need a cell update in a
+/// reusable [IndexBuffer], [#remaining]. This way, once the buffer has grown to the number of cells in the viewport,
+/// the computations don't box indexes nor allocate temporary collections.
 public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList<T, C>> {
     //================================================================================
     // Properties
     //================================================================================
     protected boolean invalidatingPos = false;
+    protected final IndexBuffer remaining = new IndexBuffer();
 
     //================================================================================
     // Constructors
@@ -83,6 +93,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     protected void onGeometryChanged() {
         invalidatingPos = true;
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.GEOMETRY);
         VFXListHelper<T, C> helper = list.getHelper();
         if (!listFactorySizeCheck()) return;
 
@@ -105,6 +116,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     /// This core method is responsible for updating the list's state when the 'main' position changes (vPos for VERTICAL
     /// orientation, hPos for HORIZONTAL orientation). Since the list doesn't use any throttling technique to limit the number of events/changes,
     /// and since scrolling can happen very fast, performance here is crucial.
+    /// (By default, this runs on every position change. Installing a [PositionCoalescer] limits it to once per pulse.)
     ///
     /// Immediately exists if: the special flag [#invalidatingPos] is true or the current state is [VFXListState#INVALID].
     /// Many other computations here need to validate the positions by calling [VFXListHelper#invalidatePos()], so that
@@ -123,7 +135,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     ///
     /// 1) First of all, we check for common indexes. Cells are removed from the old state and copied to the new one
     /// without updating, since it's not needed. For cells that are not found in the old state (not in common), the index
-    /// is added to a queue
+    /// is added to a queue (the [#remaining] buffer)
     ///
     /// 2) Now we assume that the number of indexes in the queue and the number of cells remaining in the old state
     /// are equal. This is because a position change is not a geometry change, the number cannot change by just scrolling.
@@ -144,6 +156,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     protected void onPositionChanged() {
         if (invalidatingPos) return;
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.POSITION);
         VFXListState<T, C> state = list.getState();
         if (state == VFXListState.INVALID) return;
 
@@ -162,8 +175,8 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
         // Commons are just moved to the new state
         // New indexes are stored in a queue
         VFXListState<T, C> newState = new VFXListState<>(list, range);
-        Deque<Integer> needed = new ArrayDeque<>();
-        for (Integer i : range) {
+        IndexBuffer needed = remaining.clear();
+        for (int i = range.getMin(); i <= range.getMax(); i++) {
             C common = state.removeCell(i);
             if (common != null) {
                 newState.addCell(i, common);
@@ -173,14 +186,13 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
         }
 
         // Remaining cells are updated according to the above-built queue
-        Iterator<C> it = state.getCellsByIndex().values().iterator();
-        while (it.hasNext()) {
-            int idx = needed.removeFirst();
-            C cell = it.next();
+        StateMap<T, C> cells = state.getCells();
+        for (int i = 0; i < needed.size() && !cells.isEmpty(); i++) {
+            int idx = needed.get(i);
+            C cell = cells.pollFirstValue();
             cell.updateIndex(idx);
             cell.updateItem(helper.indexToItem(idx));
             newState.addCell(idx, cell);
-            it.remove();
         }
         list.update(newState);
         list.requestViewportLayout();
@@ -199,6 +211,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     /// The great thing about the factory change is that there is no need to invalidate the position.
     protected void onCellFactoryChanged() {
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.FACTORY);
 
         // Dispose current state, cells if any (not INVALID) are now in cache
         // Purge cache too, cells are from old factory
@@ -257,10 +270,10 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     /// For this reason, cells from the old state are not removed by index, but by **item**,
     /// [VFXListState#removeCell(Object)]. First, we retrieve the item from the list that is now at index i
     /// (this index comes from the loop on the range), then we try to remove the cell for this item from the old state.
-    /// If the cell is found, we update it by index and add it to the new state. Note that the index is also excluded from the range.
+    /// If the cell is found, we update it by index and add it to the new state. Otherwise, the index is added to the [#remaining] buffer.
     ///
     /// Now that 'common' cells have been properly updated, the remaining items are processed by the
-    /// [#remainingAlgorithm(ExcludingIntegerRange, VFXListState)].
+    /// [#remainingAlgorithm(IndexBuffer, VFXListState)].
     ///
     /// Last notes:
     ///
@@ -277,6 +290,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     protected void onItemsChanged() {
         invalidatingPos = true;
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.ITEMS);
         VFXListHelper<T, C> helper = list.getHelper();
 
         /*
@@ -302,22 +316,108 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
         IntegerRange range = helper.range();
         if (!rangeCheck(range, true, true)) return;
 
-        ExcludingIntegerRange eRange = ExcludingIntegerRange.of(range);
+        IndexBuffer remaining = this.remaining.clear();
         VFXListState<T, C> newState = new VFXListState<>(list, range);
 
         // First update by index
-        for (Integer index : range) {
+        for (int index = range.getMin(); index <= range.getMax(); index++) {
             T item = helper.indexToItem(index);
             C c = current.removeCell(item);
             if (c != null) {
-                eRange.exclude(index);
                 c.updateIndex(index);
                 newState.addCell(index, item, c);
+                continue;
             }
+            remaining.add(index);
+        }
+
+        // Process remaining with the "remaining' algorithm"
+        remainingAlgorithm(remaining, newState);
+
+        if (disposeCurrent()) newState.setCellsChanged(true);
+        list.update(newState);
+        if (!newState.haveCellsChanged()) list.requestViewportLayout();
+        invalidatingPos = false;
+    }
+
+    /// Incremental version of [#onItemsChanged()] which makes use of the information carried by the [Change].
+    ///
+    /// The full algorithm has to look up every item in the range by identity, even if the change happened far away from
+    /// the viewport (e.g. an append at the end of a huge list). Here instead, the indexes of the cells in the current state
+    /// are 'replayed' through the change by [#shiftIndexes(Change, IntegerRange)]. This way we know for each cell:
+    /// whether its item was removed, or the new index of its item.
+    ///
+    /// Before anything else, the change is given to the helper through [VFXListHelper#onItemsChanged(Change)], so that
+    /// the cells' measurements (if any) follow their items before the range is computed.
+    ///
+    /// At this point, after invalidating the virtual sizes and the positions as [#onItemsChanged()] does, two things can happen:
+    ///
+    /// 1) The range did not change, and neither did the indexes of the cells. This means that the change occurred
+    /// completely outside the current range (or was an update of the items' content). There's no need to compute a new state.
+    ///
+    /// 2) Otherwise, cells whose item is still in the new range are moved to the new state, updated only by index if needed.
+    /// The remaining indexes are processed by the [#remainingAlgorithm(IndexBuffer, VFXListState)].
+    ///
+    /// Falls back to [#onItemsChanged()] if the current state is [VFXListState#INVALID] or empty, or when
+    /// [#shiftIndexes(Change, IntegerRange)] returns `null`.
+    protected void onItemsChanged(Change<? extends T> change) {
+        VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.ITEMS);
+        list.getHelper().onItemsChanged(change);
+        VFXListState<T, C> current = list.getState();
+        if (current == VFXListState.INVALID || current.isEmpty()) {
+            onItemsChanged();
+            return;
+        }
+
+        IntegerRange lastRange = current.getRange();
+        int[] indexes = shiftIndexes(change, lastRange);
+        if (indexes == null) {
+            onItemsChanged();
+            return;
+        }
+
+        invalidatingPos = true;
+        VFXListHelper<T, C> helper = list.getHelper();
+        helper.invalidateVirtualSizes();
+        helper.invalidatePos();
+        if (!listFactorySizeCheck()) return;
+
+        IntegerRange range = helper.range();
+        if (!rangeCheck(range, true, true)) return;
+
+        // Check whether the state is still valid as it is
+        int min = lastRange.getMin();
+        boolean unchanged = range.equals(lastRange);
+        for (int i = 0; unchanged && i < indexes.length; i++) {
+            if (indexes[i] != min + i) unchanged = false;
+        }
+        if (unchanged) {
+            invalidatingPos = false;
+            return;
+        }
+
+        VFXListState<T, C> newState = new VFXListState<>(list, range);
+
+        // Retained cells are just shifted
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (index < range.getMin() || index > range.getMax()) continue;
+            C c = current.getCells().remove(min + i);
+            if (c == null) continue;
+            if (index != min + i) c.updateIndex(index);
+            newState.addCell(index, c);
+        }
+
+        // Indexes that were not filled by the retained cells
+        IndexBuffer remaining = this.remaining.clear();
+        StateMap<T, C> cells = newState.getCells();
+        for (int index = range.getMin(); index <= range.getMax(); index++) {
+            if (!cells.contains(index)) remaining.add(index);
         }
 
         // Process remaining with the "remaining' algorithm"
-        remainingAlgorithm(eRange, newState);
+        remainingAlgorithm(remaining, newState);
 
         if (disposeCurrent()) newState.setCellsChanged(true);
         list.update(newState);
@@ -325,10 +425,26 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
         invalidatingPos = false;
     }
 
+    /// Replays the given [Change] on the indexes of the given range, which is expected to be the range of the current state.
+    ///
+    /// The returned array has one element for each index in the range, the value is the new index of the item, or `-1` if the
+    /// item was removed. See [Utils#shiftIndexes(Change, int\[\])] for how each kind of sub-change is processed.
+    ///
+    /// Replacements overlapping the range make this return `null`. In such cases (think of a `setAll(...)` call), many of
+    /// the new items are likely to be the same as the old ones but at different positions, which is exactly what the by-item
+    /// lookup of [#onItemsChanged()] is for.
+    protected int[] shiftIndexes(Change<? extends T> change, IntegerRange range) {
+        int min = range.getMin();
+        int[] indexes = new int[range.getMax() - min + 1];
+        for (int i = 0; i < indexes.length; i++) indexes[i] = min + i;
+        return Utils.shiftIndexes(change, indexes) ? indexes : null;
+    }
+
     /// The easiest of all changes. It's enough to request a viewport layout, [VFXList#requestViewportLayout()],
     /// and to make sure that the horizontal position is valid, [VFXListHelper#invalidatePos()].
     protected void onFitToViewportChanged() {
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.GEOMETRY);
         VFXListHelper<T, C> helper = list.getHelper();
         list.requestViewportLayout();
         helper.invalidatePos(); // Not necessary to set invalidatingPos flag
@@ -347,6 +463,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     protected void onCellSizeChanged() {
         invalidatingPos = true;
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.SIZE);
         VFXListHelper<T, C> helper = list.getHelper();
 
         // Ensure positions are correct
@@ -374,6 +491,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     protected void onOrientationChanged() {
         invalidatingPos = true;
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.ORIENTATION);
         if (!listFactorySizeCheck()) return;
 
         // When the orientation changes, it's a better behavior to just reset the positions
@@ -400,6 +518,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     protected void onSpacingChanged() {
         invalidatingPos = true;
         VFXList<T, C> list = getNode();
+        VFXEvents.beginState(list, StateTrigger.SPACING);
         VFXListHelper<T, C> helper = list.getHelper();
 
         // Ensure positions are correct
@@ -427,35 +546,36 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     /// it's enough to move the cells from the current state to the new state. For indexes which are not found
     /// in the current state, a new cell is either taken from the old state, taken from cache or created by the cell factory.
     ///
-    /// (The last operations are delegated to the [#remainingAlgorithm(ExcludingIntegerRange, VFXListState)]).
+    /// (The last operations are delegated to the [#remainingAlgorithm(IndexBuffer, VFXListState)]).
     ///
     /// @see VFXListHelper#indexToCell(int)
     /// @see VFXList#getCellFactory()
     protected void moveReuseCreateAlgorithm(IntegerRange range, VFXListState<T, C> newState) {
         VFXList<T, C> list = getNode();
         VFXListState<T, C> current = list.getState();
-        ExcludingIntegerRange eRange = ExcludingIntegerRange.of(range);
-        if (!current.isEmpty()) {
-            for (Integer index : range) {
-                C c = current.removeCell(index);
-                if (c == null) continue;
-                eRange.exclude(index);
-                newState.addCell(index, c);
+        IndexBuffer remaining = this.remaining.clear();
+        boolean empty = current.isEmpty();
+        for (int index = range.getMin(); index <= range.getMax(); index++) {
+            C c = empty ? null : current.removeCell(index);
+            if (c == null) {
+                remaining.add(index);
+                continue;
             }
+            newState.addCell(index, c);
         }
-        remainingAlgorithm(eRange, newState);
+        remainingAlgorithm(remaining, newState);
     }
 
     /// Avoids code duplication. Typically used in situations where the previous range and the new one are likely to be
     /// very close, but most importantly, that do not involve any change in the items' list.
     /// In such cases, the computation for the new state is divided in two parts:
     ///
-    /// 0) Prerequisites: the new range [min,max], the excluding range (a helper class to keep track of common cells),
-    /// the current state, and the intersection between the current state's range and the new range
+    /// 0) Prerequisites: the new range [min,max], the current state, and the intersection between the current state's
+    /// range and the new range
     ///
     /// 1) The intersection allows us to distinguish between cells that can be moved as they are, without any update,
     /// from the current state to the new one. For this, it's enough to check that the intersection range is valid, and then
-    /// a for loop. Common indexes are also excluded from the range!
+    /// a for loop. Indexes outside the intersection are collected in the [#remaining] buffer!
     ///
     /// 2) The remaining indexes are items that are new. Which means that if there are still cells
     /// in the current state, they need to be updated (both index and item). Otherwise, new ones are created by the cell factory.
@@ -465,10 +585,10 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     /// - See [#rangeCheck(IntegerRange, boolean, boolean)]: used to validate the intersection range, both parameters
     /// are false!
     ///
-    /// - See [#remainingAlgorithm(ExcludingIntegerRange, VFXListState)]: the second part of the algorithm is delegated to this
+    /// - See [#remainingAlgorithm(IndexBuffer, VFXListState)]: the second part of the algorithm is delegated to this
     /// method
     ///
-    /// @see ExcludingIntegerRange
+    /// @see IndexBuffer
     @SuppressWarnings("unchecked")
     protected VFXListState<T, C> intersectionAlgorithm() {
         VFXList<T, C> list = getNode();
@@ -477,32 +597,35 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
         // New range
         IntegerRange range = helper.range();
         if (!rangeCheck(range, false, false)) return VFXListState.INVALID;
-        ExcludingIntegerRange eRange = ExcludingIntegerRange.of(range);
+        IndexBuffer remaining = this.remaining.clear();
 
         // Current and new states, intersection between current and new range
         VFXListState<T, C> current = list.getState();
         VFXListState<T, C> newState = new VFXListState<>(list, range);
         IntegerRange intersection = Utils.intersection(current.getRange(), range);
 
-        // If range valid, move common cells from current to new state. Also, exclude common indexes
-        if (rangeCheck(intersection, false, false))
-            for (Integer common : intersection) {
-                newState.addCell(common, current.removeCell(common));
-                eRange.exclude(common);
+        // If range valid, move common cells from current to new state. Other indexes are collected for later
+        boolean intersects = rangeCheck(intersection, false, false);
+        for (int index = range.getMin(); index <= range.getMax(); index++) {
+            if (intersects && index >= intersection.getMin() && index <= intersection.getMax()) {
+                newState.addCell(index, current.removeCell(index));
+                continue;
             }
+            remaining.add(index);
+        }
 
         // Process remaining with the "remaining' algorithm"
-        remainingAlgorithm(eRange, newState);
+        remainingAlgorithm(remaining, newState);
         return newState;
     }
 
     /// Avoids code duplication. Typically used to process indexes not found in the current state.
     ///
-    /// For any index in the given [ExcludingIntegerRange], a cell is needed. Also, it needs to be updated by index and item both.
+    /// For any index in the given [IndexBuffer], a cell is needed. Also, it needs to be updated by index and item both.
     /// This cell can come from three sources:
     ///
     /// 1) from the current state if it's not empty yet. Since the cells are stored in a [SequencedMap], one
-    /// is removed by calling [StateMap#pollFirst()].
+    /// is removed by calling [StateMap#pollFirstValue()].
     ///
     /// 2) from the [VFXCellsCache] if not empty
     ///
@@ -511,7 +634,7 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
     /// - See [VFXListHelper#indexToCell(int)]: this handles the second and third cases. If a cell can
     /// be taken from the cache, automatically updates its item then returns it. Otherwise, invokes the
     /// [VFXList#getCellFactory()] to create a new one
-    protected void remainingAlgorithm(ExcludingIntegerRange eRange, VFXListState<T, C> newState) {
+    protected void remainingAlgorithm(IndexBuffer remaining, VFXListState<T, C> newState) {
         VFXList<T, C> list = getNode();
         VFXListHelper<T, C> helper = list.getHelper();
         VFXListState<T, C> current = list.getState();
@@ -519,11 +642,12 @@ public class VFXListManager<T, C extends VFXCell<T>> extends MFXBehavior<VFXList
         // Indexes in the given set were not found in the current state.
         // Which means item updates. Cells are retrieved either from the current state (if not empty), from the cache,
         // or created from the factory
-        for (Integer index : eRange) {
+        for (int i = 0; i < remaining.size(); i++) {
+            int index = remaining.get(i);
             T item = helper.indexToItem(index);
             C c;
             if (!current.isEmpty()) {
-                c = current.getCells().pollFirst().getValue();
+                c = current.getCells().pollFirstValue();
                 c.updateIndex(index);
                 c.updateItem(item);
             } else {
@@ -19,12 +19,19 @@
 package io.github.palexdev.virtualizedfx.list;
 
 import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import io.github.palexdev.mfxcore.base.beans.Position;
 import io.github.palexdev.mfxcore.controls.MFXSkinBase;
 import io.github.palexdev.mfxcore.observables.When;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXLayoutEvent;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
 import javafx.geometry.Orientation;
 import javafx.scene.layout.Pane;
 
@@ -51,8 +58,19 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
     protected double DEFAULT_SIZE = 100.0;
 
     // To maximize performance, one listener is used to update on scroll, but it's added only on
-    // one of the two position properties, depending on the orientation
-    protected InvalidationListener pl = o -> getBehavior().onPositionChanged();
+    // one of the two position properties, depending on the orientation.
+    // The update goes through the PositionCoalescer, which runs it immediately unless the service is installed
+    protected Consumer<Orientation> pu = a -> {
+        long start = VFXMetrics.begin(getSkinnable());
+        getBehavior().onPositionChanged();
+        VFXMetrics.endPosition(getSkinnable(), start);
+    };
+    protected InvalidationListener pl = o -> PositionCoalescer.schedule(getSkinnable(), getSkinnable().getOrientation(), pu);
+
+    // Items changes are processed incrementally, so we need the Change object rather than a simple invalidation.
+    // DUDE! One thing cool in JavaFX, wow, I'm impressed. Being added on the ListProperty, this listener will trigger
+    // when changes occur in the list, or the list itself is changed, impressive!
+    protected ListChangeListener<T> icl = c -> getBehavior().onItemsChanged(c);
 
     //================================================================================
     // Constructors
@@ -71,6 +89,7 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
 
         // End initialization
         swapPositionListener();
+        list.itemsProperty().addListener(icl);
         addListeners();
         getChildren().setAll(viewport);
     }
@@ -104,7 +123,8 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
     /// - Listener on [VFXList#bufferSizeProperty()], will invoke [VFXListManager#onGeometryChanged()].
     /// Yes, it is enough to threat this change as a geometry change to avoid code duplication
     ///
-    /// - Listener on [VFXList#itemsProperty()], will invoke [VFXListManager#onItemsChanged()]
+    /// - [ListChangeListener] on [VFXList#itemsProperty()], will invoke [VFXListManager#onItemsChanged(ListChangeListener.Change)].
+    /// Note that this is not added through [#listeners(When\[\])], its disposal is done in the overridden [#dispose()]
     ///
     /// - Listener on [VFXList#getCellFactory()], will invoke [VFXListManager#onCellFactoryChanged()]
     ///
@@ -154,10 +174,6 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
                 .then(b -> getBehavior().onGeometryChanged()),
 
             // Others
-            onInvalidated(list.itemsProperty())
-                .then(it -> getBehavior().onItemsChanged()),
-            // DUDE! One thing cool in JavaFX, wow, I'm impressed. This invalidation listener will trigger when changes
-            // occur in the list, or the list itself is changed, impressive!
             onInvalidated(list.getCellFactory())
                 .then(f -> getBehavior().onCellFactoryChanged()),
             onInvalidated(list.fitToViewportProperty())
@@ -194,6 +210,8 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
         VFXList<T, C> list = getSkinnable();
         if (!list.isNeedsViewportLayout()) return;
 
+        long start = VFXMetrics.begin(list);
+        VFXLayoutEvent event = VFXEvents.beginLayout();
         VFXListHelper<T, C> helper = list.getHelper();
         VFXListState<T, C> state = list.getState();
         if (state != VFXListState.INVALID) {
@@ -202,6 +220,8 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
                 helper.layout(i, cell);
                 i++;
             }
+            VFXMetrics.endLayout(list, start);
+            VFXEvents.commitLayout(event, list, state.size(), false);
             onLayoutCompleted(true);
             return;
         }
@@ -227,6 +247,9 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
     ///
     /// Note: this listener is not added through [#listeners(When\[\])], which means that its disposal is not automatic,
     /// and it's done in the overridden [#dispose()].
+    ///
+    /// If a [PositionCoalescer] is installed on the list, the state update runs at most once per pulse, see
+    /// [PositionCoalescer#schedule(VFXContainer, Orientation, Consumer)].
     protected void swapPositionListener() {
         VFXList<T, C> list = getSkinnable();
         Orientation orientation = list.getOrientation();
@@ -259,7 +282,11 @@ public class VFXListSkin<T, C extends VFXCell<T>> extends MFXSkinBase<VFXList<T,
         VFXList<T, C> list = getSkinnable();
         list.vPosProperty().removeListener(pl);
         list.hPosProperty().removeListener(pl);
+        list.itemsProperty().removeListener(icl);
+        PositionCoalescer.cancel(list);
         pl = null;
+        pu = null;
+        icl = null;
         list.update(VFXListState.INVALID);
         super.dispose();
     }
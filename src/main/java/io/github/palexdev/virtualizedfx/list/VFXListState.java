@@ -72,7 +72,7 @@ public class VFXListState<T, C extends VFXCell<T>> {
     //================================================================================
     private final VFXList<T, C> list;
     private final IntegerRange range;
-    private final StateMap<T, C> cells = new StateMap<>();
+    private final StateMap<T, C> cells;
     private boolean cellsChanged = false;
 
     //================================================================================
@@ -81,11 +81,13 @@ public class VFXListState<T, C extends VFXCell<T>> {
     private VFXListState() {
         this.list = null;
         this.range = Utils.INVALID_RANGE;
+        this.cells = new StateMap<>();
     }
 
     public VFXListState(VFXList<T, C> list, IntegerRange range) {
         this.list = list;
         this.range = range;
+        this.cells = new StateMap<>(range);
     }
 
     //================================================================================
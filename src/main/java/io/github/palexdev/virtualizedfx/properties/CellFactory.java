@@ -7,6 +7,8 @@ import io.github.palexdev.mfxcore.base.properties.functional.FunctionProperty;
 import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.base.VFXContext;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.Property;
 import javafx.beans.value.ChangeListener;
@@ -53,11 +55,14 @@ public class CellFactory<T, C extends VFXCell<T>> implements Property<Function<T
     ///
     /// If the factory function is set, it generates a cell, calls [VFXCell#onCreated(VFXContext)]
     /// on it, and then returns it. Returns `null` if no factory function is defined.
+    /// The creation is also counted by the [VFXMetrics] service, if installed.
     public C create(T item) {
         return Optional.ofNullable(getValue())
             .map(f -> f.apply(item))
             .map(c -> {
                 c.onCreated(context());
+                VFXMetrics.onCellCreated(context(), c);
+                VFXEvents.onCellCreated(c);
                 return c;
             })
             .orElse(null);
@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.table;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import io.github.palexdev.virtualizedfx.cells.base.VFXMappingTableCell;
+import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.enums.AutosizeMode;
+import io.github.palexdev.virtualizedfx.utils.TextMeasurer;
+import io.github.palexdev.virtualizedfx.utils.Utils;
+import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Labeled;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.util.StringConverter;
+
+/// Computes the ideal width of a [VFXTableColumn] by measuring the text of a sample of the table's items off-scene,
+/// rather than asking the cells in the viewport, see [AutosizeMode].
+///
+/// A sampler is built from a cell produced by the column's cell factory, [#of(VFXTable, VFXTableColumn)], so it does
+/// not matter whether the column is in the viewport or not. Three pieces of information are needed:
+///
+/// 1) The function which converts an item to the displayed text. This is only possible if the cell implements
+/// [VFXMappingTableCell], in which case the text is given by the extractor + the converter
+///
+/// 2) The [Font] used to render the text, retrieved from the first [Labeled] or [Text] node found in the cell
+///
+/// 3) The 'chrome', the extra space the cell needs besides the text (padding, graphic, ...). This is given by
+/// `cellPrefWidth - textWidth` for the item the cell displays
+///
+/// The last two need a styled cell. If the table is displaying one of the column's cells, that one is used since it's
+/// styled exactly like the others. Otherwise, the factory-made cell is styled off-scene with the table's stylesheets,
+/// see [Utils#applyCssDetached(Node, List)].
+///
+/// Once built, [#measure(List, AutosizeMode, int, TextMeasurer)] does not touch the scene graph, so it can run outside
+/// the JavaFX thread, as long as the conversion function allows it, and each thread uses its own [TextMeasurer].
+public class AutosizeSampler<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Function<T, String> textFn;
+    private final Font font;
+    private final double chrome;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public AutosizeSampler(Function<T, String> textFn, Font font, double chrome) {
+        this.textFn = textFn;
+        this.font = font;
+        this.chrome = chrome;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Builds a sampler for the given column. Must be called on the JavaFX thread!
+    ///
+    /// A probe cell is taken from the column's cache, or created by the column's cell factory if the cache is empty,
+    /// and updated with the first item of the table. Once done, the probe is put back in the cache.
+    ///
+    /// @return the sampler or `null` if the table has no items or the column's cells do not implement [VFXMappingTableCell]
+    public static <T> AutosizeSampler<T> of(VFXTable<T> table, VFXTableColumn<T, ?> column) {
+        if (table.isEmpty()) return null;
+        return probe(table, column);
+    }
+
+    private static <T, C extends VFXTableCell<T>> AutosizeSampler<T> probe(VFXTable<T> table, VFXTableColumn<T, C> column) {
+        VFXCellsCache<T, C> cache = column.cache();
+        T item = table.getItems().getFirst();
+        C probe = (cache.size() > 0) ? cache.take() : column.create(item);
+        if (probe == null) return null;
+        try {
+            if (!(probe instanceof VFXMappingTableCell<?, ?>)) return null;
+            Function<T, String> textFn = textFunction((VFXMappingTableCell<T, ?>) probe);
+            if (textFn == null) return null;
+
+            // Styles are taken from a displayed cell, if any, otherwise the probe is styled off-scene
+            Node node = null;
+            String text = null;
+            for (VFXTableRow<T> row : displayedRows(table)) {
+                VFXTableCell<T> cell = row.getCells().getSingle(column);
+                if (cell == null) continue;
+                node = cell.toNode();
+                text = textFn.apply(row.getItem());
+                break;
+            }
+            if (node == null) {
+                probe.updateItem(item);
+                probe.updateColumn(column);
+                node = probe.toNode();
+                Utils.applyCssDetached(node, stylesheetsOf(table));
+                text = textFn.apply(item);
+            }
+
+            Font font = Objects.requireNonNullElseGet(findFont(node), Font::getDefault);
+            double textW = new TextMeasurer(font, 1).measure(text);
+            double chrome = Math.max(0.0, node.prefWidth(-1) - textW);
+            return new AutosizeSampler<>(textFn, font, chrome);
+        } finally {
+            probe.updateColumn(null);
+            cache.cache(probe);
+        }
+    }
+
+    /// @return the rows in the table's state, or an empty collection if the state is invalid
+    private static <T> Iterable<VFXTableRow<T>> displayedRows(VFXTable<T> table) {
+        VFXTableState<T> state = table.getState();
+        if (state == VFXTableState.INVALID) return List.of();
+        return state.getRowsByIndex().values();
+    }
+
+    /// @return the stylesheets which apply to the given node: the scene's ones, then the ones of its parents from the
+    /// root down, then its own ones. The user agent stylesheet, if any, comes first
+    private static List<String> stylesheetsOf(Parent node) {
+        List<String> stylesheets = new ArrayList<>();
+        for (Parent p = node; p != null; p = p.getParent()) {
+            stylesheets.addAll(0, p.getStylesheets());
+        }
+        if (node.getScene() != null) stylesheets.addAll(0, node.getScene().getStylesheets());
+        if (node instanceof Region r && r.getUserAgentStylesheet() != null) {
+            stylesheets.addFirst(r.getUserAgentStylesheet());
+        }
+        return stylesheets;
+    }
+
+    /// @return a function which converts an item to the text displayed by the given cell, or `null` if the
+    /// cell doesn't have an extractor
+    private static <T, E> Function<T, String> textFunction(VFXMappingTableCell<T, E> cell) {
+        Function<T, E> extractor = cell.getExtractor();
+        StringConverter<E> converter = cell.getConverter();
+        if (extractor == null) return null;
+        return item -> {
+            E e = extractor.apply(item);
+            return converter != null ? converter.toString(e) : Objects.toString(e, "");
+        };
+    }
+
+    /// @return the font of the first [Labeled] or [Text] node found in the given node's hierarchy, or `null`
+    private static Font findFont(Node node) {
+        switch (node) {
+            case Labeled l -> {
+                return l.getFont();
+            }
+            case Text t -> {
+                return t.getFont();
+            }
+            case Parent p -> {
+                for (Node child : p.getChildrenUnmodifiable()) {
+                    Font f = findFont(child);
+                    if (f != null) return f;
+                }
+            }
+            default -> {}
+        }
+        return null;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Measures the given items according to the given mode and returns the width a cell needs to fully show the
+    /// widest text found, chrome included.
+    ///
+    /// @param sampleSize the number of items to measure for [AutosizeMode#LONGEST] and [AutosizeMode#RANDOM]
+    /// @return the ideal width or -1 if there are no items or the mode is [AutosizeMode#VIEWPORT]
+    public double measure(List<? extends T> items, AutosizeMode mode, int sampleSize, TextMeasurer measurer) {
+        int size = items.size();
+        if (size == 0 || mode == AutosizeMode.VIEWPORT) return -1.0;
+        double max = 0.0;
+        switch (mode) {
+            case ALL -> {
+                for (T item : items) max = Math.max(max, measurer.measure(textFn.apply(item)));
+            }
+            case LONGEST -> {
+                int n = Math.max(1, sampleSize);
+                PriorityQueue<String> longest = new PriorityQueue<>(n + 1, Comparator.comparingInt(String::length));
+                for (T item : items) {
+                    String s = textFn.apply(item);
+                    if (s == null) continue;
+                    if (longest.size() < n) {
+                        longest.add(s);
+                    } else if (s.length() > longest.peek().length()) {
+                        longest.poll();
+                        longest.add(s);
+                    }
+                }
+                max = measurer.measureMax(longest);
+            }
+            case RANDOM -> {
+                if (sampleSize >= size) return measure(items, AutosizeMode.ALL, sampleSize, measurer);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < sampleSize; i++) {
+                    max = Math.max(max, measurer.measure(textFn.apply(items.get(random.nextInt(size)))));
+                }
+            }
+        }
+        return max + chrome;
+    }
+
+    /// @return a new [TextMeasurer] for this sampler's font
+    public TextMeasurer newMeasurer() {
+        return new TextMeasurer(font);
+    }
+
+    /// @return the font used to render the cells' text
+    public Font getFont() {
+        return font;
+    }
+
+    /// @return the extra space the cells need besides the text
+    public double getChrome() {
+        return chrome;
+    }
+}
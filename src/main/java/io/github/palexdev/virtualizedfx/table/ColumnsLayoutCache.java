@@ -26,6 +26,7 @@ import java.util.function.Function;
 import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
 import io.github.palexdev.virtualizedfx.table.VFXTableHelper.VariableTableHelper;
+import io.github.palexdev.virtualizedfx.utils.SizeIndex;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -35,7 +36,7 @@ import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 
 /// Complex cache mechanism to simplify and vastly improve layout performance for [ColumnsLayoutMode#VARIABLE].
-/// This mode essentially disables virtualization along the x-axis which makes some computations way more expensive.
+/// In this mode columns can have different widths, which makes some computations way more expensive.
 ///
 /// Example 1: A columns width must be 'asked' to the column itself rather than using the value specified by
 /// [VFXTable#columnsSizeProperty()]
@@ -68,6 +69,16 @@ import javafx.collections.ObservableList;
 /// Each table's column will have an entry in the map like this: [Column->LayoutInfo]. When something needs to be
 /// invalidated, setters are called on the appropriate [LayoutInfo] object.
 ///
+/// Positions, however, are not stored per column. The widths are also copied in a [SizeIndex] (a Fenwick tree) indexed
+/// by the columns' indexes, so that the position of any column (the sum of the previous widths), the partial width and the
+/// total width can be computed in O(log n), and a resize only costs an O(log n) update. The copy is refreshed lazily:
+/// when a column's width is invalidated, its index is simply marked as 'dirty', and all the dirty widths up to the needed
+/// index are flushed in the tree on the next query, see [#getColumnPos(int)].
+///
+/// Visibility flags are stored in the [LayoutInfo] objects, but are stamped with a global counter at the time they are set.
+/// Invalidating all the flags is just a matter of recording the current stamp. A width change, instead, only invalidates
+/// the flags of the following columns (their positions change), by recording the lowest stale index, see [LayoutInfo#isVisible()].
+///
 /// **Listeners**
 ///
 /// To manage invalidations and columns changes in the table, this uses a series of listeners.
@@ -75,8 +86,8 @@ import javafx.collections.ObservableList;
 /// 1) A [ListChangeListener] ensures the above-mentioned map stays always updated, more info here [#handleColumns(ListChangeListener.Change)]
 ///
 /// 2) An [InvalidationListener] watches for [VFXTable#columnsSizeProperty()] changes and by iterating over
-/// the [LayoutInfo] stored in the map, performs the following actions: a) resets both the positions and visibility
-/// flags; b) invalidates the width if it's below the new value specified by the property; c) at the end it also invalidates
+/// the [LayoutInfo] stored in the map, performs the following actions: a) resets the visibility flags;
+/// b) invalidates the width if it's below the new value specified by the property; c) at the end it also invalidates
 /// the width for the last column (if it wasn't done before). This is important to ensure that the last column takes all
 /// the available space
 ///
@@ -125,6 +136,14 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         else anyChanged.set(true);
     };
 
+    // Positions
+    private final SizeIndex widths = new SizeIndex(0.0);
+    private final BitSet dirty = new BitSet();
+    private long vStamp = 0;
+    private long vClearStamp = 0;
+    private long vPartialStamp = 0;
+    private int vStaleFrom = Integer.MAX_VALUE;
+
     // Layout functions
     private BiFunction<VFXTableColumn<T, ?>, Boolean, Double> widthFn;
     private BiFunction<Integer, Double, Double> xPosFn;
@@ -143,10 +162,9 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         cache = new LayoutInfoCache();
         clListener = this::handleColumns;
         csListener = i -> {
+            // Resets all visibility flags, positions will be updated by the widths invalidation
+            cache.clearVisibilityCache();
             for (LayoutInfo li : cache.values()) {
-                // Resets all positions and visibility flags
-                li.resetPos();
-                li.resetVisibility();
                 // Invalidate only the ones that are now below the minimum
                 if (!li.isWidthValid()) continue;
                 if (li.getWidth() < table.getColumnsSize().width()) li.invalidateWidth();
@@ -177,6 +195,7 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
                 lColumn = columns.getLast();
                 for (VFXTableColumn<T, ? extends VFXTableCell<T>> c : columns) cache.put(c, new LayoutInfo(c));
             }
+            reindex();
             columns.addListener(clListener);
             table.columnsSizeProperty().addListener(csListener);
             table.widthProperty().addListener(vListener);
@@ -214,52 +233,48 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
 
     /// @return the sum of all columns' widths excluding the last one
     public double getPartialWidth() {
-        return cache.entrySet().stream()
-            .filter(e -> e.getKey() != lColumn)
-            .mapToDouble(e -> e.getValue().getWidth())
-            .sum();
+        int size = widths.size();
+        if (size == 0) return 0.0;
+        flush(size - 2);
+        return widths.offsetOf(size - 1);
     }
 
-    /// The position of the column at the given index. This method is recursive!
+    /// The position of the column at the given index.
     ///
-    /// Detailing the internals:
+    /// The position of a column is the sum of all the previous columns' widths, which is exactly what the [SizeIndex]
+    /// gives us in O(log n). The dirty widths up to the previous column are flushed first, see [#flush(int)].
+    /// Column 0 is a special case, its position is always 0. For the others, the position function is still used,
+    /// to give it the chance to adjust the value (e.g. snapping), as follows:
     /// ```
-    ///// Let's suppose we want to compute the position of the column at index 2 (so third one)
-    ///// First we convert the index to the corresponding column
-    /// VFXTableColumn c = ...;
-    ///// Then we query the map and get the known position for that column
-    /// double pos = map.getPos(c);
-    ///// Index 0 is a special case and we handle it as follows
-    /// if (index == 0){
-    ///     map.setPos(c, 0); // Column 0 is always at x = 0
-    ///     return 0;
-    ///}
-    ///// If 'pos' is lesser than 0, then it either means it was never been computed before or it was invalidated
-    ///// We need to ask the position function to compute the value as follows...
-    /// if (pos < 0){
-    ///     pos = posFn.apply(index -1, getColumnPos(index -1)); // Here's where the method calls itself
-    ///     map.setPos(index, pos); // Store the found pos in the cache so we don't fall in this 'if' again until invalidated
-    ///}
-    /// return pos;
-    ///// Why the recursion?
-    ///// In general, to compute a column's position, we can simply get the position of the previous column + its width.
-    ///// So, for the third one, we need the second one's position, and so on...
-    ///// The recursion doesn't happen if the previous value is known, so the method acts almost like a simple getter
-    ///// The recursion stops at column 0, because it's position is always 0.
+    /// posFn.apply(index - 1, widths.offsetOf(index - 1));
     ///```
+    /// In other words, the function receives the previous column's index and position, and the result is given by
+    /// adding the previous column's width to it.
     public double getColumnPos(int index) {
-        VFXTableColumn<T, ? extends VFXTableCell<T>> column = table.getColumns().get(index);
-        LayoutInfo li = cache.get(column);
-        double pos = li.getPos();
-        if (index == 0) {
-            li.setPos(0.0);
-            return 0.0;
-        }
-        if (pos < 0) {
-            pos = xPosFn.apply(index - 1, getColumnPos(index - 1));
-            li.setPos(pos);
-        }
-        return pos;
+        Objects.checkIndex(index, widths.size());
+        if (index == 0) return 0.0;
+        flush(index - 1);
+        return xPosFn.apply(index - 1, widths.offsetOf(index - 1));
+    }
+
+    /// Finds the index of the column that contains the given x coordinate, so that
+    /// `getColumnPos(i) <= x < getColumnPos(i) + width(i)`. Coordinates before the first column return 0, coordinates
+    /// beyond the last column return the last index. Returns -1 if there are no columns.
+    ///
+    /// The search is performed directly on the [SizeIndex] in O(log n), see [SizeIndex#indexAt(double)]. Since the
+    /// position function may adjust the positions a bit (e.g. snapping), the result is then checked against
+    /// [#getColumnPos(int)] and corrected if needed.
+    ///
+    /// This is the core of horizontal virtualization in [ColumnsLayoutMode#VARIABLE], see
+    /// [VariableTableHelper#columnsRangeProperty()].
+    public int columnAt(double x) {
+        int size = widths.size();
+        if (size == 0) return -1;
+        flush(size - 1);
+        int idx = widths.indexAt(x);
+        while (idx > 0 && getColumnPos(idx) > x) idx--;
+        while (idx < size - 1 && getColumnPos(idx + 1) <= x) idx++;
+        return idx;
     }
 
     /// Queries the map to check whether the given column is visible.
@@ -269,8 +284,19 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
     /// [LayoutInfo] object updated.
     public boolean isInViewport(VFXTableColumn<T, ?> column) {
         LayoutInfo li = cache.get(column);
-        if (li.isVisible() == null) li.setVisible(vFn.apply(column));
-        return li.isVisible();
+        Boolean visible = li.isVisible();
+        if (visible == null) {
+            visible = vFn.apply(column);
+            li.setVisible(visible);
+        }
+        return visible;
+    }
+
+    /// @return whether the position of the column at the given index is up-to-date, which means that none of the
+    /// previous columns has a 'dirty' width. Column 0 is always at x = 0, so its position is always valid
+    protected boolean isPositionValid(int index) {
+        int firstDirty = dirty.nextSetBit(0);
+        return firstDirty < 0 || firstDirty >= index;
     }
 
     /// @return the number of entries in the cache's map. This should always be equal to the size of [VFXTable#getColumns()]
@@ -283,6 +309,59 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         cache.invalidateWidth(lColumn);
     }
 
+    /// Copies the widths of the columns up to the given index (included) which are marked as 'dirty' into the [SizeIndex].
+    ///
+    /// The dirty flag is cleared before asking for the width because the width function of the last column depends on
+    /// [#getPartialWidth()], which flushes too.
+    private void flush(int upTo) {
+        if (upTo < 0) return;
+        ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
+        for (int i = dirty.nextSetBit(0); i >= 0 && i <= upTo; i = dirty.nextSetBit(i + 1)) {
+            dirty.clear(i);
+            widths.set(i, cache.get(columns.get(i)).getWidth());
+        }
+    }
+
+    /// Marks the width of the column at the given index as 'dirty', so that it is copied into the [SizeIndex] on the
+    /// next query. Also invalidates the visibility flags of the following columns, since their positions depend on it,
+    /// see [#invalidateVisibility(int)].
+    private void markDirty(int index) {
+        if (index < 0 || index >= widths.size()) return;
+        dirty.set(index);
+        invalidateVisibility(index + 1);
+    }
+
+    /// Invalidates all the visibility flags in O(1), see [LayoutInfo#isVisible()].
+    private void invalidateVisibility() {
+        vClearStamp = ++vStamp;
+        vStaleFrom = Integer.MAX_VALUE;
+    }
+
+    /// Invalidates the visibility flags of the columns starting from the given index in O(1), see [LayoutInfo#isVisible()].
+    ///
+    /// Only the lowest stale index is tracked, so if several partial invalidations happen before the flags are computed
+    /// again, the ones between the lowest index and the highest are invalidated too. Safe, and cheap.
+    private void invalidateVisibility(int from) {
+        vPartialStamp = ++vStamp;
+        vStaleFrom = Math.min(vStaleFrom, from);
+    }
+
+    /// Updates the index of every [LayoutInfo] and resets the [SizeIndex], marking all its entries as 'dirty'.
+    /// Used when the columns list changes, since a structural change may shift any number of columns.
+    private void reindex() {
+        ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
+        int size = columns.size();
+        for (int i = 0; i < size; i++) {
+            LayoutInfo li = cache.get(columns.get(i));
+            if (li != null) li.index = i;
+        }
+        widths.clear();
+        widths.setSize(size);
+        dirty.clear();
+        dirty.set(0, size);
+        invalidateVisibility();
+    }
+
     /// This method is responsible for updating the cache map's entries when changes occur in [VFXTable#getColumns()].
     ///
     /// If there are no columns anymore, calls [#clear()] and [#invalidate()], then exits.
@@ -315,8 +394,9 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
     /// we remove any entry that is also present in that collection. This way we only keep the values that have actually
     /// been removed, and for these we can remove the entry and call [LayoutInfo#dispose()].
     ///
-    /// Finally, we invalidate all the positions and visibility flags. Re-computing them is far more convenient and stable
-    /// than trying to guess which one is still good and which not. We also call [#invalidate()] and [#invalidateLast()].
+    /// Finally, we update the columns' indexes and reset the positions and visibility flags, see [#reindex()].
+    /// Re-computing them is far more convenient and stable than trying to guess which one is still good and which not.
+    /// We also call [#invalidate()] and [#invalidateLast()].
     private void handleColumns(ListChangeListener.Change<? extends VFXTableColumn<T, ?>> change) {
         ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
         if (columns.isEmpty()) {
@@ -355,10 +435,7 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         }
         rm.forEach(c -> cache.remove(c).dispose());
 
-        cache.values().forEach(li -> {
-            li.resetPos();
-            li.resetVisibility();
-        });
+        reindex();
         invalidate();
         invalidateLast();
     }
@@ -366,6 +443,9 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
     /// Clears the cache by removing all the entries from the map and setting the last column local reference to `null`.
     private void clear() {
         cache.clear();
+        widths.clear();
+        widths.setSize(0);
+        dirty.clear();
         anyChanged.set(false);
         lColumn = null;
     }
@@ -378,9 +458,8 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
     @Override
     protected double computeValue() {
         anyChanged.set(false);
-        return cache.values().stream()
-            .mapToDouble(LayoutInfo::getWidth)
-            .sum();
+        flush(widths.size() - 1);
+        return widths.total();
     }
 
     /// Disposes the cache making it not usable anymore.
@@ -429,7 +508,7 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
             String text = Optional.ofNullable(c.getText()).orElse("");
 
             DoubleBinding b = i.wBinding;
-            double pos = i.getPos();
+            boolean posValid = index >= 0 && index < widths.size() && isPositionValid(index);
             Boolean visibility = i.isVisible();
 
             sb.append("  ")
@@ -450,7 +529,7 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
                 .append("  ")
                 .append("Position: ")
                 .append(" ".repeat(maxL - "Position".length()))
-                .append((pos == -1.0) ? "[valid:%.2f]".formatted(pos) : "[invalid]")
+                .append(posValid ? "[valid:%.2f]".formatted(getColumnPos(index)) : "[invalid]")
                 .append("\n")
                 .append("  ")
                 .append("Visible: ")
@@ -556,14 +635,7 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         // Position
         //================================================================================
         public double getPos(int index) {
-            ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
-            return get(columns.get(index)).getPos();
-        }
-
-        private void setPos(int index, double pos) {
-            ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
-            if (index > columns.size() - 1) return;
-            get(columns.get(index)).setPos(pos);
+            return getColumnPos(index);
         }
 
         //================================================================================
@@ -573,19 +645,18 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
             return get(column).isVisible();
         }
 
-        private void setVisibility(VFXTableColumn<T, ?> column, Boolean visibility) {
-            get(column).setVisible(visibility);
-        }
-
         //================================================================================
         // Misc
         //================================================================================
+        /// Marks all the widths as 'dirty', forcing them to be copied again in the [SizeIndex] on the next query.
         public void clearPositionCache() {
-            values().forEach(LayoutInfo::resetPos);
+            dirty.set(0, widths.size());
+            invalidateVisibility();
         }
 
+        /// Invalidates all the visibility flags in O(1), see [LayoutInfo#isVisible()].
         public void clearVisibilityCache() {
-            values().forEach(LayoutInfo::resetVisibility);
+            invalidateVisibility();
         }
 
         @Override
@@ -596,8 +667,8 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
     }
 
     /// Wrapper class for layout data related to a specific [VFXTableColumn].
-    /// This stores: its index [init:-1], its width as a [DoubleBinding], its x position [default:-1.0],
-    /// and its visibility [default:null].
+    /// This stores: its index [init:-1], its width as a [DoubleBinding], and its visibility [default:null].
+    /// The x position is not stored here but computed by the cache, see [#getPos()].
     ///
     /// **Width handling**
     ///
@@ -607,6 +678,8 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
     /// **Null visibility? What?**
     ///
     /// This uses `null` as a possible visibility value, to indicate that it is invalid and thus must be computed.
+    /// The flag is also stamped with the cache's counter at the time it was set. When the cache is cleared, all the flags
+    /// become invalid at once, without the need to iterate over them.
     public class LayoutInfo implements Comparable<LayoutInfo> {
         //================================================================================
         // Properties
@@ -614,8 +687,8 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         private VFXTableColumn<T, ?> column;
         private int index = -1;
         private DoubleBinding wBinding;
-        private double pos = -1.0;
         private Boolean visible = null;
+        private long visibleStamp = -1;
 
         //================================================================================
         // Constructors
@@ -634,7 +707,8 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
             return column;
         }
 
-        /// @return the column's index retrieved the first time by [VFXTable#indexOf(VFXTableColumn)] (then cached)
+        /// @return the column's index, kept updated by the cache when the columns change. If not set yet, it's retrieved
+        /// by [VFXTable#indexOf(VFXTableColumn)]
         public int getIndex() {
             if (index == -1) index = table.indexOf(column);
             return index;
@@ -655,35 +729,28 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
             wBinding.invalidate();
         }
 
-        /// @return the stored column's x position
+        /// Delegates to [ColumnsLayoutCache#getColumnPos(int)].
+        ///
+        /// @return the column's x position
         public double getPos() {
-            return pos;
-        }
-
-        /// Sets the column's x position.
-        private void setPos(double pos) {
-            this.pos = pos;
-        }
-
-        /// Resets, and thus invalidates, the column's x position to -1.0
-        private void resetPos() {
-            setPos(-1.0);
+            return getColumnPos(getIndex());
         }
 
         /// @return whether the column is visible in the viewport. Beware, this can also return `null` to indicate
-        /// that the value is invalid and should be re-computed by the cache
+        /// that the value is invalid (or was set before an invalidation) and should be re-computed by the cache.
+        ///
+        /// The flag is invalid if it was set before the last global invalidation, or if it was set before the last partial
+        /// invalidation and the column comes at or after the lowest stale index.
         public Boolean isVisible() {
+            if (visibleStamp < vClearStamp) return null;
+            if (visibleStamp < vPartialStamp && getIndex() >= vStaleFrom) return null;
             return visible;
         }
 
         /// Sets whether the column is visible in the viewport.
         private void setVisible(Boolean visible) {
             this.visible = visible;
-        }
-
-        /// Resets, and thus invalidates, the column's visibility to `null`.
-        private void resetVisibility() {
-            setVisible(null);
+            this.visibleStamp = vStamp;
         }
 
         /// This is responsible for creating the [DoubleBinding] which computes the column's width by using
@@ -694,26 +761,16 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
         ///
         /// 1) obviously the binding must become invalid, because now the width function may return a different value
         ///
-        /// 2) we must partially invalidate the positions and visibility values. By partial, I mean only the columns
-        /// starting from [#getIndex()] to the last one.
+        /// 2) the column's width must be marked as 'dirty', so that it's updated in the [SizeIndex] on the next query.
+        /// This is O(1), positions depending on the width will be updated lazily by the tree, while the visibility flags
+        /// of the following columns are invalidated by [ColumnsLayoutCache#invalidateVisibility(int)]. The column's own
+        /// flag is reset only if it was not visible.
         private DoubleBinding createWidthBinding() {
             return new DoubleBinding() {
                 {
                     bind(column.prefWidthProperty());
                 }
 
-                private void invalidatePartial() {
-                    VFXTable<T> table = getTable();
-                    ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
-                    int index = getIndex();
-                    int size = columns.size();
-                    for (int i = index; i < size; i++) {
-                        if (cache.getPos(i) == -1.0) break;
-                        cache.setPos(i, -1.0);
-                        if (i + 1 < size) cache.setVisibility(columns.get(i + 1), null);
-                    }
-                }
-
                 @Override
                 protected double computeValue() {
                     return widthFn.apply(column, column == lColumn);
@@ -721,7 +778,9 @@ public class ColumnsLayoutCache<T> extends DoubleBinding {
 
                 @Override
                 protected void onInvalidating() {
-                    invalidatePartial();
+                    markDirty(index);
+                    // The column's position doesn't change, but a hidden column may enter the viewport by growing
+                    if (Boolean.FALSE.equals(isVisible())) visibleStamp = -1;
                     invalidatingAction.accept(column == lColumn);
                 }
 
@@ -19,6 +19,7 @@
 package io.github.palexdev.virtualizedfx.table;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -26,6 +27,7 @@ import io.github.palexdev.mfxcore.base.beans.Size;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.base.properties.SizeProperty;
 import io.github.palexdev.mfxcore.base.properties.functional.FunctionProperty;
+import io.github.palexdev.mfxcore.base.properties.styleable.StyleableBooleanProperty;
 import io.github.palexdev.mfxcore.base.properties.styleable.StyleableDoubleProperty;
 import io.github.palexdev.mfxcore.base.properties.styleable.StyleableIntegerProperty;
 import io.github.palexdev.mfxcore.base.properties.styleable.StyleableObjectProperty;
@@ -40,10 +42,13 @@ import io.github.palexdev.virtualizedfx.base.VFXContext;
 import io.github.palexdev.virtualizedfx.base.VFXScrollable;
 import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
 import io.github.palexdev.virtualizedfx.controls.VFXScrollPane;
+import io.github.palexdev.virtualizedfx.enums.AutosizeMode;
 import io.github.palexdev.virtualizedfx.enums.BufferSize;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
 import io.github.palexdev.virtualizedfx.events.VFXContainerEvent;
 import io.github.palexdev.virtualizedfx.grid.VFXGrid;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXStateEvent;
 import io.github.palexdev.virtualizedfx.list.VFXList;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.properties.VFXTableStateProperty;
@@ -51,7 +56,9 @@ import io.github.palexdev.virtualizedfx.table.VFXTableHelper.FixedTableHelper;
 import io.github.palexdev.virtualizedfx.table.VFXTableHelper.VariableTableHelper;
 import io.github.palexdev.virtualizedfx.table.ViewportLayoutRequest.ViewportLayoutRequestProperty;
 import io.github.palexdev.virtualizedfx.table.defaults.VFXDefaultTableRow;
+import io.github.palexdev.virtualizedfx.utils.CachesPopulator;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -61,6 +68,7 @@ import javafx.css.StyleablePropertyFactory;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
 
 import static io.github.palexdev.virtualizedfx.utils.ScrollParams.cells;
 import static io.github.palexdev.virtualizedfx.utils.ScrollParams.pixels;
@@ -197,8 +205,11 @@ import static io.github.palexdev.virtualizedfx.utils.ScrollParams.pixels;
 /// In [ColumnsLayoutMode#VARIABLE] mode, columns will be resized to make their header and all their "children" cells fit the content.
 /// In [ColumnsLayoutMode#FIXED] mode, since columns can't have different size, the algorithm chooses the greatest
 /// needed width among all the columns and then sets the [#columnsSizeProperty()].
-/// Of course, the width computation is done on the currently shown items, meaning that if you scroll and there are now
-/// items that are even bigger than the current set width, then you'll have to autosize again.
+/// By default, the width computation is done on the currently shown items, meaning that if you scroll and there are now
+/// items that are even bigger than the current set width, then you'll have to autosize again. For big datasets, the
+/// [#autosizeModeProperty()] allows measuring the text of all the items or of a sample of them off-scene instead,
+/// see [AutosizeMode] and [AutosizeSampler]. With such modes, the computation can also run in background through
+/// [#autosizeColumnsAsync()].
 ///
 /// - Columns' indexes. Since columns are stored in a list, there is not a fast way to retrieve
 /// the index of a column from the instance itself, [List#indexOf(Object)] is too slow in the context of a virtualized
@@ -222,6 +233,8 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
     private final VFXContext<T> context = new VFXContext<>(this);
 
     private final VFXCellsCache<T, VFXTableRow<T>> cache;
+    private CachesPopulator populator;
+    private final ReadOnlyDoubleWrapper populateAllProgress = new ReadOnlyDoubleWrapper(0.0);
     private final ListProperty<T> items = new SimpleListProperty<>(FXCollections.observableArrayList()) {
         @Override
         public void set(ObservableList<T> newValue) {
@@ -331,6 +344,9 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
     ///
     /// Just like [#autosizeColumn(VFXTableColumn)], the operation could be **delayed** if the last layout request
     /// was not processed [ViewportLayoutRequest#wasDone()] or if the control is not in a scene yet at the time calling this.
+    ///
+    /// **Note** that if the [#autosizeModeProperty()] measures the items off-scene, the measurements run in background
+    /// as [#autosizeColumnsAsync()] does, so the columns are resized later on the JavaFX thread.
     public void autosizeColumns() {
         When.onChanged(needsViewportLayout)
             .condition((o, n) -> getScene() != null && n.wasDone())
@@ -341,6 +357,21 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
             .listen();
     }
 
+    /// Same as [#autosizeColumns()] but the measurement of the items is done outside the JavaFX thread, only
+    /// the columns' resize is done on it. This makes sense only if the [#autosizeModeProperty()] is not set to
+    /// [AutosizeMode#VIEWPORT], otherwise it's the same as calling [#autosizeColumns()].
+    ///
+    /// **Beware**, the items are converted to strings outside the JavaFX thread too, so the cells' extractors and converters
+    /// must allow it. Also, unlike [#autosizeColumns()], this is not delayed: if the table was never laid out,
+    /// falls back to [#autosizeColumns()].
+    ///
+    /// The actual operation is delegated to the helper: [VFXTableHelper#autosizeColumnsAsync()].
+    ///
+    /// @return a [CompletableFuture] which completes once the columns have been resized
+    public CompletableFuture<Void> autosizeColumnsAsync() {
+        return getHelper().autosizeColumnsAsync();
+    }
+
     /// Retrieves the given column's index in the table's columns' list.
     ///
     /// Since every [VFXTableColumn] has its index as a property, [VFXTableColumn#indexProperty()], this method
@@ -354,8 +385,17 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         return column.getIndex();
     }
 
-    /// Setter for the [#stateProperty()].
+    /// Setter for the [#stateProperty()]. The update is also counted by the [VFXMetrics] service, if installed, and
+    /// commits the pending [VFXStateEvent], see [VFXEvents].
     protected void update(VFXTableState<T> state) {
+        VFXTableState<T> old = getState();
+        VFXMetrics.onStateUpdate(this, state.size());
+        VFXEvents.commitState(
+            this,
+            old.getRowsRange(), old.getColumnsRange(),
+            state.getRowsRange(), state.getColumnsRange(),
+            state.size()
+        );
         setState(state);
     }
 
@@ -467,6 +507,61 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         return this;
     }
 
+    /// Delegate for [VFXCellsCache#populateAsync(int, Duration)] (on the rows' cache).
+    ///
+    /// @see #populateCacheAllAsync(int, Duration)
+    public VFXTable<T> populateCacheAsync(int cellsPerPulse, Duration budget) {
+        cache.populateAsync(cellsPerPulse, budget);
+        return this;
+    }
+
+    /// Incremental version of [#populateCacheAll()], populates the rows' cache and all the table's columns' caches
+    /// with a single [CachesPopulator].
+    ///
+    /// Both `cellsPerPulse` and `budget` are shared by all the caches, which means that the cost per frame does not
+    /// depend on the number of columns. Cells are skinned as they are created, like
+    /// [VFXCellsCache#populateAsync(int, Duration)] does.
+    /// The overall progress is exposed by [#populateAllProgressProperty()].
+    ///
+    /// Calling this again restarts the operation, [#stopPopulatingAll()] stops it.
+    /// Columns added after this call are not populated.
+    public VFXTable<T> populateCacheAllAsync(int cellsPerPulse, Duration budget) {
+        stopPopulatingAll();
+        if (getSkin() == null) getBehavior().onColumnsChanged(null);
+        List<VFXCellsCache<?, ?>> caches = new ArrayList<>(columns.size() + 1);
+        caches.add(cache);
+        columns.forEach(c -> caches.add(c.cache()));
+        populator = new CachesPopulator(caches, cellsPerPulse, budget);
+        populateAllProgress.bind(populator.progressProperty());
+        populator.start();
+        return this;
+    }
+
+    /// Stops the operation started by [#populateCacheAllAsync(int, Duration)], if running.
+    public VFXTable<T> stopPopulatingAll() {
+        if (populator != null) {
+            populator.stop();
+            populateAllProgress.unbind();
+            populator = null;
+        }
+        return this;
+    }
+
+    public double getPopulateAllProgress() {
+        return populateAllProgress.get();
+    }
+
+    /// Specifies the overall progress of [#populateCacheAllAsync(int, Duration)] as a value between 0.0 and 1.0,
+    /// computed on the rows' cache and all the columns' caches together.
+    public ReadOnlyDoubleProperty populateAllProgressProperty() {
+        return populateAllProgress.getReadOnlyProperty();
+    }
+
+    /// Delegate for [VFXCellsCache#populateProgressProperty()] (on the rows' cache).
+    public ReadOnlyDoubleProperty cachePopulateProgressProperty() {
+        return cache.populateProgressProperty();
+    }
+
     /// Delegate for [VFXCellsCache#size()] (on the row's cache).
     public int rowsCacheSize() {
         return cache.size();
@@ -592,6 +687,13 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         32.0
     );
 
+    private final StyleableBooleanProperty variableRowsHeight = new StyleableBooleanProperty(
+        StyleableProperties.VARIABLE_ROWS_HEIGHT,
+        this,
+        "variableRowsHeight",
+        false
+    );
+
     private final StyleableObjectProperty<Size> columnsSize = SizeProperty.styleableProperty(
         StyleableProperties.COLUMNS_SIZE,
         this,
@@ -618,6 +720,20 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         0.0
     );
 
+    private final StyleableObjectProperty<AutosizeMode> autosizeMode = new StyleableObjectProperty<>(
+        StyleableProperties.AUTOSIZE_MODE,
+        this,
+        "autosizeMode",
+        AutosizeMode.VIEWPORT
+    );
+
+    private final StyleableIntegerProperty autosizeSampleSize = new StyleableIntegerProperty(
+        StyleableProperties.AUTOSIZE_SAMPLE_SIZE,
+        this,
+        "autosizeSampleSize",
+        100
+    );
+
     private final StyleableObjectProperty<BufferSize> columnsBufferSize = new StyleableObjectProperty<>(
         StyleableProperties.COLUMNS_BUFFER_SIZE,
         this,
@@ -661,6 +777,9 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
     /// however you can modify such behavior if needed by providing your custom implementation through the
     /// [#helperFactoryProperty()].
     ///
+    /// When [#variableRowsHeightProperty()] is true, this is both the estimated height of rows that have never been
+    /// measured and the minimum height every row can have.
+    ///
     /// Can be set in CSS via the property: '-vfx-rows-height'.
     public StyleableDoubleProperty rowsHeightProperty() {
         return rowsHeight;
@@ -670,6 +789,29 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         this.rowsHeight.set(rowsHeight);
     }
 
+    public boolean isVariableRowsHeight() {
+        return variableRowsHeight.get();
+    }
+
+    /// Specifies whether rows can have different heights, for example, because their cells wrap text.
+    ///
+    /// When true, the default [VFXTableHelper] implementations measure each row lazily when it's laid out, as the
+    /// tallest of its cells, and store its height in an index which allows finding rows' positions in O(log n).
+    /// A row whose height changes only costs an O(log n) update, and both the [#virtualMaxYProperty()] and
+    /// [#scrollToRow(int)] stay consistent with the measured heights. Rows that have never been measured are assumed
+    /// to have the [#rowsHeightProperty()] height, which is also the minimum height a row can have.
+    ///
+    /// Ignored by the paginated variant of the table, since all pages must have the same height.
+    ///
+    /// Can be set in CSS via the property: '-vfx-variable-rows-height'.
+    public StyleableBooleanProperty variableRowsHeightProperty() {
+        return variableRowsHeight;
+    }
+
+    public void setVariableRowsHeight(boolean variableRowsHeight) {
+        this.variableRowsHeight.set(variableRowsHeight);
+    }
+
     public Size getColumnsSize() {
         return columnsSize.get();
     }
@@ -746,6 +888,37 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         this.extraAutosizeWidth.set(extraAutosizeWidth);
     }
 
+    public AutosizeMode getAutosizeMode() {
+        return autosizeMode.get();
+    }
+
+    /// Specifies which items are measured when auto-sizing the columns, see [AutosizeMode].
+    ///
+    /// Can be set in CSS via the property: '-vfx-autosize-mode'.
+    public StyleableObjectProperty<AutosizeMode> autosizeModeProperty() {
+        return autosizeMode;
+    }
+
+    public void setAutosizeMode(AutosizeMode autosizeMode) {
+        this.autosizeMode.set(autosizeMode);
+    }
+
+    public int getAutosizeSampleSize() {
+        return autosizeSampleSize.get();
+    }
+
+    /// Specifies the number of items to measure when auto-sizing the columns with [AutosizeMode#LONGEST] or
+    /// [AutosizeMode#RANDOM].
+    ///
+    /// Can be set in CSS via the property: '-vfx-autosize-sample-size'.
+    public StyleableIntegerProperty autosizeSampleSizeProperty() {
+        return autosizeSampleSize;
+    }
+
+    public void setAutosizeSampleSize(int autosizeSampleSize) {
+        this.autosizeSampleSize.set(autosizeSampleSize);
+    }
+
     public BufferSize getColumnsBufferSize() {
         return columnsBufferSize.get();
     }
@@ -829,6 +1002,13 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
                 32.0
             );
 
+        private static final CssMetaData<VFXTable<?>, Boolean> VARIABLE_ROWS_HEIGHT =
+            FACTORY.createBooleanCssMetaData(
+                "-vfx-variable-rows-height",
+                VFXTable::variableRowsHeightProperty,
+                false
+            );
+
         private static final CssMetaData<VFXTable<?>, Size> COLUMNS_SIZE =
             SizeProperty.cssMetaData(
                 "-vfx-columns-size",
@@ -851,6 +1031,21 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
                 0.0
             );
 
+        private static final CssMetaData<VFXTable<?>, AutosizeMode> AUTOSIZE_MODE =
+            FACTORY.createEnumCssMetaData(
+                AutosizeMode.class,
+                "-vfx-autosize-mode",
+                VFXTable::autosizeModeProperty,
+                AutosizeMode.VIEWPORT
+            );
+
+        private static final CssMetaData<VFXTable<?>, Number> AUTOSIZE_SAMPLE_SIZE =
+            FACTORY.createSizeCssMetaData(
+                "-vfx-autosize-sample-size",
+                VFXTable::autosizeSampleSizeProperty,
+                100
+            );
+
         private static final CssMetaData<VFXTable<?>, BufferSize> COLUMNS_BUFFER_SIZE =
             FACTORY.createEnumCssMetaData(
                 BufferSize.class,
@@ -884,8 +1079,8 @@ public class VFXTable<T> extends MFXControl implements VFXContainer<T>, VFXScrol
         static {
             cssMetaDataList = StyleUtils.cssMetaDataList(
                 MFXControl.getClassCssMetaData(),
-                ROWS_HEIGHT, COLUMNS_SIZE, COLUMNS_LAYOUT_MODE, EXTRA_AUTOSIZE_WIDTH,
-                COLUMNS_BUFFER_SIZE, ROWS_BUFFER_SIZE, ROWS_CACHE_CAPACITY,
+                ROWS_HEIGHT, VARIABLE_ROWS_HEIGHT, COLUMNS_SIZE, COLUMNS_LAYOUT_MODE, EXTRA_AUTOSIZE_WIDTH,
+                AUTOSIZE_MODE, AUTOSIZE_SAMPLE_SIZE, COLUMNS_BUFFER_SIZE, ROWS_BUFFER_SIZE, ROWS_CACHE_CAPACITY,
                 CLIP_BORDER_RADIUS
             );
         }
@@ -37,6 +37,7 @@ import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.table.defaults.VFXTableColumnBehavior;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -47,6 +48,7 @@ import javafx.css.CssMetaData;
 import javafx.css.Styleable;
 import javafx.css.StyleablePropertyFactory;
 import javafx.scene.Node;
+import javafx.util.Duration;
 
 /// Base class that defines common properties and behaviors for all columns to be used with [VFXTable].
 /// Extends [MFXLabeled] for simplicity, and uses behaviors of type [VFXTableColumnBehavior].
@@ -102,7 +104,8 @@ public abstract class VFXTableColumn<T, C extends VFXTableCell<T>> extends MFXLa
     private final CellFactory<T, C> cellFactory = new CellFactory<>(null) {
         @Override
         public VFXContext<T> context() {
-            return getTable().context();
+            VFXTable<T> table = getTable();
+            return (table != null) ? table.context() : null;
         }
 
         @Override
@@ -335,6 +338,16 @@ public abstract class VFXTableColumn<T, C extends VFXTableCell<T>> extends MFXLa
         cache.populate();
     }
 
+    /// Delegate for [VFXCellsCache#populateAsync(int, Duration)].
+    public void populateCacheAsync(int cellsPerPulse, Duration budget) {
+        cache.populateAsync(cellsPerPulse, budget);
+    }
+
+    /// Delegate for [VFXCellsCache#populateProgressProperty()].
+    public ReadOnlyDoubleProperty cachePopulateProgressProperty() {
+        return cache.populateProgressProperty();
+    }
+
     /// Delegate for [VFXCellsCache#size()].
     public int cacheSize() {
         return cache.size();
@@ -18,8 +18,8 @@
 
 package io.github.palexdev.virtualizedfx.table;
 
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 
 import io.github.palexdev.mfxcore.base.beans.Position;
@@ -32,19 +32,30 @@ import io.github.palexdev.mfxcore.builders.bindings.DoubleBindingBuilder;
 import io.github.palexdev.mfxcore.builders.bindings.ObjectBindingBuilder;
 import io.github.palexdev.mfxcore.observables.When;
 import io.github.palexdev.mfxcore.utils.NumberUtils;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.base.VFXContainerHelper;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.enums.AutosizeMode;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
+import io.github.palexdev.virtualizedfx.utils.DirectionalBuffer;
+import io.github.palexdev.virtualizedfx.utils.SizeIndex;
+import io.github.palexdev.virtualizedfx.utils.TextMeasurer;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import javafx.application.Platform;
 import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
+import javafx.scene.text.Font;
 
 import static io.github.palexdev.mfxcore.base.beans.Position.position;
 
@@ -142,12 +153,16 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// Determines and sets the ideal width for the given column, where 'ideal' means that
     /// the column's header as well as all the related cells' content will be fully visible.
     ///
-    /// Note: for obvious reasons, the computation is done on the currently visible items!
+    /// Note: unless the [VFXTable#autosizeModeProperty()] says otherwise, the computation is done on the currently
+    /// visible items!
     void autosizeColumn(VFXTableColumn<T, ?> column);
 
     /// Depends on the implementation!
     void autosizeColumns();
 
+    /// Same as [#autosizeColumns()] but the items are measured outside the JavaFX thread, see [VFXTable#autosizeColumnsAsync()].
+    CompletableFuture<Void> autosizeColumnsAsync();
+
     /// Depends on the implementation!
     int visibleCells();
 
@@ -209,6 +224,10 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
         }
     }
 
+    /// This is called by the [VFXTableManager] when the items list changes, before the new state is computed, so that
+    /// rows' measurements (if any) can follow the items they belong to. By default, does nothing.
+    default void onItemsChanged(Change<? extends T> change) {}
+
     /// Scrolls in the viewport, depending on the given direction (orientation) to:
     ///
     /// - the item at the given index if it's [Orientation#VERTICAL]
@@ -223,10 +242,41 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     ///
     /// - the range of rows to display as a [IntegerRangeProperty]
     ///
+    /// - the rows' heights as a [SizeIndex], see below
+    ///
+    /// **Rows' heights**
+    ///
+    /// Rows' positions are not computed by multiplication, but are given by a [SizeIndex], which converts indexes to
+    /// pixels and vice versa in O(log n). As long as no row is measured, the index does not allocate anything, and its
+    /// computations fall back to multiplications/divisions by the [VFXTable#rowsHeightProperty()].
+    ///
+    /// When [VFXTable#variableRowsHeightProperty()] is true, rows are measured lazily every time they are laid out,
+    /// [#measureRow(VFXTableRow)], and their heights are stored in the index with an O(log n) update. The rows' height
+    /// becomes both the estimate for rows that have never been measured and the minimum height a row can have. The latter
+    /// guarantees that [#totalRows()] rows are always enough to fill the viewport, so the [VFXTableManager] algorithms
+    /// work as they are.
+    ///
+    /// When a row that comes before the first visible one (e.g., a buffer row) is measured with a different height, the
+    /// vertical position is corrected by the same amount, so that the first visible row does not move. The virtual max y,
+    /// the rows range and the viewport position are invalidated once all the rows have been laid out.
+    ///
+    /// When the items list changes, the measurements are shifted accordingly by [#onItemsChanged(Change)], so that they
+    /// stay on the items they belong to. Removed and replaced items lose their measurements, while added ones get the
+    /// estimate. In case you want to discard all the measurements anyway, you can call [#invalidateRowsHeights()].
+    ///
     /// @param <T>
     abstract class AbstractHelper<T> extends VFXContainerHelperBase<T, VFXTable<T>> implements VFXTableHelper<T> {
         protected final IntegerRangeProperty columnsRange = new IntegerRangeProperty();
         protected final IntegerRangeProperty rowsRange = new IntegerRangeProperty();
+        protected final SizeIndex rowsHeights = new SizeIndex(0.0);
+        protected final IntegerProperty measurements = new SimpleIntegerProperty();
+        private final Map<Font, TextMeasurer> measurers = new HashMap<>();
+        private double lastRowsHeight = -1.0;
+
+        // Rows layout
+        private int anchor = -1;
+        private double anchorShift = 0.0;
+        private boolean measured = false;
 
         public AbstractHelper(VFXTable<T> table) {
             super(table);
@@ -255,14 +305,11 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
 
         /// {@inheritDoc}
         ///
-        /// Given by `Math.floor(vPos / rowsHeight)`, clamped between 0 and [VFXTable#size()] - 1.
+        /// Given by searching the vertical position in the [#rowsHeights()] index, clamped between 0 and [VFXTable#size()] - 1.
+        /// When no row has been measured, this is the same as `Math.floor(vPos / rowsHeight)`.
         @Override
         public int firstRow() {
-            return NumberUtils.clamp(
-                (int) Math.floor(container.getVPos() / container.getRowsHeight()),
-                0,
-                container.size() - 1
-            );
+            return NumberUtils.clamp(rowsHeights().indexAt(container.getVPos()), 0, container.size() - 1);
         }
 
         /// {@inheritDoc}
@@ -276,6 +323,8 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
         /// {@inheritDoc}
         ///
         /// Given by `Math.ceil(viewportHeight / rowsHeight)`. 0 if the rows height is also 0.
+        /// Since the rows' height is also the minimum height a row can have, this is the maximum number of rows that can
+        /// fit in the viewport.
         @Override
         public int visibleRows() {
             double height = container.getRowsHeight();
@@ -323,6 +372,299 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
         public ReadOnlyObjectProperty<Position> viewportPositionProperty() {
             return viewportPosition;
         }
+
+        /// {@inheritDoc}
+        ///
+        /// If the [VFXTable#autosizeModeProperty()] is set to [AutosizeMode#VIEWPORT] or the table's state is invalid
+        /// or empty, this simply delegates to [VFXTable#autosizeColumns()].
+        ///
+        /// Otherwise, an [AutosizeSampler] is built for each column on the JavaFX thread, and a copy of the items list
+        /// is made. Then, the measurements are done by a background task, each column will get a width or -1 if the
+        /// sampler could not be built. Finally, the results are passed to [#applyAutosize(Map)] on the JavaFX thread.
+        @Override
+        public CompletableFuture<Void> autosizeColumnsAsync() {
+            if (!isSampledAutosize()) {
+                container.autosizeColumns();
+                return CompletableFuture.completedFuture(null);
+            }
+            AutosizeMode mode = container.getAutosizeMode();
+
+            List<T> items = new ArrayList<>(container.getItems());
+            int sampleSize = container.getAutosizeSampleSize();
+            Map<VFXTableColumn<T, ?>, AutosizeSampler<T>> samplers = new LinkedHashMap<>();
+            for (VFXTableColumn<T, ?> column : container.getColumns()) {
+                samplers.put(column, AutosizeSampler.of(container, column));
+            }
+            return CompletableFuture.supplyAsync(() -> {
+                Map<Font, TextMeasurer> measurers = new HashMap<>();
+                Map<VFXTableColumn<T, ?>, Double> widths = new LinkedHashMap<>();
+                samplers.forEach((c, sampler) -> {
+                    if (sampler == null) {
+                        widths.put(c, -1.0);
+                        return;
+                    }
+                    TextMeasurer measurer = measurers.computeIfAbsent(sampler.getFont(), TextMeasurer::new);
+                    widths.put(c, sampler.measure(items, mode, sampleSize, measurer));
+                });
+                return widths;
+            }).thenAcceptAsync(this::applyAutosize, Platform::runLater);
+        }
+
+        /// Resizes the columns by using the widths computed by [#autosizeColumnsAsync()]. A width of -1 means that the
+        /// column could not be measured off-scene, so implementations should fall back to [#viewportWidthOf(VFXTableColumn, boolean)].
+        protected abstract void applyAutosize(Map<VFXTableColumn<T, ?>, Double> widths);
+
+        /// Computes the width needed by the cells of the given column to fully show their content, by measuring the items
+        /// off-scene as specified by the [VFXTable#autosizeModeProperty()], see [AutosizeSampler].
+        /// The [TextMeasurer]s are cached by font and re-used by subsequent calls.
+        ///
+        /// @return the width or -1 if the mode is [AutosizeMode#VIEWPORT] or the column's cells cannot be measured off-scene
+        protected double sampledWidthOf(VFXTableColumn<T, ?> column) {
+            AutosizeMode mode = container.getAutosizeMode();
+            if (mode == AutosizeMode.VIEWPORT) return -1.0;
+            AutosizeSampler<T> sampler = AutosizeSampler.of(container, column);
+            if (sampler == null) return -1.0;
+            TextMeasurer measurer = measurers.computeIfAbsent(sampler.getFont(), TextMeasurer::new);
+            return sampler.measure(container.getItems(), mode, container.getAutosizeSampleSize(), measurer);
+        }
+
+        /// @return whether the columns should be auto-sized by measuring the items off-scene, which is the case when the
+        /// [VFXTable#autosizeModeProperty()] is not [AutosizeMode#VIEWPORT] and the state is neither invalid nor empty
+        protected boolean isSampledAutosize() {
+            VFXTableState<T> state = container.getState();
+            return container.getAutosizeMode() != AutosizeMode.VIEWPORT && state != VFXTableState.INVALID && !state.isEmpty();
+        }
+
+        /// @return the width of the widest cell of the given column among the ones in the viewport, given by
+        /// [VFXTableRow#getWidthOf(VFXTableColumn, boolean)]. If the rows have no cell for the column (in
+        /// [ColumnsLayoutMode#VARIABLE] cells are built only for the columns in range), the rows' items are measured
+        /// off-scene by an [AutosizeSampler] instead, -1 if it could not be built
+        protected double viewportWidthOf(VFXTableColumn<T, ?> column, boolean forceLayout) {
+            VFXTableState<T> state = container.getState();
+            double w = state.getRowsByIndex().values().stream()
+                .mapToDouble(r -> r.getWidthOf(column, forceLayout))
+                .max()
+                .orElse(-1.0);
+            if (w >= 0 || state.isEmpty()) return w;
+
+            AutosizeSampler<T> sampler = AutosizeSampler.of(container, column);
+            if (sampler == null) return -1.0;
+            List<T> items = state.getRowsByIndex().values().stream()
+                .map(VFXTableRow::getItem)
+                .toList();
+            TextMeasurer measurer = measurers.computeIfAbsent(sampler.getFont(), TextMeasurer::new);
+            return sampler.measure(items, AutosizeMode.ALL, items.size(), measurer);
+        }
+
+        /// @return whether rows should be measured when laid out, given by [VFXTable#variableRowsHeightProperty()]
+        protected boolean isVariableRows() {
+            return container.isVariableRowsHeight();
+        }
+
+        /// Syncs the rows' heights [SizeIndex] with the table's state before returning it. More specifically:
+        ///
+        /// - if the [VFXTable#rowsHeightProperty()] changed or the variable mode has been disabled, all measurements are
+        /// discarded since they are stored as deltas from the rows' height
+        ///
+        /// - the base size is updated to the rows' height, and the number of rows to [VFXTable#size()]
+        public SizeIndex rowsHeights() {
+            double height = container.getRowsHeight();
+            if (height != lastRowsHeight || (!isVariableRows() && rowsHeights.hasDeltas())) {
+                rowsHeights.clear();
+                lastRowsHeight = height;
+            }
+            rowsHeights.setBase(height);
+            rowsHeights.setSize(container.size());
+            return rowsHeights;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Replays the given [Change] on the rows' heights [SizeIndex]: removals and additions are applied with
+        /// [SizeIndex#remove(int, int)] and [SizeIndex#insert(int, int)] (a replacement is both), permutations move the
+        /// heights to the new indexes, and updates are ignored.
+        ///
+        /// Does nothing if no row was ever measured, as the index is synced with the table's size lazily anyway.
+        /// If the index is not synced with the list as it was before the change, all the measurements are discarded
+        /// instead, since there's no way to know where they belong.
+        ///
+        /// The change is reset before returning, so that it can still be iterated by others.
+        @Override
+        public void onItemsChanged(Change<? extends T> change) {
+            if (!rowsHeights.hasDeltas()) return;
+            int delta = 0;
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) continue;
+                delta += change.getAddedSize() - change.getRemovedSize();
+            }
+            change.reset();
+            if (rowsHeights.size() != container.size() - delta) {
+                rowsHeights.clear();
+                return;
+            }
+
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    int to = change.getTo();
+                    double[] heights = new double[to - from];
+                    for (int i = from; i < to; i++) heights[i - from] = rowsHeights.get(i);
+                    for (int i = from; i < to; i++) rowsHeights.set(change.getPermutation(i), heights[i - from]);
+                    continue;
+                }
+                if (change.wasUpdated()) continue;
+                rowsHeights.remove(from, change.getRemovedSize());
+                rowsHeights.insert(from, change.getAddedSize());
+            }
+            change.reset();
+        }
+
+        /// Discards all the rows' measurements, every row will be assumed to have the [VFXTable#rowsHeightProperty()]
+        /// height until it is laid out again. Also invalidates the virtual max y, the rows range and the viewport position.
+        public void invalidateRowsHeights() {
+            rowsHeights.clear();
+            onMeasurementsChanged();
+        }
+
+        /// Invalidates the virtual sizes, the rows range and the viewport position because they depend on the rows' heights.
+        protected void onMeasurementsChanged() {
+            invalidateVirtualSizes();
+            measurements.set(measurements.get() + 1);
+        }
+
+        /// @return the height of the row at the given index. For rows that have never been measured, this is the
+        /// [VFXTable#rowsHeightProperty()]
+        public double getRowHeight(int index) {
+            return rowsHeights().get(index);
+        }
+
+        /// @return the position at which the given row starts on the y-axis
+        public double getRowPos(int index) {
+            SizeIndex heights = rowsHeights();
+            return heights.offsetOf(NumberUtils.clamp(index, 0, heights.size()));
+        }
+
+        /// @return the number of pixels between the first row in the range and the current vertical position, given by
+        /// `vPos - getRowPos(rowsRange.getMin())`. When no row has been measured, this is the same as
+        /// `(firstRow - rowsRange.getMin()) * rowsHeight + vPos % rowsHeight`
+        protected double computeRowsOffset() {
+            if (container.isEmpty()) return 0.0;
+            IntegerRange range = rowsRange();
+            if (Utils.INVALID_RANGE.equals(range)) return 0.0;
+            return container.getVPos() - rowsHeights().offsetOf(range.getMin());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// The virtual max y is the sum of all rows' heights, given by the [#rowsHeights()] index, or 0 if there are no
+        /// columns in the table.
+        @Override
+        protected DoubleBinding createVirtualMaxYBinding() {
+            return DoubleBindingBuilder.build()
+                .setMapper(() -> container.getColumns().isEmpty() ? 0.0 : rowsHeights().total())
+                .addSources(container.getColumns(), container.columnsSizeProperty())
+                .addSources(container.sizeProperty(), container.rowsHeightProperty(), container.variableRowsHeightProperty())
+                .get();
+        }
+
+        /// Measures the given row as the tallest of its cells, each cell is asked for its [Node#prefHeight(double)]
+        /// for the width of the respective column. The value is clamped to be at least the [VFXTable#rowsHeightProperty()].
+        ///
+        /// If the [VFXTable#variableRowsHeightProperty()] is false, this simply returns the rows' height.
+        protected double measureRow(VFXTableRow<T> row) {
+            double min = container.getRowsHeight();
+            if (!isVariableRows()) return min;
+
+            ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = container.getColumns();
+            double h = 0.0;
+            for (Map.Entry<Integer, VFXTableCell<T>> e : row.getCellsUnmodifiable().entrySet()) {
+                int idx = e.getKey();
+                VFXTableCell<T> cell = e.getValue();
+                if (cell == null || idx < 0 || idx >= columns.size()) continue;
+                Node node = cell.toNode();
+                double w = getColumnWidth(columns.get(idx));
+                double cH = node.prefHeight(w);
+                if (cH <= 0) {
+                    node.applyCss();
+                    cH = node.prefHeight(w);
+                }
+                h = Math.max(h, cH);
+            }
+            Insets insets = row.getInsets();
+            return Math.max(min, h + insets.getTop() + insets.getBottom());
+        }
+
+        /// Stores the given height for the row at `rowsRange.getMin() + layoutIdx` in the [#rowsHeights()] index.
+        /// Also keeps track of the correction to apply to the vertical position so that the first visible row doesn't move,
+        /// see [#onRowLaidOut(int)].
+        ///
+        /// @return the y position at which the row must be placed
+        protected double rowLayoutPos(int layoutIdx, double height) {
+            IntegerRange range = rowsRange();
+            int index = range.getMin() + layoutIdx;
+            SizeIndex heights = rowsHeights();
+            if (layoutIdx == 0) {
+                anchor = firstRow();
+                anchorShift = 0.0;
+                measured = false;
+            }
+
+            if (index >= 0 && index < heights.size()) {
+                double old = heights.get(index);
+                if (heights.set(index, height)) {
+                    measured = true;
+                    if (index < anchor) anchorShift += height - old;
+                }
+            }
+            int start = Math.max(0, range.getMin());
+            return heights.offsetOf(NumberUtils.clamp(index, start, heights.size())) - heights.offsetOf(start);
+        }
+
+        /// To be called after a row has been resized and relocated. When the last row in the range is processed, if any
+        /// height changed, calls [#onMeasurementsChanged()] and corrects the vertical position by the accumulated amount.
+        ///
+        /// This must happen after the relocation because changing the position may produce a new state and thus a new
+        /// layout pass.
+        protected void onRowLaidOut(int layoutIdx) {
+            IntegerRange range = rowsRange();
+            if (range.getMin() + layoutIdx < range.getMax() || !measured) return;
+            measured = false;
+            onMeasurementsChanged();
+            if (anchorShift != 0.0) {
+                double shift = anchorShift;
+                anchorShift = 0.0;
+                container.setVPos(container.getVPos() + shift);
+            }
+        }
+
+        /// @return the height for the given cell's node. When [VFXTable#variableRowsHeightProperty()] is true, cells take
+        /// the height of the row they belong to, otherwise the [VFXTable#rowsHeightProperty()]
+        protected double cellHeight(Node node) {
+            if (isVariableRows() && node.getParent() instanceof VFXTableRow<?> row) return row.getHeight();
+            return container.getRowsHeight();
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Overridden to support variable rows' heights. The row's height is given by [#measureRow(VFXTableRow)], and the
+        /// y position by the [#rowsHeights()] index, see [#rowLayoutPos(int, double)]. When the
+        /// [VFXTable#variableRowsHeightProperty()] is false, the result is the same as the default implementation.
+        @Override
+        public void layoutRow(int layoutIdx, VFXTableRow<T> row) {
+            double w = getVirtualMaxX();
+            double h = measureRow(row);
+            double y = rowLayoutPos(layoutIdx, h);
+            row.beforeLayout();
+            row.resizeRelocate(0, y, w, h);
+            row.afterLayout();
+            onRowLaidOut(layoutIdx);
+        }
+
+        @Override
+        public void dispose() {
+            rowsHeights.clear();
+            super.dispose();
+        }
     }
 
     /// Concrete implementation of [AbstractHelper] for [ColumnsLayoutMode#FIXED].
@@ -347,6 +689,8 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// The computation has the following dependencies: the table's height, the column's size (because it also specifies the
     /// header height, which influences the viewport's height), the vertical position, the rows buffer size, the rows' height
     /// and the items' list size.
+    /// When a [DirectionalBuffer] is installed on the table, the start of the rows range is shifted towards the scroll
+    /// direction, see [DirectionalBuffer#rangeStart(VFXContainer, Orientation, int, int, double, double)].
     ///
     /// - the viewport's position, a computation that is at the core of virtual scrolling. The viewport, which contains
     /// the columns and the cells (even though the table's viewport is a bit more complex), is not supposed to scroll by insane
@@ -361,7 +705,8 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// At this point, we are missing only one last piece of information: how much of the first row/column do we actually see?
     /// We call this amount `visibleAmountFirst` and it's given by `pos % size`.
     /// Finally, the viewport's position is given by this formula `-(pixelsToFirst + visibleAmountFirst)`
-    /// (for both hPos and vPos of course).
+    /// (for both hPos and vPos of course). For the vertical position, rows' heights are given by an index, so the actual
+    /// computation is [#computeRowsOffset()], which gives the same result when no row has been measured.
     /// If a range is equal to [Utils#INVALID_RANGE], the respective position will be 0!
     /// While it's true that the calculations are more complex and 'needy', it's important to note that this approach
     /// allows avoiding 'hacks' to correctly lay out the cells in the viewport. No need for special offsets at the top
@@ -372,6 +717,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// - the virtual max x and y properties, which give the total number of pixels on the x-axis and y-axis. Virtual
     /// means that it's not the actual size of the container, rather the size it would have if it was not virtualized.
     /// The two values are given by the number of rows/columns multiplied by the respective size (rows' height, columns' width).
+    /// For the rows, the sum is actually given by the [#rowsHeights()] index, see [AbstractHelper].
     /// Notes: 1) the virtualMaxX is the maximum between the aforementioned computation and the table's width (because the last
     /// column must always take all the available space). 2) the virtualMaxY is going to be 0 if there are no columns in the table.
     /// The computations have the following dependencies: the table's width, the number of columns and items, the columns' size,
@@ -393,7 +739,10 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     int needed = totalColumns();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstColumn() - container.getColumnsBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.HORIZONTAL, firstColumn(), container.getColumnsBufferSize().val(),
+                        container.getHPos(), container.getColumnsSize().width()
+                    );
                     int end = Math.min(container.getColumns().size() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
                     return IntegerRange.of(start, end);
@@ -411,16 +760,22 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     int needed = totalRows();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstRow() - container.getRowsBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.VERTICAL, firstRow(), container.getRowsBufferSize().val(),
+                        container.getVPos(), container.getRowsHeight()
+                    );
                     int end = Math.min(container.size() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
-                    return IntegerRange.of(start, end);
+                    IntegerRange newRange = IntegerRange.of(start, end);
+                    DirectionalBuffer.prefetchItems(container, Orientation.VERTICAL, newRange);
+                    return newRange;
                 })
                 .addSources(container.sizeProperty())
                 .addSources(container.heightProperty(), container.columnsSizeProperty())
                 .addSources(container.vPosProperty())
                 .addSources(container.rowsBufferSizeProperty())
-                .addSources(container.rowsHeightProperty())
+                .addSources(container.rowsHeightProperty(), container.variableRowsHeightProperty())
+                .addSources(measurements)
                 .get()
             );
 
@@ -432,11 +787,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     IntegerRange columnsRange = columnsRange();
 
                     if (!Utils.INVALID_RANGE.equals(rowsRange)) {
-                        double cHeight = container.getRowsHeight();
-                        IntegerRange rRangeToFirstVisible = IntegerRange.of(rowsRange.getMin(), firstRow());
-                        double rPixelsToFirst = rRangeToFirstVisible.diff() * cHeight;
-                        double rVisibleAmount = container.getVPos() % cHeight;
-                        y = -(rPixelsToFirst + rVisibleAmount);
+                        y = -computeRowsOffset();
                     }
                     if (!Utils.INVALID_RANGE.equals(columnsRange)) {
                         double cWidth = container.getColumnsSize().width();
@@ -450,6 +801,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                 .addSources(container.layoutBoundsProperty())
                 .addSources(container.vPosProperty(), container.hPosProperty())
                 .addSources(container.rowsHeightProperty(), container.columnsSizeProperty())
+                .addSources(measurements)
                 .get()
             );
 
@@ -465,15 +817,6 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                 .get();
         }
 
-        @Override
-        protected DoubleBinding createVirtualMaxYBinding() {
-            return DoubleBindingBuilder.build()
-                .setMapper(() -> container.getColumns().isEmpty() ? 0.0 : container.size() * container.getRowsHeight())
-                .addSources(container.getColumns(), container.columnsSizeProperty())
-                .addSources(container.sizeProperty(), container.rowsHeightProperty())
-                .get();
-        }
-
         /// {@inheritDoc}
         ///
         /// Given by `Math.floor(hPos / columnsWidth)`, clamped between 0 and the number of columns - 1.
@@ -554,7 +897,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
         /// the respective column index and then extract the column (since the aforementioned methods need the column as a parameter).
         /// The conversion is done by this simple formula: `columnsRange.getMin() + layoutIdx`.
         ///
-        /// The y position will be 0 and the height will be `rowsHeight`.
+        /// The y position will be 0 and the height is given by [#cellHeight(Node)].
         ///
         /// @return always true
         @Override
@@ -567,7 +910,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
             Node node = cell.toNode();
             double x = getColumnPos(layoutIdx, column);
             double w = getColumnWidth(column);
-            double h = table.getRowsHeight();
+            double h = cellHeight(node);
             cell.beforeLayout();
             node.resizeRelocate(x, 0, w, h);
             cell.afterLayout();
@@ -594,14 +937,19 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
         /// `Math.max(fixedW, foundMax + extra)`, where 'fixedW' is the current width specified by the
         /// property itself.
         ///
-        /// The second pass is to get the widest cell among the ones in the viewport by using
-        /// [VFXTableRow#getWidthOf(VFXTableColumn, boolean)]. The `forceLayout` flag is `true` if
+        /// The second pass is to get the widest cell. If the [VFXTable#autosizeModeProperty()] allows it, the items are
+        /// measured off-scene by [#sampledWidthOf(VFXTableColumn)]. Otherwise, only the cells in the viewport are
+        /// considered by using [VFXTableRow#getWidthOf(VFXTableColumn, boolean)]. The `forceLayout` flag is `true` if
         /// this operation was 'delayed' before for the aforementioned reasons.
         ///
         /// Finally, the [VFXTable#columnsSizeProperty()] is set to:
         /// `Math.max(Math.max(fixedW, maxColumnsW + extra), maxCellsW + extra)`, where 'fixedW' is the current width
         /// specified by the property itself.
         ///
+        /// If the [VFXTable#autosizeModeProperty()] is not [AutosizeMode#VIEWPORT] and the state is not empty, the
+        /// second pass would scan the items for every column on the JavaFX thread, so the operation is delegated to
+        /// [#autosizeColumnsAsync()] instead.
+        ///
         /// @see VFXTable#extraAutosizeWidthProperty()
         @Override
         public void autosizeColumns() {
@@ -629,6 +977,10 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     .listen();
                 return;
             }
+            if (isSampledAutosize()) {
+                autosizeColumnsAsync();
+                return;
+            }
 
             double extra = container.getExtraAutosizeWidth();
             double fixedW = container.getColumnsSize().width();
@@ -642,18 +994,33 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
             }
 
             double maxCellsW = columns.stream()
-                .mapToDouble(c -> state.getRowsByIndex().values()
-                    .stream()
-                    .mapToDouble(r -> r.getWidthOf(c, forceLayout))
-                    .max()
-                    .orElse(-1.0)
-                )
+                .mapToDouble(c -> {
+                    double w = sampledWidthOf(c);
+                    return (w >= 0) ? w : viewportWidthOf(c, forceLayout);
+                })
                 .max()
                 .orElse(-1.0);
             container.setColumnsWidth(Math.max(Math.max(fixedW, maxColumnsW + extra), maxCellsW + extra));
             forceLayout = false;
         }
 
+        /// Since all the columns have the same width, the [VFXTable#columnsSizeProperty()] is set to the maximum among
+        /// the given widths and the columns' headers' widths, just like [#autosizeColumns()] does.
+        @Override
+        protected void applyAutosize(Map<VFXTableColumn<T, ?>, Double> widths) {
+            if (container.getState() == VFXTableState.INVALID) return;
+            double extra = container.getExtraAutosizeWidth();
+            double fixedW = container.getColumnsSize().width();
+            double maxW = -1.0;
+            for (Map.Entry<VFXTableColumn<T, ?>, Double> e : widths.entrySet()) {
+                VFXTableColumn<T, ?> c = e.getKey();
+                if (c.getTable() != container) continue;
+                double cellsW = (e.getValue() >= 0) ? e.getValue() : viewportWidthOf(c, false);
+                maxW = Math.max(maxW, Math.max(c.computePrefWidth(-1), cellsW));
+            }
+            container.setColumnsWidth(Math.max(fixedW, maxW + extra));
+        }
+
         /// @return the theoretical number of cells present in the viewport. It's given by `visibleRows * visibleColumns`,
         /// which means that it does not take into account `null` cells or anything else
         @Override
@@ -683,7 +1050,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
             if (orientation == Orientation.HORIZONTAL) {
                 container.setHPos(container.getColumnsSize().width() * index);
             } else {
-                container.setVPos(container.getRowsHeight() * index);
+                container.setVPos(getRowPos(index));
             }
         }
     }
@@ -692,9 +1059,13 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// Here the range of rows and columns to display, as well as the viewport position,
     /// the virtual max x and y properties are defined as follows:
     ///
-    /// - the columns range is always given by the number of columns in the table - 1. If there are no column, then it
-    /// will be [Utils#INVALID_RANGE].
-    /// The computation depends only on the columns' list.
+    /// - the columns range is given by the [#firstColumn()] minus the buffer size [VFXTable#columnsBufferSizeProperty()]
+    /// (cannot be negative), and the column at `hPos + tableWidth` plus the buffer size (cannot exceed the last index).
+    /// Since columns have different widths, indexes are found with a binary search on their positions, see
+    /// [ColumnsLayoutCache#columnAt(double)]. If the table's width is 0 or there are no columns, then the range will
+    /// be [Utils#INVALID_RANGE].
+    /// The computation has the following dependencies: the columns' list, the table's width, the horizontal position,
+    /// the columns buffer size, the columns' size and the [ColumnsLayoutCache] (thus the columns' widths).
     ///
     /// - the rows range is given by the [#firstRow()] element minus the buffer size [VFXTable#rowsBufferSizeProperty()],
     /// (cannot be negative) and the sum between this start index and the total number of needed rows given by [#totalRows()].
@@ -705,6 +1076,8 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// The computation has the following dependencies: the table's height, the column's size (because it also specifies the
     /// header height, which influences the viewport's height), the vertical position, the rows buffer size, the rows' height
     /// and the items' list size.
+    /// When a [DirectionalBuffer] is installed on the table, the start of the rows range is shifted towards the scroll
+    /// direction, see [DirectionalBuffer#rangeStart(VFXContainer, Orientation, int, int, double, double)].
     ///
     /// - the viewport's position, a computation that is at the core of virtual scrolling. The viewport, which contains
     /// the columns and the cells (even though the table's viewport is a bit more complex), is not supposed to scroll by insane
@@ -716,9 +1089,10 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     /// this way we are finding the number of pixels to the first visible row, `pixelsToFirst`.
     /// At this point, we are missing only one last piece of information: how much of the first row do we actually see?
     /// We call this amount `visibleAmountFirst` and it's given by `vPos % size`.
-    /// Finally, the viewport's vertical position is given by this formula `-(pixelsToFirst + visibleAmountFirst)`.
-    /// Since this layout mode disables virtualization along the x-axis, the horizontal position is simply given by
-    /// `-hPos`.
+    /// Finally, the viewport's vertical position is given by this formula `-(pixelsToFirst + visibleAmountFirst)`
+    /// (rows' heights are given by an index, the actual computation is [#computeRowsOffset()]).
+    /// Since the columns are positioned at their absolute x coordinate (see [#getColumnPos(int, VFXTableColumn)]),
+    /// the horizontal position is simply given by `-hPos`.
     /// If a range is equal to [Utils#INVALID_RANGE], the respective position will be 0!
     /// While it's true that the calculations are more complex and 'needy', it's important to note that this approach
     /// allows avoiding 'hacks' to correctly lay out the cells in the viewport. No need for special offsets at the top
@@ -728,21 +1102,22 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
     ///
     /// - the virtual max y property, which gives the total number of pixels on the y-axis.
     /// Virtual means that it's not the actual size of the container, rather the size it would have if it was not virtualized.
-    /// The value is given by the number of rows multiplied by the rows' height. The computation depends on the columns' list,
+    /// The value is given by the number of rows multiplied by the rows' height (to be precise, the sum is given by the
+    /// [#rowsHeights()] index, see [AbstractHelper]). The computation depends on the columns' list,
     /// the columns' size (because the viewport height also depends on the height specified by the columns' size property),
     /// the table's size (number of items), and the rows' height.
     ///
-    /// - the virtual max x property, which gives the total number of pixels on the x-axis. Since virtualization is
-    /// disabled in this axis, the value is simply the sum of all the table's columns (to be precise, the vaòue is given by
-    /// the cache-binding, see below).
+    /// - the virtual max x property, which gives the total number of pixels on the x-axis. The value is simply the sum of
+    /// all the table's columns' widths (to be precise, the value is given by the cache-binding, see below).
     ///
     /// **Performance Optimizations**
-    /// Disabling virtualization on a complex 2D structure like [VFXTable] is indeed dangerous. While it's safe to
-    /// assume that the number of columns is pretty much never going to be a big enough number to cause performance issues,
-    /// it's also true that: 1) we can't be sure on how many columns are actually too many; 2) since it is a 2D structure
-    /// having `n` more columns in the viewport does not mean that we will have `n` more nodes in the scene graph.
-    /// Rather, we can affirm that **at best** we will have `n` more nodes, but keep in mind that for each column
-    /// there are going to be a number of cells equal to the number of rows.
+    /// Computing columns' widths and positions in this mode is way more expensive than in [ColumnsLayoutMode#FIXED],
+    /// since the position of a column is the sum of the widths of all the previous columns. And since [VFXTable] is a
+    /// 2D structure, every computation done for a column is also needed for all its cells.
+    ///
+    /// Also note that only the rows' cells are virtualized by the columns range, all the columns are always in the scene
+    /// graph (the ones outside the viewport are hidden), so that their skin is created, and their width computed, even
+    /// when they are far from the viewport.
     ///
     /// I believe it's worth to optimize the helper as much as possible to mitigate the issue. So, for this reason, this
     /// helper makes use of special cache [ColumnsLayoutCache] which aims to improve layout operations by avoiding
@@ -849,10 +1224,22 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
             columnsRange.bind(ObjectBindingBuilder.<IntegerRange>build()
                 .setMapper(() -> {
                     ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = container.getColumns();
-                    if (columns.isEmpty()) return Utils.INVALID_RANGE;
-                    return IntegerRange.of(0, columns.size() - 1);
+                    double width = container.getWidth();
+                    if (columns.isEmpty() || width <= 0) return Utils.INVALID_RANGE;
+
+                    // Validate the cache, so that we keep receiving its invalidations
+                    layoutCache.get();
+                    int buffer = container.getColumnsBufferSize().val();
+                    int start = Math.max(0, firstColumn() - buffer);
+                    int end = Math.min(columns.size() - 1, layoutCache.columnAt(container.getHPos() + width) + buffer);
+                    return IntegerRange.of(start, end);
                 })
                 .addSources(container.getColumns())
+                .addSources(container.widthProperty())
+                .addSources(container.hPosProperty())
+                .addSources(container.columnsBufferSizeProperty())
+                .addSources(container.columnsSizeProperty())
+                .addSources(layoutCache)
                 .get()
             );
             rowsRange.bind(ObjectBindingBuilder.<IntegerRange>build()
@@ -861,15 +1248,21 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     int needed = totalRows();
                     if (needed == 0) return Utils.INVALID_RANGE;
 
-                    int start = Math.max(0, firstRow() - container.getRowsBufferSize().val());
+                    int start = DirectionalBuffer.rangeStart(
+                        container, Orientation.VERTICAL, firstRow(), container.getRowsBufferSize().val(),
+                        container.getVPos(), container.getRowsHeight()
+                    );
                     int end = Math.min(container.size() - 1, start + needed - 1);
                     if (end - start + 1 < needed) start = Math.max(0, end - needed + 1);
-                    return IntegerRange.of(start, end);
+                    IntegerRange newRange = IntegerRange.of(start, end);
+                    DirectionalBuffer.prefetchItems(container, Orientation.VERTICAL, newRange);
+                    return newRange;
                 })
                 .addSources(container.heightProperty(), container.columnsSizeProperty())
                 .addSources(container.vPosProperty())
                 .addSources(container.rowsBufferSizeProperty())
-                .addSources(container.sizeProperty(), container.rowsHeightProperty())
+                .addSources(container.sizeProperty(), container.rowsHeightProperty(), container.variableRowsHeightProperty())
+                .addSources(measurements)
                 .get()
             );
 
@@ -883,11 +1276,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     IntegerRange columnsRange = columnsRange();
 
                     if (!Utils.INVALID_RANGE.equals(rowsRange)) {
-                        double cHeight = container.getRowsHeight();
-                        IntegerRange rRangeToFirstVisible = IntegerRange.of(rowsRange.getMin(), firstRow());
-                        double rPixelsToFirst = rRangeToFirstVisible.diff() * cHeight;
-                        double rVisibleAmount = container.getVPos() % cHeight;
-                        y = -(rPixelsToFirst + rVisibleAmount);
+                        y = -computeRowsOffset();
                     }
                     if (!Utils.INVALID_RANGE.equals(columnsRange)) {
                         x = -container.getHPos();
@@ -897,6 +1286,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                 .addSources(container.layoutBoundsProperty())
                 .addSources(container.vPosProperty(), container.hPosProperty())
                 .addSources(container.rowsHeightProperty(), container.columnsSizeProperty())
+                .addSources(measurements)
                 .get()
             );
 
@@ -908,31 +1298,32 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
             return null; // bound to the cache
         }
 
-        @Override
-        protected DoubleBinding createVirtualMaxYBinding() {
-            return DoubleBindingBuilder.build()
-                .setMapper(() -> container.getColumns().isEmpty() ? 0.0 : container.size() * container.getRowsHeight())
-                .addSources(container.getColumns(), container.columnsSizeProperty())
-                .addSources(container.sizeProperty(), container.rowsHeightProperty())
-                .get();
-        }
-
-        /// Always 0.
+        /// {@inheritDoc}
+        ///
+        /// Given by [ColumnsLayoutCache#columnAt(double)] for the current horizontal position.
         @Override
         public int firstColumn() {
-            return 0;
+            return Math.max(0, layoutCache.columnAt(container.getHPos()));
         }
 
-        /// Always the size of [VFXTable#getColumns()].
+        /// {@inheritDoc}
+        ///
+        /// Given by the number of columns from [#firstColumn()] to the one at `hPos + tableWidth`, see
+        /// [ColumnsLayoutCache#columnAt(double)]. 0 if there are no columns.
         @Override
         public int visibleColumns() {
-            return container.getColumns().size();
+            if (container.getColumns().isEmpty()) return 0;
+            int last = layoutCache.columnAt(container.getHPos() + container.getWidth());
+            return last - firstColumn() + 1;
         }
 
-        /// Always the size of [VFXTable#getColumns()].
+        /// {@inheritDoc}
+        ///
+        /// Given by the size of [#columnsRange()], so it includes the buffer columns.
         @Override
         public int totalColumns() {
-            return container.getColumns().size();
+            IntegerRange range = columnsRange();
+            return Utils.INVALID_RANGE.equals(range) ? 0 : range.diff() + 1;
         }
 
         /// Delegates to [ColumnsLayoutCache#getColumnWidth(VFXTableColumn)].
@@ -1009,9 +1400,10 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                 return false;
             }
             double w = getColumnWidth(column);
-            double h = getContainer().getRowsHeight();
+            double h = cellHeight(node);
             double x = getColumnPos(layoutIdx, column);
-            if (node.isVisible() && node.getLayoutX() == x && node.getLayoutBounds().getWidth() == w) return false;
+            Bounds bounds = node.getLayoutBounds();
+            if (node.isVisible() && node.getLayoutX() == x && bounds.getWidth() == w && bounds.getHeight() == h) return false;
             node.resizeRelocate(x, 0, w, h);
             node.setVisible(true);
             cell.afterLayout();
@@ -1034,8 +1426,9 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
         /// If the state is empty (no rows), the computation ends and the column's width is set to the value found by the
         /// above formula.
         ///
-        /// The second pass is to get the widest cell among the ones in the viewport by using
-        /// [VFXTableRow#getWidthOf(VFXTableColumn, boolean)]. The `forceLayout` flag is `true` if
+        /// The second pass is to get the widest cell. If the [VFXTable#autosizeModeProperty()] allows it, the items are
+        /// measured off-scene by [#sampledWidthOf(VFXTableColumn)]. Otherwise, only the cells in the viewport are
+        /// considered by using [VFXTableRow#getWidthOf(VFXTableColumn, boolean)]. The `forceLayout` flag is `true` if
         /// this operation was 'delayed' before for the aforementioned reasons.
         ///
         /// Finally, the column's width is set to: `Math.max(Math.max(minW, prefW), maxCellsWidth) + extra`.
@@ -1076,24 +1469,46 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                 return;
             }
 
-            double maxCellsW = state.getRowsByIndex().values().stream()
-                .mapToDouble(r -> r.getWidthOf(column, forceLayout))
-                .max()
-                .orElse(-1.0);
+            double maxCellsW = sampledWidthOf(column);
+            if (maxCellsW < 0) maxCellsW = viewportWidthOf(column, forceLayout);
             column.resize(Math.max(Math.max(minW, prefW), maxCellsW) + extra);
             if (!forceAll) forceLayout = false;
         }
 
         /// This simply calls [#autosizeColumn(VFXTableColumn)] on all the table's columns.
+        ///
+        /// If the [VFXTable#autosizeModeProperty()] is not [AutosizeMode#VIEWPORT] and the state is not empty, this would
+        /// scan the items for every column on the JavaFX thread, so the operation is delegated to [#autosizeColumnsAsync()]
+        /// instead.
         @Override
         public void autosizeColumns() {
             VFXTableState<T> state = container.getState();
             if (state == VFXTableState.INVALID) return;
+            if (isSampledAutosize()) {
+                autosizeColumnsAsync();
+                return;
+            }
             forceAll = true;
             container.getColumns().forEach(this::autosizeColumn);
             forceLayout = false;
         }
 
+        /// Resizes each column to: `Math.max(Math.max(minW, prefW), cellsW) + extra`, exactly like
+        /// [#autosizeColumn(VFXTableColumn)] does, but `cellsW` is the width computed in background by [#autosizeColumnsAsync()].
+        /// Columns that have been removed from the table in the meantime are ignored.
+        @Override
+        protected void applyAutosize(Map<VFXTableColumn<T, ?>, Double> widths) {
+            if (container.getState() == VFXTableState.INVALID) return;
+            double extra = container.getExtraAutosizeWidth();
+            double minW = container.getColumnsSize().width();
+            widths.forEach((c, w) -> {
+                if (c.getTable() != container) return;
+                double prefW = c.computePrefWidth(-1);
+                double cellsW = (w >= 0) ? w : viewportWidthOf(c, false);
+                c.resize(Math.max(Math.max(minW, prefW), cellsW) + extra);
+            });
+        }
+
         /// @return the number of cells for which the corresponding column is visible in the viewport
         /// @see #isInViewport(VFXTableColumn)
         @Override
@@ -1117,7 +1532,7 @@ public interface VFXTableHelper<T> extends VFXContainerHelper<T, VFXTable<T>> {
                     container.setHPos(getColumnPos(container.indexOf(column), column));
                 } catch (Exception ignored) {}
             } else {
-                container.setVPos(container.getRowsHeight() * index);
+                container.setVPos(getRowPos(index));
             }
         }
 
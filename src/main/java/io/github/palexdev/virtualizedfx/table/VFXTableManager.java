@@ -22,19 +22,23 @@ import java.util.HashSet;
 import java.util.SequencedMap;
 import java.util.Set;
 
-import io.github.palexdev.mfxcore.base.beans.range.ExcludingIntegerRange;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.behavior.MFXBehavior;
 import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
 import io.github.palexdev.virtualizedfx.enums.GeometryChangeType;
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
 import io.github.palexdev.virtualizedfx.utils.IndexBiMap.StateMap;
+import io.github.palexdev.virtualizedfx.utils.IndexBuffer;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.ListProperty;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
 import javafx.geometry.Orientation;
 
 /// Default behavior implementation for [VFXTable]. Although, to be precise, and as the name also suggests,
@@ -49,7 +53,7 @@ import javafx.geometry.Orientation;
 /// - geometry changes (width/height changes), [#onGeometryChanged(GeometryChangeType)]
 /// - columns' width changes, [#onColumnWidthChanged(VFXTableColumn)]
 /// - columns list changes, [#onColumnsChanged(ListChangeListener.Change)]
-/// - items change, [#onItemsChanged()]
+/// - items change, [#onItemsChanged(Change)] and [#onItemsChanged()]
 /// - position changes, [#onPositionChanged(Orientation)]
 /// - row factory changes, [#onRowFactoryChanged()]
 /// - cell factory changes in columns, [#onCellFactoryChanged(VFXTableColumn)]
@@ -63,12 +67,16 @@ import javafx.geometry.Orientation;
 /// triggered, thus generating an unwanted 'middle' state. For this reason a special flag [#invalidatingPos] is set
 /// to `true` before the invalidation, so that the other method will exit immediately. It's reset back to false
 /// after the computation or if any of the checks before the actual computation fails.
+///
+/// The algorithms iterate on the rows range with primitive loops and collect the indexes that need a row update in a
+/// reusable [IndexBuffer], [#remaining], so that a steady-state scroll neither boxes indexes nor builds temporary ranges.
 public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     //================================================================================
     // Properties
     //================================================================================
     protected boolean invalidatingPos = false;
     protected boolean wasGeometryChange = false;
+    protected final IndexBuffer remaining = new IndexBuffer();
 
     //================================================================================
     // Constructors
@@ -98,6 +106,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     protected void onGeometryChanged(GeometryChangeType gct) {
         invalidatingPos = true;
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.GEOMETRY);
         VFXTableHelper<T> helper = table.getHelper();
         if (!tableFactorySizeCheck()) return;
 
@@ -130,13 +139,22 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     ///
     /// Position is invalidated too!
     ///
+    /// Since the width change may also move other columns in or out of the viewport, if the columns range changed, the
+    /// state is updated instead, see [#updateColumnsRange(IntegerRange)].
+    ///
     /// @see VFXTableSkin#partialLayout()
     protected void onColumnWidthChanged(VFXTableColumn<T, ?> column) {
         VFXTable<T> table = getNode();
         if (table.getColumnsLayoutMode() == ColumnsLayoutMode.FIXED) return;
+        VFXEvents.beginState(table, StateTrigger.SIZE);
         invalidatingPos = true;
-        table.getHelper().invalidatePos();
-        table.requestViewportLayout(column);
+        VFXTableHelper<T> helper = table.getHelper();
+        helper.invalidatePos();
+        // The width change may have moved other columns in or out of the viewport
+        if (!updateColumnsRange(helper.columnsRange())) {
+            VFXEvents.discardState();
+            table.requestViewportLayout(column);
+        }
         invalidatingPos = false;
     }
 
@@ -157,6 +175,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     /// Finally, calls [VFXTable#update(VFXTableState)] to set the new state and trigger the layout computation.
     protected void onColumnsChanged(ListChangeListener.Change<? extends VFXTableColumn<T, ?>> change) {
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.COLUMNS);
 
         // Init
         if (change == null) {
@@ -201,7 +220,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
         VFXTableState<T> newState = new VFXTableState<>(table, rowsRange, columnsRange, state.getRows());
         newState.setColumnsChanged(true);
         if (rangeCheck(rowsRange, false, false)) {
-            for (Integer idx : rowsRange) {
+            for (int idx = rowsRange.getMin(); idx <= rowsRange.getMax(); idx++) {
                 VFXTableRow<T> row = newState.getRows().get(idx);
                 if (row == null) {
                     row = helper.indexToRow(idx);
@@ -257,10 +276,10 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     /// For this reason, rows from the old state are not removed by index, but by **item**,
     /// [VFXTableState#removeRow(Object)]. First, we retrieve the item from the list that is now at index i
     /// (this index comes from the loop on the range), then we try to remove the row for this item from the old state.
-    /// If the row is found, we update it by index and add it to the new state. Note that the index is also excluded from the range.
+    /// If the row is found, we update it by index and add it to the new state. Otherwise, the index is added to the [#remaining] buffer.
     ///
     /// Now that 'common' rows have been properly updated, the remaining items are processed by the
-    /// [#remainingAlgorithm(ExcludingIntegerRange, VFXTableState)].
+    /// [#remainingAlgorithm(IndexBuffer, VFXTableState)].
     ///
     /// 1) This is one of those methods that to produce a valid new state needs to validate the table's positions,
     /// so it calls [VFXTableHelper#invalidatePos()]
@@ -275,6 +294,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     protected void onItemsChanged() {
         invalidatingPos = true;
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.ITEMS);
         VFXTableHelper<T> helper = table.getHelper();
 
         /*
@@ -293,22 +313,108 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
         // Compute rows ranges and new state
         VFXTableState<T> current = table.getState();
         IntegerRange rowsRange = helper.rowsRange();
-        ExcludingIntegerRange eRange = ExcludingIntegerRange.of(rowsRange);
+        IndexBuffer remaining = this.remaining.clear();
         VFXTableState<T> newState = new VFXTableState<>(table, rowsRange, current.getColumnsRange());
 
         // First update by index
-        for (Integer idx : rowsRange) {
+        for (int idx = rowsRange.getMin(); idx <= rowsRange.getMax(); idx++) {
             T item = helper.indexToItem(idx);
             VFXTableRow<T> row = current.removeRow(item);
             if (row != null) {
-                eRange.exclude(idx);
                 row.updateIndex(idx);
                 newState.addRow(idx, item, row);
+                continue;
             }
+            remaining.add(idx);
+        }
+
+        // Process remaining with the "remaining" algorithm
+        remainingAlgorithm(remaining, newState);
+
+        if (disposeCurrent()) newState.setRowsChanged(true);
+        table.update(newState);
+        if (!newState.haveRowsChanged()) table.requestViewportLayout();
+        invalidatingPos = false;
+    }
+
+    /// Incremental version of [#onItemsChanged()] which makes use of the information carried by the [Change].
+    ///
+    /// The full algorithm has to look up every item in the rows range by identity, even if the change happened far away
+    /// from the viewport (e.g. an append at the end of a huge list). Here instead, the indexes of the rows in the current
+    /// state are 'replayed' through the change by [#shiftIndexes(Change, IntegerRange)]. This way we know for each row:
+    /// whether its item was removed, or the new index of its item.
+    ///
+    /// At this point, after invalidating the virtual sizes and the positions as [#onItemsChanged()] does, two things can happen:
+    ///
+    /// 1) The rows range did not change, and neither did the indexes of the rows. This means that the change occurred
+    /// completely outside the current range (or was an update of the items' content). The state is left as it is, only
+    /// the size bindings are updated.
+    ///
+    /// 2) Otherwise, rows whose item is still in the new range are moved to the new state, updated only by index if needed.
+    /// The remaining indexes are processed by the [#remainingAlgorithm(IndexBuffer, VFXTableState)].
+    ///
+    /// Falls back to [#onItemsChanged()] if the current state is [VFXTableState#INVALID] or empty, or when
+    /// [#shiftIndexes(Change, IntegerRange)] returns `null`.
+    ///
+    /// In any case, the change is first passed to [VFXTableHelper#onItemsChanged(Change)], so that the rows' measurements
+    /// stay on their items before any of the above computations.
+    protected void onItemsChanged(Change<? extends T> change) {
+        VFXTable<T> table = getNode();
+        table.getHelper().onItemsChanged(change);
+        VFXTableState<T> current = table.getState();
+        if (current == VFXTableState.INVALID || current.isEmpty()) {
+            onItemsChanged();
+            return;
+        }
+
+        IntegerRange lastRange = current.getRowsRange();
+        int[] indexes = shiftIndexes(change, lastRange);
+        if (indexes == null) {
+            onItemsChanged();
+            return;
+        }
+
+        invalidatingPos = true;
+        VFXEvents.beginState(table, StateTrigger.ITEMS);
+        VFXTableHelper<T> helper = table.getHelper();
+        helper.invalidateVirtualSizes();
+        helper.invalidatePos();
+        if (!tableFactorySizeCheck()) return;
+
+        // Check whether the state is still valid as it is
+        IntegerRange rowsRange = helper.rowsRange();
+        int min = lastRange.getMin();
+        boolean unchanged = rowsRange.equals(lastRange);
+        for (int i = 0; unchanged && i < indexes.length; i++) {
+            if (indexes[i] != min + i) unchanged = false;
+        }
+        if (unchanged) {
+            invalidatingPos = false;
+            return;
+        }
+
+        VFXTableState<T> newState = new VFXTableState<>(table, rowsRange, current.getColumnsRange());
+
+        // Retained rows are just shifted
+        StateMap<T, VFXTableRow<T>> rows = current.getRows();
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            if (index < rowsRange.getMin() || index > rowsRange.getMax()) continue;
+            VFXTableRow<T> row = rows.remove(min + i);
+            if (row == null) continue;
+            if (index != min + i) row.updateIndex(index);
+            newState.addRow(index, row);
+        }
+
+        // Indexes that were not filled by the retained rows
+        IndexBuffer remaining = this.remaining.clear();
+        StateMap<T, VFXTableRow<T>> newRows = newState.getRows();
+        for (int index = rowsRange.getMin(); index <= rowsRange.getMax(); index++) {
+            if (!newRows.contains(index)) remaining.add(index);
         }
 
         // Process remaining with the "remaining" algorithm
-        remainingAlgorithm(eRange, newState);
+        remainingAlgorithm(remaining, newState);
 
         if (disposeCurrent()) newState.setRowsChanged(true);
         table.update(newState);
@@ -316,9 +422,25 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
         invalidatingPos = false;
     }
 
+    /// Replays the given [Change] on the indexes of the given range, which is expected to be the rows range of the
+    /// current state.
+    ///
+    /// The returned array has one element for each index in the range, the value is the new index of the item, or `-1` if the
+    /// item was removed. See [Utils#shiftIndexes(Change, int\[\])] for how each kind of sub-change is processed.
+    ///
+    /// Replacements overlapping the range make this return `null`, so that the by-item lookup of [#onItemsChanged()]
+    /// can find the rows whose items were moved.
+    protected int[] shiftIndexes(Change<? extends T> change, IntegerRange range) {
+        int min = range.getMin();
+        int[] indexes = new int[range.getMax() - min + 1];
+        for (int i = 0; i < indexes.length; i++) indexes[i] = min + i;
+        return Utils.shiftIndexes(change, indexes) ? indexes : null;
+    }
+
     /// This core method is responsible for updating the table's state when the vertical and horizontal positions change.
     /// Since the table doesn't use any throttling technique to limit the number of events/changes,
     /// and since scrolling can happen very fast, performance here is crucial.
+    /// (By default, this runs on every position change. Installing a [PositionCoalescer] limits it to once per pulse.)
     ///
     /// Immediately exits if: the special flag [#invalidatingPos] is true or the current state is [VFXTableState#INVALID].
     /// Many other computations here need to validate the positions by calling [VFXTableHelper#invalidatePos()],
@@ -355,6 +477,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     protected void onPositionChanged(Orientation axis) {
         if (invalidatingPos) return;
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.POSITION);
         VFXTableState<T> state = table.getState();
         if (state == VFXTableState.INVALID) return;
 
@@ -363,22 +486,11 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
 
         // If the scroll was alongside the x-axis, then the columns range may change
         // We have two cases here: layout mode fixed and variable.
-        // However, in variable mode the range is always the same, so no update in the rows,
-        // but we still update the layout because of the "partial layout" feature.
+        // In variable mode, even if the range didn't change, we still update the layout because of the
+        // "partial layout" feature (columns and cells not visible in the viewport are hidden)
         if (axis == Orientation.HORIZONTAL) {
-            if (table.getColumnsLayoutMode() == ColumnsLayoutMode.VARIABLE) {
+            if (!updateColumnsRange(columnsRange) && table.getColumnsLayoutMode() == ColumnsLayoutMode.VARIABLE)
                 table.requestViewportLayout();
-                return;
-            }
-
-            // If the range didn't change, don't update
-            if (state.getColumnsRange().equals(columnsRange)) return;
-
-            // Here rather than moving the rows, we use the same map of the old state and just tell the rows to update
-            VFXTableState<T> newState = new VFXTableState<>(table, state.getRowsRange(), columnsRange, state.getRows());
-            newState.setColumnsChanged(true);
-            state.getRowsByIndex().values().forEach(r -> r.updateColumns(columnsRange, false));
-            table.update(newState);
             return;
         }
 
@@ -394,6 +506,54 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
         if (!newState.haveRowsChanged()) table.requestViewportLayout();
     }
 
+    /// Alternative to the [#moveReuseCreateAlgorithm(IntegerRange, IntegerRange, VFXTableState)] meant for 'jumps',
+    /// changes after which the given rows range is unlikely to share any index with the current state.
+    /// The typical example is a page change in a paginated table, see `VFXPaginatedTableManager`.
+    ///
+    /// In such cases, looking for common indexes would be a waste of time, so this simply re-binds the rows of the
+    /// current state to the new indexes and items, in order. Since the state's rows are sorted by index, each row ends up
+    /// at the same layout index it had before, which means that no layout is needed unless rows are added or removed.
+    /// The columns range is kept as it is, and since it doesn't change, [VFXTableRow#updateColumns(IntegerRange, boolean)]
+    /// is not needed either.
+    ///
+    /// If the new range needs more rows than the current state has, they are taken from the cache or created by the
+    /// row factory, [VFXTableHelper#itemToRow(Object)]. If it needs fewer rows (e.g. an incomplete last page), the
+    /// exceeding ones are disposed with the current state by [#disposeCurrent()]. In both cases, the new state's
+    /// [VFXTableState#haveRowsChanged()] flag is set to `true`.
+    ///
+    /// Exits immediately if: the special flag [#invalidatingPos] is true, the current state is [VFXTableState#INVALID],
+    /// the given range is invalid or equal to the current one.
+    protected void rebindState(IntegerRange rowsRange) {
+        if (invalidatingPos) return;
+        VFXTable<T> table = getNode();
+        VFXTableState<T> current = table.getState();
+        if (current == VFXTableState.INVALID) return;
+        if (!rangeCheck(rowsRange, false, false)) return;
+        if (current.getRowsRange().equals(rowsRange)) return;
+
+        VFXTableHelper<T> helper = table.getHelper();
+        IntegerRange columnsRange = current.getColumnsRange();
+        StateMap<T, VFXTableRow<T>> rows = current.getRows();
+        VFXTableState<T> newState = new VFXTableState<>(table, rowsRange, columnsRange);
+        for (int idx = rowsRange.getMin(); idx <= rowsRange.getMax(); idx++) {
+            T item = helper.indexToItem(idx);
+            VFXTableRow<T> row = rows.pollFirstValue();
+            if (row != null) {
+                row.updateIndex(idx);
+                row.updateItem(item);
+            } else {
+                row = helper.itemToRow(item);
+                row.updateIndex(idx);
+                row.updateColumns(columnsRange, false);
+                newState.setRowsChanged(true);
+            }
+            newState.addRow(idx, item, row);
+        }
+
+        if (disposeCurrent()) newState.setRowsChanged(true);
+        table.update(newState);
+    }
+
     /// This method is responsible for updating the table's state when the [VFXTable#rowFactoryProperty()] changes.
     /// Before proceeding, it checks whether a new state can be generated by using [#tableFactorySizeCheck()], if not
     /// the rows' cache given by [VFXTable#getCache()] is cleared.
@@ -410,6 +570,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     /// be used since the factory changed), and the table updated with the new state.
     protected void onRowFactoryChanged() {
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.FACTORY);
         VFXTableState<T> state = table.getState();
 
         // First check basic properties to ensure we can generate a valid state
@@ -430,7 +591,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
 
         // Iterate over the rows range and generate a row with the new factory for each index/item.
         // The new rows will copy the state of the previous row at the same index (expect if the old state is INVALID or empty)
-        for (Integer idx : rowsRange) {
+        for (int idx = rowsRange.getMin(); idx <= rowsRange.getMax(); idx++) {
             T item = table.getItems().get(idx);
             VFXTableRow<T> row = rf.create(item);
             if (state != VFXTableState.INVALID && !state.isEmpty()) {
@@ -456,6 +617,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     /// see [VFXTableState]. If the replacement was done, then the table's state is set to a clone of the current one.
     protected void onCellFactoryChanged(VFXTableColumn<T, VFXTableCell<T>> column) {
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.FACTORY);
         VFXTableState<T> state = table.getState();
         boolean updated = false;
         for (VFXTableRow<T> row : state.getRowsByIndex().values()) {
@@ -466,6 +628,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
 
     /// This method is responsible for computing a new state when the [VFXTable#rowsHeightProperty()] changes.
     /// We could say that this is essentially equal to changing the cells' height.
+    /// The same applies when the [VFXTable#variableRowsHeightProperty()] changes.
     ///
     /// After preliminary checks done by [#tableFactorySizeCheck()], the computation for the new state
     /// is delegated to the [#intersectionAlgorithm()].
@@ -476,6 +639,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     protected void onRowHeightChanged() {
         invalidatingPos = true;
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.SIZE);
         VFXTableHelper<T> helper = table.getHelper();
 
         // Ensure positions are correct
@@ -508,6 +672,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     protected void onColumnsSizeChanged() {
         invalidatingPos = true;
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.SIZE);
         VFXTableHelper<T> helper = table.getHelper();
 
         // I believe such change could potentially mess with positions, even if ranges do not change
@@ -563,6 +728,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     /// a layout computation with [VFXTable#requestViewportLayout()].
     protected void onColumnsLayoutModeChanged() {
         VFXTable<T> table = getNode();
+        VFXEvents.beginState(table, StateTrigger.OTHER);
         VFXTableHelper<T> helper = table.getHelper();
         VFXTableState<T> current = table.getState();
 
@@ -596,11 +762,33 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     // Common
     //================================================================================
 
+    /// Updates the table's state if the given columns range is different from the current one. Rather than moving the
+    /// rows, we use the same map of the old state and just tell the rows to update by calling
+    /// [VFXTableRow#updateColumns(IntegerRange, boolean)].
+    ///
+    /// Does nothing if the current state is [VFXTableState#INVALID] or the given range is [Utils#INVALID_RANGE].
+    ///
+    /// @return whether the state was updated
+    protected boolean updateColumnsRange(IntegerRange columnsRange) {
+        VFXTable<T> table = getNode();
+        VFXTableState<T> state = table.getState();
+        if (state == VFXTableState.INVALID ||
+            Utils.INVALID_RANGE.equals(columnsRange) ||
+            state.getColumnsRange().equals(columnsRange)
+        ) return false;
+
+        VFXTableState<T> newState = new VFXTableState<>(table, state.getRowsRange(), columnsRange, state.getRows());
+        newState.setColumnsChanged(true);
+        state.getRowsByIndex().values().forEach(r -> r.updateColumns(columnsRange, false));
+        table.update(newState);
+        return true;
+    }
+
     /// Avoids code duplication. Typically used when, while iterating on the rows and columns ranges,
     /// it's enough to move the rows from the current state to the new state. For indexes which are not found
     /// in the current state, a new row is either taken from the old state, taken from cache or created by the row factory.
     ///
-    /// (The last operations are delegated to the [#remainingAlgorithm(ExcludingIntegerRange, VFXTableState)]).
+    /// (The last operations are delegated to the [#remainingAlgorithm(IndexBuffer, VFXTableState)]).
     ///
     /// Note that the columns range parameter is only needed to ensure each row is displaying the correct cells by invoking
     /// [VFXTableRow#updateColumns(IntegerRange, boolean)]. We don't know when this is needed and when not, we simply
@@ -612,29 +800,30 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
         if (Utils.INVALID_RANGE.equals(rowsRange)) return;
         VFXTable<T> table = getNode();
         VFXTableState<T> current = table.getState();
-        ExcludingIntegerRange eRange = ExcludingIntegerRange.of(rowsRange);
-        if (!current.isEmpty()) {
-            for (Integer idx : rowsRange) {
-                VFXTableRow<T> row = current.removeRow(idx);
-                if (row == null) continue;
-                eRange.exclude(idx);
-                row.updateColumns(columnsRange, false); // This will always be called! To the row checking if the update is actually needed
-                newState.addRow(idx, row);
+        IndexBuffer remaining = this.remaining.clear();
+        boolean empty = current.isEmpty();
+        for (int idx = rowsRange.getMin(); idx <= rowsRange.getMax(); idx++) {
+            VFXTableRow<T> row = empty ? null : current.removeRow(idx);
+            if (row == null) {
+                remaining.add(idx);
+                continue;
             }
+            row.updateColumns(columnsRange, false); // This will always be called! To the row checking if the update is actually needed
+            newState.addRow(idx, row);
         }
-        remainingAlgorithm(eRange, newState);
+        remainingAlgorithm(remaining, newState);
     }
 
     /// Avoids code duplication. Typically used in situations where the previous rows range and the new one are likely to be
     /// very close, but most importantly, that do not involve any change in the items' list.
     /// In such cases, the computation for the new state is divided in two parts:
     ///
-    /// 0) Prerequisites: the new rows range [min,max], the excluding range (a helper class to keep track of common rows),
-    /// the current state, and the intersection between the current rows range and the new rows range
+    /// 0) Prerequisites: the new rows range [min,max], the current state, and the intersection between the current rows
+    /// range and the new rows range
     ///
     /// 1) The intersection allows us to distinguish between rows that can be moved as they are, without any update,
     /// from the current state to the new one. For this, it's enough to check that the intersection range is valid, and then
-    /// a for loop. Common indexes are also excluded from the range!
+    /// a for loop. Indexes outside the intersection are collected in the [#remaining] buffer!
     ///
     /// 2) The remaining indexes are items that are new. Which means that if there are still rows
     /// in the current state, they need to be updated (both index, item, and maybe columns range too).
@@ -645,44 +834,46 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     /// - See [#rangeCheck(IntegerRange, boolean, boolean)]: used to validate the intersection range, both parameters
     /// are false!
     ///
-    /// - See [#remainingAlgorithm(ExcludingIntegerRange, VFXTableState)]: the second part of the algorithm is delegated to this
+    /// - See [#remainingAlgorithm(IndexBuffer, VFXTableState)]: the second part of the algorithm is delegated to this
     /// method
     ///
-    /// @see ExcludingIntegerRange
+    /// @see IndexBuffer
     protected VFXTableState<T> intersectionAlgorithm() {
         VFXTable<T> table = getNode();
         VFXTableHelper<T> helper = table.getHelper();
 
         // New range
         IntegerRange rowsRange = helper.rowsRange();
-        ExcludingIntegerRange eRange = ExcludingIntegerRange.of(rowsRange);
+        IndexBuffer remaining = this.remaining.clear();
 
         // Current and new states, intersection between current and new range
         VFXTableState<T> current = table.getState();
         VFXTableState<T> newState = new VFXTableState<>(table, rowsRange, current.getColumnsRange());
         IntegerRange intersection = Utils.intersection(current.getRowsRange(), rowsRange);
 
-        // If range valid, move common rows from current to new state. Also, exclude common indexes
-        if (rangeCheck(intersection, false, false)) {
-            for (Integer common : intersection) {
-                newState.addRow(common, current.removeRow(common));
-                eRange.exclude(common);
+        // If range valid, move common rows from current to new state. Other indexes are collected for later
+        boolean intersects = rangeCheck(intersection, false, false);
+        for (int idx = rowsRange.getMin(); idx <= rowsRange.getMax(); idx++) {
+            if (intersects && idx >= intersection.getMin() && idx <= intersection.getMax()) {
+                newState.addRow(idx, current.removeRow(idx));
+                continue;
             }
+            remaining.add(idx);
         }
 
         // Process remaining with the "remaining' algorithm"
-        remainingAlgorithm(eRange, newState);
+        remainingAlgorithm(remaining, newState);
         return newState;
     }
 
     /// Avoids code duplication. Typically used to process indexes not found in the current state.
     ///
-    /// For any index in the given collection, a row is needed. Also, it needs to be updated by index, item and
+    /// For any index in the given buffer, a row is needed. Also, it needs to be updated by index, item and
     /// maybe columns range too.
     /// This row can come from three sources:
     ///
     /// 1) from the current state if it's not empty yet. Since the rows are stored in a [SequencedMap], one
-    /// is removed by calling [StateMap#pollFirst()].
+    /// is removed by calling [StateMap#pollFirstValue()].
     ///
     /// 2) from the [VFXCellsCache] if not empty (here [VFXTable#getCache()])
     ///
@@ -694,7 +885,7 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
     ///
     /// After a row is retrieved from any of the three sources, this calls [VFXTableRow#updateColumns(IntegerRange, boolean)]
     /// to ensure it is displaying the correct cells.
-    protected void remainingAlgorithm(ExcludingIntegerRange eRange, VFXTableState<T> newState) {
+    protected void remainingAlgorithm(IndexBuffer remaining, VFXTableState<T> newState) {
         VFXTable<T> table = getNode();
         VFXTableHelper<T> helper = table.getHelper();
         VFXTableState<T> current = table.getState();
@@ -702,11 +893,12 @@ public class VFXTableManager<T> extends MFXBehavior<VFXTable<T>> {
         // Indexes in the given set were not found in the current state.
         // Which means item updates. Rows are retrieved either from the current state (if not empty), from the cache,
         // or created from the factory
-        for (Integer idx : eRange) {
+        for (int i = 0; i < remaining.size(); i++) {
+            int idx = remaining.get(i);
             T item = helper.indexToItem(idx);
             VFXTableRow<T> row;
             if (!current.isEmpty()) {
-                row = current.getRows().pollFirst().getValue();
+                row = current.getRows().pollFirstValue();
                 row.updateIndex(idx);
                 row.updateItem(item);
             } else {
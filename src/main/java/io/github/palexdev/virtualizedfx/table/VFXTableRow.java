@@ -28,10 +28,12 @@ import io.github.palexdev.mfxcore.controls.MFXStyleable;
 import io.github.palexdev.virtualizedfx.base.VFXContext;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
 import io.github.palexdev.virtualizedfx.table.defaults.VFXDefaultTableRow;
 import io.github.palexdev.virtualizedfx.utils.IndexBiMap.RowsStateMap;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -231,11 +233,7 @@ public abstract class VFXTableRow<T> extends Region implements VFXCell<T>, MFXSt
     @SuppressWarnings("unchecked")
     protected boolean saveAllCells() {
         if (cells.isEmpty()) return false;
-        cells.getByKey().forEach((c, idxs) -> {
-            for (Integer idx : idxs) {
-                saveCell((VFXTableColumn<T, VFXTableCell<T>>) c, cells.get(idx));
-            }
-        });
+        cells.forEachKey((c, idx) -> saveCell((VFXTableColumn<T, VFXTableCell<T>>) c, cells.get(idx)));
         cells.clear();
         return true;
     }
@@ -248,6 +246,9 @@ public abstract class VFXTableRow<T> extends Region implements VFXCell<T>, MFXSt
     /// to call this on each row upon a layout request received from the [VFXTable#needsViewportLayoutProperty()].
     ///
     /// **Note** that this implementation allows having columns that produce `null` cells.
+    ///
+    /// **Note** that the layout index depends on the [ColumnsLayoutMode]. For the `FIXED` mode it starts from 0,
+    /// while for the `VARIABLE` mode it's the column's index.
     protected void layoutCells() {
         // It's crucial to process the layout this way.
         // Some columns may not be present in the map as the cell factory could be null or produce null cells.
@@ -255,7 +256,7 @@ public abstract class VFXTableRow<T> extends Region implements VFXCell<T>, MFXSt
         VFXTable<T> table = getTable();
         if (table == null || !table.isNeedsViewportLayout()) return;
         VFXTableHelper<T> helper = table.getHelper();
-        int i = 0;
+        int i = (table.getColumnsLayoutMode() == ColumnsLayoutMode.VARIABLE) ? columnsRange.getMin() : 0;
         for (Integer idx : columnsRange) {
             VFXTableCell<T> cell = cells.get(idx);
             if (cell != null) helper.layoutCell(i, cell);
@@ -276,11 +277,29 @@ public abstract class VFXTableRow<T> extends Region implements VFXCell<T>, MFXSt
         setIndex(index);
     }
 
+    /// {@inheritDoc}
+    ///
+    /// Updates the [#itemProperty()], unless [#isSameItem(Object)] returns `true`, in which case the call is a no-op.
+    /// Both the updates and the skipped calls are counted by the [VFXMetrics] service, if installed.
     @Override
     public void updateItem(T item) {
+        if (isSameItem(item)) {
+            VFXMetrics.onUpdateItemSkipped(context);
+            return;
+        }
+        VFXMetrics.onUpdateItem(context);
         setItem(item);
     }
 
+    /// Used by [#updateItem(Object)] to skip redundant updates. By default, checks whether the given item is the same
+    /// instance as the current one.
+    ///
+    /// **Beware:** this is also called from the constructor, through [#updateItem(Object)], which means that overrides
+    /// run before the subclass' fields are initialized, and thus must not depend on them.
+    protected boolean isSameItem(T item) {
+        return item == getItem();
+    }
+
     @Override
     public void onCreated(VFXContext<T> context) {
         if (this.context == null)
@@ -18,12 +18,20 @@
 
 package io.github.palexdev.virtualizedfx.table;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import io.github.palexdev.mfxcore.base.beans.Position;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.controls.MFXSkinBase;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
 import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
 import io.github.palexdev.virtualizedfx.enums.GeometryChangeType;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXLayoutEvent;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.ListChangeListener;
@@ -76,6 +84,7 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
     private final Rectangle rClip;
 
     private ListChangeListener<? super VFXTableColumn<T, ?>> columnsListener;
+    private ListChangeListener<T> itemsListener;
     protected double DEFAULT_SIZE = 100.0;
 
     //================================================================================
@@ -153,7 +162,8 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
     /// for the first time.
     ///
     /// - Listener on [VFXTable#stateProperty()], this is crucial to update the columns and rows containers'
-    /// children, invoke [VFXTable#requestViewportLayout()] if [VFXTableState#isLayoutNeeded()] is `true`.
+    /// children (see [#updateColumnsContainer(VFXTableState)]), invoke [VFXTable#requestViewportLayout()] if
+    /// [VFXTableState#isLayoutNeeded()] is `true`.
     /// Skips everything if the current state was cloned, [VFXTableState#isClone()]
     ///
     /// - Listener on [VFXTable#needsViewportLayoutProperty()], this is crucial because invokes both
@@ -177,12 +187,17 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
     ///
     /// - Listener on [VFXTable#hPosProperty()], will invoke [VFXTableManager#onPositionChanged(Orientation)]
     ///
-    /// - Listener on [VFXTable#itemsProperty()], will invoke [VFXTableManager#onItemsChanged()]
+    /// (Position changes go through [PositionCoalescer#schedule(VFXContainer, Orientation, Consumer)], so that if the
+    /// service is installed on the table, the state update runs at most once per pulse for each axis)
+    ///
+    /// - [ListChangeListener] on [VFXTable#itemsProperty()], will invoke [VFXTableManager#onItemsChanged(ListChangeListener.Change)]
     ///
     /// - Listener on [VFXTable#rowFactoryProperty()], will invoke [VFXTableManager#onRowFactoryChanged()]
     ///
     /// - Listener on [VFXTable#rowsHeightProperty()], will invoke [VFXTableManager#onRowHeightChanged()]
     ///
+    /// - Listener on [VFXTable#variableRowsHeightProperty()], will invoke [VFXTableManager#onRowHeightChanged()]
+    ///
     /// - Listener on [VFXTable#columnsSizeProperty()], will invoke [VFXTableManager#onColumnsSizeChanged()]
     ///
     /// - Listener on [VFXTable#columnsLayoutModeProperty()], will invoke [VFXTableManager#onColumnsLayoutModeChanged()]
@@ -203,7 +218,17 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
         table.getColumns().addListener(columnsListener);
         getBehavior().onColumnsChanged(null); // This is needed since the skin is created afterward.
 
+        // Items changes are processed incrementally, so we need the Change object rather than a simple invalidation.
+        // Being added on the ListProperty, this listener also triggers when the list itself is replaced
+        itemsListener = c -> getBehavior().onItemsChanged(c);
+        table.itemsProperty().addListener(itemsListener);
+
         InvalidationListener gcl = i -> getBehavior().onGeometryChanged(GeometryChangeType.OTHER);
+        Consumer<Orientation> pu = a -> {
+            long start = VFXMetrics.begin(table);
+            getBehavior().onPositionChanged(a);
+            VFXMetrics.endPosition(table, start);
+        };
         listeners(
             // Core changes
             onInvalidated(table.stateProperty())
@@ -219,25 +244,22 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
                     } else if (s.haveRowsChanged()) {
                         rContainer.getChildren().setAll(s.getRowsByIndex().values());
                     }
-                    if (s.haveColumnsChanged()) {
-                        cContainer.getChildren().setAll(
-                            table.getColumns().subList(
-                                s.getColumnsRange().getMin(),
-                                s.getColumnsRange().getMax() + 1
-                            )
-                        );
-                    }
+                    updateColumnsContainer(s);
                     if (s.isLayoutNeeded()) table.requestViewportLayout();
                 }),
             onInvalidated(table.needsViewportLayoutProperty())
                 .condition(ViewportLayoutRequest::isValid)
                 .then(v -> {
+                    long start = VFXMetrics.begin(table);
+                    VFXLayoutEvent event = VFXEvents.beginLayout();
                     if (v.isPartial()) {
                         partialLayout();
                     } else {
                         layoutColumns();
                         layoutRows();
                     }
+                    VFXMetrics.endLayout(table, start);
+                    VFXEvents.commitLayout(event, table, table.getState().size(), v.isPartial());
                 }),
             onInvalidated(table.helperProperty())
                 .then(h -> {
@@ -272,17 +294,17 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
 
             // Position changes
             onInvalidated(table.vPosProperty())
-                .then(v -> getBehavior().onPositionChanged(Orientation.VERTICAL)),
+                .then(v -> PositionCoalescer.schedule(table, Orientation.VERTICAL, pu)),
             onInvalidated(table.hPosProperty())
-                .then(h -> getBehavior().onPositionChanged(Orientation.HORIZONTAL)),
+                .then(h -> PositionCoalescer.schedule(table, Orientation.HORIZONTAL, pu)),
 
             // Others
-            onInvalidated(table.itemsProperty())
-                .then(it -> getBehavior().onItemsChanged()),
             onInvalidated(table.rowFactoryProperty())
                 .then(rf -> getBehavior().onRowFactoryChanged()),
             onInvalidated(table.rowsHeightProperty())
                 .then(h -> getBehavior().onRowHeightChanged()),
+            onInvalidated(table.variableRowsHeightProperty())
+                .then(v -> getBehavior().onRowHeightChanged()),
             onInvalidated(table.columnsSizeProperty())
                 .then(s -> getBehavior().onColumnsSizeChanged()),
             onInvalidated(table.columnsLayoutModeProperty())
@@ -312,13 +334,33 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
         rClip.setHeight(rH);
     }
 
+    /// Updates the columns container's children according to the given state. In [ColumnsLayoutMode#FIXED] mode, only the
+    /// columns specified by [VFXTableState#getColumnsRange()] are added. In [ColumnsLayoutMode#VARIABLE] mode, the range
+    /// only virtualizes the rows' cells, all the columns are added, so that they always have a skin and a width, and
+    /// the ones outside the viewport are simply hidden by the layout, see [VFXTableHelper#layoutColumn(int, VFXTableColumn)].
+    ///
+    /// The children are replaced only if they differ from the expected ones. The check is done on every state, not only
+    /// when [VFXTableState#haveColumnsChanged()], because switching the layout mode may not change the range.
+    protected void updateColumnsContainer(VFXTableState<T> state) {
+        VFXTable<T> table = getSkinnable();
+        ObservableList<VFXTableColumn<T, ?>> columns = table.getColumns();
+        IntegerRange range = state.getColumnsRange();
+        List<VFXTableColumn<T, ?>> expected = (table.getColumnsLayoutMode() == ColumnsLayoutMode.VARIABLE)
+            ? columns
+            : columns.subList(range.getMin(), range.getMax() + 1);
+        if (!cContainer.getChildren().equals(expected)) cContainer.getChildren().setAll(expected);
+    }
+
     /// This is responsible for sizing and positioning the columns specified by the current
-    /// [VFXTableState#getColumnsRange()].
+    /// [VFXTableState#getColumnsRange()] in [ColumnsLayoutMode#FIXED] mode, all the columns in [ColumnsLayoutMode#VARIABLE]
+    /// mode (the helper hides the ones outside the viewport).
     ///
     /// If the state is [VFXTableState#INVALID] exits immediately.
     ///
     /// The columns are actually laid out by using [VFXTableHelper#layoutColumn(int, VFXTableColumn)].
-    /// The layout index is given by an external 'i' counter which starts at 0 and is incremented at each loop iteration.
+    /// The layout index is given by an external 'i' counter which is incremented at each loop iteration. It starts at 0
+    /// for the [ColumnsLayoutMode#FIXED] mode, while for the [ColumnsLayoutMode#VARIABLE] mode the layout index is the
+    /// column's index.
     ///
     /// This is also responsible for updating the [VFXTableColumn#indexProperty()] by calling
     /// [#updateColumnIndex(VFXTableColumn, int)]. Why here? Because this core method will ensure all columns will
@@ -332,9 +374,12 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
         if (state == VFXTableState.INVALID) return;
 
         VFXTableHelper<T> helper = table.getHelper();
-        IntegerRange columnsRange = state.getColumnsRange();
-        int i = 0;
         ObservableList<VFXTableColumn<T, ?>> columns = table.getColumns();
+        // In VARIABLE mode, all the columns are laid out and the layout index is the column's index
+        IntegerRange columnsRange = (table.getColumnsLayoutMode() == ColumnsLayoutMode.VARIABLE)
+            ? IntegerRange.of(0, columns.size() - 1)
+            : state.getColumnsRange();
+        int i = columnsRange.getMin();
         for (Integer idx : columnsRange) {
             VFXTableColumn<T, ?> column = columns.get(idx);
             updateColumnIndex(column, idx); // Updating the columns' index here should ensure to always have a correct index
@@ -434,10 +479,14 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
 
         // If it's VARIABLE mode, and it's not the last column, then it means we can actually do some optimization.
         // Rather than looping over all the columns, we just need to update those starting from the index that changed.
+        // Cells are built only for the columns in range, so the others can be skipped for the rows.
         ObservableList<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns = table.getColumns();
-        IntegerRange range = IntegerRange.of(cIndex, columns.size() - 1);
-        range.forEach(i -> helper.layoutColumn(i, columns.get(i)));
+        for (int i = cIndex; i < columns.size(); i++) {
+            helper.layoutColumn(i, columns.get(i));
+        }
 
+        IntegerRange cRange = state.getColumnsRange();
+        IntegerRange range = IntegerRange.of(Math.max(cIndex, cRange.getMin()), cRange.getMax());
         state.getRowsByIndex().values().forEach(r -> {
             r.resize(table.getVirtualMaxX(), r.getHeight());
             range.forEach(i -> helper.layoutCell(i, r.getCells().get(i)));
@@ -480,6 +529,11 @@ public class VFXTableSkin<T> extends MFXSkinBase<VFXTable<T>> {
             table.getColumns().removeListener(columnsListener);
             columnsListener = null;
         }
+        if (itemsListener != null) {
+            table.itemsProperty().removeListener(itemsListener);
+            itemsListener = null;
+        }
+        PositionCoalescer.cancel(table);
         super.dispose();
     }
 
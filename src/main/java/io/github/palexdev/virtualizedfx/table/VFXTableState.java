@@ -125,7 +125,7 @@ public class VFXTableState<T> implements Cloneable {
         this.table = table;
         this.rowsRange = rowsRange;
         this.columnsRange = columnsRange;
-        this.rows = new StateMap<>();
+        this.rows = new StateMap<>(rowsRange);
     }
 
     protected VFXTableState(VFXTable<T> table, IntegerRange rowsRange, IntegerRange columnsRange, StateMap<T, VFXTableRow<T>> rows) {
@@ -122,7 +122,7 @@ public class VFXDefaultTableRow<T> extends VFXTableRow<T> {
     /// piece information for the layout method to decide at which x position to put the cell. This index is also called
     /// the 'layout index' depends on the [ColumnsLayoutMode] and its 'absolute'. For the `FIXED` mode it
     /// is given by `columnIndex - columnsRange.getMin()`, while for the `VARIABLE` mode is the column's index
-    /// itself (since all columns are added to the viewport, layout indexes go from 0 to the number of column).
+    /// itself (since columns are positioned at their absolute x coordinate, which depends on all the previous columns).
     ///
     /// @return whether the substitution was done successfully
     @Override
@@ -172,9 +172,14 @@ public class VFXDefaultTableRow<T> extends VFXTableRow<T> {
     }
 
     /// Responsible for both updating the row's item property and all of its cells' item property.
+    ///
+    /// If the row already holds the given item, [#isSameItem(Object)], the cells are not touched at all,
+    /// they already hold it too.
     @Override
     public void updateItem(T item) {
+        boolean same = isSameItem(item);
         super.updateItem(item);
+        if (same) return;
         getCellsByIndex().values().forEach(c -> c.updateItem(item));
     }
 }
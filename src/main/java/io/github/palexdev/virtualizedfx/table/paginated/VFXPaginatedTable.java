@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.table.paginated;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.github.palexdev.mfxcore.base.properties.styleable.StyleableIntegerProperty;
+import io.github.palexdev.mfxcore.behavior.MFXBehavior;
+import io.github.palexdev.mfxcore.builders.bindings.IntegerBindingBuilder;
+import io.github.palexdev.mfxcore.controls.MFXSkinBase;
+import io.github.palexdev.mfxcore.utils.fx.PropUtils;
+import io.github.palexdev.mfxcore.utils.fx.StyleUtils;
+import io.github.palexdev.virtualizedfx.base.VFXPaginated;
+import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.controls.VFXScrollPane;
+import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
+import io.github.palexdev.virtualizedfx.enums.ScrollPaneEnums.ScrollBarPolicy;
+import io.github.palexdev.virtualizedfx.grid.paginated.VFXPaginatedGrid;
+import io.github.palexdev.virtualizedfx.table.VFXTable;
+import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
+import io.github.palexdev.virtualizedfx.table.VFXTableHelper;
+import io.github.palexdev.virtualizedfx.utils.ScrollParams;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.css.StyleablePropertyFactory;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+
+/// Implementation of a paginated variant of [VFXTable].
+/// The default style class is extended to: '.vfx-table.paginated'.
+///
+/// Extends [VFXTable], implements [VFXPaginated], has its own skin [VFXPaginatedTableSkin] and behavior
+/// [VFXPaginatedTableManager].
+///
+/// Each page displays exactly [#cellsPerPageProperty()] rows. Just like [VFXPaginatedGrid], the vertical position is
+/// bound to the current page, and the table's height adapts to the number of rows per page (plus the header, see
+/// [VFXPaginatedTableSkin#getLength()]). There are no buffer rows: the state always contains the rows of the current
+/// page and nothing more. When the page changes, the table doesn't go through the usual scroll-based algorithm; the rows
+/// of the current page are simply re-bound to the items of the new page, in place, see
+/// [VFXPaginatedTableManager#onPageChanged()]. The columns' state is not touched at all, and since each row keeps its
+/// position, no layout is needed either, making page switches very cheap even for big pages.
+///
+/// Columns are virtualized as usual, and you can scroll horizontally.
+///
+/// When displaying data that is expensive to resolve (lazy entities, remote lookups, ...), you can set a
+/// [#pagePrefetcherProperty()] to be notified of the items of the next page ahead of time.
+///
+/// This variant is intended to use implementations of [VFXPaginatedTableHelper]. Nothing prevents you from setting a
+/// [#helperFactoryProperty()] that produces helpers of type [VFXTableHelper], don't do that!
+/// You may end up with invalid states, thus a broken component.
+public class VFXPaginatedTable<T> extends VFXTable<T> implements VFXPaginated<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final IntegerProperty page = PropUtils.clampedIntProperty(
+        () -> 0,
+        this::getMaxPage
+    );
+    private final ReadOnlyIntegerWrapper maxPage = new ReadOnlyIntegerWrapper();
+    private final ObjectProperty<BiConsumer<Integer, List<T>>> pagePrefetcher = new SimpleObjectProperty<>(this, "pagePrefetcher");
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPaginatedTable() {
+        super();
+        initialize();
+    }
+
+    public VFXPaginatedTable(ObservableList<T> items) {
+        super(items);
+        initialize();
+    }
+
+    public VFXPaginatedTable(ObservableList<T> items, Collection<VFXTableColumn<T, ? extends VFXTableCell<T>>> columns) {
+        super(items, columns);
+        initialize();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+    private void initialize() {
+        maxPage.bind(IntegerBindingBuilder.build()
+            .setMapper(this::computeMaxPage)
+            .addSources(sizeProperty(), cellsPerPageProperty())
+            .get()
+        );
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// Overridden to use implementations of [VFXPaginatedTableHelper] instead.
+    @Override
+    protected Function<ColumnsLayoutMode, VFXTableHelper<T>> defaultHelperFactory() {
+        return mode -> mode == ColumnsLayoutMode.FIXED ?
+            new VFXPaginatedTableHelper.FixedHelper<>(this) :
+            new VFXPaginatedTableHelper.VariableHelper<>(this);
+    }
+
+    @Override
+    public Supplier<MFXBehavior<? extends Node>> defaultBehaviorFactory() {
+        return () -> new VFXPaginatedTableManager<>(this);
+    }
+
+    @Override
+    public Supplier<MFXSkinBase<? extends Node>> defaultSkinFactory() {
+        return () -> new VFXPaginatedTableSkin<>(this);
+    }
+
+    @Override
+    public List<String> defaultStyleClasses() {
+        return List.of("vfx-table", "paginated");
+    }
+
+    /// Since for the paginated variant the vertical position is bound to the [#pageProperty()], this setter won't do
+    /// anything. You could still use the [#vPosProperty()] to set the position, but that would generate an exception.
+    /// Unbinding the property would result in invalid states, so, don't do it.
+    @Override
+    public void setVPos(double vPos) {
+        if (vPosProperty().isBound()) return;
+        super.setVPos(vPos);
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Note that a paginated component cannot scroll on the virtualized axis. The table is paginated on the y-axis,
+    /// which means you will be able to scroll only horizontally.
+    @Override
+    public VFXScrollPane makeScrollable() {
+        VFXScrollPane vsp = new VFXScrollPane(this);
+        vsp.setVBarPolicy(ScrollBarPolicy.NEVER);
+        ScrollParams.pixels(50.0).bind(vsp, Orientation.HORIZONTAL);
+        return vsp;
+    }
+
+    @Override
+    public VFXPaginatedTableManager<T> getBehavior() {
+        return (VFXPaginatedTableManager<T>) super.getBehavior();
+    }
+
+    //================================================================================
+    // Styleable Properties
+    //================================================================================
+    private final StyleableIntegerProperty cellsPerPage = new StyleableIntegerProperty(
+        StyleableProperties.CELLS_PER_PAGE,
+        this,
+        "cellsPerPage",
+        10
+    );
+
+    /// {@inheritDoc}
+    ///
+    /// For the table, this is the number of rows per page.
+    ///
+    /// Can be set in CSS via the property: '-vfx-cells-per-page'.
+    @Override
+    public StyleableIntegerProperty cellsPerPageProperty() {
+        return cellsPerPage;
+    }
+
+    //================================================================================
+    // CssMetaData
+    //================================================================================
+    private static class StyleableProperties {
+        private static final StyleablePropertyFactory<VFXPaginatedTable<?>> FACTORY = new StyleablePropertyFactory<>(VFXTable.getClassCssMetaData());
+        private static final List<CssMetaData<? extends Styleable, ?>> cssMetaDataList;
+
+        private static final CssMetaData<VFXPaginatedTable<?>, Number> CELLS_PER_PAGE =
+            FACTORY.createSizeCssMetaData(
+                "-vfx-cells-per-page",
+                VFXPaginatedTable::cellsPerPageProperty,
+                10
+            );
+
+        static {
+            cssMetaDataList = StyleUtils.cssMetaDataList(
+                VFXTable.getClassCssMetaData(),
+                CELLS_PER_PAGE
+            );
+        }
+    }
+
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return StyleableProperties.cssMetaDataList;
+    }
+
+    @Override
+    protected List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() {
+        return getClassCssMetaData();
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+
+    @Override
+    public IntegerProperty pageProperty() {
+        return page;
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty maxPageProperty() {
+        return maxPage.getReadOnlyProperty();
+    }
+
+    public BiConsumer<Integer, List<T>> getPagePrefetcher() {
+        return pagePrefetcher.get();
+    }
+
+    /// Specifies an optional function to call with the index and the items of the next page, every time the table
+    /// settles on a page (after a page switch, at init and after changes in the items list).
+    ///
+    /// This allows resolving the items of page N+1 ahead of time, for example when they are lazy entities or need
+    /// expensive lookups, so that the next page switch only has to re-bind rows.
+    ///
+    /// The function is called on the JavaFX thread with a [List#subList(int, int)] view of [#getItems()]. Don't modify it,
+    /// and copy it if you need to use it later or on another thread. It's not called for the last page.
+    ///
+    /// @see VFXPaginatedTableManager#prefetchNextPage()
+    public ObjectProperty<BiConsumer<Integer, List<T>>> pagePrefetcherProperty() {
+        return pagePrefetcher;
+    }
+
+    public void setPagePrefetcher(BiConsumer<Integer, List<T>> pagePrefetcher) {
+        this.pagePrefetcher.set(pagePrefetcher);
+    }
+}
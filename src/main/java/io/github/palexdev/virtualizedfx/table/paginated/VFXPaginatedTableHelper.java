@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.table.paginated;
+
+import io.github.palexdev.mfxcore.base.beans.Position;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.mfxcore.builders.bindings.ObjectBindingBuilder;
+import io.github.palexdev.mfxcore.utils.NumberUtils;
+import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
+import io.github.palexdev.virtualizedfx.table.VFXTableHelper;
+import io.github.palexdev.virtualizedfx.utils.Utils;
+import javafx.beans.binding.ObjectBinding;
+import javafx.geometry.Orientation;
+
+import static io.github.palexdev.mfxcore.base.beans.Position.position;
+
+/// Simple extension of [VFXTableHelper] with two concrete implementations, one for each [ColumnsLayoutMode]:
+/// [FixedHelper] and [VariableHelper]. Both change the way rows are computed, so that the table always displays exactly
+/// the rows of the current page ([VFXPaginatedTable#pageProperty()], [VFXPaginatedTable#cellsPerPageProperty()]).
+/// Columns are still virtualized as usual.
+///
+/// Here the rows range and the viewport position are defined as follows:
+///
+/// - the rows range goes from `page * rowsPerPage` to `page * rowsPerPage + rowsPerPage - 1` (cannot exceed
+/// [VFXPaginatedTable#size()] - 1). There are no buffer rows, the rows of a page act as the buffer of the next/previous
+/// one since, on page changes, they are simply re-bound to the new items, see [VFXPaginatedTableManager#onPageChanged()].
+/// Note that neither the page nor the rows per page are dependencies of the binding; both determine the vertical position
+/// ([VFXPaginatedTableSkin]) and the table's height, which are.
+///
+/// - the viewport position on the y-axis is always 0, because the table is at the exact start of a page by definition.
+/// The x position is computed as described by the respective super class.
+///
+/// Rows are never measured, regardless of the [VFXPaginatedTable#variableRowsHeightProperty()], because all pages must
+/// have the same height.
+public interface VFXPaginatedTableHelper<T> extends VFXTableHelper<T> {
+
+    /// Builds the rows range binding shared by both implementations, see [VFXPaginatedTableHelper].
+    private static <T> ObjectBinding<IntegerRange> rowsRangeBinding(VFXTableHelper<T> helper) {
+        VFXPaginatedTable<T> table = (VFXPaginatedTable<T>) helper.getContainer();
+        return ObjectBindingBuilder.<IntegerRange>build()
+            .setMapper(() -> {
+                if (helper.getViewportHeight() <= 0) return Utils.INVALID_RANGE;
+                int needed = helper.totalRows();
+                if (needed == 0) return Utils.INVALID_RANGE;
+
+                int start = helper.firstRow();
+                int end = Math.min(table.size() - 1, start + needed - 1);
+                return IntegerRange.of(start, end);
+            })
+            .addSources(table.heightProperty(), table.columnsSizeProperty())
+            .addSources(table.vPosProperty())
+            .addSources(table.sizeProperty(), table.rowsHeightProperty())
+            .get();
+    }
+
+    /// Given by `page * rowsPerPage`, clamped between 0 and [VFXPaginatedTable#size()] - 1.
+    private static int firstRowOf(VFXPaginatedTable<?> table) {
+        return NumberUtils.clamp(table.getPage() * table.getCellsPerPage(), 0, table.size() - 1);
+    }
+
+    /// Scrolls to the page containing the given row.
+    private static void scrollToPage(VFXPaginatedTable<?> table, int index) {
+        table.setPage(index / Math.max(1, table.getCellsPerPage()));
+    }
+
+    /// Concrete implementation of [VFXPaginatedTableHelper] for [ColumnsLayoutMode#FIXED], extends [FixedTableHelper].
+    class FixedHelper<T> extends FixedTableHelper<T> implements VFXPaginatedTableHelper<T> {
+        public FixedHelper(VFXPaginatedTable<T> table) {
+            super(table);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Overridden to replace the rows range and the viewport position bindings.
+        @Override
+        protected void createBindings() {
+            super.createBindings();
+            rowsRange.bind(rowsRangeBinding(this));
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    IntegerRange columnsRange = columnsRange();
+                    if (Utils.INVALID_RANGE.equals(columnsRange)) return Position.origin();
+
+                    double cWidth = container.getColumnsSize().width();
+                    IntegerRange cRangeToFirstVisible = IntegerRange.of(columnsRange.getMin(), firstColumn());
+                    double cPixelsToFirst = cRangeToFirstVisible.diff() * cWidth;
+                    double cVisibleAmount = container.getHPos() % cWidth;
+                    return position(-(cPixelsToFirst + cVisibleAmount), 0);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty())
+                .addSources(container.columnsSizeProperty())
+                .get()
+            );
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Always false for the paginated table, since all pages must have the same height.
+        @Override
+        protected boolean isVariableRows() {
+            return false;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by `page * rowsPerPage`, clamped between 0 and [VFXPaginatedTable#size()] - 1.
+        @Override
+        public int firstRow() {
+            return firstRowOf(getContainer());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by [VFXPaginatedTable#cellsPerPageProperty()].
+        @Override
+        public int visibleRows() {
+            return Math.max(0, getContainer().getCellsPerPage());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Same as [#visibleRows()] restricted to [VFXPaginatedTable#size()]. No buffer!
+        @Override
+        public int totalRows() {
+            return Math.min(visibleRows(), container.size());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// For the vertical direction, scrolls to the page containing the given row.
+        @Override
+        public void scrollToIndex(Orientation orientation, int index) {
+            if (orientation == Orientation.VERTICAL) {
+                scrollToPage(getContainer(), index);
+                return;
+            }
+            super.scrollToIndex(orientation, index);
+        }
+
+        @Override
+        public VFXPaginatedTable<T> getContainer() {
+            return (VFXPaginatedTable<T>) super.getContainer();
+        }
+    }
+
+    /// Concrete implementation of [VFXPaginatedTableHelper] for [ColumnsLayoutMode#VARIABLE], extends [VariableTableHelper].
+    class VariableHelper<T> extends VariableTableHelper<T> implements VFXPaginatedTableHelper<T> {
+        public VariableHelper(VFXPaginatedTable<T> table) {
+            super(table);
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Overridden to replace the rows range and the viewport position bindings.
+        @Override
+        protected void createBindings() {
+            super.createBindings();
+            rowsRange.bind(rowsRangeBinding(this));
+            viewportPosition.bind(ObjectBindingBuilder.<Position>build()
+                .setMapper(() -> {
+                    IntegerRange columnsRange = columnsRange();
+                    if (Utils.INVALID_RANGE.equals(columnsRange)) return Position.origin();
+                    return position(-container.getHPos(), 0);
+                })
+                .addSources(container.layoutBoundsProperty())
+                .addSources(container.hPosProperty())
+                .addSources(container.columnsSizeProperty())
+                .get()
+            );
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Always false for the paginated table, since all pages must have the same height.
+        @Override
+        protected boolean isVariableRows() {
+            return false;
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by `page * rowsPerPage`, clamped between 0 and [VFXPaginatedTable#size()] - 1.
+        @Override
+        public int firstRow() {
+            return firstRowOf(getContainer());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Given by [VFXPaginatedTable#cellsPerPageProperty()].
+        @Override
+        public int visibleRows() {
+            return Math.max(0, getContainer().getCellsPerPage());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// Same as [#visibleRows()] restricted to [VFXPaginatedTable#size()]. No buffer!
+        @Override
+        public int totalRows() {
+            return Math.min(visibleRows(), container.size());
+        }
+
+        /// {@inheritDoc}
+        ///
+        /// For the vertical direction, scrolls to the page containing the given row.
+        @Override
+        public void scrollToIndex(Orientation orientation, int index) {
+            if (orientation == Orientation.VERTICAL) {
+                scrollToPage(getContainer(), index);
+                return;
+            }
+            super.scrollToIndex(orientation, index);
+        }
+
+        @Override
+        public VFXPaginatedTable<T> getContainer() {
+            return (VFXPaginatedTable<T>) super.getContainer();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.table.paginated;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.enums.GeometryChangeType;
+import io.github.palexdev.virtualizedfx.enums.StateTrigger;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.table.VFXTableManager;
+import io.github.palexdev.virtualizedfx.table.VFXTableState;
+import javafx.collections.ListChangeListener.Change;
+import javafx.geometry.Orientation;
+import javafx.scene.Parent;
+
+/// Default behavior implementation for [VFXPaginatedTable], extends [VFXTableManager].
+///
+/// This is necessary to respond to the following property changes introduced by the paginated variant:
+///
+/// - page changes, [#onPageChanged()]
+/// - cells (rows) per page changes, [#onCellsPerPageChanged()]
+/// - max page changes, [#onMaxPageChanged()]
+///
+/// It's also responsible for notifying the [VFXPaginatedTable#pagePrefetcherProperty()], see [#prefetchNextPage()].
+public class VFXPaginatedTableManager<T> extends VFXTableManager<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    protected int prefetchedPage = -1;
+    private boolean itemsChangeHandled = false;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPaginatedTableManager(VFXPaginatedTable<T> table) {
+        super(table);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// This core method is responsible for updating the table's state when the [VFXPaginatedTable#pageProperty()] changes.
+    ///
+    /// Rather than going through the [#moveReuseCreateAlgorithm(IntegerRange, IntegerRange, VFXTableState)],
+    /// which would find no common index between two different pages anyway, this delegates to
+    /// [#rebindState(IntegerRange)]. The rows of the current page are re-bound to the items of the new one in place,
+    /// which means: no row is created (except for when the previous page was incomplete), no row is moved, the columns
+    /// are not touched, and no layout is needed.
+    ///
+    /// Finally, calls [#prefetchNextPage()].
+    protected void onPageChanged() {
+        VFXEvents.beginState(getNode(), StateTrigger.PAGE);
+        rebindState(getNode().getHelper().rowsRange());
+        prefetchNextPage();
+    }
+
+    /// A paginated container's size strictly depends on how many rows it is set to display per page, and this is
+    /// enforced by the default skin [VFXPaginatedTableSkin], see [VFXPaginatedTableSkin#getLength()].
+    ///
+    /// This core method is called whenever the [VFXPaginatedTable#cellsPerPageProperty()] changes and ensures that
+    /// the layout bounds of the container become invalid ([Parent#isNeedsLayout()] becomes 'true'), by calling
+    /// [Parent#requestLayout()]. The resulting height change will then trigger [#onGeometryChanged(GeometryChangeType)].
+    protected void onCellsPerPageChanged() {
+        prefetchedPage = -1;
+        getNode().requestLayout();
+    }
+
+    /// This core method ensures that the paginated container is always at a valid page/position when the
+    /// [VFXPaginatedTable#maxPageProperty()] changes.
+    ///
+    /// The only one case this needs to correct the position is when the current page is greater than the new max page.
+    /// Just like `VFXPaginatedGridManager`, the page change is not hidden from [#onPositionChanged(Orientation)], since
+    /// re-binding the rows of a page is cheap.
+    protected void onMaxPageChanged() {
+        VFXPaginatedTable<T> table = getNode();
+        if (table.getPage() > table.getMaxPage()) table.moveBy(0);
+    }
+
+    /// Calls the [VFXPaginatedTable#pagePrefetcherProperty()], if set, with the index and the items of the page after the
+    /// current one.
+    ///
+    /// Does nothing if: the function is `null`, the table's state is [VFXTableState#INVALID], the current page is the
+    /// last one, or the next page was already prefetched and neither the items nor the cells per page changed since then.
+    protected void prefetchNextPage() {
+        VFXPaginatedTable<T> table = getNode();
+        BiConsumer<Integer, List<T>> prefetcher = table.getPagePrefetcher();
+        if (prefetcher == null || table.getState() == VFXTableState.INVALID) return;
+
+        int next = table.getPage() + 1;
+        if (next > table.getMaxPage() || next == prefetchedPage) return;
+
+        int cpp = table.getCellsPerPage();
+        int from = next * cpp;
+        int to = Math.min(table.size(), from + cpp);
+        if (from >= to) return;
+        prefetchedPage = next;
+        prefetcher.accept(next, table.getItems().subList(from, to));
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// Also calls [#prefetchNextPage()], which is needed at init.
+    @Override
+    protected void onGeometryChanged(GeometryChangeType gct) {
+        super.onGeometryChanged(gct);
+        prefetchNextPage();
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Since the items changed, the next page is prefetched again, see [#prefetchNextPage()].
+    @Override
+    protected void onItemsChanged() {
+        super.onItemsChanged();
+        prefetchedPage = -1;
+        prefetchNextPage();
+        itemsChangeHandled = true;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Since the items changed, the next page is prefetched again, see [#prefetchNextPage()]. This is skipped if the
+    /// super method fell back to [#onItemsChanged()], which already did it.
+    @Override
+    protected void onItemsChanged(Change<? extends T> change) {
+        itemsChangeHandled = false;
+        super.onItemsChanged(change);
+        if (itemsChangeHandled) return;
+        prefetchedPage = -1;
+        prefetchNextPage();
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// For the paginated variant, the vertical position is bound to the page, which means that vertical position changes
+    /// are handled as page changes by [#onPageChanged()]. Horizontal changes are handled by the super method.
+    @Override
+    protected void onPositionChanged(Orientation axis) {
+        if (axis == Orientation.VERTICAL) {
+            onPageChanged();
+            return;
+        }
+        super.onPositionChanged(axis);
+    }
+
+    /// Overridden to cast to [VFXPaginatedTable] since this behavior only allows that type.
+    @Override
+    public VFXPaginatedTable<T> getNode() {
+        return (VFXPaginatedTable<T>) super.getNode();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.table.paginated;
+
+import io.github.palexdev.mfxcore.builders.bindings.DoubleBindingBuilder;
+import io.github.palexdev.mfxcore.observables.When;
+import io.github.palexdev.virtualizedfx.table.VFXTable;
+import io.github.palexdev.virtualizedfx.table.VFXTableManager;
+import io.github.palexdev.virtualizedfx.table.VFXTableSkin;
+import javafx.beans.binding.DoubleBinding;
+import javafx.geometry.Orientation;
+import javafx.scene.control.SkinBase;
+
+/// Default skin implementation for the paginated variant of [VFXTable]: [VFXPaginatedTable].
+/// Extends [VFXTableSkin] and expects behaviors of type [VFXPaginatedTableManager].
+///
+/// Just like the other paginated skins, the table's vertical position is bound to the current page specified by
+/// [VFXPaginatedTable#pageProperty()], and there are a couple of extra listeners, [#addListeners()].
+///
+/// As for the layout, the only thing that changes is that the container's height will adapt to the header's height,
+/// the rows' height and the number of rows per page, the exact computation is described and done by [#getLength()].
+public class VFXPaginatedTableSkin<T> extends VFXTableSkin<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    protected DoubleBinding posBinding;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPaginatedTableSkin(VFXPaginatedTable<T> table) {
+        super(table);
+
+        // Init pos binding
+        posBinding = DoubleBindingBuilder.build()
+            .setMapper(() -> table.getPage() * table.getCellsPerPage() * table.getRowsHeight())
+            .addSources(table.pageProperty(), table.cellsPerPageProperty(), table.rowsHeightProperty())
+            .get();
+        table.vPosProperty().bind(posBinding);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Computes the height the container should have, according to the following three properties:
+    ///
+    /// - [VFXPaginatedTable#cellsPerPageProperty()]
+    ///
+    /// - [VFXPaginatedTable#rowsHeightProperty()]
+    ///
+    /// - [VFXPaginatedTable#columnsSizeProperty()] (the header's height)
+    ///
+    /// The formula is as follows: `headerHeight + (rowsPerPage * rowsHeight)`.
+    ///
+    /// The result is enforced by the 'compute min/pref/max height' methods defined by [SkinBase] and overridden here.
+    /// The width can be changed as preferred.
+    protected final double getLength() {
+        VFXPaginatedTable<T> table = getTable();
+        return table.getColumnsSize().height() + (table.getCellsPerPage() * table.getRowsHeight());
+    }
+
+    /// Convenience method to cast [#getSkinnable()] to [VFXPaginatedTable].
+    protected VFXPaginatedTable<T> getTable() {
+        return (VFXPaginatedTable<T>) getSkinnable();
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// For the paginated variant there are the following additional listeners:
+    ///
+    /// - Listener on [VFXPaginatedTable#cellsPerPageProperty()], will invoke [VFXPaginatedTableManager#onCellsPerPageChanged()]
+    ///
+    /// - Listener on [VFXPaginatedTable#maxPageProperty()], will invoke [VFXPaginatedTableManager#onMaxPageChanged()]
+    ///
+    /// - Listeners on [VFXPaginatedTable#rowsHeightProperty()] and [VFXPaginatedTable#columnsSizeProperty()], will
+    /// invoke [VFXPaginatedTable#requestLayout()] since they affect the table's size, see [#getLength()]
+    ///
+    /// Page changes are caught by the listener on the [VFXPaginatedTable#vPosProperty()] (bound to the page), see
+    /// [VFXPaginatedTableManager#onPositionChanged(Orientation)].
+    @Override
+    protected void addListeners() {
+        VFXPaginatedTable<T> table = getTable();
+        super.addListeners();
+        listeners(
+            When.onInvalidated(table.cellsPerPageProperty())
+                .then(cpp -> getBehavior().onCellsPerPageChanged()),
+            When.onInvalidated(table.maxPageProperty())
+                .then(mp -> getBehavior().onMaxPageChanged()),
+            When.onInvalidated(table.rowsHeightProperty())
+                .then(h -> table.requestLayout()),
+            When.onInvalidated(table.columnsSizeProperty())
+                .then(s -> table.requestLayout())
+        );
+    }
+
+    /// Overridden to cast the behavior to [VFXPaginatedTableManager].
+    ///
+    /// Since [VFXPaginatedTable] extends [VFXTable] nothing prevents the user from using behaviors of type
+    /// [VFXTableManager], but that would result in exceptions being thrown and invalid states.
+    /// Long story short: don't do it!
+    @Override
+    protected VFXPaginatedTableManager<T> getBehavior() {
+        return (VFXPaginatedTableManager<T>) super.getBehavior();
+    }
+
+    @Override
+    protected double computeMinHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return getLength();
+    }
+
+    @Override
+    protected double computePrefHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return getLength();
+    }
+
+    @Override
+    protected double computeMaxHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
+        return getLength();
+    }
+}
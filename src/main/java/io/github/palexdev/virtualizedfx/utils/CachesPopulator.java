@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.util.Duration;
+
+/// Fills one or more [VFXCellsCache]s incrementally, on the FX thread, by using a single [AnimationTimer].
+///
+/// At every pulse, caches are visited in a round-robin fashion and one cell is added to each of them at a time, see
+/// [VFXCellsCache#populateOne()]. This goes on until either `cellsPerPulse` cells have been created or the time budget
+/// is exceeded; both limits are shared by all the caches. This way, populating the caches of a table with many columns
+/// does not cost more per frame than populating a single cache, and all of them grow at the same pace.
+/// At least one cell is created every pulse, so that the operation always makes progress.
+///
+/// Caches that reach their capacity are skipped, and the operation stops by itself once all of them are full.
+/// The overall progress is exposed by [#progressProperty()], as the ratio between the total number of cached cells and
+/// the total capacity.
+///
+/// This is used by [VFXCellsCache#populateAsync(int, Duration)] for a single cache, and by
+/// `VFXTable.populateCacheAllAsync(int, Duration)` for the rows' cache and all the columns' caches.
+public class CachesPopulator {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final List<VFXCellsCache<?, ?>> caches;
+    private final List<VFXCellsCache<?, ?>> pending;
+    private final int cellsPerPulse;
+    private final long budgetNanos;
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0.0);
+
+    private AnimationTimer timer;
+    private int next = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+
+    /// @throws IllegalArgumentException if `cellsPerPulse` is lesser than 1
+    public CachesPopulator(Collection<? extends VFXCellsCache<?, ?>> caches, int cellsPerPulse, Duration budget) {
+        if (cellsPerPulse < 1) throw new IllegalArgumentException("At least one cell per pulse must be created");
+        this.caches = List.copyOf(caches);
+        this.pending = new ArrayList<>(this.caches);
+        this.cellsPerPulse = cellsPerPulse;
+        this.budgetNanos = (long) (budget.toMillis() * 1_000_000L);
+        updateProgress();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Starts the operation, if not already running and if there is at least one cache that is not full.
+    public CachesPopulator start() {
+        if (timer != null) return this;
+        pending.removeIf(VFXCellsCache::isFull);
+        if (pending.isEmpty()) return this;
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse();
+            }
+        };
+        timer.start();
+        return this;
+    }
+
+    /// Stops the operation, if running. Cells already created are kept.
+    public CachesPopulator stop() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        return this;
+    }
+
+    /// @return whether the operation is running
+    public boolean isRunning() {
+        return timer != null;
+    }
+
+    /// Core method of the populator, called at every pulse.
+    ///
+    /// Creates one cell for the next pending cache until either the cells or the time limit is reached. Caches that
+    /// become full, or that cannot produce cells, are removed from the pending ones.
+    protected void pulse() {
+        long start = System.nanoTime();
+        int created = 0;
+        do {
+            if (next >= pending.size()) next = 0;
+            VFXCellsCache<?, ?> cache = pending.get(next);
+            boolean added = cache.populateOne();
+            if (added) created++;
+            if (!added || cache.isFull()) {
+                pending.remove(next);
+            } else {
+                next++;
+            }
+        } while (!pending.isEmpty() && created < cellsPerPulse && System.nanoTime() - start < budgetNanos);
+        updateProgress();
+        if (pending.isEmpty()) stop();
+    }
+
+    /// Updates the [#progressProperty()] as the ratio between the total number of cached cells and the total capacity.
+    protected void updateProgress() {
+        long size = 0;
+        long capacity = 0;
+        for (VFXCellsCache<?, ?> cache : caches) {
+            size += Math.min(cache.size(), cache.getCapacity());
+            capacity += cache.getCapacity();
+        }
+        progress.set(capacity == 0 ? 1.0 : size / (double) capacity);
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+
+    /// @return an unmodifiable view of the caches handled by this populator
+    public List<VFXCellsCache<?, ?>> getCaches() {
+        return caches;
+    }
+
+    public double getProgress() {
+        return progress.get();
+    }
+
+    /// Specifies the overall progress of the operation as a value between 0.0 and 1.0. Updated at every pulse.
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+}
@@ -18,21 +18,47 @@
 
 package io.github.palexdev.virtualizedfx.utils;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.*;
 
 import io.github.palexdev.mfxcore.collections.CircularQueue;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 
-/// A special kind of [LinkedList] which discards the oldest added item once it reaches the set capacity.
+/// A special kind of [Queue] which discards the oldest added item once it reaches the set capacity.
 ///
 /// Basically the same as [CircularQueue], but automatically invokes [VFXCell#dispose()] on cells that are discarded.
-public class CellsQueue<T, C extends VFXCell<T>> extends LinkedList<C> {
+///
+/// **Implementation**
+///
+/// Cells are stored in an array used as a ring buffer, so that adding and polling cells doesn't allocate anything
+/// (unlike a [LinkedList] which allocates a node for every addition). Each cell never moves from its slot, so a removal
+/// from the middle of the queue just leaves a hole, which is skipped by polling and iteration, and eventually reclaimed
+/// when the array is compacted.
+///
+/// To also make [#remove(Object)] and [#contains(Object)] O(1), the slot of each cell is tracked by a small
+/// open-addressing hash table which uses the cells' identity, not [Object#equals(Object)].
+/// This also means that the same cell instance cannot be added twice, see [#queue(VFXCell)].
+///
+/// The array is allocated lazily and grows up to the capacity, so setting a huge capacity is not an issue per se.
+public class CellsQueue<T, C extends VFXCell<T>> extends AbstractQueue<C> {
     //================================================================================
     // Properties
     //================================================================================
+    private static final Object[] EMPTY = new Object[0];
+    private static final int DEFAULT_LENGTH = 16;
+
     private int capacity;
 
+    private Object[] cells = EMPTY;
+    private int head;
+    private int span; // Number of slots from the head to the last cell, holes included
+    private int size;
+    private int modCount;
+
+    // Identity index [cell -> slot], linear probing
+    private Object[] keys = EMPTY;
+    private int[] slots = new int[0];
+    private int mask;
+
     //================================================================================
     // Constructors
     //================================================================================
@@ -47,18 +73,38 @@ public class CellsQueue<T, C extends VFXCell<T>> extends LinkedList<C> {
 
     /// Adds the given cell to the queue. If at capacity, the oldest cell is disposed and discarded.
     ///
+    /// A cell that is already in the queue is not added again.
+    ///
     /// @return whether the cell was added
     public boolean queue(C c) {
+        Objects.requireNonNull(c, "Cannot add a null cell");
         if (capacity == 0) {
             // If cells cannot be cached because this is disabled (capacity = 0), they should be disposed
             c.dispose();
             return false;
         }
-        if (super.size() == capacity) {
-            C excess = super.remove();
+        if (indexOf(c) >= 0) return false;
+        if (size == capacity) {
+            C excess = poll();
             excess.dispose();
         }
-        return super.add(c);
+
+        if (span == cells.length) {
+            if (size < cells.length) {
+                resize(cells.length);
+            } else {
+                int newLength = (int) Math.min(capacity, Math.max(DEFAULT_LENGTH, (long) cells.length << 1));
+                resize(newLength);
+            }
+        }
+
+        int slot = slot(span);
+        cells[slot] = c;
+        index(c, slot);
+        span++;
+        size++;
+        modCount++;
+        return true;
     }
 
     /// @return the queue's capacity, the maximum number of cells that can be added
@@ -69,20 +115,108 @@ public class CellsQueue<T, C extends VFXCell<T>> extends LinkedList<C> {
     /// Sets the queue's capacity. If the parameter is 0, every cell is disposed and removed. If the new capacity is
     /// lesser than the current one, then the oldest cell is removed until the capacity is reached.
     public void setCapacity(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity cannot be negative");
         if (capacity == 0) {
             forEach(C::dispose);
             clear();
+            cells = EMPTY;
+            keys = EMPTY;
+            slots = new int[0];
             this.capacity = capacity;
             return;
         }
 
-        if (capacity < super.size()) {
-            for (int i = 0; i < (super.size() - capacity); i++) {
-                C excess = super.remove();
-                excess.dispose();
-            }
+        while (size > capacity) {
+            C excess = poll();
+            excess.dispose();
         }
         this.capacity = capacity;
+        if (cells.length > capacity) resize(capacity);
+    }
+
+    /// Converts the given position relative to the head to the physical slot in the array.
+    private int slot(int pos) {
+        int i = head + pos;
+        return i >= cells.length ? i - cells.length : i;
+    }
+
+    /// Moves the cells to a new array of the given length, removing the holes, and rebuilds the index.
+    private void resize(int length) {
+        Object[] arr = new Object[length];
+        int j = 0;
+        for (int i = 0; i < span; i++) {
+            Object c = cells[slot(i)];
+            if (c != null) arr[j++] = c;
+        }
+        cells = arr;
+        head = 0;
+        span = j;
+
+        int tableLength = Integer.highestOneBit(Math.max(2, length) * 2 - 1) << 1;
+        keys = new Object[tableLength];
+        slots = new int[tableLength];
+        mask = tableLength - 1;
+        for (int i = 0; i < span; i++) index(cells[i], i);
+    }
+
+    /// Removes the holes at the head and at the tail of the ring.
+    private void trim() {
+        while (span > 0 && cells[head] == null) {
+            head = slot(1);
+            span--;
+        }
+        while (span > 0 && cells[slot(span - 1)] == null) span--;
+        if (span == 0) head = 0;
+    }
+
+    private int hash(Object o) {
+        int h = System.identityHashCode(o);
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /// @return the position of the given cell in the index table, or -1 if not found
+    private int indexOf(Object o) {
+        if (size == 0 || o == null) return -1;
+        int i = hash(o);
+        Object k;
+        while ((k = keys[i]) != null) {
+            if (k == o) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void index(Object o, int slot) {
+        int i = hash(o);
+        while (keys[i] != null) i = (i + 1) & mask;
+        keys[i] = o;
+        slots[i] = slot;
+    }
+
+    /// Removes the entry at the given position of the index table by shifting back the following entries of the same
+    /// probe sequence, so that no tombstone is needed.
+    private void unindex(int i) {
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            Object k = keys[j];
+            if (k == null) break;
+            int home = hash(k);
+            boolean stays = (i <= j) ? (i < home && home <= j) : (i < home || home <= j);
+            if (stays) continue;
+            keys[i] = k;
+            slots[i] = slots[j];
+            i = j;
+        }
+        keys[i] = null;
+    }
+
+    /// Removes the cell at the given array slot, the cell's index entry must be removed by the caller.
+    private void removeAt(int slot) {
+        cells[slot] = null;
+        size--;
+        modCount++;
+        trim();
     }
 
     //================================================================================
@@ -99,4 +233,94 @@ public class CellsQueue<T, C extends VFXCell<T>> extends LinkedList<C> {
         for (C c : cells) result |= add(c);
         return result;
     }
+
+    @Override
+    public boolean offer(C c) {
+        return queue(c);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public C poll() {
+        if (size == 0) return null;
+        C c = (C) cells[head];
+        unindex(indexOf(c));
+        removeAt(head);
+        return c;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public C peek() {
+        return size == 0 ? null : (C) cells[head];
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /// Removes the given cell from the queue in constant time. Cells are compared by identity.
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i < 0) return false;
+        int slot = slots[i];
+        unindex(i);
+        removeAt(slot);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(cells, null);
+        Arrays.fill(keys, null);
+        head = 0;
+        span = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /// Iterates over the cells from the oldest to the newest.
+    @Override
+    public Iterator<C> iterator() {
+        return new Iterator<>() {
+            int pos = 0;
+            int last = -1;
+            int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                while (pos < span && cells[slot(pos)] == null) pos++;
+                return pos < span;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public C next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (!hasNext()) throw new NoSuchElementException();
+                last = slot(pos++);
+                return (C) cells[last];
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) throw new IllegalStateException();
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                int oldHead = head;
+                CellsQueue.this.remove(cells[last]);
+                // Trimming the head shifts the positions relative to it
+                pos = (span == 0) ? 0 : Math.max(0, pos - Math.floorMod(head - oldHead, cells.length));
+                last = -1;
+                expectedModCount = modCount;
+            }
+        };
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.List;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
+import io.github.palexdev.virtualizedfx.base.VFXContext;
+import io.github.palexdev.virtualizedfx.enums.BufferSize;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+
+/// Opt-in service that makes the buffer of virtualized containers direction-aware.
+///
+/// By default, the buffer specified by [VFXContainer#bufferSizeProperty()] is applied symmetrically, the same number of
+/// extra cells is kept before and after the visible ones. When scrolling fast in one direction though, the cells on the
+/// trailing side are useless, while the ones on the leading edge are updated right before they become visible.
+///
+/// This service tracks the scroll direction and speed, from the deltas of the position between two range computations,
+/// and shifts the range towards the travel direction. The total number of cells doesn't change; the leading side gets
+/// `buffer + shift` cells and the trailing one `buffer - shift`, where the shift is given by how many cells the last
+/// scrolls moved (smoothed), capped at the buffer size. When the position doesn't change (e.g. a geometry change), the
+/// last shift is kept.
+///
+/// If the container's items are a [VFXPagedList], this also requests the pages of the items in the travel direction,
+/// [#prefetchItems(Orientation, IntegerRange, List)], so that they are likely to be in memory before being displayed.
+/// The number of items to prefetch is given by the number of items in range times [#getItemsLookahead()].
+///
+/// The service lives in the container's [VFXContext] and can be added and removed by [#install(Node)] and [#uninstall(Node)].
+/// The default helpers query it every time they compute their ranges, see [#rangeStart(VFXContainer, Orientation, int, int, double, double)].
+public class DirectionalBuffer {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Tracker vTracker = new Tracker();
+    private final Tracker hTracker = new Tracker();
+    private double smoothing = 0.5;
+    private int itemsLookahead = 1;
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Creates a new [DirectionalBuffer] and registers it in the given container's [VFXContext].
+    ///
+    /// Since the context only keeps weak references to its services, the instance is also stored in the node's
+    /// [Node#getProperties()] map, so that it lives as long as the container.
+    public static <C extends Node & VFXContainer<?>> DirectionalBuffer install(C container) {
+        DirectionalBuffer buffer = new DirectionalBuffer();
+        container.getProperties().put(DirectionalBuffer.class, buffer);
+        container.context().set(DirectionalBuffer.class, buffer);
+        return buffer;
+    }
+
+    /// Removes the [DirectionalBuffer] from the given container, which goes back to symmetric buffers.
+    public static <C extends Node & VFXContainer<?>> void uninstall(C container) {
+        container.getProperties().remove(DirectionalBuffer.class);
+        container.context().reset(DirectionalBuffer.class);
+    }
+
+    /// Computes the first index of a range of cells by taking into account the buffer and, if a [DirectionalBuffer] is
+    /// installed in the given container, the scroll direction.
+    ///
+    /// Without the service, this is simply `first - buffer`. Otherwise, `first - buffer + bias`, see [#bias(Orientation, double, double, int)].
+    /// The result cannot be negative.
+    ///
+    /// @param axis     the axis on which the range lies
+    /// @param first    the first visible index
+    /// @param buffer   the number of buffer cells per side, [BufferSize#val()]
+    /// @param pos      the current position on the given axis
+    /// @param cellSize the size of a cell on the given axis (including the spacing)
+    public static int rangeStart(VFXContainer<?> container, Orientation axis, int first, int buffer, double pos, double cellSize) {
+        DirectionalBuffer db = container.context().get(DirectionalBuffer.class);
+        int bias = (db != null) ? db.bias(axis, pos, cellSize, buffer) : 0;
+        return Math.max(0, first - buffer + bias);
+    }
+
+    /// If a [DirectionalBuffer] is installed in the given container, delegates to [#prefetchItems(Orientation, IntegerRange, List)].
+    ///
+    /// @param range the range of items (indexes in the items' list) that are going to be displayed
+    public static void prefetchItems(VFXContainer<?> container, Orientation axis, IntegerRange range) {
+        DirectionalBuffer db = container.context().get(DirectionalBuffer.class);
+        if (db != null) db.prefetchItems(axis, range, container.getItems());
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Updates the tracker of the given axis with the given position and returns the number of cells by which the range
+    /// should be shifted.
+    ///
+    /// The result is positive when scrolling forward, negative when scrolling backward, and its absolute value
+    /// is given by `Math.ceil(speed / cellSize)`, capped at the given buffer size.
+    public int bias(Orientation axis, double pos, double cellSize, int buffer) {
+        Tracker t = tracker(axis);
+        t.update(pos, smoothing);
+        if (t.direction == 0 || cellSize <= 0 || buffer <= 0) return 0;
+        int shift = (int) Math.min(buffer, Math.ceil(t.speed / cellSize));
+        return t.direction * shift;
+    }
+
+    /// If the given items are a [VFXPagedList], requests the items adjacent to the given range in the travel direction,
+    /// see [VFXPagedList#prefetch(int, int)]. Does nothing if the direction is unknown.
+    ///
+    /// The number of items to prefetch is given by the range's size times [#getItemsLookahead()].
+    public void prefetchItems(Orientation axis, IntegerRange range, List<?> items) {
+        // Uses the last known direction, the tracker is updated by the range computation
+        Tracker t = tracker(axis);
+        if (t.direction == 0 || itemsLookahead <= 0 || Utils.INVALID_RANGE.equals(range)) return;
+        if (!(items instanceof VFXPagedList<?> list)) return;
+
+        int size = list.size();
+        int n = (range.diff() + 1) * itemsLookahead;
+        if (t.direction > 0) {
+            list.prefetch(range.getMax() + 1, Math.min(size, range.getMax() + 1 + n));
+        } else {
+            list.prefetch(Math.max(0, range.getMin() - n), range.getMin());
+        }
+    }
+
+    /// Forgets the tracked directions and speeds, which means that buffers are symmetric again until the next scroll.
+    public void reset() {
+        vTracker.reset();
+        hTracker.reset();
+    }
+
+    /// @return the current scroll direction on the given axis: 1 forward, -1 backward, 0 unknown
+    public int getDirection(Orientation axis) {
+        return tracker(axis).direction;
+    }
+
+    /// @return the current smoothed speed on the given axis, in pixels per range computation
+    public double getSpeed(Orientation axis) {
+        return tracker(axis).speed;
+    }
+
+    protected Tracker tracker(Orientation axis) {
+        return axis == Orientation.VERTICAL ? vTracker : hTracker;
+    }
+
+    //================================================================================
+    // Getters/Setters
+    //================================================================================
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /// Sets the weight given to the last position delta when computing the speed, as an exponential moving average.
+    /// 1.0 means that only the last delta is considered. By default, 0.5.
+    public DirectionalBuffer setSmoothing(double smoothing) {
+        this.smoothing = Math.clamp(smoothing, 0.0, 1.0);
+        return this;
+    }
+
+    public int getItemsLookahead() {
+        return itemsLookahead;
+    }
+
+    /// Sets how many ranges of items to prefetch in the travel direction when the items are a [VFXPagedList].
+    /// 0 disables the prefetching. By default, 1.
+    public DirectionalBuffer setItemsLookahead(int itemsLookahead) {
+        this.itemsLookahead = Math.max(0, itemsLookahead);
+        return this;
+    }
+
+    //================================================================================
+    // Internal Classes
+    //================================================================================
+
+    /// Keeps track of the position, direction and speed on a single axis.
+    protected static class Tracker {
+        private double lastPos = Double.NaN;
+        private int direction = 0;
+        private double speed = 0.0;
+
+        protected void update(double pos, double smoothing) {
+            double delta = Double.isNaN(lastPos) ? 0.0 : pos - lastPos;
+            lastPos = pos;
+            if (delta == 0.0) return;
+            direction = delta > 0 ? 1 : -1;
+            speed = speed * (1.0 - smoothing) + Math.abs(delta) * smoothing;
+        }
+
+        protected void reset() {
+            lastPos = Double.NaN;
+            direction = 0;
+            speed = 0.0;
+        }
+    }
+}
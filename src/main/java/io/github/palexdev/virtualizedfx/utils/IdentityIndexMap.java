@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/// A compact identity map from keys to `int` indexes, used by [IndexBiMap] for its `byKey` mappings.
+///
+/// The `byKey` mappings must handle duplicates, the same key may be found at several indexes. The naive approach,
+/// an [IdentityHashMap] of [SequencedSet]s, pays for that flexibility even when it's not needed: every key gets its own
+/// set and every index is boxed. In `VirtualizedFX` duplicates are rare, almost all items are unique, and a new map is
+/// filled for every state, so that's an allocation per visible cell on every rebuild.
+///
+/// Here instead, a key that appears only once is stored **inline**: the key goes in an open-addressing table (linear probing,
+/// compared by identity) and the index goes in a parallel `int` array. Only on the first duplicate, the key is
+/// **promoted** to a [LinkedHashSet] stored in a secondary [IdentityHashMap] (created lazily). When the set shrinks back
+/// to a single index, the key is **demoted** to the inline table again.
+///
+/// A key is always either in the table or in the duplicates map, never both. The table is kept at a load factor of
+/// at most 0.5, and removals use backward-shift deletion, so there are no tombstones and lookups stay short.
+///
+/// **Ordering**
+///
+/// For duplicated keys, indexes are kept in insertion order, so that [#pollFirst(Object)] behaves like
+/// [SequencedSet#removeFirst()]. There is no ordering among different keys.
+///
+/// **Limitations**
+///
+/// - `null` keys are not allowed
+///
+/// - [#NO_INDEX] is used as a 'not found' marker, and thus cannot be stored
+public class IdentityIndexMap<K> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    /// Returned by lookups when the key is not present.
+    public static final int NO_INDEX = Integer.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] keys;
+    private int[] indexes;
+    private int size;
+    private final int initialCapacity;
+    private Map<K, SequencedSet<Integer>> duplicates;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public IdentityIndexMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    /// Pre-sizes the table to hold the given number of unique keys without growing.
+    /// The arrays are allocated lazily, on the first addition.
+    public IdentityIndexMap(int expectedKeys) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedKeys * 2) capacity <<= 1;
+        this.initialCapacity = capacity;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Maps the given index to the given key.
+    ///
+    /// If the key was stored inline with a different index, it is promoted to the duplicates map.
+    public void add(K key, int index) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            int old = indexes[slot];
+            if (old == index) return;
+            deleteSlot(slot);
+            SequencedSet<Integer> set = new LinkedHashSet<>();
+            set.add(old);
+            set.add(index);
+            duplicates().put(key, set);
+            return;
+        }
+        SequencedSet<Integer> set = duplicatesOf(key);
+        if (set != null) {
+            set.add(index);
+            return;
+        }
+        insert(key, index);
+    }
+
+    /// Removes the given index from the mappings of the given key. If the key is not mapped to any index anymore, it
+    /// is removed as well.
+    ///
+    /// @return whether the mapping was found and removed
+    public boolean remove(K key, int index) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            if (indexes[slot] != index) return false;
+            deleteSlot(slot);
+            return true;
+        }
+        SequencedSet<Integer> set = duplicatesOf(key);
+        if (set == null || !set.remove(index)) return false;
+        demote(key, set);
+        return true;
+    }
+
+    /// Removes and returns the first index mapped to the given key, or [#NO_INDEX] if the key is not present.
+    public int pollFirst(K key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            int index = indexes[slot];
+            deleteSlot(slot);
+            return index;
+        }
+        SequencedSet<Integer> set = duplicatesOf(key);
+        if (set == null) return NO_INDEX;
+        int index = set.removeFirst();
+        demote(key, set);
+        return index;
+    }
+
+    /// @return the first index mapped to the given key, or [#NO_INDEX] if the key is not present
+    public int first(K key) {
+        int slot = slotOf(key);
+        if (slot >= 0) return indexes[slot];
+        SequencedSet<Integer> set = duplicatesOf(key);
+        return set != null ? set.getFirst() : NO_INDEX;
+    }
+
+    /// @return the number of indexes mapped to the given key
+    public int count(K key) {
+        if (slotOf(key) >= 0) return 1;
+        SequencedSet<Integer> set = duplicatesOf(key);
+        return set != null ? set.size() : 0;
+    }
+
+    /// @return whether the given key is mapped to at least one index
+    public boolean containsKey(K key) {
+        return slotOf(key) >= 0 || duplicatesOf(key) != null;
+    }
+
+    /// Calls the given action for every index mapped to the given key.
+    public void forEach(K key, IntConsumer action) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            action.accept(indexes[slot]);
+            return;
+        }
+        SequencedSet<Integer> set = duplicatesOf(key);
+        if (set == null) return;
+        for (Integer index : set) action.accept(index);
+    }
+
+    /// Calls the given action for every `[key, index]` mapping in this map.
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super K> action) {
+        if (keys != null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) action.accept((K) keys[i], indexes[i]);
+            }
+        }
+        if (duplicates != null) {
+            for (Map.Entry<K, SequencedSet<Integer>> e : duplicates.entrySet()) {
+                K key = e.getKey();
+                for (Integer index : e.getValue()) action.accept(key, index);
+            }
+        }
+    }
+
+    /// Copies the mappings to a new [IdentityHashMap] of [SequencedSet]s, the representation this map replaces.
+    public Map<K, SequencedSet<Integer>> toMap() {
+        Map<K, SequencedSet<Integer>> map = new IdentityHashMap<>(size());
+        forEach((k, i) -> map.computeIfAbsent(k, x -> new LinkedHashSet<>()).add(i));
+        return map;
+    }
+
+    /// @return the number of keys in this map
+    public int size() {
+        return size + (duplicates != null ? duplicates.size() : 0);
+    }
+
+    /// @return whether this map is empty
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /// Removes all the mappings. The table keeps its capacity.
+    public void clear() {
+        if (keys != null && size > 0) Arrays.fill(keys, null);
+        size = 0;
+        if (duplicates != null) duplicates.clear();
+    }
+
+    /// Moves a duplicated key back to the inline table if it's mapped to only one index, or removes it if
+    /// it's not mapped to any index anymore.
+    private void demote(K key, SequencedSet<Integer> set) {
+        if (set.size() > 1) return;
+        duplicates.remove(key);
+        if (set.size() == 1) insert(key, set.getFirst());
+    }
+
+    private SequencedSet<Integer> duplicatesOf(K key) {
+        return (duplicates != null && !duplicates.isEmpty()) ? duplicates.get(key) : null;
+    }
+
+    private Map<K, SequencedSet<Integer>> duplicates() {
+        if (duplicates == null) duplicates = new IdentityHashMap<>();
+        return duplicates;
+    }
+
+    /// @return the slot of the given key in the table, or `-1` if not found
+    private int slotOf(Object key) {
+        if (key == null) throw new NullPointerException("Null keys are not allowed");
+        if (size == 0) return -1;
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        Object k;
+        while ((k = keys[i]) != null) {
+            if (k == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /// Adds the given key to the table, expects it not to be present.
+    private void insert(Object key, int index) {
+        if (index == NO_INDEX) throw new IllegalArgumentException("Index %d is reserved".formatted(NO_INDEX));
+        if (keys == null) {
+            keys = new Object[initialCapacity];
+            indexes = new int[initialCapacity];
+        } else if ((size + 1) * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != null) i = (i + 1) & mask;
+        keys[i] = key;
+        indexes[i] = index;
+        size++;
+    }
+
+    /// Empties the given slot and shifts back the following entries of the cluster, if their home slot allows it.
+    private void deleteSlot(int gap) {
+        int mask = keys.length - 1;
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            Object k = keys[j];
+            if (k == null) break;
+            int home = hash(k) & mask;
+            boolean stays = gap <= j ? (gap < home && home <= j) : (gap < home || home <= j);
+            if (!stays) {
+                keys[gap] = k;
+                indexes[gap] = indexes[j];
+                gap = j;
+            }
+        }
+        keys[gap] = null;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldIndexes = indexes;
+        keys = new Object[capacity];
+        indexes = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object k = oldKeys[i];
+            if (k == null) continue;
+            int j = hash(k) & mask;
+            while (keys[j] != null) j = (j + 1) & mask;
+            keys[j] = k;
+            indexes[j] = oldIndexes[i];
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = System.identityHashCode(key);
+        return h ^ (h >>> 16);
+    }
+}
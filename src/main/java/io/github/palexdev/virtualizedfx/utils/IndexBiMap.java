@@ -20,10 +20,9 @@ package io.github.palexdev.virtualizedfx.utils;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.ObjIntConsumer;
 
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
 
@@ -96,17 +95,23 @@ import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
 /// 1) A [TreeMap] for the mappings of type `[Integer -> V]`. A simple [HashMap] could be used too,
 /// but I thought that having positions sorted is a nice to have, especially if we want to 'poll' values from the map as we
 /// would do from a [Deque] (TreeMap is a [SequencedMap]). This is called the `byIndex` map.
+/// Subclasses can specify a different implementation, see [StateMapBase].
 ///
-/// 2) An [IdentityHashMap] for the mappings of type `[K -> Collection<Integer>]`. To be precise the collection
-/// used to store all the positions for a certain `K` object is a [SequencedSet], which again allows us to
-/// 'poll' values when needed. Here, such operation, is especially needed because since all the positions in the set point
-/// to the same element, it does not matter which one we take, so [SequencedSet#removeFirst()] comes in handy.
-/// This is called the `byKey` map.
+/// 2) An [IdentityIndexMap] for the mappings of type `[K -> Collection<Integer>]`. Conceptually, all the positions
+/// for a certain `K` object are a [SequencedSet], which again allows us to 'poll' values when needed. Here, such operation,
+/// is especially needed because since all the positions in the set point to the same element, it does not matter which
+/// one we take, so [IdentityIndexMap#pollFirst(Object)] comes in handy. This is called the `byKey` map.
+/// Since duplicates are rare, a key found only once is stored inline with its `int` index, and only gets an actual set on
+/// the first duplicate. This way, filling the map doesn't allocate a set and boxes for every key.
 ///
 /// 3) These are two to "concrete" mappings, however the second one is automatically resolved by the map like this:
 /// `[K -> Integer -> V]` which can be simplified to `[K -> V]`.
 ///
-/// **Q:Why an [IdentityHashMap]?**
+/// 4) A third map for the reverse mappings of type `[Integer -> K]`, called the `keyByIndex` map. This is purely
+/// internal and mirrors exactly the `byKey` map: for every index mapped to a key there is an entry here
+/// pointing back to that key. It allows to remove an index from the `byKey` map in constant time, see below.
+///
+/// **Q:Why identity ([IdentityIndexMap] compares keys like an [IdentityHashMap])?**
 ///
 /// **A:** There are two things to consider. First, let's not forget that the true nature of this data structure is to
 /// map a type `K` which may come from our dataset, to certain `V` objects that **depend** on `K`
@@ -146,18 +151,16 @@ import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
 /// and [#remove(Object)].
 ///
 /// As also described in the method documentation, when values are removed by index, we may potentially have an invalid
-/// data structure afterward. While it's easy to resolve a reverse mapping like this `[K -> Integer -> V]`, it's not
-/// as straightforward to do this `[Integer -> K]` because we don't have such direct mapping.
-///
-/// In other words, when a value is removed from the `byIndex` map, there is not a fast way to also remove it from
-/// the `byKey` map. The only way is to iterate over its `Sets` and when the index is found in one of them,
-/// remove it and break out of the loop. Other details here: [#remove(Integer, boolean)].
+/// data structure afterward. Removing the value from the `byIndex` map is not enough, the index must also be removed from
+/// the `byKey` map. Thanks to the `keyByIndex` map, we know which key owns the index, so this
+/// is a constant time operation. Other details here: [#remove(Integer, boolean)].
 ///
 /// **Misc**
 /// This data structure also allows you to check whether a value is present either by index or by key: [#contains(Integer)],
 /// [#contains(Object)].
 ///
-/// There is also a simple check on the two maps sizes for the data structure's validity: [#isValid()].
+/// There is also a simple check on the two maps sizes for the data structure's validity: [#isValid()], which is also
+/// constant time.
 ///
 /// **Usage in VirtualizedFX**
 /// - See [StateMap]
@@ -166,8 +169,29 @@ public class IndexBiMap<K, V> {
     //================================================================================
     // Properties
     //================================================================================
-    protected final SequencedMap<Integer, V> byIndex = new TreeMap<>();
-    protected final Map<K, SequencedSet<Integer>> byKey = new IdentityHashMap<>();
+    protected final SequencedMap<Integer, V> byIndex;
+    protected final IdentityIndexMap<K> byKey;
+    private final Map<Integer, K> keyByIndex;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public IndexBiMap() {
+        this(new TreeMap<>(), new HashMap<>());
+    }
+
+    /// Allows subclasses to specify the implementations used for the `byIndex` and `keyByIndex` maps.
+    /// The `byIndex` map must keep its entries ordered by index.
+    protected IndexBiMap(SequencedMap<Integer, V> byIndex, Map<Integer, K> keyByIndex) {
+        this(byIndex, keyByIndex, new IdentityIndexMap<>());
+    }
+
+    /// Allows subclasses to also pre-size the `byKey` map, see [IdentityIndexMap#IdentityIndexMap(int)].
+    protected IndexBiMap(SequencedMap<Integer, V> byIndex, Map<Integer, K> keyByIndex, IdentityIndexMap<K> byKey) {
+        this.byIndex = byIndex;
+        this.keyByIndex = keyByIndex;
+        this.byKey = byKey;
+    }
 
     //================================================================================
     // Methods
@@ -180,37 +204,38 @@ public class IndexBiMap<K, V> {
 
     /// Tries to retrieve a list of values for the given key from the `byKey` map.
     ///
-    /// First retrieves a [SequencedSet], then if it is `null` returns an empty list.
-    /// If it is empty, then the mapping is not valid anymore, therefore, it's removed from the map, and empty list returned.
-    /// Otherwise, the indexes in the `Set` are resolved by calling [#get(Integer)] and the values returned in a list.
+    /// If the key is not mapped to any index, returns an empty list.
+    /// Otherwise, the indexes mapped to the key are resolved by calling [#get(Integer)] and the values returned in a list.
     /// We also make sure that the list will not contain any `null` value.
     ///
     /// See [IndexBiMap] to understand why this may return multiple values (hint: duplicates).
     public List<V> get(K key) {
-        SequencedSet<Integer> set = byKey.get(key);
-        if (set == null) return List.of();
-        if (set.isEmpty()) {
-            byKey.remove(key);
-            return List.of();
-        }
-        return set.stream()
-            .map(this::get)
-            .filter(Objects::nonNull)
-            .toList();
+        int count = byKey.count(key);
+        if (count == 0) return List.of();
+        List<V> values = new ArrayList<>(count);
+        byKey.forEach(key, index -> {
+            V val = get(index);
+            if (val != null) values.add(val);
+        });
+        return Collections.unmodifiableList(values);
     }
 
     /// Adds the appropriate mappings for the given parameters to both the maps by this data structure.
     ///
     /// First the entry `[Integer, V]` is added to the `byIndex` map.
     ///
-    /// Then the entry `[K, SequencedSet<Integer>]` is added to the `byKey` map.
+    /// Then the mapping `[K, Integer]` is added to the `byKey` map. If the index was previously mapped to
+    /// another key, it is removed from that key's mappings, so that an index always belongs to one key only.
     ///
     /// See [IndexBiMap] to understand why the second mapping is like that.
     public void put(Integer index, K key, V val) {
         if (index == null || key == null || val == null)
             throw new NullPointerException("Cannot add entry [Index:%s; Item:%s; VFXCell:%s] in state map".formatted(index, key, val));
         byIndex.put(index, val);
-        byKey.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(index);
+        K oldKey = keyByIndex.put(index, key);
+        if (oldKey == key) return;
+        if (oldKey != null) byKey.remove(oldKey, index);
+        byKey.add(key, index);
     }
 
     /// @return whether an entry for the given index is present in the `byIndex` map
@@ -220,8 +245,7 @@ public class IndexBiMap<K, V> {
 
     /// @return whether an entry for the given key is present in the `byKey` map
     public boolean contains(K key) {
-        SequencedSet<Integer> set = byKey.get(key);
-        return set != null && !set.isEmpty();
+        return byKey.containsKey(key);
     }
 
     /// Tries to remove a value from the `byIndex` map by the given index.
@@ -232,10 +256,9 @@ public class IndexBiMap<K, V> {
     ///
     /// So, by design choice, this data structure prioritizes speed rather than reliability.
     ///
-    /// The `validate` parameter allows you to keep the data structure valid by performing the aforementioned iteration.
-    /// For every [SequencedSet] in the `byKey` map we attempt at removing the `index` parameter.
-    /// If the removal was successful, it means that we found the correct mapping thus we break out of the loop.
-    /// Also, if the `Set` becomes empty after the removal, the mapping is removed from the `byKey` map.
+    /// The `validate` parameter allows you to keep the data structure valid by also removing the index from the `byKey`
+    /// map. The key which owns the index is found through the `keyByIndex` map, so this is a constant time operation.
+    /// Also, if the key is not mapped to any other index after the removal, it is removed from the `byKey` map.
     ///
     /// **Q: How can you be sure that the Set containing the given index is the right mapping?**
     ///
@@ -245,20 +268,14 @@ public class IndexBiMap<K, V> {
     /// However, we cannot make the reverse claim: that at every item corresponds one and only one index.
     /// It's possible for the same item to appear multiple times at different positions within the list.
     ///
-    /// So, by the first assertion, if for a key `K` the `Set` of indexes contains the given index, then it
-    /// is for sure the right mapping.
+    /// So, by the first assertion, every index belongs to one and only one key `K`, the one stored in the
+    /// `keyByIndex` map.
     public V remove(Integer index, boolean validate) {
         V val = byIndex.remove(index);
         if (val == null) return null;
         if (validate) {
-            Iterator<SequencedSet<Integer>> it = byKey.values().iterator();
-            while (it.hasNext()) {
-                SequencedSet<Integer> next = it.next();
-                if (next.remove(index)) {
-                    if (next.isEmpty()) it.remove();
-                    break;
-                }
-            }
+            K key = keyByIndex.remove(index);
+            if (key != null) byKey.remove(key, index);
         }
         return val;
     }
@@ -275,35 +292,22 @@ public class IndexBiMap<K, V> {
 
     /// Before the actual value can be removed, the mapping [K,SequencedSet<Integer>] must be resolved.
     ///
-    /// First a `Set` of indexes is retrieved (not removed!) from the `byKey` map by the given key.
-    /// If the `Set` is null or empty, `null` is returned. In the latter case, the mapping is also removed.
+    /// One of the indexes mapped to the given key is removed from the `byKey` map by [IdentityIndexMap#pollFirst(Object)].
+    /// If there is none, `null` is returned. Otherwise, we can remove and return the value by the retrieved index from
+    /// the `byIndex` map.
     /// <br >
     ///
-    /// Otherwise, one of the indexes is removed from it by using [SequencedSet#removeFirst()], and then we can
-    /// remove and return the value by the retrieved index from the `byIndex` map.
-    /// <br >
-    ///
-    /// This method is the reason we use a [SequencedSet] to store the indexes. We can benefit from the fast operations
-    /// of a `Set` while being able to poll the head of the collection just like [Deque#poll()].
+    /// This method is the reason the indexes of a key are kept in insertion order. We can benefit from fast lookups
+    /// while being able to poll the head of the collection just like [Deque#poll()].
     /// <br >
     ///
     /// <b>Note</b>
-    /// The retrieved Set contains all the positions for the given `K` object. Which means that, no matter which
-    /// index we remove from the Set, it will point to the same `K` instance anyway. See [IdentityHashMap].
+    /// A key may be mapped to several positions. Which means that, no matter which index we remove,
+    /// it will point to the same `K` instance anyway. See [IdentityHashMap].
     public V remove(K key) {
-        SequencedSet<Integer> set = byKey.get(key);
-        if (set == null) return null;
-        Integer index = switch (set.size()) {
-            case 0 -> {
-                byKey.remove(key);
-                yield null;
-            }
-            case 1 -> {
-                byKey.remove(key);
-                yield set.removeFirst();
-            }
-            default -> set.removeFirst();
-        };
+        int index = byKey.pollFirst(key);
+        if (index == IdentityIndexMap.NO_INDEX) return null;
+        keyByIndex.remove(index);
         return byIndex.remove(index);
     }
 
@@ -320,20 +324,20 @@ public class IndexBiMap<K, V> {
     }
 
     /// The size of the `byKey` map cannot be retrieved by simply calling [Map#size()] because of duplicates.
-    /// For this reason, first we need to flatten the values into another collection, and then we can check the size of
-    /// that collection.
+    /// However, the `keyByIndex` map contains exactly one entry for every index in the `byKey` map, so we can check
+    /// its size instead, in constant time.
     ///
     /// @return whether the two maps have the same size
     /// @see #remove(Integer, boolean)
-    /// @see #byKeysFlattened()
     public boolean isValid() {
-        return size() == byKeysFlattened().size();
+        return size() == keyByIndex.size();
     }
 
-    /// Clears both the maps.
+    /// Clears all the maps.
     public void clear() {
         byIndex.clear();
         byKey.clear();
+        keyByIndex.clear();
     }
 
     /// Starting from the two mappings `[Integer, V]``[K, SequencedSet<Integer>]` this method wants to resolve
@@ -342,36 +346,39 @@ public class IndexBiMap<K, V> {
     /// Because the `byKey` map is designed to take duplicates into account, we would have to resolve the mappings
     /// as follows `[K, Collection<V>]`. However, by design, I decided that it's better to have a flat collection.
     ///
-    /// For this reason, the method iterates on each entry of the `byKey` map, and for each index in the [SequencedSet]
+    /// For this reason, the method iterates on each mapping of the `byKey` map, and for each index
     /// creates an [Entry] of type `[K, V]`, by resolving the index to a value using [#get(Integer)],
     /// and then adds it to a [List].
     ///
     /// Because of the nested for loops, this may be a costly operation, use only if necessary!
     public List<Entry<K, V>> resolve() {
-        List<Entry<K, V>> resolved = new ArrayList<>();
-        for (Entry<K, SequencedSet<Integer>> e : byKey.entrySet()) {
-            SequencedSet<Integer> set = e.getValue();
-            set.forEach(i -> resolved.add(Map.entry(e.getKey(), get(i))));
-        }
+        List<Entry<K, V>> resolved = new ArrayList<>(keyByIndex.size());
+        byKey.forEach((key, index) -> resolved.add(Map.entry(key, get(index))));
         return resolved;
     }
 
+    /// Calls the given action for every `[K, Integer]` mapping of the `byKey` map, without resolving them to a collection.
+    /// See [IdentityIndexMap#forEach(ObjIntConsumer)].
+    public void forEachKey(ObjIntConsumer<? super K> action) {
+        byKey.forEach(action);
+    }
+
     /// @return the map used to store the values by their index [Integer,V], a copy!
     public SequencedMap<Integer, V> getByIndex() {
         return byIndex;
     }
 
-    /// @return the map used to store the indexes by key [K,Integer], a copy!
+    /// @return the indexes by key [K,SequencedSet<Integer>], a copy! See [IdentityIndexMap#toMap()].
+    /// Prefer [#forEachKey(ObjIntConsumer)] to just iterate over the mappings
     public Map<K, SequencedSet<Integer>> getByKey() {
-        return byKey;
+        return byKey.toMap();
     }
 
-    /// Flattens the values of the `byKey` map (which uses mappings of type `[k, SequencedSet<Integer>]` to
-    /// a single [Set]. Uses [Stream#flatMap(Function)].
+    /// Flattens the indexes of the `byKey` map to a single [Set].
     protected Set<Integer> byKeysFlattened() {
-        return byKey.values().stream()
-            .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
+        Set<Integer> flattened = HashSet.newHashSet(keyByIndex.size());
+        byKey.forEach((k, index) -> flattened.add(index));
+        return flattened;
     }
 
     //================================================================================
@@ -381,7 +388,51 @@ public class IndexBiMap<K, V> {
     /// Extension of [IndexBiMap] that introduces polling methods: [#pollFirst()], [#pollLast()].
     ///
     /// Also base class to map the items of a `VirtualizedFX` container to [VFXCell] instances.
+    ///
+    /// Since the indexes of a state are (almost always) a contiguous range, the `byIndex` map here is an [IntRangeMap]
+    /// rather than a [TreeMap] (and so is the internal reverse mapping `[Integer -> K]`). This makes lookups, insertions
+    /// and removals by index O(1) and avoids allocating a tree node for every cell in every state. For the same reason,
+    /// there are primitive overloads of the lookup and removal methods: [#get(int)], [#contains(int)], [#remove(int)].
     public static class StateMapBase<K, T, C extends VFXCell<T>> extends IndexBiMap<K, C> {
+        private final IntRangeMap<C> cells;
+
+        public StateMapBase() {
+            this(0, -1);
+        }
+
+        /// Pre-sizes the `byIndex` map to hold the indexes in the given range. See [IntRangeMap#IntRangeMap(IntegerRange)].
+        public StateMapBase(IntegerRange range) {
+            this(
+                Utils.INVALID_RANGE.equals(range) ? 0 : range.getMin(),
+                Utils.INVALID_RANGE.equals(range) ? -1 : range.getMax()
+            );
+        }
+
+        /// Pre-sizes the `byIndex` map to hold the indexes in the range `[min, max]`. See [IntRangeMap#IntRangeMap(int, int)].
+        public StateMapBase(int min, int max) {
+            this(new IntRangeMap<>(min, max), new IntRangeMap<>(min, max), new IdentityIndexMap<>(Math.max(0, max - min + 1)));
+        }
+
+        private StateMapBase(IntRangeMap<C> cells, IntRangeMap<K> keys, IdentityIndexMap<K> byKey) {
+            super(cells, keys, byKey);
+            this.cells = cells;
+        }
+
+        /// Primitive version of [#get(Integer)].
+        public C get(int index) {
+            return cells.get(index);
+        }
+
+        /// Primitive version of [#contains(Integer)].
+        public boolean contains(int index) {
+            return cells.containsKey(index);
+        }
+
+        /// Primitive version of [#remove(Integer)]. Removes the value only from the `byIndex` map.
+        public C remove(int index) {
+            return cells.remove(index);
+        }
+
         /// Removes the first entry from the `byIndex` map by using [SequencedMap#pollFirstEntry()].
         ///
         /// Note that this won't remove the "corresponding" entry from the `byKey` map, leaving this in an invalid state.
@@ -399,6 +450,16 @@ public class IndexBiMap<K, V> {
         public Entry<Integer, C> pollLast() {
             return byIndex.pollLastEntry();
         }
+
+        /// Same as [#pollFirst()] but doesn't allocate an entry object. See [IntRangeMap#pollFirstValue()].
+        public C pollFirstValue() {
+            return cells.pollFirstValue();
+        }
+
+        /// Same as [#pollLast()] but doesn't allocate an entry object. See [IntRangeMap#pollLastValue()].
+        public C pollLastValue() {
+            return cells.pollLastValue();
+        }
     }
 
     /// Extension of [StateMapBase] which uses mappings of type: `[Integer -> VFXCell]`, `[T -> Collection<Integer>]`
@@ -406,7 +467,17 @@ public class IndexBiMap<K, V> {
     ///
     /// Used by some `VirtualizedFX`'s containers to store the state of the viewport, allowing high usability of
     /// cells, which translates to high performance.
-    public static class StateMap<T, C extends VFXCell<T>> extends StateMapBase<T, T, C> {}
+    public static class StateMap<T, C extends VFXCell<T>> extends StateMapBase<T, T, C> {
+        public StateMap() {}
+
+        public StateMap(IntegerRange range) {
+            super(range);
+        }
+
+        public StateMap(int min, int max) {
+            super(min, max);
+        }
+    }
 
     /// Extension of [StateMapBase] which uses mappings of type: `[Integer -> VFXCell]`, `[Column -> Collection<Integer>]`
     /// and `[Column -> Integer -> VFXCell]`.
@@ -428,14 +499,13 @@ public class IndexBiMap<K, V> {
             public void put(Integer index, VFXTableColumn<Object, ?> key, VFXCell<Object> val) {}
         };
 
-        /// Basically a shortcut for `byIndex.get(byKey.get(column).getFirst())`, `null` check included.
+        /// Basically a shortcut for `byIndex.get(byKey.first(column))`, `null` check included.
         ///
-        /// @return the cell mapped to the given column or `null` if the indexes [Set] associated to the column
-        /// is empty
+        /// @return the cell mapped to the given column or `null` if the column is not mapped to any index
         public C getSingle(VFXTableColumn<T, ?> column) {
-            SequencedSet<Integer> set = byKey.get(column);
-            if (set == null) return null;
-            return byIndex.get(set.getFirst());
+            int index = byKey.first(column);
+            if (index == IdentityIndexMap.NO_INDEX) return null;
+            return get(index);
         }
     }
 }
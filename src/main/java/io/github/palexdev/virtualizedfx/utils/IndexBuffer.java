@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.Arrays;
+
+import io.github.palexdev.mfxcore.base.beans.range.ExcludingIntegerRange;
+
+/// A minimal, growable buffer of primitive `int`s, meant to be reused as scratch space by the containers' managers.
+///
+/// The state computations often need to collect the indexes for which no cell was found in the current state, so that
+/// they can be processed later (see the various `remainingAlgorithm(...)` methods). Collections like [ExcludingIntegerRange]
+/// or a `LinkedHashSet<Integer>` would box every index and allocate nodes on every call. This instead keeps the indexes in
+/// an array that is never shrunk, so once it has grown to the size of the viewport, a steady-state scroll doesn't
+/// allocate anything.
+///
+/// Indexes are kept in insertion order, there are no checks for duplicates.
+///
+/// **Note:** since a buffer is shared by the computations of a manager, its content is only valid until the next
+/// [#clear()]. Do not hold on to it.
+public class IndexBuffer {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] data;
+    private int size;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public IndexBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IndexBuffer(int capacity) {
+        data = new int[Math.max(1, capacity)];
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Appends the given index to the buffer, growing the backing array if needed.
+    public void add(int index) {
+        if (size == data.length) data = Arrays.copyOf(data, data.length << 1);
+        data[size++] = index;
+    }
+
+    /// @return the index at the given position in the buffer
+    /// @throws IndexOutOfBoundsException if the position is not in `[0, size)`
+    public int get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException(i);
+        return data[i];
+    }
+
+    /// Empties the buffer. The backing array is retained for reuse.
+    public IndexBuffer clear() {
+        size = 0;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// @return the length of the backing array
+    public int capacity() {
+        return data.length;
+    }
+
+    /// @return a copy of the indexes in the buffer
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
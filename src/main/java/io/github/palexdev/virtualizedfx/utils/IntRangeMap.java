@@ -0,0 +1,416 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.*;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+
+/// A [SequencedMap] specialized for `int` keys that are "close" to each other, backed by a circular array.
+///
+/// This is meant to replace [TreeMap] in the containers' states. The indexes in a state are (almost always) a contiguous
+/// range, which makes a tree an overkill: every insertion allocates a node and boxes the index, every lookup walks
+/// the tree. Here instead, the values are stored in an array, and the slot for a key is given by its distance from the
+/// first key of the array's window, which makes `get`, `put` and `remove` O(1) and allocation-free (as long as the
+/// window doesn't need to grow).
+///
+/// **The window**
+///
+/// The array covers a window of keys `[base, base + capacity)`. The array is used as a ring buffer, so that when a
+/// key outside the window is added, if the span of the keys still fits in the capacity, the window is just 'slid' by
+/// moving the head pointer, no copy needed. Otherwise, the array grows.
+///
+/// This also means that memory usage depends on the span of the keys, `max - min + 1`, not on their number.
+/// So, this is not a good fit for sparse keys.
+///
+/// **Ordering**
+///
+/// Entries are ordered by key, exactly like a [TreeMap]. The smallest and largest keys are tracked, so that
+/// [#firstEntry()], [#lastEntry()], [#pollFirstEntry()] and [#pollLastEntry()] are fast.
+/// Iteration is O(span).
+///
+/// **Limitations**
+///
+/// - `null` values are not allowed
+///
+/// - [#reversed()] returns a copy and not a view
+public class IntRangeMap<V> extends AbstractMap<Integer, V> implements SequencedMap<Integer, V> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private static final Object[] EMPTY = new Object[0];
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] slots;
+    private int head;
+    private int base;
+    private int lo = 0;
+    private int hi = -1;
+    private int size;
+    private int modCount;
+
+    private EntrySet entrySet;
+    private Values values;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public IntRangeMap() {
+        slots = EMPTY;
+    }
+
+    /// Pre-sizes the map to contain exactly the keys in the given range.
+    public IntRangeMap(IntegerRange range) {
+        this(range.getMin(), range.getMax());
+    }
+
+    /// Pre-sizes the map to contain exactly the keys in the given range, `[min, max]`.
+    /// If the range is invalid (`max < min`), the map will allocate its array lazily.
+    public IntRangeMap(int min, int max) {
+        if (max < min) {
+            slots = EMPTY;
+            return;
+        }
+        long span = (long) max - min + 1;
+        if (span > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Range [%d, %d] is too big".formatted(min, max));
+        slots = new Object[(int) span];
+        base = min;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the value mapped to the given key or `null`
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (size == 0 || key < lo || key > hi) return null;
+        return (V) slots[slot(key)];
+    }
+
+    /// @return whether a value is mapped to the given key
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /// Maps the given value to the given key.
+    ///
+    /// @return the previous value mapped to the key, or `null`
+    /// @throws NullPointerException if the value is `null`
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        Objects.requireNonNull(value, "Null values are not allowed");
+        ensureWindow(key);
+        int s = slot(key);
+        V old = (V) slots[s];
+        slots[s] = value;
+        if (old == null) {
+            if (size == 0) {
+                lo = key;
+                hi = key;
+            } else {
+                if (key < lo) lo = key;
+                if (key > hi) hi = key;
+            }
+            size++;
+            modCount++;
+        }
+        return old;
+    }
+
+    /// Removes the value mapped to the given key.
+    ///
+    /// @return the removed value, or `null` if there was none
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (size == 0 || key < lo || key > hi) return null;
+        int s = slot(key);
+        V old = (V) slots[s];
+        if (old == null) return null;
+        slots[s] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            lo = 0;
+            hi = -1;
+        } else if (key == lo) {
+            do lo++; while (slots[slot(lo)] == null);
+        } else if (key == hi) {
+            do hi--; while (slots[slot(hi)] == null);
+        }
+        return old;
+    }
+
+    /// @return the smallest key in the map
+    /// @throws NoSuchElementException if the map is empty
+    public int firstKey() {
+        if (size == 0) throw new NoSuchElementException();
+        return lo;
+    }
+
+    /// @return the largest key in the map
+    /// @throws NoSuchElementException if the map is empty
+    public int lastKey() {
+        if (size == 0) throw new NoSuchElementException();
+        return hi;
+    }
+
+    /// Removes and returns the value mapped to the smallest key, or `null` if the map is empty.
+    /// Unlike [#pollFirstEntry()], this doesn't allocate an entry object.
+    public V pollFirstValue() {
+        return size == 0 ? null : remove(lo);
+    }
+
+    /// Removes and returns the value mapped to the largest key, or `null` if the map is empty.
+    /// Unlike [#pollLastEntry()], this doesn't allocate an entry object.
+    public V pollLastValue() {
+        return size == 0 ? null : remove(hi);
+    }
+
+    /// @return the number of keys the map can hold without growing
+    public int capacity() {
+        return slots.length;
+    }
+
+    /// Converts a key to its slot in the array. The key must be in the window!
+    private int slot(int key) {
+        int i = head + (key - base);
+        return i >= slots.length ? i - slots.length : i;
+    }
+
+    /// Ensures that the given key falls in the array's window. If possible, the window is slid, otherwise the array grows.
+    private void ensureWindow(int key) {
+        int len = slots.length;
+        if (size == 0) {
+            if (len == 0) slots = new Object[DEFAULT_CAPACITY];
+            else if ((long) key - base >= 0 && (long) key - base < len) return;
+            base = key;
+            head = 0;
+            return;
+        }
+
+        long off = (long) key - base;
+        if (off >= 0 && off < len) return;
+
+        int newLo = Math.min(lo, key);
+        int newHi = Math.max(hi, key);
+        long span = (long) newHi - newLo + 1;
+        if (span <= len) {
+            // Slide: the physical position of each key doesn't change
+            int p = (int) Math.floorMod((long) head + newLo - base, (long) len);
+            head = p;
+            base = newLo;
+            return;
+        }
+
+        if (span > Integer.MAX_VALUE - 8) throw new IllegalStateException("Keys span is too big: " + span);
+        int newLen = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(span, (long) len + (len >> 1)));
+        Object[] arr = new Object[newLen];
+        for (int k = lo; k <= hi; k++) {
+            arr[k - newLo] = slots[slot(k)];
+        }
+        slots = arr;
+        head = 0;
+        base = newLo;
+    }
+
+    private Entry<Integer, V> entry(int key, V value) {
+        return new SimpleImmutableEntry<>(key, value);
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        return (key instanceof Integer i) ? get(i.intValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(Integer key, V value) {
+        return put(key.intValue(), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return (key instanceof Integer i) ? remove(i.intValue()) : null;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) return;
+        for (int k = lo; k <= hi; k++) slots[slot(k)] = null;
+        size = 0;
+        lo = 0;
+        hi = -1;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<Integer, V> firstEntry() {
+        return size == 0 ? null : entry(lo, (V) slots[slot(lo)]);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Entry<Integer, V> lastEntry() {
+        return size == 0 ? null : entry(hi, (V) slots[slot(hi)]);
+    }
+
+    @Override
+    public Entry<Integer, V> pollFirstEntry() {
+        if (size == 0) return null;
+        int key = lo;
+        return entry(key, remove(key));
+    }
+
+    @Override
+    public Entry<Integer, V> pollLastEntry() {
+        if (size == 0) return null;
+        int key = hi;
+        return entry(key, remove(key));
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// **Note:** this returns a reversed copy of this map, not a view.
+    @Override
+    public SequencedMap<Integer, V> reversed() {
+        SequencedMap<Integer, V> reversed = new LinkedHashMap<>();
+        for (int k = hi; k >= lo && size > 0; k--) {
+            V v = get(k);
+            if (v != null) reversed.put(k, v);
+        }
+        return reversed;
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        if (entrySet == null) entrySet = new EntrySet();
+        return entrySet;
+    }
+
+    @Override
+    public Collection<V> values() {
+        if (values == null) values = new Values();
+        return values;
+    }
+
+    //================================================================================
+    // Internal Classes
+    //================================================================================
+
+    /// Base iterator which walks the keys from the smallest to the largest, skipping empty slots.
+    private abstract class RangeIterator<E> implements Iterator<E> {
+        int next;
+        int last = Integer.MIN_VALUE;
+        boolean hasLast = false;
+        int expectedModCount = modCount;
+
+        RangeIterator() {
+            next = size == 0 ? Integer.MAX_VALUE : lo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return size > 0 && next <= hi;
+        }
+
+        @SuppressWarnings("unchecked")
+        V nextValue() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+            last = next;
+            hasLast = true;
+            V v = (V) slots[slot(next)];
+            do next++; while (next <= hi && slots[slot(next)] == null);
+            return v;
+        }
+
+        @Override
+        public void remove() {
+            if (!hasLast) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            IntRangeMap.this.remove(last);
+            hasLast = false;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Integer, V>> {
+        @Override
+        public Iterator<Entry<Integer, V>> iterator() {
+            return new RangeIterator<>() {
+                @Override
+                public Entry<Integer, V> next() {
+                    V v = nextValue();
+                    return entry(last, v);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            IntRangeMap.this.clear();
+        }
+    }
+
+    private class Values extends AbstractCollection<V> {
+        @Override
+        public Iterator<V> iterator() {
+            return new RangeIterator<>() {
+                @Override
+                public V next() {
+                    return nextValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            IntRangeMap.this.clear();
+        }
+    }
+}
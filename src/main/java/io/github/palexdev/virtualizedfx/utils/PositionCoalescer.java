@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.function.Consumer;
+
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
+import io.github.palexdev.virtualizedfx.base.VFXContext;
+import javafx.application.Platform;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/// Opt-in service that coalesces the position updates of virtualized containers to at most one per pulse.
+///
+/// By default, the skins react to every change of the `vPos` and `hPos` properties by immediately computing a new state.
+/// Trackpads, smooth scrolling and animations, however, can set the position several times between two frames, and
+/// only the last state is ever displayed.
+///
+/// When this service is installed, the skins delegate the position changes to [#schedule(VFXContainer, Orientation, Consumer)].
+/// The first change on an axis marks it as dirty and registers a pre-layout pulse listener on the container's scene,
+/// [Scene#addPreLayoutPulseListener(Runnable)], and requests a pulse; further changes on the same axis before the pulse are counted as
+/// avoided updates, [#getAvoidedUpdates()]. On the next pulse, before CSS and layout, the state update runs once per
+/// dirty axis, [#flush()].
+///
+/// If the container is not in a scene, updates run immediately since there would be no pulse to wait for.
+///
+/// The service lives in the container's [VFXContext] and can be added and removed by [#install(Node)] and [#uninstall(Node)].
+public class PositionCoalescer {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private final Node node;
+    private final Runnable pulseListener = this::flush;
+    private Scene scene;
+
+    private Consumer<Orientation> vUpdate;
+    private Consumer<Orientation> hUpdate;
+    private long performedUpdates = 0;
+    private long avoidedUpdates = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    protected PositionCoalescer(Node node) {
+        this.node = node;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Creates a new [PositionCoalescer] and registers it in the given container's [VFXContext].
+    ///
+    /// Since the context only keeps weak references to its services, the instance is also stored in the node's
+    /// [Node#getProperties()] map, so that it lives as long as the container.
+    public static <C extends Node & VFXContainer<?>> PositionCoalescer install(C container) {
+        PositionCoalescer coalescer = new PositionCoalescer(container);
+        container.getProperties().put(PositionCoalescer.class, coalescer);
+        container.context().set(PositionCoalescer.class, coalescer);
+        return coalescer;
+    }
+
+    /// Removes the [PositionCoalescer] from the given container, pending updates are executed immediately.
+    public static <C extends Node & VFXContainer<?>> void uninstall(C container) {
+        PositionCoalescer coalescer = container.context().get(PositionCoalescer.class);
+        container.getProperties().remove(PositionCoalescer.class);
+        container.context().reset(PositionCoalescer.class);
+        if (coalescer != null) {
+            coalescer.unregister();
+            coalescer.flush();
+        }
+    }
+
+    /// If a [PositionCoalescer] is installed in the given container, delegates to [#schedule(Orientation, Consumer)],
+    /// otherwise the update is executed immediately.
+    public static void schedule(VFXContainer<?> container, Orientation axis, Consumer<Orientation> update) {
+        PositionCoalescer coalescer = container.context().get(PositionCoalescer.class);
+        if (coalescer == null) {
+            update.accept(axis);
+            return;
+        }
+        coalescer.schedule(axis, update);
+    }
+
+    /// If a [PositionCoalescer] is installed in the given container, discards any pending update, see [#cancel()].
+    /// Skins call this on dispose, since they cannot handle updates anymore.
+    public static void cancel(VFXContainer<?> container) {
+        PositionCoalescer coalescer = container.context().get(PositionCoalescer.class);
+        if (coalescer != null) coalescer.cancel();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Marks the given axis as dirty and ensures that the given update will run on the next pulse.
+    ///
+    /// If the axis is already dirty, the update replaces the pending one, and the avoided updates counter is incremented.
+    /// If the node is not in a scene, pending updates run immediately.
+    public void schedule(Orientation axis, Consumer<Orientation> update) {
+        boolean dirty = isDirty(axis);
+        if (axis == Orientation.VERTICAL) {
+            vUpdate = update;
+        } else {
+            hUpdate = update;
+        }
+
+        Scene current = node.getScene();
+        if (current == null) {
+            unregister();
+            flush();
+            return;
+        }
+        if (scene != current) {
+            unregister();
+            scene = current;
+            scene.addPreLayoutPulseListener(pulseListener);
+        }
+        if (dirty) {
+            avoidedUpdates++;
+            return;
+        }
+        Platform.requestNextPulse();
+    }
+
+    /// Runs the pending updates, vertical first.
+    /// This is called automatically on pulse, but can also be used to force the state to be up to date.
+    ///
+    /// Note that the pulse listener stays registered as long as the container is in the same scene, since removing it
+    /// while the scene is iterating over its listeners is not allowed.
+    public void flush() {
+        Consumer<Orientation> v = vUpdate;
+        Consumer<Orientation> h = hUpdate;
+        vUpdate = null;
+        hUpdate = null;
+        if (v != null) {
+            v.accept(Orientation.VERTICAL);
+            performedUpdates++;
+        }
+        if (h != null) {
+            h.accept(Orientation.HORIZONTAL);
+            performedUpdates++;
+        }
+    }
+
+    /// Discards any pending update and unregisters the pulse listener.
+    public void cancel() {
+        unregister();
+        vUpdate = null;
+        hUpdate = null;
+    }
+
+    /// @return whether there are pending updates for the given axis
+    public boolean isDirty(Orientation axis) {
+        return axis == Orientation.VERTICAL ? vUpdate != null : hUpdate != null;
+    }
+
+    /// Resets both the performed and avoided updates counters.
+    public void resetCounters() {
+        performedUpdates = 0;
+        avoidedUpdates = 0;
+    }
+
+    protected void unregister() {
+        if (scene == null) return;
+        scene.removePreLayoutPulseListener(pulseListener);
+        scene = null;
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+
+    /// @return the number of state updates that actually ran since the last [#resetCounters()]
+    public long getPerformedUpdates() {
+        return performedUpdates;
+    }
+
+    /// @return the number of position changes that did not cause a state update, since they were coalesced with a
+    /// pending one
+    public long getAvoidedUpdates() {
+        return avoidedUpdates;
+    }
+}
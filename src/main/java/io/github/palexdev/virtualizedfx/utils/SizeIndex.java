@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.Arrays;
+
+/// A prefix-sum index of sizes, backed by a Fenwick tree (also known as Binary Indexed Tree), used by containers which
+/// allow their cells to have different sizes along the virtualized axis.
+///
+/// Every element has a size given by `base + delta`. The `base` is shared by all the elements, it's the size used for
+/// elements that have never been measured (an estimate), while the `delta` is specific to each element and is stored in
+/// the tree. This has two nice consequences:
+///
+/// 1) As long as no element has a size different from the base, the tree is not even allocated, and all the computations
+/// fall back to simple multiplications/divisions, exactly like a fixed size container would do.
+///
+/// 2) Changing the base, [#setBase(double)], is an O(1) operation, no matter how many elements there are.
+///
+/// Complexity:
+///
+/// - [#get(int)], [#set(int, double)], [#offsetOf(int)], [#indexAt(double)] are O(log n)
+///
+/// - [#total()] is O(log n), O(1) if no delta was ever stored
+///
+/// - [#setSize(int)] is O(1) when growing within the capacity, otherwise O(n) (amortized thanks to the growth policy)
+///
+/// - [#insert(int, int)] and [#remove(int, int)] are O(1)/O(k log n) when operating at the end, O(n) otherwise
+///
+/// Memory usage is one `double` per element, allocated lazily on the first delta stored, see above.
+///
+/// **Note:** all sizes must be non-negative, otherwise the prefix sums would not be monotonic and [#indexAt(double)]
+/// would produce garbage results.
+public class SizeIndex {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private double[] tree; // 1-based!
+    private int size;
+    private double base;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public SizeIndex(double base) {
+        this(0, base);
+    }
+
+    public SizeIndex(int size, double base) {
+        if (size < 0) throw new IllegalArgumentException("Size cannot be negative");
+        this.size = size;
+        this.base = base;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the size of the element at the given index, which is the sum of [#getBase()] and its delta
+    public double get(int index) {
+        checkIndex(index);
+        return base + delta(index);
+    }
+
+    /// Sets the size of the element at the given index. Internally, only the difference with [#getBase()] is stored.
+    ///
+    /// @return whether the size actually changed
+    public boolean set(int index, double value) {
+        checkIndex(index);
+        double diff = (value - base) - delta(index);
+        if (diff == 0.0) return false;
+        if (tree == null) tree = new double[size + 1];
+        add(index, diff);
+        return true;
+    }
+
+    /// Resets the element at the given index to the base size, as if it was never measured.
+    public void reset(int index) {
+        checkIndex(index);
+        if (tree == null) return;
+        double delta = delta(index);
+        if (delta != 0.0) add(index, -delta);
+    }
+
+    /// Resets all the elements to the base size. This also releases the tree's memory.
+    public void clear() {
+        tree = null;
+    }
+
+    /// @return the sum of the sizes of all the elements before the given index, which in other words is the position at
+    /// which the element starts. Accepts values in the range `[0, size]`
+    public double offsetOf(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index %d out of bounds for size %d".formatted(index, size));
+        return index * base + prefixDelta(index);
+    }
+
+    /// @return the sum of the sizes of all the elements
+    public double total() {
+        return offsetOf(size);
+    }
+
+    /// Finds the index of the element which contains the given offset, so that `offsetOf(i) <= offset < offsetOf(i + 1)`.
+    /// Offsets before the first element will return 0, offsets beyond the last element will return `size - 1`.
+    /// If the index is empty, returns -1.
+    ///
+    /// This uses the binary lifting technique on the Fenwick tree, so the search is done in O(log n) without
+    /// computing any prefix sum separately.
+    public int indexAt(double offset) {
+        if (size == 0) return -1;
+        if (offset <= 0) return 0;
+        if (tree == null) {
+            if (base <= 0) return size - 1;
+            return (int) Math.min(size - 1, Math.floor(offset / base));
+        }
+
+        int pos = 0;
+        double acc = 0.0;
+        int n = tree.length - 1;
+        for (int step = Integer.highestOneBit(n); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next > n) continue;
+            double sum = acc + tree[next] + next * base;
+            if (sum <= offset) {
+                pos = next;
+                acc += tree[next];
+            }
+        }
+        return Math.min(pos, size - 1);
+    }
+
+    /// Inserts the given number of unmeasured (base size) elements at the given index.
+    /// Elements at and after the index are shifted.
+    public void insert(int index, int count) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index %d out of bounds for size %d".formatted(index, size));
+        if (count <= 0) return;
+        if (tree == null || index == size) {
+            setSize(size + count);
+            return;
+        }
+
+        double[] values = toValues();
+        double[] shifted = new double[size + count];
+        System.arraycopy(values, 0, shifted, 0, index);
+        System.arraycopy(values, index, shifted, index + count, size - index);
+        size += count;
+        build(shifted, shifted.length);
+    }
+
+    /// Removes the given number of elements starting from the given index. Elements after the removed ones are shifted.
+    public void remove(int index, int count) {
+        if (count <= 0) return;
+        if (index < 0 || index + count > size)
+            throw new IndexOutOfBoundsException("Range [%d, %d) out of bounds for size %d".formatted(index, index + count, size));
+        if (tree == null || index + count == size) {
+            setSize(size - count);
+            return;
+        }
+
+        double[] values = toValues();
+        System.arraycopy(values, index + count, values, index, size - index - count);
+        size -= count;
+        build(values, size);
+    }
+
+    /// Sets the number of elements in the index. New elements have the base size, removed elements are discarded.
+    public void setSize(int newSize) {
+        if (newSize < 0) throw new IllegalArgumentException("Size cannot be negative");
+        if (newSize == size) return;
+        if (tree == null) {
+            size = newSize;
+            return;
+        }
+
+        if (newSize < size) {
+            // Discard the tail deltas, point updates are enough if the tail is small
+            if ((long) (size - newSize) * 32 < size) {
+                for (int i = newSize; i < size; i++) reset(i);
+                size = newSize;
+                return;
+            }
+            double[] values = toValues();
+            size = newSize;
+            build(values, newSize);
+            return;
+        }
+
+        // Growing, new deltas are all 0, nothing to do if there's enough capacity
+        if (newSize <= capacity()) {
+            size = newSize;
+            return;
+        }
+        double[] values = toValues();
+        size = newSize;
+        build(values, Math.max(newSize, capacity() + (capacity() >> 1)));
+    }
+
+    /// @return the number of elements in the index
+    public int size() {
+        return size;
+    }
+
+    /// @return the size of elements that have never been measured
+    public double getBase() {
+        return base;
+    }
+
+    /// Sets the size of elements that have never been measured. Since measured elements are stored as deltas from the
+    /// base, you may want to [#clear()] the index too, depending on your needs.
+    public void setBase(double base) {
+        this.base = base;
+    }
+
+    /// @return whether at least one element has a size different from the base
+    public boolean hasDeltas() {
+        return tree != null;
+    }
+
+    //================================================================================
+    // Internal Methods
+    //================================================================================
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index %d out of bounds for size %d".formatted(index, size));
+    }
+
+    private int capacity() {
+        return tree == null ? 0 : tree.length - 1;
+    }
+
+    /// Fenwick point update. The tree must be allocated!
+    private void add(int index, double diff) {
+        int n = tree.length - 1;
+        for (int i = index + 1; i <= n; i += i & -i) tree[i] += diff;
+    }
+
+    /// Fenwick prefix query, the sum of the deltas of the elements in `[0, index)`.
+    private double prefixDelta(int index) {
+        if (tree == null) return 0.0;
+        double sum = 0.0;
+        for (int i = index; i > 0; i -= i & -i) sum += tree[i];
+        return sum;
+    }
+
+    /// Computes the delta of the single element at the given index in O(log n), without needing a separate array.
+    private double delta(int index) {
+        if (tree == null) return 0.0;
+        int i = index + 1;
+        double value = tree[i];
+        int parent = i - (i & -i);
+        for (int j = i - 1; j > parent; j -= j & -j) value -= tree[j];
+        return value;
+    }
+
+    /// Converts the tree back to the plain array of deltas in O(n). The returned array has the same length as the current
+    /// capacity and is 0-based.
+    private double[] toValues() {
+        int n = tree.length - 1;
+        double[] copy = Arrays.copyOf(tree, tree.length);
+        for (int i = n; i > 0; i--) {
+            int j = i + (i & -i);
+            if (j <= n) copy[j] -= copy[i];
+        }
+        return Arrays.copyOfRange(copy, 1, Math.max(n, size) + 1);
+    }
+
+    /// Builds the tree from the given array of deltas in O(n), only the first [#size()] values are considered,
+    /// the others are treated as 0.
+    private void build(double[] values, int capacity) {
+        double[] tree = new double[capacity + 1];
+        System.arraycopy(values, 0, tree, 1, Math.min(size, values.length));
+        for (int i = 1; i <= capacity; i++) {
+            int j = i + (i & -i);
+            if (j <= capacity) tree[j] += tree[i];
+        }
+        this.tree = tree;
+    }
+}
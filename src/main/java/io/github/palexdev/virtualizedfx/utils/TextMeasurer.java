@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.Node;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/// Measures the width of strings rendered with a given [Font], without the need of real nodes in the scene graph.
+///
+/// A single [Text] node is re-used for all the measurements, and the results are cached by string, so that measuring
+/// the same text twice is just a map lookup. This is way cheaper than [Node#applyCss()] + [Node#prefWidth(double)]
+/// on a cell, but of course it only accounts for the text, any padding or graphic must be added by the caller.
+///
+/// Since the [Text] node is never attached to a scene, a measurer can be used outside the JavaFX thread.
+/// However, instances are not thread-safe, each thread should use its own.
+///
+/// The cache is bounded, when it reaches the maximum size it is simply cleared.
+public class TextMeasurer {
+    //================================================================================
+    // Properties
+    //================================================================================
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    private final Text text = new Text();
+    private final Font font;
+    private final Map<String, Double> cache = new HashMap<>();
+    private final int cacheSize;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public TextMeasurer(Font font) {
+        this(font, DEFAULT_CACHE_SIZE);
+    }
+
+    public TextMeasurer(Font font, int cacheSize) {
+        this.font = font != null ? font : Font.getDefault();
+        this.cacheSize = cacheSize;
+        text.setFont(this.font);
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// @return the width of the given string, rounded up to the nearest integer like labels do. `null` and
+    /// empty strings have 0 width
+    public double measure(String s) {
+        if (s == null || s.isEmpty()) return 0.0;
+        Double w = cache.get(s);
+        if (w != null) return w;
+
+        text.setText(s);
+        w = Math.ceil(text.getLayoutBounds().getWidth());
+        if (cache.size() >= cacheSize) cache.clear();
+        cache.put(s, w);
+        return w;
+    }
+
+    /// @return the maximum width among the given strings, 0 if there are none
+    public double measureMax(Iterable<String> strings) {
+        double max = 0.0;
+        for (String s : strings) {
+            max = Math.max(max, measure(s));
+        }
+        return max;
+    }
+
+    /// Clears the widths cache.
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /// @return the font used to measure strings
+    public Font getFont() {
+        return font;
+    }
+}
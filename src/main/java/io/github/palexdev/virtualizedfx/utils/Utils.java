@@ -20,9 +20,14 @@ package io.github.palexdev.virtualizedfx.utils;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import javafx.collections.ListChangeListener.Change;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
 
 public class Utils {
     //================================================================================
@@ -34,6 +39,8 @@ public class Utils {
     /// Avoids having to instantiate a new range every time such values are needed.
     public static final IntegerRange INVALID_RANGE = IntegerRange.of(-1);
 
+    private static Group detachedRoot;
+
     //================================================================================
     // Constructors
     //================================================================================
@@ -55,4 +62,77 @@ public class Utils {
             return INVALID_RANGE;
         }
     }
+
+    /// Replays the given [Change] on the given indexes, in place. Each element becomes the new index of the item that was
+    /// at that index before the change, or `-1` if the item was removed. Sub-changes are processed in order as follows:
+    ///
+    /// - permutations map the indexes through [Change#getPermutation(int)]
+    ///
+    /// - updates are ignored, the items are still at the same positions
+    ///
+    /// - removals mark the indexes in `[from, from + removedSize)` as removed, and shift the following ones
+    ///
+    /// - additions shift the indexes at and after `from`
+    ///
+    /// The change is reset before returning, so that it can still be iterated by others.
+    ///
+    /// @return `false` if a replacement overlaps any of the indexes, in which case the content of the array is undefined.
+    /// Containers use this to fall back to their full by-item algorithm, since a replacement (think of a `setAll(...)`
+    /// call) likely moves many of the old items to different positions
+    public static boolean shiftIndexes(Change<?> change, int[] indexes) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int to = change.getTo();
+                for (int i = 0; i < indexes.length; i++) {
+                    int index = indexes[i];
+                    if (index >= from && index < to) indexes[i] = change.getPermutation(index);
+                }
+                continue;
+            }
+            if (change.wasUpdated()) continue;
+
+            int removed = change.getRemovedSize();
+            int delta = change.getAddedSize() - removed;
+            for (int i = 0; i < indexes.length; i++) {
+                int index = indexes[i];
+                if (index < from) continue;
+                if (index < from + removed) {
+                    if (change.wasReplaced()) {
+                        change.reset();
+                        return false;
+                    }
+                    indexes[i] = -1;
+                    continue;
+                }
+                indexes[i] = index + delta;
+            }
+        }
+        change.reset();
+        return true;
+    }
+
+    /// Applies CSS to the given node, which must not be part of the scene graph, by temporarily adding it to a detached
+    /// [Scene] and calling [Node#applyCss()]. JavaFX only resolves styles and creates skins for nodes which are in a
+    /// scene, so this allows doing it before the node is displayed, e.g. to warm up cells or to measure them.
+    ///
+    /// The given stylesheets are set on the detached scene. Note that selectors depending on the hierarchy in which
+    /// the node will be displayed (e.g. `.table .cell`) cannot match here.
+    ///
+    /// Must be called on the JavaFX thread! Nodes which already have a parent are ignored.
+    public static void applyCssDetached(Node node, List<String> stylesheets) {
+        if (node == null || node.getParent() != null) return;
+        if (detachedRoot == null) {
+            detachedRoot = new Group();
+            new Scene(detachedRoot);
+        }
+        Scene scene = detachedRoot.getScene();
+        if (!scene.getStylesheets().equals(stylesheets)) scene.getStylesheets().setAll(stylesheets);
+        detachedRoot.getChildren().add(node);
+        try {
+            node.applyCss();
+        } finally {
+            detachedRoot.getChildren().remove(node);
+        }
+    }
 }
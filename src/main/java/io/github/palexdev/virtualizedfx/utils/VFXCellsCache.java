@@ -20,12 +20,19 @@ package io.github.palexdev.virtualizedfx.utils;
 
 import java.util.*;
 
+import io.github.palexdev.virtualizedfx.base.VFXContext;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
 import io.github.palexdev.virtualizedfx.list.VFXList;
 import io.github.palexdev.virtualizedfx.properties.CellFactory;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.util.Duration;
 
 /// Simple cache implementation for virtualized containers that produce cells of type [VFXCell].
-/// Cells are stored in a [CellsQueue], a special extension of [LinkedList].
+/// Cells are stored in a [CellsQueue], a special bounded [Queue] backed by a ring buffer.
 /// The cache can be limited in the maximum number of cells to keep by setting its capacity, see [VFXList#cacheCapacityProperty()].
 /// Cells won't be added if the capacity is reached and will be disposed immediately instead.
 ///
@@ -39,6 +46,12 @@ import io.github.palexdev.virtualizedfx.properties.CellFactory;
 ///
 /// **Beware**, in order for this to work, the cells you are using must allow `null` items!
 ///
+/// Building a lot of cells at once can freeze the UI, especially for containers with many caches like the `VFXTable`.
+/// For this reason, the cache can also be populated incrementally, see [#populateAsync(int, Duration)]. Cells are
+/// created and skinned on the FX thread at every pulse, within a time budget, while the container is already interactive.
+/// The progress of the operation is exposed by [#populateProgressProperty()]. To populate many caches with a single
+/// budget per pulse, see [CachesPopulator].
+///
 /// **Dev Notes**
 ///
 /// I often thought about optimizing the cache by using a `Map` instead of a `Queue` to store the cached cells.
@@ -71,9 +84,14 @@ public class VFXCellsCache<T, C extends VFXCell<T>> {
     //================================================================================
     // Properties
     //================================================================================
+    public static final Duration DEFAULT_POPULATE_BUDGET = Duration.millis(4);
+
     private final CellFactory<T, C> cellFactory;
     private final CellsQueue<T, C> queue = new CellsQueue<>(0);
 
+    private CachesPopulator populator;
+    private final ReadOnlyDoubleWrapper populateProgress = new ReadOnlyDoubleWrapper(0.0);
+
     //================================================================================
     // Constructors
     //================================================================================
@@ -98,27 +116,115 @@ public class VFXCellsCache<T, C extends VFXCell<T>> {
         if (queue.size() == queue.getCapacity()) return this; // Already at capacity
         if (cellFactory == null) throw new NullPointerException("Cannot populate cache as the cell factory is null");
 
+        int created = 0;
+        C c;
         do {
-            C c = cellFactory.create(null);
+            c = cellFactory.create(null);
             queue.add(c);
+            created++;
         } while (queue.size() != queue.getCapacity());
+        VFXMetrics.onCachePopulated(context(), c, created);
+        updateProgress();
         return this;
     }
 
+    /// Convenience method for [#populateAsync(int, Duration)], which uses [Integer#MAX_VALUE] as the maximum number
+    /// of cells per pulse and [#DEFAULT_POPULATE_BUDGET] as the time budget.
+    public VFXCellsCache<T, C> populateAsync() {
+        return populateAsync(Integer.MAX_VALUE, DEFAULT_POPULATE_BUDGET);
+    }
+
+    /// Incremental version of [#populate()]. Instead of filling the cache in one go, this creates at most
+    /// `cellsPerPulse` cells every pulse, and stops earlier if the given time budget is exceeded. At least one cell is
+    /// created every pulse, so that the operation always makes progress.
+    ///
+    /// The operation stops automatically once the cache is full, and can be stopped at any time with [#stopPopulating()]
+    /// or [#clear()]. Cells taken from the cache while the operation is running will be replaced, since the goal is
+    /// to reach the capacity.
+    ///
+    /// The progress is given by the ratio between the cache's size and its capacity, see [#populateProgressProperty()].
+    ///
+    /// **Note** that this must be called on the FX thread. Unlike [#populate()], every cell is also skinned when created,
+    /// see [#warm(VFXCell)]. The work is driven by a [CachesPopulator].
+    ///
+    /// @throws NullPointerException if [#getCellFactory()] returns `null`
+    /// @throws IllegalArgumentException if `cellsPerPulse` is lesser than 1
+    public VFXCellsCache<T, C> populateAsync(int cellsPerPulse, Duration budget) {
+        if (cellFactory == null) throw new NullPointerException("Cannot populate cache as the cell factory is null");
+        stopPopulating();
+        populator = new CachesPopulator(List.of(this), cellsPerPulse, budget);
+        updateProgress();
+        populator.start();
+        return this;
+    }
+
+    /// Stops the operation started by [#populateAsync(int, Duration)], if running. Cells already created are kept.
+    public VFXCellsCache<T, C> stopPopulating() {
+        if (populator != null) {
+            populator.stop();
+            populator = null;
+        }
+        return this;
+    }
+
+    /// @return whether the cache is being populated incrementally, see [#populateAsync(int, Duration)]
+    public boolean isPopulating() {
+        return populator != null && populator.isRunning();
+    }
+
+    /// Creates a single cell with the cell factory, skins it with [#warm(VFXCell)] and adds it to the cache.
+    /// This is the unit of work of [CachesPopulator].
+    ///
+    /// @return whether a cell was added, `false` if the cache is full or no cell could be created
+    protected boolean populateOne() {
+        if (isFull() || cellFactory == null) return false;
+        C c = cellFactory.create(null);
+        if (c == null) return false;
+        warm(c);
+        queue.add(c);
+        VFXMetrics.onCachePopulated(context(), c, 1);
+        updateProgress();
+        return true;
+    }
+
+    /// Builds the skin of the given cell before it is cached, so that this cost is not paid when the cell is first
+    /// added to the viewport.
+    ///
+    /// JavaFX only creates skins while processing CSS, which means the cell's node needs to be in a [Scene].
+    /// For this reason, the node is styled in a detached scene, see [Utils#applyCssDetached(Node, List)].
+    /// The container's stylesheets are not part of this scene, so styles are resolved again once the cell
+    /// enters the viewport, but that is a cheap operation compared to the skin's creation.
+    protected void warm(C cell) {
+        Utils.applyCssDetached(cell.toNode(), List.of());
+    }
+
+    /// Updates the [#populateProgressProperty()] as the ratio between the cache's size and its capacity.
+    protected void updateProgress() {
+        int capacity = queue.getCapacity();
+        populateProgress.set(capacity == 0 ? 1.0 : Math.min(1.0, queue.size() / (double) capacity));
+    }
+
     /// Adds the given cells to the queue. For successfully cached cells, [VFXCell#onCache()] will automatically be invoked.
     @SafeVarargs
     public final VFXCellsCache<T, C> cache(C... cells) {
-        for (C c : cells) {
-            if (queue.add(c)) c.onCache();
-        }
-        return this;
+        return cache(Arrays.asList(cells));
     }
 
     /// Adds the given cells to the queue. For successfully cached cells, [VFXCell#onCache()] will automatically be invoked.
     public VFXCellsCache<T, C> cache(Collection<C> cells) {
+        int cached = 0;
+        int disposed = 0;
         for (C c : cells) {
-            if (queue.add(c)) c.onCache();
+            int size = queue.size();
+            if (queue.add(c)) {
+                c.onCache();
+                cached++;
+                if (queue.size() == size) disposed++; // At capacity, the oldest cell was disposed
+            } else if (queue.getCapacity() == 0) {
+                disposed++;
+            }
         }
+        VFXMetrics.onCache(context(), cached, disposed);
         return this;
     }
 
@@ -127,6 +233,8 @@ public class VFXCellsCache<T, C extends VFXCell<T>> {
     public C take() {
         C c = queue.poll();
         if (c != null) c.onDeCache();
+        VFXMetrics.onCacheTake(context(), c);
+        VFXEvents.onCellRecycled(c);
         return c;
     }
 
@@ -136,14 +244,16 @@ public class VFXCellsCache<T, C extends VFXCell<T>> {
     }
 
     /// Removed the specified cell from the cache's queue. The removed cell is also disposed.
+    /// This is a constant time operation, see [CellsQueue].
     public VFXCellsCache<T, C> remove(C cell) {
         boolean removed = queue.remove(cell);
         if (removed) cell.dispose();
         return this;
     }
 
-    /// Disposes and removes all the cells from the cache.
+    /// Disposes and removes all the cells from the cache. This also stops [#populateAsync(int, Duration)] if running.
     public VFXCellsCache<T, C> clear() {
+        stopPopulating();
         queue.forEach(VFXCell::dispose);
         queue.clear();
         return this;
@@ -154,17 +264,44 @@ public class VFXCellsCache<T, C extends VFXCell<T>> {
         return queue.size();
     }
 
+    /// @return the maximum number of cells the cache can contain
+    public int getCapacity() {
+        return queue.getCapacity();
+    }
+
+    /// @return whether the cache reached its capacity
+    public boolean isFull() {
+        return queue.size() >= queue.getCapacity();
+    }
+
     /// Sets the cache's capacity.
     public VFXCellsCache<T, C> setCapacity(int capacity) {
         queue.setCapacity(capacity);
+        updateProgress();
         return this;
     }
 
+    public double getPopulateProgress() {
+        return populateProgress.get();
+    }
+
+    /// Specifies the progress of the cache population as a value between 0.0 and 1.0.
+    /// This is updated by [#populateAsync(int, Duration)] every time a cell is added.
+    public ReadOnlyDoubleProperty populateProgressProperty() {
+        return populateProgress.getReadOnlyProperty();
+    }
+
     public CellFactory<T, C> getCellFactory() {
         return cellFactory;
     }
 
+    /// @return the context of the container the cells belong to, given by the [CellFactory], or `null` if not available
+    protected VFXContext<T> context() {
+        return (cellFactory != null) ? cellFactory.context() : null;
+    }
+
+    /// @return an unmodifiable snapshot of the cached cells, from the oldest to the newest
     public List<C> cells() {
-        return Collections.unmodifiableList(queue);
+        return List.copyOf(queue);
     }
 }
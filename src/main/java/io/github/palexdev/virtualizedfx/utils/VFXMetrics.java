@@ -0,0 +1,450 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.Arrays;
+
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
+import io.github.palexdev.virtualizedfx.base.VFXContext;
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.jfr.VFXEvents;
+import io.github.palexdev.virtualizedfx.jfr.VFXMetricsEvent;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/// Opt-in service that collects performance metrics of a virtualized container: how many cells are created, reused,
+/// taken from and put in the [VFXCellsCache], disposed, how many times [VFXCell#updateItem(Object)] is called (or skipped
+/// because the cell already held the item), and how long position changes and viewport layouts take.
+///
+/// The service lives in the container's [VFXContext] and can be added and removed by [#install(Node)] and [#uninstall(Node)].
+/// When not installed, the framework's hooks (the static methods of this class) only cost a lookup in the context.
+///
+/// Counters are updated on the hot paths as plain fields. The observable properties are synced once per pulse,
+/// after the layout pass, so that listeners and bindings do not slow down scrolling. The sync can also be forced with
+/// [#sync()], for example if the container is not in a scene. At the same time, a [VFXMetricsEvent] is committed with
+/// the deltas since the last pulse, so that metrics can also be inspected in flight recordings.
+///
+/// Some notes on what is counted:
+///
+/// - cells are counted by the [VFXCellsCache] and the cell factory. For tables, this means that both rows and cells are
+/// counted, since they all go through the same context
+///
+/// - reused cells are the ones that are kept from one state to the next. They are computed at every state update as the
+/// new state's size minus the cells created or taken from the cache since the previous update (table cells excluded)
+///
+/// - [VFXCell#updateItem(Object)] calls are counted by the default implementations only, `VFXCellBase` and `VFXTableRow`.
+/// Calls with the item the cell already holds are not counted as updates but as skipped updates. For the default table
+/// row, a skipped update also means that none of its cells is updated
+///
+/// - the layout time is the time spent in the skin's `layout()` methods during a pulse, which may run more than once
+public class VFXMetrics {
+    //================================================================================
+    // Properties
+    //================================================================================
+    private static final int CREATED = 0;
+    private static final int REUSED = 1;
+    private static final int HITS = 2;
+    private static final int MISSES = 3;
+    private static final int CACHED = 4;
+    private static final int DISPOSED = 5;
+    private static final int UPDATE_ITEM = 6;
+    private static final int STATES = 7;
+    private static final int SKIPPED_UPDATES = 8;
+
+    private final Node node;
+    private final InvalidationListener sceneListener = o -> updateScene();
+    private final Runnable pulseListener = this::onPulse;
+    private Scene scene;
+
+    private final long[] counts = new long[9];
+    private final long[] committed = new long[9];
+    private long acquired = 0; // Cells created or taken from the cache since the last state update, table cells excluded
+    private long positionTime = 0;
+    private long pulsePositionTime = 0;
+    private long pulseLayoutTime = 0;
+    private long maxLayoutTime = 0;
+    private boolean dirty = false;
+
+    private final ReadOnlyLongWrapper cellsCreated = new ReadOnlyLongWrapper(this, "cellsCreated");
+    private final ReadOnlyLongWrapper cellsReused = new ReadOnlyLongWrapper(this, "cellsReused");
+    private final ReadOnlyLongWrapper cacheHits = new ReadOnlyLongWrapper(this, "cacheHits");
+    private final ReadOnlyLongWrapper cacheMisses = new ReadOnlyLongWrapper(this, "cacheMisses");
+    private final ReadOnlyDoubleWrapper cacheHitRatio = new ReadOnlyDoubleWrapper(this, "cacheHitRatio");
+    private final ReadOnlyLongWrapper cellsCached = new ReadOnlyLongWrapper(this, "cellsCached");
+    private final ReadOnlyLongWrapper cellsDisposed = new ReadOnlyLongWrapper(this, "cellsDisposed");
+    private final ReadOnlyLongWrapper updateItemCalls = new ReadOnlyLongWrapper(this, "updateItemCalls");
+    private final ReadOnlyLongWrapper skippedUpdates = new ReadOnlyLongWrapper(this, "skippedUpdates");
+    private final ReadOnlyLongWrapper stateUpdates = new ReadOnlyLongWrapper(this, "stateUpdates");
+    private final ReadOnlyLongWrapper lastPositionTime = new ReadOnlyLongWrapper(this, "lastPositionTime");
+    private final ReadOnlyLongWrapper layoutTime = new ReadOnlyLongWrapper(this, "layoutTime");
+    private final ReadOnlyLongWrapper maxLayoutTimeProperty = new ReadOnlyLongWrapper(this, "maxLayoutTime");
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    protected VFXMetrics(Node node) {
+        this.node = node;
+    }
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Creates a new [VFXMetrics] and registers it in the given container's [VFXContext].
+    ///
+    /// Since the context only keeps weak references to its services, the instance is also stored in the node's
+    /// [Node#getProperties()] map, so that it lives as long as the container.
+    public static <C extends Node & VFXContainer<?>> VFXMetrics install(C container) {
+        VFXMetrics metrics = new VFXMetrics(container);
+        container.getProperties().put(VFXMetrics.class, metrics);
+        container.context().set(VFXMetrics.class, metrics);
+        container.sceneProperty().addListener(metrics.sceneListener);
+        metrics.updateScene();
+        return metrics;
+    }
+
+    /// Removes the [VFXMetrics] from the given container, the collected values are synced one last time.
+    public static <C extends Node & VFXContainer<?>> void uninstall(C container) {
+        VFXMetrics metrics = container.context().get(VFXMetrics.class);
+        container.getProperties().remove(VFXMetrics.class);
+        container.context().reset(VFXMetrics.class);
+        if (metrics != null) {
+            container.sceneProperty().removeListener(metrics.sceneListener);
+            metrics.unregister();
+            metrics.sync();
+        }
+    }
+
+    /// @return the [VFXMetrics] installed in the given context, or `null` if either is missing
+    public static VFXMetrics of(VFXContext<?> context) {
+        return (context != null) ? context.get(VFXMetrics.class) : null;
+    }
+
+    /// Framework hook, called by the cell factory when a new cell is created.
+    public static void onCellCreated(VFXContext<?> context, Object cell) {
+        VFXMetrics metrics = of(context);
+        if (metrics == null) return;
+        metrics.counts[CREATED]++;
+        if (!(cell instanceof VFXTableCell<?>)) metrics.acquired++;
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by [VFXCellsCache#take()]. A `null` cell means the cache was empty.
+    public static void onCacheTake(VFXContext<?> context, Object cell) {
+        VFXMetrics metrics = of(context);
+        if (metrics == null) return;
+        if (cell == null) {
+            metrics.counts[MISSES]++;
+        } else {
+            metrics.counts[HITS]++;
+            if (!(cell instanceof VFXTableCell<?>)) metrics.acquired++;
+        }
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by [VFXCellsCache] when cells are cached or disposed.
+    public static void onCache(VFXContext<?> context, int cached, int disposed) {
+        VFXMetrics metrics = of(context);
+        if (metrics == null) return;
+        metrics.counts[CACHED] += cached;
+        metrics.counts[DISPOSED] += disposed;
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by [VFXCellsCache#populate()] and [VFXCellsCache#populateAsync(int, javafx.util.Duration)].
+    /// The given number of cells were created straight into the cache, so they are not counted as acquired for the
+    /// next state update. The given cell is one of them, used to distinguish table cells.
+    public static void onCachePopulated(VFXContext<?> context, Object cell, int count) {
+        VFXMetrics metrics = of(context);
+        if (metrics == null || count == 0) return;
+        metrics.counts[CACHED] += count;
+        if (!(cell instanceof VFXTableCell<?>)) metrics.acquired = Math.max(0, metrics.acquired - count);
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by the default cells' implementations on [VFXCell#updateItem(Object)].
+    public static void onUpdateItem(VFXContext<?> context) {
+        VFXMetrics metrics = of(context);
+        if (metrics == null) return;
+        metrics.counts[UPDATE_ITEM]++;
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by the default cells' implementations when [VFXCell#updateItem(Object)] is skipped because
+    /// the cell already holds the given item.
+    public static void onUpdateItemSkipped(VFXContext<?> context) {
+        VFXMetrics metrics = of(context);
+        if (metrics == null) return;
+        metrics.counts[SKIPPED_UPDATES]++;
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by the containers when their state is updated.
+    public static void onStateUpdate(VFXContainer<?> container, int size) {
+        VFXMetrics metrics = of(container.context());
+        if (metrics == null) return;
+        metrics.counts[STATES]++;
+        metrics.counts[REUSED] += Math.max(0, size - metrics.acquired);
+        metrics.acquired = 0;
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, to be used with [#endPosition(VFXContainer, long)] and [#endLayout(VFXContainer, long)].
+    ///
+    /// @return the current time in nanoseconds if the service is installed, 0 otherwise
+    public static long begin(VFXContainer<?> container) {
+        return (of(container.context()) != null) ? System.nanoTime() : 0L;
+    }
+
+    /// Framework hook, called by the skins after a position change has been processed.
+    public static void endPosition(VFXContainer<?> container, long start) {
+        if (start == 0L) return;
+        VFXMetrics metrics = of(container.context());
+        if (metrics == null) return;
+        long time = System.nanoTime() - start;
+        metrics.positionTime = time;
+        metrics.pulsePositionTime += time;
+        metrics.dirty = true;
+    }
+
+    /// Framework hook, called by the skins after a viewport layout.
+    public static void endLayout(VFXContainer<?> container, long start) {
+        if (start == 0L) return;
+        VFXMetrics metrics = of(container.context());
+        if (metrics == null) return;
+        metrics.pulseLayoutTime += System.nanoTime() - start;
+        metrics.dirty = true;
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Updates the observable properties with the values collected so far.
+    public void sync() {
+        cellsCreated.set(counts[CREATED]);
+        cellsReused.set(counts[REUSED]);
+        cacheHits.set(counts[HITS]);
+        cacheMisses.set(counts[MISSES]);
+        cellsCached.set(counts[CACHED]);
+        cellsDisposed.set(counts[DISPOSED]);
+        updateItemCalls.set(counts[UPDATE_ITEM]);
+        skippedUpdates.set(counts[SKIPPED_UPDATES]);
+        stateUpdates.set(counts[STATES]);
+        long takes = counts[HITS] + counts[MISSES];
+        cacheHitRatio.set(takes == 0 ? 0.0 : counts[HITS] / (double) takes);
+        lastPositionTime.set(positionTime);
+        maxLayoutTimeProperty.set(maxLayoutTime);
+    }
+
+    /// Resets all the counters and times to 0.
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        Arrays.fill(committed, 0L);
+        acquired = 0;
+        positionTime = 0;
+        pulsePositionTime = 0;
+        pulseLayoutTime = 0;
+        maxLayoutTime = 0;
+        layoutTime.set(0);
+        sync();
+    }
+
+    /// Called at the end of every pulse of the container's scene. If anything changed, syncs the properties, see [#sync()],
+    /// and commits a [VFXMetricsEvent].
+    protected void onPulse() {
+        if (!dirty) return;
+        dirty = false;
+
+        layoutTime.set(pulseLayoutTime);
+        maxLayoutTime = Math.max(maxLayoutTime, pulseLayoutTime);
+        commitEvent();
+        sync();
+        pulsePositionTime = 0;
+        pulseLayoutTime = 0;
+    }
+
+    /// Commits a [VFXMetricsEvent] with the deltas since the last one, if JFR is recording it.
+    protected void commitEvent() {
+        VFXMetricsEvent event = new VFXMetricsEvent();
+        if (event.shouldCommit()) {
+            event.container = VFXEvents.nameOf(node);
+            event.cellsCreated = counts[CREATED] - committed[CREATED];
+            event.cellsReused = counts[REUSED] - committed[REUSED];
+            event.cacheHits = counts[HITS] - committed[HITS];
+            event.cacheMisses = counts[MISSES] - committed[MISSES];
+            event.cellsCached = counts[CACHED] - committed[CACHED];
+            event.cellsDisposed = counts[DISPOSED] - committed[DISPOSED];
+            event.updateItemCalls = counts[UPDATE_ITEM] - committed[UPDATE_ITEM];
+            event.skippedUpdates = counts[SKIPPED_UPDATES] - committed[SKIPPED_UPDATES];
+            event.stateUpdates = counts[STATES] - committed[STATES];
+            event.positionTime = pulsePositionTime;
+            event.layoutTime = pulseLayoutTime;
+            event.commit();
+        }
+        System.arraycopy(counts, 0, committed, 0, counts.length);
+    }
+
+    /// Moves the pulse listener to the container's current scene.
+    protected void updateScene() {
+        Scene current = node.getScene();
+        if (current == scene) return;
+        unregister();
+        scene = current;
+        if (scene != null) scene.addPostLayoutPulseListener(pulseListener);
+    }
+
+    protected void unregister() {
+        if (scene == null) return;
+        scene.removePostLayoutPulseListener(pulseListener);
+        scene = null;
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+
+    public long getCellsCreated() {
+        return cellsCreated.get();
+    }
+
+    /// Specifies the number of cells created by the cell factory.
+    public ReadOnlyLongProperty cellsCreatedProperty() {
+        return cellsCreated.getReadOnlyProperty();
+    }
+
+    public long getCellsReused() {
+        return cellsReused.get();
+    }
+
+    /// Specifies the number of cells kept from one state to the next.
+    public ReadOnlyLongProperty cellsReusedProperty() {
+        return cellsReused.getReadOnlyProperty();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /// Specifies the number of cells taken from the [VFXCellsCache].
+    public ReadOnlyLongProperty cacheHitsProperty() {
+        return cacheHits.getReadOnlyProperty();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /// Specifies the number of times a cell was requested to the [VFXCellsCache], but it was empty.
+    public ReadOnlyLongProperty cacheMissesProperty() {
+        return cacheMisses.getReadOnlyProperty();
+    }
+
+    public double getCacheHitRatio() {
+        return cacheHitRatio.get();
+    }
+
+    /// Specifies the ratio between the cache hits and the total requests to the [VFXCellsCache], between 0.0 and 1.0.
+    ///
+    /// A low ratio while scrolling back and forth means the cache capacity is probably too small.
+    public ReadOnlyDoubleProperty cacheHitRatioProperty() {
+        return cacheHitRatio.getReadOnlyProperty();
+    }
+
+    public long getCellsCached() {
+        return cellsCached.get();
+    }
+
+    /// Specifies the number of cells put in the [VFXCellsCache].
+    public ReadOnlyLongProperty cellsCachedProperty() {
+        return cellsCached.getReadOnlyProperty();
+    }
+
+    public long getCellsDisposed() {
+        return cellsDisposed.get();
+    }
+
+    /// Specifies the number of cells disposed by the [VFXCellsCache], because it was full or disabled.
+    ///
+    /// A high number means that cells are continuously created and thrown away, consider increasing the cache capacity.
+    public ReadOnlyLongProperty cellsDisposedProperty() {
+        return cellsDisposed.getReadOnlyProperty();
+    }
+
+    public long getUpdateItemCalls() {
+        return updateItemCalls.get();
+    }
+
+    /// Specifies the number of [VFXCell#updateItem(Object)] calls.
+    public ReadOnlyLongProperty updateItemCallsProperty() {
+        return updateItemCalls.getReadOnlyProperty();
+    }
+
+    public long getSkippedUpdates() {
+        return skippedUpdates.get();
+    }
+
+    /// Specifies the number of [VFXCell#updateItem(Object)] calls that were skipped because the cell already held the item.
+    public ReadOnlyLongProperty skippedUpdatesProperty() {
+        return skippedUpdates.getReadOnlyProperty();
+    }
+
+    public long getStateUpdates() {
+        return stateUpdates.get();
+    }
+
+    /// Specifies the number of states produced by the container.
+    public ReadOnlyLongProperty stateUpdatesProperty() {
+        return stateUpdates.getReadOnlyProperty();
+    }
+
+    public long getLastPositionTime() {
+        return lastPositionTime.get();
+    }
+
+    /// Specifies the time, in nanoseconds, it took to process the last position change.
+    public ReadOnlyLongProperty lastPositionTimeProperty() {
+        return lastPositionTime.getReadOnlyProperty();
+    }
+
+    public long getLayoutTime() {
+        return layoutTime.get();
+    }
+
+    /// Specifies the time, in nanoseconds, spent laying out the viewport during the last pulse in which a layout occurred.
+    public ReadOnlyLongProperty layoutTimeProperty() {
+        return layoutTime.getReadOnlyProperty();
+    }
+
+    public long getMaxLayoutTime() {
+        return maxLayoutTimeProperty.get();
+    }
+
+    /// Specifies the maximum [#layoutTimeProperty()] observed so far.
+    public ReadOnlyLongProperty maxLayoutTimeProperty() {
+        return maxLayoutTimeProperty.getReadOnlyProperty();
+    }
+}
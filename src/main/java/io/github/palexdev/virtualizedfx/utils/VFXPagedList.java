@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import io.github.palexdev.virtualizedfx.base.VFXContainerHelper;
+import io.github.palexdev.virtualizedfx.base.VFXDataSource;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+/// A read-only [javafx.collections.ObservableList] backed by a [VFXDataSource], which allows virtualized containers to
+/// browse huge data sets without loading them fully in memory. Usage is as simple as:
+/// ```java
+/// VFXPagedList<User> users = new VFXPagedList<>(new UsersCursor(...));
+/// VFXTable<User> table = new VFXTable<>(users, columns);
+/// ```
+///
+/// The list's size is given by [VFXDataSource#size()], while the items are loaded in pages of [#getPageSize()] items.
+/// When an item is requested by [#get(int)] (which is what [VFXContainerHelper#indexToItem(int)] does), there are
+/// two possibilities:
+///
+/// 1) The item's page is in memory, the item is returned immediately
+///
+/// 2) The item's page is not in memory. A [CompletableFuture] is started to load it on the [#getLoader()] executor
+/// (by default, every page is loaded by a new virtual thread), and [VFXDataSource#placeholder(int)] is returned meanwhile.
+/// When the page arrives, it's stored on the JavaFX thread, and the list fires a 'replace' change for the page's range.
+/// This way, the container updates its cells, replacing the placeholders with the actual items.
+///
+/// Only up to [#getMaxPages()] pages are kept in memory, the least recently used ones are evicted first. Note that the
+/// maximum number of pages should be enough to hold the items visible in the container at once, otherwise pages would be
+/// evicted and loaded again endlessly.
+///
+/// If the source's size is just an estimate ([VFXDataSource#isSizeExact()]), the list shrinks as soon as a page returns
+/// fewer items than requested. Any other change in the source must be notified by calling [#refresh()].
+///
+/// **Note:** this list is meant to be accessed only from the JavaFX thread. Also, beware of operations that iterate
+/// over the whole list (bulk copies, `indexOf(...)`, `contains(...)`, autosizing columns on all items, ...), as they will
+/// request every page of the source.
+public class VFXPagedList<T> extends ObservableListBase<T> {
+    //================================================================================
+    // Properties
+    //================================================================================
+    public static final int DEFAULT_PAGE_SIZE = 256;
+    public static final int DEFAULT_MAX_PAGES = 16;
+
+    private final VFXDataSource<T> source;
+    private final int pageSize;
+    private final int maxPages;
+    private final Executor loader;
+    private final Executor fxExecutor;
+
+    private final Map<Integer, List<T>> pages;
+    private final Map<Integer, CompletableFuture<List<T>>> pending = new HashMap<>();
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+    private int size;
+    private boolean sizeExact;
+    private int generation = 0;
+
+    //================================================================================
+    // Constructors
+    //================================================================================
+    public VFXPagedList(VFXDataSource<T> source) {
+        this(source, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    public VFXPagedList(VFXDataSource<T> source, int pageSize, int maxPages) {
+        this(source, pageSize, maxPages, r -> Thread.ofVirtual().name("VFXPagedList-Loader").start(r), Platform::runLater);
+    }
+
+    /// @param loader     the executor on which pages are loaded
+    /// @param fxExecutor the executor on which loaded pages are delivered, must run on the JavaFX thread
+    public VFXPagedList(VFXDataSource<T> source, int pageSize, int maxPages, Executor loader, Executor fxExecutor) {
+        if (pageSize <= 0) throw new IllegalArgumentException("Page size must be greater than 0");
+        if (maxPages <= 0) throw new IllegalArgumentException("Max pages must be greater than 0");
+        this.source = Objects.requireNonNull(source);
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.loader = Objects.requireNonNull(loader);
+        this.fxExecutor = Objects.requireNonNull(fxExecutor);
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > VFXPagedList.this.maxPages;
+            }
+        };
+        this.size = Math.max(0, source.size());
+        this.sizeExact = source.isSizeExact();
+    }
+
+    //================================================================================
+    // Methods
+    //================================================================================
+
+    /// Requests the pages containing the items in the given range of indexes, `from` inclusive, `to` exclusive.
+    /// Pages that are already in memory or being loaded are ignored.
+    ///
+    /// This is useful to load items ahead of time, before they are displayed by the container.
+    public void prefetch(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(size, to);
+        if (from >= to) return;
+        for (int page = from / pageSize; page <= (to - 1) / pageSize; page++) {
+            requestPage(page);
+        }
+    }
+
+    /// @return whether the item at the given index is in memory, which means that [#get(int)] will not return
+    /// a placeholder
+    public boolean isLoaded(int index) {
+        if (index < 0 || index >= size) return false;
+        int page = index / pageSize;
+        List<T> items = pages.get(page);
+        return items != null && index - page * pageSize < items.size();
+    }
+
+    /// Discards all the pages in memory, the pending loads, and reads the size from the source again.
+    /// Then fires a change that replaces the entire list with placeholders, causing the containers to request the items
+    /// they need again.
+    ///
+    /// Note that [VFXDataSource#size()] is called on the caller thread.
+    public void refresh() {
+        generation++;
+        pending.values().forEach(f -> f.cancel(false));
+        pending.clear();
+        pages.clear();
+        loading.set(false);
+
+        int oldSize = size;
+        size = Math.max(0, source.size());
+        sizeExact = source.isSizeExact();
+        fireChange(new PagedChange(List.of(new SubChange<>(0, size, placeholders(0, oldSize)))));
+    }
+
+    /// Starts the load of the given page on the [#getLoader()] executor, unless it is already in memory or being loaded.
+    /// The result is delivered on the JavaFX thread to [#onPageLoaded(int, int, int, List, Throwable)].
+    protected void requestPage(int page) {
+        if (pages.containsKey(page) || pending.containsKey(page)) return;
+        int offset = page * pageSize;
+        int count = Math.min(pageSize, size - offset);
+        if (count <= 0) return;
+
+        int gen = generation;
+        CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return source.load(offset, count);
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+        }, loader);
+        pending.put(page, future);
+        loading.set(true);
+        future.whenCompleteAsync((items, ex) -> onPageLoaded(gen, page, count, items, ex), fxExecutor);
+    }
+
+    /// Called on the JavaFX thread when a page load completes.
+    ///
+    /// Results from before the last [#refresh()] are ignored. Failed loads are simply forgotten, so that the page will
+    /// be requested again the next time one of its items is needed.
+    ///
+    /// Otherwise, the page is stored, and a 'replace' change is fired for its range. If the page has fewer items than
+    /// requested, then the end of the source was reached: the list shrinks, and the removal is part of the same change.
+    protected void onPageLoaded(int gen, int page, int requested, List<T> items, Throwable ex) {
+        if (gen != generation) return;
+        pending.remove(page);
+        loading.set(!pending.isEmpty());
+        if (ex != null || items == null) return;
+
+        int offset = page * pageSize;
+        if (offset >= size) return;
+        int loaded = Math.min(items.size(), size - offset);
+        pages.put(page, items);
+
+        List<SubChange<T>> changes = new ArrayList<>(2);
+        if (loaded > 0) changes.add(new SubChange<>(offset, offset + loaded, placeholders(offset, offset + loaded)));
+        if (items.size() < requested) {
+            int oldSize = size;
+            size = offset + loaded;
+            sizeExact = true;
+            changes.add(new SubChange<>(size, size, placeholders(size, oldSize)));
+        }
+        if (!changes.isEmpty()) fireChange(new PagedChange(changes));
+    }
+
+    /// @return a lazy view of the placeholders for the given range of indexes, `from` inclusive, `to` exclusive
+    protected List<T> placeholders(int from, int to) {
+        int n = Math.max(0, to - from);
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return source.placeholder(from + index);
+            }
+
+            @Override
+            public int size() {
+                return n;
+            }
+        };
+    }
+
+    //================================================================================
+    // Overridden Methods
+    //================================================================================
+
+    /// {@inheritDoc}
+    ///
+    /// If the item's page is not in memory, requests it and returns [VFXDataSource#placeholder(int)].
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        int page = index / pageSize;
+        int pIndex = index - page * pageSize;
+        List<T> items = pages.get(page);
+        if (items == null) {
+            requestPage(page);
+            items = pages.get(page); // The page may be delivered immediately, depends on the executors
+        }
+        return (items != null && pIndex < items.size()) ? items.get(pIndex) : source.placeholder(index);
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The size may be an estimate, see [VFXDataSource#isSizeExact()].
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //================================================================================
+    // Getters
+    //================================================================================
+
+    public VFXDataSource<T> getSource() {
+        return source;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public Executor getLoader() {
+        return loader;
+    }
+
+    /// @return whether the current size is exact or just an estimate
+    public boolean isSizeExact() {
+        return sizeExact;
+    }
+
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    /// Specifies whether there is at least one page being loaded.
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    //================================================================================
+    // Internal Classes
+    //================================================================================
+
+    /// Describes a single 'replace' or 'remove' change in the list, `from` inclusive, `to` exclusive.
+    protected record SubChange<T>(int from, int to, List<T> removed) {}
+
+    /// Simple [ListChangeListener.Change] implementation made of one or more [SubChange]s.
+    ///
+    /// The reason this exists instead of using the builder offered by [ObservableListBase] is that the latter copies the
+    /// removed items in a new list. Since the items replaced by a refresh or removed by a size correction can be
+    /// a lot, and they are just placeholders anyway, the lazy views built by [#placeholders(int, int)] are passed as they
+    /// are.
+    protected class PagedChange extends ListChangeListener.Change<T> {
+        private final List<SubChange<T>> changes;
+        private int cursor = -1;
+
+        public PagedChange(List<SubChange<T>> changes) {
+            super(VFXPagedList.this);
+            this.changes = changes;
+        }
+
+        @Override
+        public boolean next() {
+            if (cursor < changes.size()) cursor++;
+            return cursor < changes.size();
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+        }
+
+        @Override
+        public int getFrom() {
+            return current().from();
+        }
+
+        @Override
+        public int getTo() {
+            return current().to();
+        }
+
+        @Override
+        public List<T> getRemoved() {
+            return current().removed();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+
+        private SubChange<T> current() {
+            if (cursor < 0 || cursor >= changes.size())
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+            return changes.get(cursor);
+        }
+    }
+}
@@ -4,6 +4,8 @@ module VirtualizedFX {
     requires transitive mfx.core;
     requires transitive mfx.effects;
 
+    requires jdk.jfr;
+
     // Base
     exports io.github.palexdev.virtualizedfx;
     exports io.github.palexdev.virtualizedfx.base;
@@ -23,8 +25,12 @@ module VirtualizedFX {
     // Events
     exports io.github.palexdev.virtualizedfx.events;
 
+    // JFR
+    exports io.github.palexdev.virtualizedfx.jfr;
+
     // Grid
     exports io.github.palexdev.virtualizedfx.grid;
+    exports io.github.palexdev.virtualizedfx.grid.paginated;
 
     // List
     exports io.github.palexdev.virtualizedfx.list;
@@ -36,6 +42,7 @@ module VirtualizedFX {
     // Table
     exports io.github.palexdev.virtualizedfx.table;
     exports io.github.palexdev.virtualizedfx.table.defaults;
+    exports io.github.palexdev.virtualizedfx.table.paginated;
 
     // Utils
     exports io.github.palexdev.virtualizedfx.utils;
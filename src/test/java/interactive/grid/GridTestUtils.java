@@ -32,6 +32,8 @@ import io.github.palexdev.virtualizedfx.grid.VFXGrid;
 import io.github.palexdev.virtualizedfx.grid.VFXGridHelper;
 import io.github.palexdev.virtualizedfx.grid.VFXGridSkin;
 import io.github.palexdev.virtualizedfx.grid.VFXGridState;
+import io.github.palexdev.virtualizedfx.grid.paginated.VFXPaginatedGrid;
+import io.github.palexdev.virtualizedfx.grid.paginated.VFXPaginatedGridSkin;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import javafx.collections.ObservableList;
 import javafx.geometry.Bounds;
@@ -153,4 +155,34 @@ public class GridTestUtils {
             };
         }
     }
+
+    public static class PGrid extends VFXPaginatedGrid<Integer, VFXCell<Integer>> {
+        public PGrid(ObservableList<Integer> items) {
+            this(items, TestGridCell::new);
+        }
+
+        public PGrid(ObservableList<Integer> items, Function<Integer, VFXCell<Integer>> cellFactory) {
+            super(items, cellFactory);
+            setBufferSize(BufferSize.SMALL);
+        }
+
+        @Override
+        public void setCellFactory(Function<Integer, VFXCell<Integer>> cellFactory) {
+            super.setCellFactory(cellFactory.andThen(c -> {
+                counter.created();
+                return c;
+            }));
+        }
+
+        @Override
+        public Supplier<MFXSkinBase<? extends Node>> defaultSkinFactory() {
+            return () -> new VFXPaginatedGridSkin<>(this) {
+                @Override
+                protected void onLayoutCompleted(boolean done) {
+                    super.onLayoutCompleted(done);
+                    if (done) counter.layout();
+                }
+            };
+        }
+    }
 }
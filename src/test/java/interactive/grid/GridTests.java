@@ -1194,7 +1194,7 @@ public class GridTests {
         // Add after no intersect (> 77)
         robot.interact(() -> grid.getItems().addAll(78, List.of(-21, -22, -23)));
         assertState(grid, IntegerRange.of(2, 7), IntegerRange.of(2, 7));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0);
     }
 
     @Test
@@ -1367,7 +1367,7 @@ public class GridTests {
         assertEquals(300, grid.getHPos());
         assertEquals(300, grid.getHPos());
         assertState(grid, IntegerRange.of(2, 7), IntegerRange.of(2, 7));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0);
 
         // Remove enough to change the range
         robot.interact(() -> removeAll(grid, IntegerRange.of(70, 77)));
@@ -1411,9 +1411,10 @@ public class GridTests {
         });
         assertState(grid, IntegerRange.of(4, 9), IntegerRange.of(4, 9));
         assertEquals(30, helper.totalCells());
-        assertCounter(0, 4, 0, 0, 0, 2, 0);
+        assertCounter(0, 2, 0, 0, 0, 2, 0);
         assertEquals(6, grid.cacheSize());
         // Only 2 cached instead of 4 because only 2 cells in the viewport are removed
+        // For the same reason, the other 2 removals do not produce a new state, thus no layout
 
         // Remove before no intersect (88)
         robot.interact(() -> removeAll(grid, 0, 1, 2, 3));
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package interactive.grid;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static interactive.grid.GridTestUtils.PGrid;
+import static interactive.grid.GridTestUtils.assertState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static src.utils.TestFXUtils.*;
+import static src.utils.Utils.items;
+
+@ExtendWith(ApplicationExtension.class)
+public class PaginatedGridTests {
+
+    @Start
+    void start(Stage stage) {stage.show();}
+
+    @BeforeEach
+    void setup() {
+        resetCounters();
+    }
+
+    @Test
+    void testInit(FxRobot robot) {
+        StackPane pane = setupStage();
+        PGrid grid = new PGrid(items(60));
+        robot.interact(() -> pane.getChildren().add(grid));
+
+        // 5 rows per page, 5 columns (4 visible + buffer, capped at max)
+        assertEquals(25, grid.getCellsPerPage());
+        assertEquals(2, grid.getMaxPage());
+        assertEquals(500.0, grid.getHeight());
+        assertState(grid, IntegerRange.of(0, 4), IntegerRange.of(0, 4));
+        assertCounter(25, 1, 25, 25, 0, 0, 0);
+    }
+
+    @Test
+    void testPageChanges(FxRobot robot) {
+        StackPane pane = setupStage();
+        PGrid grid = new PGrid(items(60));
+        robot.interact(() -> pane.getChildren().add(grid));
+        assertState(grid, IntegerRange.of(0, 4), IntegerRange.of(0, 4));
+        assertCounter(25, 1, 25, 25, 0, 0, 0);
+
+        // Cells are re-bound in place, no creation, no layout
+        robot.interact(grid::next);
+        assertEquals(1, grid.getPage());
+        assertEquals(500.0, grid.getVPos());
+        assertState(grid, IntegerRange.of(5, 9), IntegerRange.of(0, 4));
+        assertCounter(0, 0, 25, 25, 0, 0, 0);
+
+        // Last page is incomplete, 15 cells go to the cache (capacity 10, 5 are disposed)
+        robot.interact(grid::next);
+        assertEquals(2, grid.getPage());
+        assertState(grid, IntegerRange.of(10, 11), IntegerRange.of(0, 4));
+        assertCounter(0, 1, 10, 10, 0, 15, 5);
+
+        // Back to a full page, 10 cells come from the cache, 5 are created
+        robot.interact(grid::previous);
+        assertEquals(1, grid.getPage());
+        assertState(grid, IntegerRange.of(5, 9), IntegerRange.of(0, 4));
+        assertCounter(5, 1, 25, 25, 10, 0, 0);
+    }
+
+    @Test
+    void testRowsPerPage(FxRobot robot) {
+        StackPane pane = setupStage();
+        PGrid grid = new PGrid(items(60));
+        robot.interact(() -> pane.getChildren().add(grid));
+        assertState(grid, IntegerRange.of(0, 4), IntegerRange.of(0, 4));
+        resetCounters();
+
+        robot.interact(() -> grid.setRowsPerPage(3));
+        assertEquals(15, grid.getCellsPerPage());
+        assertEquals(3, grid.getMaxPage());
+        assertEquals(300.0, grid.getHeight());
+        assertState(grid, IntegerRange.of(0, 2), IntegerRange.of(0, 4));
+
+        // Cells per page are rounded up to complete rows
+        robot.interact(() -> grid.setCellsPerPage(12));
+        assertEquals(3, grid.getRowsPerPage());
+        robot.interact(() -> grid.setCellsPerPage(21));
+        assertEquals(5, grid.getRowsPerPage());
+        assertState(grid, IntegerRange.of(0, 4), IntegerRange.of(0, 4));
+
+        // Max page changes, page is corrected
+        robot.interact(() -> {
+            grid.scrollToLastRow();
+            grid.getItems().remove(30, 60);
+        });
+        assertEquals(1, grid.getMaxPage());
+        assertEquals(1, grid.getPage());
+        assertState(grid, IntegerRange.of(5, 5), IntegerRange.of(0, 4));
+    }
+}
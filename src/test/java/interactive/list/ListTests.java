@@ -18,7 +18,9 @@
 
 package interactive.list;
 
+import java.util.AbstractList;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -27,15 +29,25 @@ import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.controls.Label;
 import io.github.palexdev.mfxcore.controls.MFXSkinBase;
 import io.github.palexdev.mfxcore.utils.RandomUtils;
+import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
+import io.github.palexdev.virtualizedfx.cells.VFXTextCell;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
 import io.github.palexdev.virtualizedfx.enums.BufferSize;
 import io.github.palexdev.virtualizedfx.list.VFXList;
 import io.github.palexdev.virtualizedfx.list.VFXListHelper;
+import io.github.palexdev.virtualizedfx.list.VFXListHelper.AnchoredHorizontalHelper;
+import io.github.palexdev.virtualizedfx.list.VFXListHelper.AnchoredVerticalHelper;
+import io.github.palexdev.virtualizedfx.list.VFXListHelper.VariableHorizontalHelper;
+import io.github.palexdev.virtualizedfx.list.VFXListHelper.VariableVerticalHelper;
 import io.github.palexdev.virtualizedfx.list.VFXListSkin;
+import io.github.palexdev.virtualizedfx.utils.PositionCoalescer;
+import io.github.palexdev.virtualizedfx.utils.VFXMetrics;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.event.Event;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import javafx.stage.Window;
@@ -195,6 +207,203 @@ public class ListTests {
         assertCounter(0, 1, 16, 16, 0, 0, 0); // Only 16 updated because index 16 is common
     }
 
+    @Test
+    void testMetrics(FxRobot robot) {
+        StackPane pane = setupStage();
+        List list = new List(items(100));
+        VFXMetrics metrics = VFXMetrics.install(list);
+        robot.interact(() -> pane.getChildren().add(list));
+        assertState(list, IntegerRange.of(0, 16));
+
+        robot.interact(metrics::sync);
+        assertEquals(17, metrics.getCellsCreated());
+        assertEquals(17, metrics.getCacheMisses());
+        assertEquals(0, metrics.getCacheHits());
+        assertEquals(0, metrics.getCellsReused());
+        assertEquals(0.0, metrics.getCacheHitRatio());
+        metrics.reset();
+
+        // Scrolling reuses all the cells, only one is updated
+        robot.interact(() -> {
+            list.setVPos(100);
+            metrics.sync();
+        });
+        assertState(list, IntegerRange.of(1, 17));
+        assertEquals(0, metrics.getCellsCreated());
+        assertEquals(17, metrics.getCellsReused());
+        assertEquals(1, metrics.getUpdateItemCalls());
+        assertEquals(1, metrics.getStateUpdates());
+        assertEquals(0, metrics.getSkippedUpdates());
+
+        // Updating a cell with the item it already holds is a no-op
+        robot.interact(() -> {
+            metrics.reset();
+            VFXCell<Integer> cell = list.getState().getCellsByIndexUnmodifiable().get(1);
+            cell.updateItem(list.getItems().get(1));
+            metrics.sync();
+        });
+        assertEquals(0, metrics.getUpdateItemCalls());
+        assertEquals(1, metrics.getSkippedUpdates());
+
+        // Shrinking caches the excess cells
+        robot.interact(() -> {
+            list.setBufferSize(BufferSize.SMALL);
+            metrics.sync();
+        });
+        assertEquals(2, metrics.getCellsCached());
+        assertEquals(0, metrics.getCellsDisposed());
+    }
+
+    @Test
+    void testTextCell(FxRobot robot) {
+        StackPane pane = setupStage();
+        List list = new List(items(100), VFXTextCell::new);
+        robot.interact(() -> pane.getChildren().add(list));
+        assertEquals(IntegerRange.of(0, 16), list.getState().getRange());
+        assertEquals("0", ((VFXTextCell<Integer>) list.getState().getCellsByIndexUnmodifiable().get(0)).getTextNode().getText());
+
+        // Scroll and check that the reused cell renders the new item
+        robot.interact(() -> list.setVPos(100));
+        assertEquals(IntegerRange.of(1, 17), list.getState().getRange());
+        VFXTextCell<Integer> cell = (VFXTextCell<Integer>) list.getState().getCellsByIndexUnmodifiable().get(17);
+        assertEquals("17", cell.getTextNode().getText());
+
+        // Changing the converter re-renders the item
+        robot.interact(() -> cell.setConverter(FunctionalStringConverter.to(i -> "Item " + i)));
+        assertEquals("Item 17", cell.getTextNode().getText());
+    }
+
+    @Test
+    void testCoalescedScroll(FxRobot robot) {
+        StackPane pane = setupStage();
+        List list = new List(items(100));
+        PositionCoalescer coalescer = PositionCoalescer.install(list);
+        robot.interact(() -> pane.getChildren().add(list));
+        assertState(list, IntegerRange.of(0, 16));
+        resetCounters();
+
+        // Many changes before the pulse, one update
+        robot.interact(() -> {
+            list.setVPos(32.0);
+            list.setVPos(64.0);
+            list.setVPos(100.0);
+            assertEquals(IntegerRange.of(0, 16), list.getState().getRange());
+            assertEquals(2, coalescer.getAvoidedUpdates());
+            coalescer.flush();
+        });
+        assertState(list, IntegerRange.of(1, 17));
+        assertCounter(0, 1, 1, 1, 0, 0, 0);
+        assertEquals(1, coalescer.getPerformedUpdates());
+
+        // Back to immediate updates
+        robot.interact(() -> {
+            PositionCoalescer.uninstall(list);
+            list.setVPos(0.0);
+            assertEquals(IntegerRange.of(0, 16), list.getState().getRange());
+        });
+    }
+
+    @Test
+    void testAnchoredScroll(FxRobot robot) {
+        StackPane pane = setupStage();
+        int size = 50_000_000;
+        List list = new List(FXCollections.observableList(new AbstractList<>() {
+            @Override
+            public Integer get(int index) {return index;}
+
+            @Override
+            public int size() {return size;}
+        }));
+        list.setHelperFactory(o -> o == Orientation.VERTICAL ?
+            new AnchoredVerticalHelper<>(list) :
+            new AnchoredHorizontalHelper<>(list)
+        );
+        AnchoredVerticalHelper<Integer, VFXCell<Integer>> helper = (AnchoredVerticalHelper<Integer, VFXCell<Integer>>) list.getHelper();
+        robot.interact(() -> pane.getChildren().add(list));
+        assertState(list, IntegerRange.of(0, 16));
+
+        // The scroll space is capped, positions are scaled
+        assertEquals(AnchoredVerticalHelper.DEFAULT_MAX_SCROLL_SPACE, list.getMaxVScroll());
+        assertEquals(AnchoredVerticalHelper.DEFAULT_MAX_SCROLL_SPACE / helper.getRealMaxScroll(), helper.getScale());
+
+        // Scrolling to an index is exact
+        int target = 40_000_000;
+        robot.interact(() -> list.scrollToIndex(target));
+        assertEquals(target, helper.getAnchor());
+        assertEquals(0.0, helper.getAnchorOffset());
+        assertState(list, IntegerRange.of(target - 2, target + 14));
+        assertEquals(-64.0, helper.getViewportPosition().y());
+
+        // And so is scrolling by pixels
+        robot.interact(() -> list.scrollBy(10.5));
+        assertEquals(target, helper.getAnchor());
+        assertEquals(10.5, helper.getAnchorOffset());
+        assertEquals(-74.5, helper.getViewportPosition().y());
+        robot.interact(() -> list.scrollBy(-21.0));
+        assertEquals(target - 1, helper.getAnchor());
+        assertEquals(21.5, helper.getAnchorOffset());
+        assertState(list, IntegerRange.of(target - 3, target + 13));
+
+        // Positions set from outside (e.g. scroll bars) are converted back
+        robot.interact(() -> list.setVPos(list.getMaxVScroll()));
+        assertEquals(size - 1, helper.lastVisible());
+        assertState(list, IntegerRange.of(size - 17, size - 1));
+        robot.interact(() -> list.setVPos(0.0));
+        assertEquals(0, helper.getAnchor());
+        assertState(list, IntegerRange.of(0, 16));
+
+        // Unit increments of a scroll pane (buttons, wheel) move by exactly one cell
+        robot.interact(() -> pane.getChildren().setAll(list.makeScrollable()));
+        robot.interact(() -> list.scrollToIndex(target));
+        robot.interact(() -> Event.fireEvent(list, scrollEvent(-40.0)));
+        assertEquals(target + 1, helper.getAnchor());
+        assertEquals(0.0, helper.getAnchorOffset(), 1e-6);
+        robot.interact(() -> Event.fireEvent(list, scrollEvent(40.0)));
+        assertEquals(target, helper.getAnchor());
+        assertEquals(0.0, helper.getAnchorOffset(), 1e-6);
+    }
+
+    @Test
+    void testVariableSizeItemsChanges(FxRobot robot) {
+        StackPane pane = setupStage();
+        List list = new List(items(50));
+        list.setHelperFactory(o -> o == Orientation.VERTICAL ?
+            new VariableVerticalHelper<>(list) :
+            new VariableHorizontalHelper<>(list)
+        );
+        VariableVerticalHelper<Integer, VFXCell<Integer>> helper = (VariableVerticalHelper<Integer, VFXCell<Integer>>) list.getHelper();
+        robot.interact(() -> pane.getChildren().add(list));
+        double s = list.getCellSize();
+
+        // Make item 2 taller, then scroll away so that it's not measured again
+        Region cell2 = (Region) list.getState().getCellsByIndexUnmodifiable().get(2).toNode();
+        robot.interact(() -> {
+            cell2.setPrefHeight(100.0);
+            list.requestViewportLayout();
+        });
+        robot.interact(() -> {
+            cell2.setPrefHeight(Region.USE_COMPUTED_SIZE);
+            list.scrollToIndex(20);
+        });
+        assertEquals(100.0, helper.getItemSize(2));
+
+        // Insert at the head, the measurement follows its item
+        robot.interact(() -> list.getItems().addAll(0, items(100, 3)));
+        assertEquals(s, helper.getItemSize(2));
+        assertEquals(100.0, helper.getItemSize(5));
+        assertEquals(53 * s - s + 100.0, helper.getVirtualMaxY());
+
+        // Trim the head, the measurement follows its item again
+        robot.interact(() -> list.getItems().remove(0, 4));
+        assertEquals(100.0, helper.getItemSize(1));
+        assertEquals(49 * s - s + 100.0, helper.getVirtualMaxY());
+
+        // Remove the measured item, its measurement is discarded
+        robot.interact(() -> list.getItems().remove(1));
+        assertEquals(s, helper.getItemSize(1));
+        assertEquals(48 * s, helper.getVirtualMaxY());
+    }
+
     @Test
     void testBufferChangeTop(FxRobot robot) {
         StackPane pane = setupStage();
@@ -636,9 +845,11 @@ public class ListTests {
         assertCounter(0, 1, 0, 4, 0, 0, 0);
 
         // Add after no intersect
+        Map<Integer, VFXCell<Integer>> cells = Map.copyOf(list.getState().getCellsByIndexUnmodifiable());
         robot.interact(() -> list.getItems().addAll(40, java.util.List.of(483, 9822, 75486, 1240, 1151)));
         assertState(list, IntegerRange.of(16, 32));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0); // State untouched, no layout
+        assertEquals(cells, list.getState().getCellsByIndexUnmodifiable()); // Same cells at the same indexes
     }
 
     @Test
@@ -668,7 +879,7 @@ public class ListTests {
             for (int i = 0; i < 4; i++) list.getItems().add(1999 - i);
         });
         assertState(list, IntegerRange.of(35, 51));
-        assertCounter(0, 4, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0); // Past the range, state untouched, no layout
 
         // Add before no intersect
         robot.interact(() -> list.getItems().addAll(0, java.util.List.of(99, 98, 97, 96, 95)));
@@ -729,9 +940,11 @@ public class ListTests {
         assertCounter(0, 1, 17, 4, 0, 0, 0);
 
         // Remove after no intersect
+        Map<Integer, VFXCell<Integer>> cells = Map.copyOf(list.getState().getCellsByIndexUnmodifiable());
         robot.interact(() -> Utils.removeAll(list, 34, 35));
         assertState(list, IntegerRange.of(16, 32));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0); // State untouched, no layout
+        assertEquals(cells, list.getState().getCellsByIndexUnmodifiable()); // Same cells at the same indexes
 
         // Remove after intersect
         robot.interact(() -> Utils.removeAll(list, 30, 31, 32, 33, 34));
@@ -666,7 +666,7 @@ public class PaginatedListTests {
         // Add after no intersect
         robot.interact(() -> list.getItems().addAll(40, java.util.List.of(483, 9822, 75486, 1240, 1151)));
         assertState(list, IntegerRange.of(18, 31));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0); // State untouched, no layout
     }
 
     @Test
@@ -696,7 +696,7 @@ public class PaginatedListTests {
             for (int i = 0; i < 4; i++) list.getItems().add(1999 - i);
         });
         assertState(list, IntegerRange.of(38, 51));
-        assertCounter(0, 4, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0); // State untouched, no layout
 
         // Add before no intersect
         robot.interact(() -> list.getItems().addAll(0, java.util.List.of(99, 98, 97, 96, 95)));
@@ -759,7 +759,7 @@ public class PaginatedListTests {
         // Remove after no intersect
         robot.interact(() -> Utils.removeAll(list, 34, 35));
         assertState(list, IntegerRange.of(18, 31));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0); // State untouched, no layout
 
         // Remove after intersect
         robot.interact(() -> Utils.removeAll(list, IntegerRange.of(29, 33)));
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package interactive.table;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import interactive.table.TableTestUtils.Table;
+import interactive.table.TableTestUtils.TestColumn;
+import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.enums.AutosizeMode;
+import io.github.palexdev.virtualizedfx.table.AutosizeSampler;
+import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
+import io.github.palexdev.virtualizedfx.utils.TextMeasurer;
+import javafx.collections.ObservableList;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+import src.model.User;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static src.model.User.users;
+import static src.utils.TestFXUtils.setupStage;
+import static src.utils.Utils.setWindowSize;
+
+@ExtendWith(ApplicationExtension.class)
+public class AutosizeTests {
+    private static final String WIDEST = "W".repeat(40);
+
+    @Start
+    void start(Stage stage) {
+        stage.show();
+    }
+
+    @Test
+    void testTextMeasurer() {
+        TextMeasurer measurer = new TextMeasurer(Font.getDefault(), 2);
+        assertEquals(0.0, measurer.measure(null));
+        assertEquals(0.0, measurer.measure(""));
+
+        Text text = new Text("Hello World");
+        double expected = Math.ceil(text.getLayoutBounds().getWidth());
+        assertEquals(expected, measurer.measure("Hello World"));
+        assertEquals(expected, measurer.measure("Hello World")); // Cached
+
+        assertTrue(measurer.measure(WIDEST) > measurer.measure("W"));
+        assertEquals(measurer.measure(WIDEST), measurer.measureMax(List.of("W", WIDEST, "WW")));
+        assertEquals(0.0, measurer.measureMax(List.of()));
+    }
+
+    @Test
+    void testSamplerModes() {
+        ObservableList<User> items = users(100);
+        items.get(42).setFirstName(WIDEST);
+        AutosizeSampler<User> sampler = new AutosizeSampler<>(User::firstName, Font.getDefault(), 20.0);
+        TextMeasurer measurer = sampler.newMeasurer();
+        double expected = measurer.measure(WIDEST) + 20.0;
+
+        assertEquals(expected, sampler.measure(items, AutosizeMode.ALL, 0, measurer));
+        assertEquals(expected, sampler.measure(items, AutosizeMode.LONGEST, 1, measurer));
+        assertEquals(expected, sampler.measure(items, AutosizeMode.LONGEST, 10, measurer));
+        assertEquals(expected, sampler.measure(items, AutosizeMode.RANDOM, 100, measurer)); // Sample covers all items
+        assertTrue(sampler.measure(items, AutosizeMode.RANDOM, 10, measurer) <= expected);
+
+        assertEquals(-1.0, sampler.measure(items, AutosizeMode.VIEWPORT, 10, measurer));
+        assertEquals(-1.0, sampler.measure(List.of(), AutosizeMode.ALL, 10, measurer));
+    }
+
+    @Test
+    void testSamplerFromFactory(FxRobot robot) {
+        StackPane pane = setupStage();
+        Table table = new Table(users(50));
+        robot.interact(() -> {
+            setWindowSize(pane, 400, -1);
+            table.switchColumnsLayoutMode();
+            pane.getChildren().add(table);
+        });
+
+        // The last column is outside the range, the rows have no cells for it
+        TestColumn<?> column = (TestColumn<?>) table.getColumns().getLast();
+        assertTrue(table.getHelper().columnsRange().getMax() < table.getColumns().size() - 1);
+        assertEquals(0, column.cacheSize());
+
+        AtomicReference<AutosizeSampler<User>> sampler = new AtomicReference<>();
+        robot.interact(() -> sampler.set(AutosizeSampler.of(table, column)));
+        assertNotNull(sampler.get());
+        assertNotNull(sampler.get().getFont());
+        assertTrue(sampler.get().getChrome() >= 0.0);
+
+        // The probe cell is put back in the cache
+        assertEquals(1, column.cacheSize());
+    }
+
+    @Test
+    void testAutosizeColumnsAsync(FxRobot robot) throws Exception {
+        StackPane pane = setupStage();
+        ObservableList<User> items = users(1000);
+        items.get(900).setFirstName(WIDEST); // Far away from the viewport
+        Table table = new Table(items);
+        robot.interact(() -> {
+            setWindowSize(pane, 1200, -1);
+            table.setColumnsWidth(80.0);
+            table.switchColumnsLayoutMode();
+            table.setAutosizeMode(AutosizeMode.ALL);
+            pane.getChildren().add(table);
+        });
+
+        AtomicReference<CompletableFuture<Void>> future = new AtomicReference<>();
+        robot.interact(() -> future.set(table.autosizeColumnsAsync()));
+        future.get().get(5, TimeUnit.SECONDS);
+        robot.interact(() -> {});
+
+        VFXTableColumn<User, ? extends VFXTableCell<User>> column = table.getColumns().getFirst();
+        AtomicReference<Double> expected = new AtomicReference<>();
+        robot.interact(() -> {
+            AutosizeSampler<User> sampler = AutosizeSampler.of(table, column);
+            double textW = sampler.newMeasurer().measure(WIDEST);
+            double headerW = column.computePrefWidth(-1);
+            expected.set(Math.max(Math.max(80.0, headerW), textW + sampler.getChrome()) + table.getExtraAutosizeWidth());
+        });
+        assertEquals(expected.get(), column.getWidth(), 1.0);
+        assertTrue(column.getWidth() > 180.0);
+    }
+}
@@ -307,7 +307,7 @@ public class ColumnsLayoutCacheTests {
 
         // Change the columns' minimum width
         robot.interact(() -> table.setColumnsWidth(200.0));
-        cache.assertPositionCount(0);
+        cache.assertPositionCount(1); // Column 0 is always valid
         cache.assertInvalid(0, 3, 4, 5, 6);
         // Validate all
         assertEquals(0, cache.getColumnPos(0));
@@ -320,7 +320,7 @@ public class ColumnsLayoutCacheTests {
 
         // Add a column
         robot.interact(() -> table.getColumns().add(3, new EmptyColumn("Add", 999)));
-        cache.assertPositionCount(0);
+        cache.assertPositionCount(1);
         assertFalse(cache.isValid());
         cache.assertInvalid(3, 7);
         // Validate all
@@ -335,7 +335,7 @@ public class ColumnsLayoutCacheTests {
 
         // Remove column
         robot.interact(() -> table.getColumns().remove(3));
-        cache.assertPositionCount(0);
+        cache.assertPositionCount(1);
         assertFalse(cache.isValid());
         cache.assertInvalid(6);
         // Validate all
@@ -501,10 +501,8 @@ public class ColumnsLayoutCacheTests {
         }
 
         void assertPosInvalid(int min, int max) {
-            ObservableList<VFXTableColumn<User, ? extends VFXTableCell<User>>> columns = getTable().getColumns();
             for (int i = min; i <= max; i++) {
-                VFXTableColumn<User, ? extends VFXTableCell<User>> c = columns.get(i);
-                assertEquals(-1.0, getCacheMap().get(c).getPos());
+                assertFalse(isPositionValid(i));
             }
         }
 
@@ -524,8 +522,8 @@ public class ColumnsLayoutCacheTests {
 
         void assertPositionCount(int expected) {
             long cnt = getCacheMap().values().stream()
-                .map(LayoutInfo::getPos)
-                .filter(x -> x >= 0.0)
+                .map(LayoutInfo::getIndex)
+                .filter(this::isPositionValid)
                 .count();
             assertEquals(expected, cnt);
         }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package interactive.table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static interactive.table.TableTestUtils.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static src.model.User.users;
+import static src.utils.TestFXUtils.*;
+
+@ExtendWith(ApplicationExtension.class)
+public class PaginatedTableTests {
+
+    @Start
+    void start(Stage stage) {stage.show();}
+
+    @BeforeEach
+    void setup() {
+        resetCounters();
+    }
+
+    @Test
+    void testInit(FxRobot robot) {
+        StackPane pane = setupStage();
+        PTable table = new PTable(users(45));
+        robot.interact(() -> pane.getChildren().add(table));
+
+        // 10 rows per page, no buffer
+        assertEquals(4, table.getMaxPage());
+        assertEquals(352.0, table.getHeight());
+        assertState(table, IntegerRange.of(0, 9), IntegerRange.of(0, 6));
+        assertRowsCounter(10, 10, 10, 0, 0, 0);
+    }
+
+    @Test
+    void testPageChanges(FxRobot robot) {
+        StackPane pane = setupStage();
+        PTable table = new PTable(users(45));
+        robot.interact(() -> pane.getChildren().add(table));
+        assertState(table, IntegerRange.of(0, 9), IntegerRange.of(0, 6));
+        resetCounters();
+
+        // Rows are re-bound in place, no creation, no layout, columns untouched
+        robot.interact(table::next);
+        assertEquals(1, table.getPage());
+        assertEquals(320.0, table.getVPos());
+        assertState(table, IntegerRange.of(10, 19), IntegerRange.of(0, 6));
+        assertEquals(0, counter.getCreated());
+        assertEquals(0, counter.getLayoutCnt());
+        assertRowsCounter(0, 10, 10, 0, 0, 0);
+
+        // Last page is incomplete, 5 rows go to the cache
+        robot.interact(() -> table.setPage(4));
+        assertState(table, IntegerRange.of(40, 44), IntegerRange.of(0, 6));
+        assertRowsCounter(0, 5, 5, 0, 5, 0);
+
+        // Back to a full page, 5 rows come from the cache
+        robot.interact(table::previous);
+        assertState(table, IntegerRange.of(30, 39), IntegerRange.of(0, 6));
+        assertRowsCounter(0, 10, 10, 5, 0, 0);
+
+        // Max page changes, page is corrected
+        robot.interact(() -> table.getItems().remove(15, 45));
+        assertEquals(1, table.getMaxPage());
+        assertEquals(1, table.getPage());
+        assertState(table, IntegerRange.of(10, 14), IntegerRange.of(0, 6));
+    }
+
+    @Test
+    void testPrefetch(FxRobot robot) {
+        StackPane pane = setupStage();
+        PTable table = new PTable(users(45));
+        List<Integer> pages = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        table.setPagePrefetcher((p, l) -> {
+            pages.add(p);
+            sizes.add(l.size());
+        });
+        robot.interact(() -> pane.getChildren().add(table));
+        assertEquals(List.of(1), pages);
+
+        robot.interact(table::next);
+        robot.interact(() -> table.setPage(3));
+        assertEquals(List.of(1, 2, 4), pages);
+        assertEquals(List.of(10, 10, 5), sizes);
+
+        // Nothing after the last page
+        robot.interact(table::next);
+        assertEquals(List.of(1, 2, 4), pages);
+
+        // Items changes prefetch again, exactly once, be it incrementally (append outside the page)...
+        robot.interact(() -> table.setPage(0));
+        robot.interact(() -> table.getItems().addAll(users(1)));
+        assertEquals(List.of(1, 2, 4, 1, 1), pages);
+
+        // ...or by falling back to the full algorithm (replacement in the page)
+        robot.interact(() -> table.getItems().set(0, users(1).getFirst()));
+        assertEquals(List.of(1, 2, 4, 1, 1, 1), pages);
+    }
+}
@@ -41,6 +41,8 @@ import io.github.palexdev.virtualizedfx.table.VFXTableHelper.FixedTableHelper;
 import io.github.palexdev.virtualizedfx.table.VFXTableHelper.VariableTableHelper;
 import io.github.palexdev.virtualizedfx.table.defaults.VFXDefaultTableColumn;
 import io.github.palexdev.virtualizedfx.table.defaults.VFXDefaultTableRow;
+import io.github.palexdev.virtualizedfx.table.paginated.VFXPaginatedTable;
+import io.github.palexdev.virtualizedfx.table.paginated.VFXPaginatedTableSkin;
 import io.github.palexdev.virtualizedfx.utils.Utils;
 import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
 import javafx.collections.ObservableList;
@@ -445,6 +447,34 @@ public class TableTestUtils {
         }
     }
 
+    public static class PTable extends VFXPaginatedTable<User> {
+        public PTable(ObservableList<User> items) {
+            super(items, Table.columns());
+            setColumnsSize(Size.size(180, 32));
+        }
+
+        @Override
+        protected Function<User, VFXTableRow<User>> defaultRowFactory() {
+            return TestRow::new;
+        }
+
+        @Override
+        public Supplier<MFXSkinBase<? extends Node>> defaultSkinFactory() {
+            return () -> new VFXPaginatedTableSkin<>(this) {
+                @Override
+                protected void onLayoutCompleted(boolean done) {
+                    super.onLayoutCompleted(done);
+                    if (done && !getState().isEmpty()) counter.layout();
+                }
+            };
+        }
+
+        @Override
+        public VFXCellsCache<User, VFXTableRow<User>> getCache() {
+            return super.getCache();
+        }
+    }
+
     public static class TestColumn<E> extends VFXDefaultTableColumn<User, UserCell<E>> implements Comparable<TestColumn<E>> {
         private final int priority;
 
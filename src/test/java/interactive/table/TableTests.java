@@ -22,6 +22,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.google.gson.reflect.TypeToken;
 import io.github.palexdev.mfxcore.base.beans.Size;
@@ -46,15 +48,18 @@ import javafx.animation.Interpolator;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 import src.assets.TestResources;
 import src.model.FXUser;
 import src.model.User;
@@ -290,6 +295,27 @@ public class TableTests {
         assertRowsCounter(6, 16, 16, 10, 0, 0);
     }
 
+    @Test
+    void testPopulateCacheAllAsync(FxRobot robot) throws TimeoutException {
+        StackPane pane = setupStage();
+        Table table = new Table(users(50));
+        robot.interact(() -> table.populateCacheAllAsync(5, Duration.millis(2)));
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> table.getPopulateAllProgress() == 1.0);
+
+        // All the caches are full, and the cells are already skinned
+        assertEquals(table.getRowsCacheCapacity(), table.rowsCacheSize());
+        for (VFXTableColumn<User, ? extends VFXTableCell<User>> column : table.getColumns()) {
+            assertEquals(column.getCellsCacheCapacity(), column.cacheSize());
+            for (UserCell<?> cell : ((TestColumn<?>) column).cache().cells()) {
+                assertNotNull(cell.getTable());
+                assertNotNull(cell.getSkin());
+            }
+        }
+
+        robot.interact(() -> pane.getChildren().add(table));
+        assertState(table, IntegerRange.of(0, 15), IntegerRange.of(0, 6));
+    }
+
     @Test
     void testScrollVertical(FxRobot robot) {
         StackPane pane = setupStage();
@@ -322,6 +348,24 @@ public class TableTests {
         assertRowsCounter(0, 7, 7, 0, 0, 0);
     }
 
+    @Test
+    void testScrollSameItem(FxRobot robot) {
+        StackPane pane = setupStage();
+        User user = users(1).getFirst();
+        Table table = new Table(FXCollections.observableArrayList(Collections.nCopies(50, user)));
+        robot.interact(() -> pane.getChildren().add(table));
+
+        assertState(table, IntegerRange.of(0, 15), IntegerRange.of(0, 6));
+        assertCounter(112, 1, 112, 112, 0, 0, 0);
+        assertRowsCounter(16, 16, 16, 0, 0, 0);
+
+        // Rows are moved to new indexes, but they already hold the item, so cells are not updated
+        robot.interact(() -> table.setVPos(400.0));
+        assertState(table, IntegerRange.of(10, 25), IntegerRange.of(0, 6));
+        assertCounter(0, 1, 0, 0, 0, 0, 0);
+        assertRowsCounter(0, 10, 10, 0, 0, 0);
+    }
+
     @Test
     void testScrollHorizontal(FxRobot robot) {
         StackPane pane = setupStage();
@@ -356,6 +400,90 @@ public class TableTests {
         assertCounter(6, 1, 16, 16, 10, 16, 6);
     }
 
+    @Test
+    void testVariableRowsHeight(FxRobot robot) {
+        StackPane pane = setupStage();
+        Table table = new Table(users(50));
+        robot.interact(() -> {
+            table.setVariableRowsHeight(true);
+            pane.getChildren().add(table);
+        });
+
+        VFXTableHelper.AbstractHelper<User> helper = (VFXTableHelper.AbstractHelper<User>) table.getHelper();
+        assertState(table, IntegerRange.of(0, 15), IntegerRange.of(0, 6));
+        double oldHeight = helper.getRowHeight(2);
+        double oldMaxY = table.getVirtualMaxY();
+
+        // Make row 2 taller, only that row is affected
+        VFXTableRow<User> row2 = table.getState().getRowsByIndexUnmodifiable().get(2);
+        robot.interact(() -> {
+            row2.getCellsUnmodifiable().values().forEach(c -> ((Region) c.toNode()).setMinHeight(100.0));
+            table.requestViewportLayout();
+        });
+        assertEquals(100.0, helper.getRowHeight(2));
+        assertEquals(oldMaxY + 100.0 - oldHeight, table.getVirtualMaxY());
+        assertEquals(100.0, row2.getHeight());
+        assertEquals(helper.getRowPos(2) + 100.0, helper.getRowPos(3));
+        VFXTableRow<User> row3 = table.getState().getRowsByIndexUnmodifiable().get(3);
+        assertEquals(helper.getRowPos(3), row3.getLayoutY());
+
+        // Scroll to a row after the tall one
+        robot.interact(() -> {
+            row2.getCellsUnmodifiable().values().forEach(c -> ((Region) c.toNode()).setMinHeight(Region.USE_COMPUTED_SIZE));
+            table.scrollToRow(20);
+        });
+        assertEquals(helper.getRowPos(20), table.getVPos());
+        assertEquals(20, helper.firstRow());
+        assertEquals(100.0, helper.getRowHeight(2));
+
+        // Disable, measurements are discarded
+        robot.interact(() -> table.setVariableRowsHeight(false));
+        assertEquals(50 * table.getRowsHeight(), table.getVirtualMaxY());
+        assertEquals(table.getRowsHeight(), helper.getRowHeight(2));
+        assertEquals(20 * table.getRowsHeight(), helper.getRowPos(20));
+    }
+
+    @Test
+    void testVariableRowsHeightItemsChanges(FxRobot robot) {
+        StackPane pane = setupStage();
+        Table table = new Table(users(50));
+        robot.interact(() -> {
+            table.setVariableRowsHeight(true);
+            pane.getChildren().add(table);
+        });
+
+        VFXTableHelper.AbstractHelper<User> helper = (VFXTableHelper.AbstractHelper<User>) table.getHelper();
+        double h = table.getRowsHeight();
+
+        // Make row 2 taller, then scroll away so that it's not measured again
+        VFXTableRow<User> row2 = table.getState().getRowsByIndexUnmodifiable().get(2);
+        robot.interact(() -> {
+            row2.getCellsUnmodifiable().values().forEach(c -> ((Region) c.toNode()).setMinHeight(100.0));
+            table.requestViewportLayout();
+        });
+        robot.interact(() -> {
+            row2.getCellsUnmodifiable().values().forEach(c -> ((Region) c.toNode()).setMinHeight(Region.USE_COMPUTED_SIZE));
+            table.scrollToRow(20);
+        });
+        assertEquals(100.0, helper.getRowHeight(2));
+
+        // Insert above the viewport, the measurement follows its item
+        robot.interact(() -> table.getItems().addAll(0, users(3)));
+        assertEquals(h, helper.getRowHeight(2));
+        assertEquals(100.0, helper.getRowHeight(5));
+        assertEquals(53 * h - h + 100.0, table.getVirtualMaxY());
+
+        // Remove above the viewport, the measurement follows its item again
+        robot.interact(() -> table.getItems().remove(0, 4));
+        assertEquals(100.0, helper.getRowHeight(1));
+        assertEquals(49 * h - h + 100.0, table.getVirtualMaxY());
+
+        // Remove the measured item, its measurement is discarded
+        robot.interact(() -> table.getItems().remove(1));
+        assertEquals(h, helper.getRowHeight(1));
+        assertEquals(48 * h, table.getVirtualMaxY());
+    }
+
     @Test
     void testScrollHorizontalNoItems(FxRobot robot) {
         StackPane pane = setupStage();
@@ -1475,13 +1603,13 @@ public class TableTests {
         robot.interact(() -> table.getItems().addAll(29, users(4)));
         assertState(table, IntegerRange.of(16, 31), IntegerRange.of(0, 6));
         assertCounter(0, 1, 0, 21, 0, 0, 0);
-        assertRowsCounter(0, 16, 3, 0, 0, 0);
+        assertRowsCounter(0, 3, 3, 0, 0, 0);
 
         // Add after no intersect
         robot.interact(() -> table.getItems().addAll(users(2)));
         assertState(table, IntegerRange.of(16, 31), IntegerRange.of(0, 6));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
-        assertRowsCounter(0, 16, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0);
+        assertRowsCounter(0, 0, 0, 0, 0, 0);
     }
 
     @Test
@@ -1502,15 +1630,15 @@ public class TableTests {
         robot.interact(() -> table.getItems().add(new User()));
         assertState(table, IntegerRange.of(35, 50), IntegerRange.of(0, 6));
         assertCounter(0, 1, 0, 7, 0, 0, 0);
-        assertRowsCounter(0, 16, 1, 0, 0, 0);
+        assertRowsCounter(0, 1, 1, 0, 0, 0);
 
         // Add all at end (for)
         robot.interact(() -> {
             for (int i = 0; i < 3; i++) table.getItems().add(new User());
         });
         assertState(table, IntegerRange.of(36, 51), IntegerRange.of(0, 6));
-        assertCounter(0, 3, 0, 7, 0, 0, 0);
-        assertRowsCounter(0, 48, 1, 0, 0, 0);
+        assertCounter(0, 1, 0, 7, 0, 0, 0);
+        assertRowsCounter(0, 1, 1, 0, 0, 0);
 
         // Add before no intersect
         robot.interact(() -> table.getItems().addAll(0, users(2)));
@@ -1588,13 +1716,13 @@ public class TableTests {
         robot.interact(() -> removeAll(table, 31, 32, 33));
         assertState(table, IntegerRange.of(16, 31), IntegerRange.of(0, 6));
         assertCounter(0, 1, 0, 7, 0, 0, 0);
-        assertRowsCounter(0, 16, 1, 0, 0, 0);
+        assertRowsCounter(0, 1, 1, 0, 0, 0);
 
         // Remove after no intersect
         robot.interact(() -> removeAll(table, 32, 33));
         assertState(table, IntegerRange.of(16, 31), IntegerRange.of(0, 6));
-        assertCounter(0, 1, 0, 0, 0, 0, 0);
-        assertRowsCounter(0, 16, 0, 0, 0, 0);
+        assertCounter(0, 0, 0, 0, 0, 0, 0);
+        assertRowsCounter(0, 0, 0, 0, 0, 0);
 
         // Remove enough to change vPos and range
         robot.interact(() -> removeAll(table, IntegerRange.of(0, 18)));
@@ -1610,7 +1738,7 @@ public class TableTests {
         assertEquals(208, table.getVPos());
         assertState(table, IntegerRange.of(2, 17), IntegerRange.of(0, 6));
         assertCounter(0, 1, 0, 14, 0, 0, 0);
-        assertRowsCounter(0, 16, 2, 0, 0, 0);
+        assertRowsCounter(0, 2, 2, 0, 0, 0);
     }
 
     @Test
@@ -1632,7 +1760,7 @@ public class TableTests {
         assertEquals(1104.0, table.getVPos());
         assertState(table, IntegerRange.of(30, 45), IntegerRange.of(0, 6));
         assertCounter(0, 1, 0, 28, 0, 0, 0);
-        assertRowsCounter(0, 16, 4, 0, 0, 0);
+        assertRowsCounter(0, 4, 4, 0, 0, 0);
 
         // Remove at end (for)
         robot.interact(() -> {
@@ -1641,7 +1769,7 @@ public class TableTests {
         assertEquals(976.0, table.getVPos());
         assertState(table, IntegerRange.of(26, 41), IntegerRange.of(0, 6));
         assertCounter(0, 4, 0, 28, 0, 0, 0);
-        assertRowsCounter(0, 64, 4, 0, 0, 0);
+        assertRowsCounter(0, 4, 4, 0, 0, 0);
 
         // Remove before no intersect
         robot.interact(() -> removeAll(table, 0, 1));
@@ -1928,6 +2056,30 @@ public class TableTests {
         }
     }
 
+    @Test
+    void testAutosizeOffscreenVariable(FxRobot robot) {
+        StackPane pane = setupStage();
+        Table table = new Table(FXCollections.observableArrayList(AUTOSIZE_USERS));
+        robot.interact(() -> {
+            table.setColumnsWidth(80.0);
+            table.switchColumnsLayoutMode();
+            pane.getChildren().add(table);
+        });
+
+        // The last column is far from the viewport, its cells are not built, but the column is in the scene graph
+        VFXTableColumn<User, ? extends VFXTableCell<User>> last = table.getColumns().getLast();
+        int lIdx = table.getColumns().size() - 1;
+        assertTrue(table.getState().getColumnsRange().getMax() < lIdx);
+        assertNotNull(last.getParent());
+        assertNotNull(last.getSkin());
+        assertFalse(last.isVisible());
+
+        // The width is computed immediately, there's no need to scroll to the column
+        robot.interact(() -> table.autosizeColumn(lIdx));
+        assertTrue(table.getState().getColumnsRange().getMax() < lIdx);
+        assertEquals(384.0, table.getHelper().getColumnWidth(last), 5);
+    }
+
     @Test
     void testAutosizeFixed(FxRobot robot) {
         StackPane pane = setupStage();
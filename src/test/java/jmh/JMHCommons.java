@@ -20,13 +20,54 @@ package jmh;
 
 import java.util.SequencedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.utils.GridUtils;
 import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import javafx.application.Platform;
 import javafx.scene.Node;
 
 public class JMHCommons {
+    /// JVM arguments to run JavaFX without a display, by using the built-in headless platform and the software pipeline.
+    /// Benchmarks that use [#startFX()] should append these to the forked JVMs.
+    public static final String[] HEADLESS_ARGS = {"-Dglass.platform=Headless", "-Dprism.order=sw"};
+
+    private static boolean fxStarted = false;
+
+    //================================================================================
+    // Static Methods
+    //================================================================================
+
+    /// Starts the JavaFX toolkit, if not already started. The properties in [#HEADLESS_ARGS] are also set here, in case
+    /// they were not passed to the JVM.
+    public static synchronized void startFX() {
+        if (fxStarted) return;
+        System.setProperty("glass.platform", System.getProperty("glass.platform", "Headless"));
+        System.setProperty("prism.order", System.getProperty("prism.order", "sw"));
+        Platform.setImplicitExit(false);
+        Platform.startup(() -> {});
+        fxStarted = true;
+    }
+
+    /// Runs the given action on the JavaFX thread and waits for it to complete. Exceptions are re-thrown.
+    public static void runFX(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        try {
+            task.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
+        }
+    }
 
     //================================================================================
     // Internal Classes
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package jmh;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.virtualizedfx.utils.VFXCellsCache;
+import jmh.JMHCommons.MockCell;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/// Exercises [VFXCellsCache] with the typical patterns of a container: caching and de-caching cells while scrolling,
+/// and removing specific cells (e.g., when a column is removed from a table).
+/// A plain [LinkedList] is used as a baseline, since that is what the cache used to be backed by.
+///
+/// To compare the allocation rates too, run with the GC profiler, `.addProfiler(GCProfiler.class)`.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestCellsCache {
+    private static final int CAPACITY = 100;
+
+    private MockCell[] cells;
+    private VFXCellsCache<Integer, MockCell> cache;
+    private LinkedList<MockCell> baseline;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setupCells() {
+        cells = new MockCell[CAPACITY];
+        for (int i = 0; i < CAPACITY; i++) cells[i] = new MockCell(i);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupCache() {
+        cache = new VFXCellsCache<>(null, CAPACITY);
+        baseline = new LinkedList<>();
+        for (MockCell c : cells) {
+            cache.cache(c);
+            baseline.add(c);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void cacheTakeCycle(Blackhole bh) {
+        for (int i = 0; i < CAPACITY; i++) {
+            MockCell c = cache.take();
+            bh.consume(c);
+            cache.cache(c);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void baselineCacheTakeCycle(Blackhole bh) {
+        for (int i = 0; i < CAPACITY; i++) {
+            MockCell c = baseline.poll();
+            bh.consume(c);
+            baseline.add(c);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void removeAll(Blackhole bh) {
+        // From the newest to the oldest, the worst case for a linear scan
+        for (int i = CAPACITY - 1; i >= 0; i--) cache.remove(cells[i]);
+        bh.consume(cache.size());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void baselineRemoveAll(Blackhole bh) {
+        for (int i = CAPACITY - 1; i >= 0; i--) baseline.remove(cells[i]);
+        bh.consume(baseline.size());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.virtualizedfx.utils.SizeIndex;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/// Compares the way `ColumnsLayoutCache` used to compute positions (a per-column cache invalidated from the resized
+/// column onward, re-computed by walking the previous columns, plus a full sum for the total width) with the [SizeIndex]
+/// it uses now, on a table with 1000 columns. Each operation resizes a random column and then queries the position of
+/// the last column and the total width, which is what a layout pass after a resize needs.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestColumnsLayout {
+    private static final int COLUMNS = 1_000;
+
+    private final Random random = new Random(7);
+    private double[] widths;
+    private double[] positions;
+    private SizeIndex index;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        widths = new double[COLUMNS];
+        positions = new double[COLUMNS];
+        index = new SizeIndex(COLUMNS, 0.0);
+        for (int i = 0; i < COLUMNS; i++) {
+            double w = 100 + random.nextInt(100);
+            widths[i] = w;
+            index.set(i, w);
+        }
+        Arrays.fill(positions, -1.0);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void naiveResize(Blackhole bh) {
+        int col = random.nextInt(COLUMNS);
+        widths[col] = 100 + random.nextInt(100);
+        for (int i = col + 1; i < COLUMNS; i++) {
+            if (positions[i] == -1.0) break;
+            positions[i] = -1.0;
+        }
+        bh.consume(naivePos(COLUMNS - 1));
+        bh.consume(Arrays.stream(widths).sum());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void indexResize(Blackhole bh) {
+        int col = random.nextInt(COLUMNS);
+        index.set(col, 100 + random.nextInt(100));
+        bh.consume(index.offsetOf(COLUMNS - 1));
+        bh.consume(index.total());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void naiveColumnAt(Blackhole bh) {
+        double x = random.nextDouble() * naivePos(COLUMNS - 1);
+        int lo = 0;
+        int hi = COLUMNS - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (naivePos(mid) <= x) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        bh.consume(lo);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void indexColumnAt(Blackhole bh) {
+        double x = random.nextDouble() * index.offsetOf(COLUMNS - 1);
+        bh.consume(index.indexAt(x));
+    }
+
+    //================================================================================
+    // Algorithms
+    //================================================================================
+
+    /// The old recursive algorithm, written as a loop to avoid stack overflows.
+    private double naivePos(int col) {
+        if (positions[col] != -1.0) return positions[col];
+        int start = col;
+        while (start > 0 && positions[start] == -1.0) start--;
+        if (start == 0) positions[0] = 0.0;
+        for (int i = start + 1; i <= col; i++) {
+            positions[i] = positions[i - 1] + widths[i - 1];
+        }
+        return positions[col];
+    }
+}
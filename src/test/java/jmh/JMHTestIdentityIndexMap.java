@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package jmh;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.SequencedSet;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.virtualizedfx.utils.IdentityIndexMap;
+import io.github.palexdev.virtualizedfx.utils.IndexBiMap;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/// Compares the `byKey` mappings of [IndexBiMap] before and after [IdentityIndexMap]: an [IdentityHashMap] with a
+/// [LinkedHashSet] for every key against the inline `int` storage. Each invocation simulates a state rebuild: a new map
+/// is filled with the items in the viewport, then every item of the previous state is looked up and removed.
+/// Run with `-prof gc` to also compare the allocation rate.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestIdentityIndexMap {
+    @Param({"50", "500"})
+    public int cells;
+    @Param({"0", "10"})
+    public int duplicatesPercent;
+
+    private Object[] items;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = new Object[cells];
+        int step = duplicatesPercent == 0 ? 0 : 100 / duplicatesPercent;
+        for (int i = 0; i < cells; i++) {
+            items[i] = (step > 0 && i > 0 && i % step == 0) ? items[i - 1] : new Object();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void setsRebuild(Blackhole bh) {
+        Map<Object, SequencedSet<Integer>> map = new IdentityHashMap<>();
+        for (int i = 0; i < items.length; i++) {
+            map.computeIfAbsent(items[i], k -> new LinkedHashSet<>()).add(i);
+        }
+        for (Object item : items) {
+            SequencedSet<Integer> set = map.get(item);
+            if (set == null) continue;
+            bh.consume(set.removeFirst());
+            if (set.isEmpty()) map.remove(item);
+        }
+        bh.consume(map);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void inlineRebuild(Blackhole bh) {
+        IdentityIndexMap<Object> map = new IdentityIndexMap<>(items.length);
+        for (int i = 0; i < items.length; i++) {
+            map.add(items[i], i);
+        }
+        for (Object item : items) {
+            bh.consume(map.pollFirst(item));
+        }
+        bh.consume(map);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.github.palexdev.mfxcore.behavior.MFXBehavior;
+import io.github.palexdev.virtualizedfx.cells.VFXSimpleCell;
+import io.github.palexdev.virtualizedfx.list.VFXList;
+import io.github.palexdev.virtualizedfx.list.VFXListManager;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import src.utils.Utils;
+
+import static jmh.JMHCommons.runFX;
+import static jmh.JMHCommons.startFX;
+
+/// Measures `VFXListManager.onItemsChanged(Change)` on a real [VFXList], booted headlessly like [JMHTestManagers] does.
+///
+/// The changes are made through the items list, exactly like a user would do:
+///
+/// - at the end, far away from the viewport, where the incremental algorithm keeps the state as is
+///
+/// - in the middle, right before the viewport, where the cells are only shifted by index
+///
+/// - in the middle, inside the viewport
+///
+/// Each operation adds an item and then removes it, so that the list's size and the viewport stay the same across
+/// invocations.
+///
+/// Every benchmark runs twice, see [#incremental]. When `false`, the list uses a [FullItemsManager], which sends every
+/// change to the full, by-item, algorithm `VFXListManager.onItemsChanged()`, so that the two algorithms are compared on
+/// the very same workloads. [#replaceAll()] is a bulk change which overlaps the viewport, so it always takes the full
+/// path, and it's there only as a reference for the cost of a change which cannot be handled incrementally.
+///
+/// Each invocation performs [#OPS] operations on the JavaFX thread, to amortize the cost of the thread hop.
+/// The layout pulse is not included, only the manager's work is measured.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestItemsChanged {
+    private static final int OPS = 100;
+    private static final int ITEMS = 100_000;
+    private static final int FIRST = 5_000;
+    private static final double W = 400.0;
+    private static final double H = 600.0;
+
+    @Param({"true", "false"})
+    public boolean incremental;
+
+    private Stage stage;
+    private ObservableList<Integer> items;
+    private List<Integer> copy;
+    private VFXList<Integer, VFXSimpleCell<Integer>> list;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .jvmArgsAppend(JMHCommons.HEADLESS_ARGS)
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startFX();
+        runFX(() -> {
+            items = Utils.items(ITEMS);
+            copy = List.copyOf(items);
+            list = incremental ? new VFXList<>(items, VFXSimpleCell::new) : new FullItemsList(items);
+
+            // The list is not managed, so that the size set here is not changed by the layout
+            Pane root = new Pane(list);
+            list.setManaged(false);
+            list.resize(W, H);
+            stage = new Stage();
+            stage.setScene(new Scene(root, W, H));
+            stage.show();
+            root.applyCss();
+            root.layout();
+            list.setVPos(FIRST * list.getCellSize());
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        runFX(() -> stage.close());
+    }
+
+    //================================================================================
+    // Benchmarks
+    //================================================================================
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void addRemoveAtEnd() {
+        runFX(() -> addRemove(ITEMS));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void addRemoveBeforeViewport() {
+        runFX(() -> addRemove(FIRST - 10));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void addRemoveInViewport() {
+        runFX(() -> addRemove(FIRST + 5));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void replaceAll() {
+        runFX(() -> {
+            for (int i = 0; i < OPS; i++) {
+                items.setAll(copy);
+            }
+        });
+    }
+
+    //================================================================================
+    // Operations
+    //================================================================================
+
+    /// Adds and then removes an item at the given index [#OPS] times.
+    private void addRemove(int index) {
+        for (int i = 0; i < OPS; i++) {
+            items.add(index, -1);
+            items.remove(index);
+        }
+    }
+
+    //================================================================================
+    // Internal Classes
+    //================================================================================
+
+    /// A [VFXList] which uses the [FullItemsManager].
+    private static class FullItemsList extends VFXList<Integer, VFXSimpleCell<Integer>> {
+        FullItemsList(ObservableList<Integer> items) {
+            super(items, VFXSimpleCell::new);
+        }
+
+        @Override
+        public Supplier<MFXBehavior<? extends Node>> defaultBehaviorFactory() {
+            return () -> new FullItemsManager(this);
+        }
+    }
+
+    /// A [VFXListManager] which ignores the information carried by the [Change] and always runs the full algorithm.
+    private static class FullItemsManager extends VFXListManager<Integer, VFXSimpleCell<Integer>> {
+        FullItemsManager(VFXList<Integer, VFXSimpleCell<Integer>> list) {
+            super(list);
+        }
+
+        @Override
+        protected void onItemsChanged(Change<? extends Integer> change) {
+            onItemsChanged();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.github.palexdev.virtualizedfx.base.VFXContainer;
+import io.github.palexdev.virtualizedfx.cells.VFXSimpleCell;
+import io.github.palexdev.virtualizedfx.cells.VFXSimpleTableCell;
+import io.github.palexdev.virtualizedfx.cells.base.VFXTableCell;
+import io.github.palexdev.virtualizedfx.grid.VFXGrid;
+import io.github.palexdev.virtualizedfx.list.VFXList;
+import io.github.palexdev.virtualizedfx.table.VFXTable;
+import io.github.palexdev.virtualizedfx.table.VFXTableColumn;
+import io.github.palexdev.virtualizedfx.table.defaults.VFXDefaultTableColumn;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import src.utils.Utils;
+
+import static jmh.JMHCommons.runFX;
+import static jmh.JMHCommons.startFX;
+
+/// Unlike the other benchmarks, which run copies of the algorithms on mock states, this drives the real
+/// `VFXListManager`, `VFXGridManager` and `VFXTableManager`, by booting JavaFX with the headless platform
+/// (see [JMHCommons#HEADLESS_ARGS]) and showing the containers in a stage.
+///
+/// The managers' methods are protected, so they are triggered through the public API, exactly like a user would do:
+///
+/// - `onPositionChanged`: by scrolling one cell/row at a time
+///
+/// - `onItemsChanged`: by replacing an item in the viewport
+///
+/// - `onGeometryChanged`: by resizing the container so that one cell/row more/less is needed
+///
+/// Each invocation performs [#OPS] operations on the JavaFX thread, to amortize the cost of the thread hop.
+/// The layout pulse is not included, only the managers' work is measured. The [GCProfiler] reports the allocation rate.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestManagers {
+    private static final int OPS = 100;
+    private static final int ITEMS = 100_000;
+    private static final int COLUMNS = 20;
+    private static final double W = 800.0;
+    private static final double H = 600.0;
+
+    private Stage stage;
+    private ObservableList<Integer> lItems;
+    private ObservableList<Integer> gItems;
+    private ObservableList<Integer> tItems;
+    private VFXList<Integer, VFXSimpleCell<Integer>> list;
+    private VFXGrid<Integer, VFXSimpleCell<Integer>> grid;
+    private VFXTable<Integer> table;
+    private boolean toggle = false;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .jvmArgsAppend(JMHCommons.HEADLESS_ARGS)
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startFX();
+        runFX(() -> {
+            lItems = Utils.items(ITEMS);
+            gItems = Utils.items(ITEMS);
+            tItems = Utils.items(ITEMS);
+
+            list = new VFXList<>(lItems, VFXSimpleCell::new);
+            grid = new VFXGrid<>(gItems, VFXSimpleCell::new);
+            grid.setColumnsNum(10);
+
+            List<VFXTableColumn<Integer, ? extends VFXTableCell<Integer>>> columns = new ArrayList<>();
+            for (int i = 0; i < COLUMNS; i++) {
+                VFXDefaultTableColumn<Integer, VFXSimpleTableCell<Integer, Integer>> c = new VFXDefaultTableColumn<>("C" + i);
+                c.setCellFactory(item -> new VFXSimpleTableCell<>(item, Function.identity()));
+                columns.add(c);
+            }
+            table = new VFXTable<>(tItems, columns);
+
+            // Containers are not managed, so that the size set here is not changed by the layout
+            Pane root = new Pane();
+            for (Region r : List.of(list, grid, table)) {
+                r.setManaged(false);
+                r.resize(W, H);
+                root.getChildren().add(r);
+            }
+            stage = new Stage();
+            stage.setScene(new Scene(root, W, H));
+            stage.show();
+            root.applyCss();
+            root.layout();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        runFX(() -> stage.close());
+    }
+
+    //================================================================================
+    // List
+    //================================================================================
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void listPositionChanged() {
+        runFX(() -> scroll(list, list.getCellSize(), false));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void listItemsChanged() {
+        runFX(() -> replace(lItems, (int) (list.getVPos() / list.getCellSize())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void listGeometryChanged() {
+        runFX(() -> resize(list, 0, list.getCellSize()));
+    }
+
+    //================================================================================
+    // Grid
+    //================================================================================
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void gridPositionChanged() {
+        runFX(() -> scroll(grid, grid.getCellSize().height(), false));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void gridItemsChanged() {
+        runFX(() -> replace(gItems, (int) (grid.getVPos() / grid.getCellSize().height()) * grid.getColumnsNum()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void gridGeometryChanged() {
+        runFX(() -> resize(grid, 0, grid.getCellSize().height()));
+    }
+
+    //================================================================================
+    // Table
+    //================================================================================
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void tableVPositionChanged() {
+        runFX(() -> scroll(table, table.getRowsHeight(), false));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void tableHPositionChanged() {
+        runFX(() -> scroll(table, table.getColumnsSize().width(), true));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void tableItemsChanged() {
+        runFX(() -> replace(tItems, (int) (table.getVPos() / table.getRowsHeight())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void tableGeometryChanged() {
+        runFX(() -> resize(table, table.getColumnsSize().width(), table.getRowsHeight()));
+    }
+
+    //================================================================================
+    // Operations
+    //================================================================================
+
+    /// Scrolls the given container by the given amount [#OPS] times, wrapping back to 0 at the end.
+    private void scroll(VFXContainer<?> container, double amount, boolean horizontal) {
+        for (int i = 0; i < OPS; i++) {
+            if (horizontal) {
+                double pos = container.getHPos() + amount;
+                container.setHPos(pos > container.getMaxHScroll() ? 0 : pos);
+            } else {
+                double pos = container.getVPos() + amount;
+                container.setVPos(pos > container.getMaxVScroll() ? 0 : pos);
+            }
+        }
+    }
+
+    /// Replaces the item at the given index [#OPS] times.
+    private void replace(ObservableList<Integer> items, int index) {
+        for (int i = 0; i < OPS; i++) {
+            items.set(index, items.get(index) + 1);
+        }
+    }
+
+    /// Grows and shrinks the given region by the given amounts [#OPS] times.
+    private void resize(Region region, double dw, double dh) {
+        for (int i = 0; i < OPS; i++) {
+            toggle = !toggle;
+            region.resize(W + (toggle ? dw : 0), H + (toggle ? dh : 0));
+        }
+    }
+}
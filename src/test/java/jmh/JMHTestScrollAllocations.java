@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package jmh;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.virtualizedfx.cells.base.VFXCell;
+import io.github.palexdev.virtualizedfx.list.VFXList;
+import io.github.palexdev.virtualizedfx.list.VFXListState;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import src.utils.Utils;
+
+import static jmh.JMHCommons.runFX;
+import static jmh.JMHCommons.startFX;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// Measures the allocations of `VFXListManager.onPositionChanged` on a real [VFXList], booted headlessly like
+/// [JMHTestManagers] does, in the steady state. The list is scrolled by one cell at a time, so that at every operation
+/// one cell leaves the viewport and one enters it.
+///
+/// Scrolling is not allocation-free, every operation builds a new state, but what the manager's loop must avoid is
+/// allocating by boxing indexes or by collecting the remaining ones in temporary collections. To isolate it:
+///
+/// - the cells are [BareCell]s, which only store the index and the item, so there are no text updates
+///
+/// - there are [#ITEMS] items, so that the indexes boxed by the state's map always come from the `Integer` cache
+///
+/// - [#stateConstruction(Blackhole)] allocates a state for the same range, which is subtracted from [#scroll()]
+///
+/// The [GCProfiler] reports the normalized allocation rate, `gc.alloc.rate.norm`. The difference between the two
+/// benchmarks must stay below [#MAX_LOOP_BYTES_PER_OP], which only leaves room for the range computed by the helper
+/// and the viewport's position.
+///
+/// Each invocation performs [#OPS] operations on the JavaFX thread, to amortize the cost of the thread hop.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestScrollAllocations {
+    private static final int OPS = 100;
+    private static final int ITEMS = 128;
+    private static final double W = 400.0;
+    private static final double H = 600.0;
+    private static final double MAX_LOOP_BYTES_PER_OP = 256.0;
+    private static final String NORM = "gc.alloc.rate.norm";
+
+    private Stage stage;
+    private VFXList<Integer, BareCell> list;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .jvmArgsAppend(JMHCommons.HEADLESS_ARGS)
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        Collection<RunResult> results = new Runner(opt).run();
+        double scroll = Double.NaN;
+        double state = Double.NaN;
+        for (RunResult rr : results) {
+            Result<?> norm = rr.getSecondaryResults().get(NORM);
+            assertTrue(norm != null, "GC profiler did not report " + NORM);
+            String benchmark = rr.getParams().getBenchmark();
+            if (benchmark.endsWith(".scroll")) scroll = norm.getScore();
+            if (benchmark.endsWith(".stateConstruction")) state = norm.getScore();
+        }
+        double loop = scroll - state;
+        assertTrue(
+            loop < MAX_LOOP_BYTES_PER_OP,
+            "Expected less than %.0f B/op beyond the state, got %.2f (scroll: %.2f, state: %.2f)"
+                .formatted(MAX_LOOP_BYTES_PER_OP, loop, scroll, state)
+        );
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        startFX();
+        runFX(() -> {
+            list = new VFXList<>(Utils.items(ITEMS), i -> new BareCell());
+
+            // The list is not managed, so that the size set here is not changed by the layout
+            Pane root = new Pane(list);
+            list.setManaged(false);
+            list.resize(W, H);
+            stage = new Stage();
+            stage.setScene(new Scene(root, W, H));
+            stage.show();
+            root.applyCss();
+            root.layout();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        runFX(() -> stage.close());
+    }
+
+    //================================================================================
+    // Benchmarks
+    //================================================================================
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void scroll() {
+        runFX(() -> {
+            double amount = list.getCellSize();
+            for (int i = 0; i < OPS; i++) {
+                double pos = list.getVPos() + amount;
+                list.setVPos(pos > list.getMaxVScroll() ? 0 : pos);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void stateConstruction(Blackhole bh) {
+        runFX(() -> {
+            VFXListState<Integer, BareCell> state = list.getState();
+            for (int i = 0; i < OPS; i++) {
+                bh.consume(new VFXListState<>(list, state.getRange()));
+            }
+        });
+    }
+
+    //================================================================================
+    // Internal Classes
+    //================================================================================
+
+    /// A cell which does nothing but storing its index and item, so that updating it doesn't allocate.
+    private static class BareCell extends Region implements VFXCell<Integer> {
+        private int index;
+        private Integer item;
+
+        @Override
+        public Node toNode() {
+            return this;
+        }
+
+        @Override
+        public void updateIndex(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void updateItem(Integer item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.utils.IndexBiMap;
+import io.github.palexdev.virtualizedfx.utils.IndexBiMap.StateMapBase;
+import jmh.JMHCommons.MockCell;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/// Compares the [java.util.TreeMap] backed [IndexBiMap] with the [io.github.palexdev.virtualizedfx.utils.IntRangeMap]
+/// backed [StateMapBase] when transitioning from a state to the next one because of a scroll by one cell.
+/// Run with `-prof gc` to also compare the allocation rate.
+@State(Scope.Thread)
+@SuppressWarnings("NewClassNamingConvention")
+public class JMHTestStateMap {
+    private static final IntegerRange oldRange = IntegerRange.of(1_000, 1_049);
+    private static final IntegerRange newRange = IntegerRange.of(1_001, 1_050);
+
+    private IndexBiMap<String, MockCell> treeState;
+    private StateMapBase<String, Integer, MockCell> arrayState;
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(5)
+            .threads(1)
+            .measurementIterations(5)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        treeState = new IndexBiMap<>();
+        arrayState = new StateMapBase<>(oldRange);
+        for (Integer i : oldRange) {
+            String item = "Item " + i;
+            treeState.put(i, item, new MockCell(i));
+            arrayState.put(i, item, new MockCell(i));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void treeMapScroll(Blackhole bh) {
+        IndexBiMap<String, MockCell> newState = new IndexBiMap<>();
+        for (Integer index : newRange) {
+            MockCell c = treeState.remove(index);
+            if (c == null) {
+                c = treeState.getByIndex().pollFirstEntry().getValue();
+                c.updateIndex(index);
+            }
+            newState.put(index, "Item " + index, c);
+        }
+        bh.consume(newState);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rangeMapScroll(Blackhole bh) {
+        StateMapBase<String, Integer, MockCell> newState = new StateMapBase<>(newRange);
+        for (int index = newRange.getMin(); index <= newRange.getMax(); index++) {
+            MockCell c = arrayState.remove(index);
+            if (c == null) {
+                c = arrayState.pollFirstValue();
+                c.updateIndex(index);
+            }
+            newState.put(index, "Item " + index, c);
+        }
+        bh.consume(newState);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package misc;
+
+import io.github.palexdev.virtualizedfx.utils.DirectionalBuffer;
+import org.junit.jupiter.api.Test;
+
+import static javafx.geometry.Orientation.HORIZONTAL;
+import static javafx.geometry.Orientation.VERTICAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DirectionalBufferTests {
+
+    @Test
+    void testBias() {
+        DirectionalBuffer db = new DirectionalBuffer().setSmoothing(1.0);
+
+        // First computation, direction unknown
+        assertEquals(0, db.bias(VERTICAL, 0.0, 32.0, 2));
+
+        // Forward by one cell
+        assertEquals(1, db.bias(VERTICAL, 32.0, 32.0, 2));
+        assertEquals(1, db.getDirection(VERTICAL));
+
+        // Fast scroll, capped at the buffer size
+        assertEquals(2, db.bias(VERTICAL, 332.0, 32.0, 2));
+
+        // Same position, last shift is kept
+        assertEquals(2, db.bias(VERTICAL, 332.0, 32.0, 2));
+
+        // Backward
+        assertEquals(-1, db.bias(VERTICAL, 322.0, 32.0, 2));
+        assertEquals(-1, db.getDirection(VERTICAL));
+
+        // Axes are independent
+        assertEquals(0, db.getDirection(HORIZONTAL));
+
+        db.reset();
+        assertEquals(0, db.bias(VERTICAL, 0.0, 32.0, 2));
+    }
+
+    @Test
+    void testSmoothing() {
+        DirectionalBuffer db = new DirectionalBuffer().setSmoothing(0.5);
+        db.bias(VERTICAL, 0.0, 10.0, 10);
+        db.bias(VERTICAL, 100.0, 10.0, 10);
+        assertEquals(50.0, db.getSpeed(VERTICAL));
+        db.bias(VERTICAL, 200.0, 10.0, 10);
+        assertEquals(75.0, db.getSpeed(VERTICAL));
+    }
+}
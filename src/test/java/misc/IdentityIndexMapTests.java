@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package misc;
+
+import java.util.*;
+
+import io.github.palexdev.virtualizedfx.utils.IdentityIndexMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdentityIndexMapTests {
+
+    @Test
+    void testInlineAndPromotion() {
+        String a = new String("A");
+        String b = new String("A");
+        IdentityIndexMap<String> map = new IdentityIndexMap<>();
+        map.add(a, 0);
+        map.add(b, 1);
+        assertEquals(2, map.size());
+        assertEquals(1, map.count(a));
+        assertEquals(1, map.first(b));
+
+        // Duplicate, promoted
+        map.add(a, 5);
+        assertEquals(2, map.count(a));
+        assertEquals(0, map.first(a));
+        assertEquals(List.of(0, 5), indexesOf(map, a));
+
+        // Back to inline
+        assertEquals(0, map.pollFirst(a));
+        assertEquals(1, map.count(a));
+        assertEquals(5, map.first(a));
+        assertTrue(map.remove(a, 5));
+        assertFalse(map.containsKey(a));
+        assertEquals(IdentityIndexMap.NO_INDEX, map.pollFirst(a));
+        assertFalse(map.remove(b, 0));
+        assertTrue(map.remove(b, 1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testRandomAgainstSets() {
+        Random random = new Random(7);
+        Object[] keys = new Object[40];
+        for (int i = 0; i < keys.length; i++) keys[i] = new Object();
+        IdentityIndexMap<Object> map = new IdentityIndexMap<>(4);
+        Map<Object, SequencedSet<Integer>> expected = new IdentityHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            Object key = keys[random.nextInt(keys.length)];
+            int index = random.nextInt(64);
+            SequencedSet<Integer> set = expected.get(key);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    map.add(key, index);
+                    expected.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(index);
+                }
+                case 1 -> {
+                    boolean removed = set != null && set.remove(index);
+                    assertEquals(removed, map.remove(key, index));
+                }
+                default -> {
+                    int first = (set == null || set.isEmpty()) ? IdentityIndexMap.NO_INDEX : set.removeFirst();
+                    assertEquals(first, map.pollFirst(key));
+                }
+            }
+            if (set != null && set.isEmpty()) expected.remove(key);
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.toMap());
+    }
+
+    private List<Integer> indexesOf(IdentityIndexMap<String> map, String key) {
+        List<Integer> indexes = new ArrayList<>();
+        map.forEach(key, indexes::add);
+        return indexes;
+    }
+}
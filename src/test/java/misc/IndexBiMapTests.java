@@ -24,7 +24,7 @@ import io.github.palexdev.virtualizedfx.utils.IndexBiMap;
 import org.junit.jupiter.api.Test;
 import src.model.User;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class IndexBiMapTests {
 
@@ -82,4 +82,34 @@ public class IndexBiMapTests {
         }
         assertTrue(map.isValid());
     }
+
+    @Test
+    void testRemovals() {
+        String s0 = "String 0";
+        String s1 = "String 1";
+        IndexBiMap<String, Integer> map = new IndexBiMap<>();
+        map.put(0, s0, 0);
+        map.put(1, s1, 1);
+        map.put(2, s0, 2);
+        assertTrue(map.isValid());
+
+        assertEquals(2, map.remove(2, false));
+        assertFalse(map.isValid());
+        map.put(2, s0, 2);
+        assertTrue(map.isValid());
+
+        assertEquals(0, map.remove(0, true));
+        assertTrue(map.isValid());
+        assertEquals(List.of(2), map.get(s0));
+
+        // Overwriting an index with another key unlinks the old one
+        map.put(2, s1, 3);
+        assertTrue(map.isValid());
+        assertFalse(map.contains(s0));
+        assertEquals(List.of(1, 3), map.get(s1));
+
+        assertEquals(1, map.remove(s1));
+        assertTrue(map.isValid());
+        assertEquals(1, map.resolve().size());
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package misc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+import io.github.palexdev.virtualizedfx.base.VFXDataSource;
+import io.github.palexdev.virtualizedfx.utils.VFXPagedList;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PagedListTests {
+
+    @Test
+    void testLoadAndPlaceholders() {
+        Source source = new Source(100, true);
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Executor deferred = tasks::add;
+        VFXPagedList<Integer> list = new VFXPagedList<>(source, 10, 4, deferred, Runnable::run);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) changes.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemovedSize());
+        });
+
+        assertEquals(100, list.size());
+        assertEquals(-15, list.get(15));
+        assertEquals(-16, list.get(16)); // Same page, requested only once
+        assertEquals(1, tasks.size());
+        assertTrue(list.isLoading());
+
+        tasks.poll().run();
+        assertFalse(list.isLoading());
+        assertTrue(list.isLoaded(15));
+        assertEquals(15, list.get(15));
+        assertEquals(List.of("10-20:10"), changes);
+        assertEquals(1, source.loads);
+    }
+
+    @Test
+    void testEviction() {
+        Source source = new Source(100, true);
+        VFXPagedList<Integer> list = new VFXPagedList<>(source, 10, 2, Runnable::run, Runnable::run);
+        assertEquals(0, list.get(0));
+        assertEquals(10, list.get(10));
+        assertEquals(20, list.get(20));
+        assertFalse(list.isLoaded(0));
+        assertTrue(list.isLoaded(10));
+        assertTrue(list.isLoaded(20));
+        assertEquals(3, source.loads);
+
+        list.prefetch(30, 50);
+        assertTrue(list.isLoaded(30));
+        assertTrue(list.isLoaded(49));
+        assertEquals(5, source.loads);
+    }
+
+    @Test
+    void testEstimatedSize() {
+        Source source = new Source(25, false);
+        source.estimate = 1000;
+        VFXPagedList<Integer> list = new VFXPagedList<>(source, 10, 4, Runnable::run, Runnable::run);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) changes.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemovedSize());
+        });
+        assertEquals(1000, list.size());
+        assertFalse(list.isSizeExact());
+
+        list.get(21);
+        assertEquals(25, list.size());
+        assertTrue(list.isSizeExact());
+        assertEquals(List.of("20-25:5", "25-25:975"), changes);
+    }
+
+    @Test
+    void testRefresh() {
+        Source source = new Source(100, true);
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        VFXPagedList<Integer> list = new VFXPagedList<>(source, 10, 4, tasks::add, Runnable::run);
+        list.get(5);
+        Runnable stale = tasks.poll();
+
+        source.size = 50;
+        list.refresh();
+        assertEquals(50, list.size());
+
+        // Results from before the refresh are ignored
+        stale.run();
+        assertFalse(list.isLoaded(5));
+        assertEquals(-5, list.get(5));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void testFailedLoad() {
+        Source source = new Source(100, true);
+        source.fail = true;
+        VFXPagedList<Integer> list = new VFXPagedList<>(source, 10, 4, Runnable::run, Runnable::run);
+        assertEquals(-5, list.get(5));
+        assertFalse(list.isLoaded(5));
+
+        // Retried on the next request
+        source.fail = false;
+        assertEquals(5, list.get(5));
+        assertEquals(2, source.loads);
+    }
+
+    //================================================================================
+    // Internal Classes
+    //================================================================================
+    private static class Source implements VFXDataSource<Integer> {
+        private int size;
+        private final boolean exact;
+        private int estimate = -1;
+        private boolean fail = false;
+        private int loads = 0;
+
+        Source(int size, boolean exact) {
+            this.size = size;
+            this.exact = exact;
+        }
+
+        @Override
+        public int size() {
+            return exact ? size : estimate;
+        }
+
+        @Override
+        public boolean isSizeExact() {
+            return exact;
+        }
+
+        @Override
+        public List<Integer> load(int offset, int count) throws Exception {
+            loads++;
+            if (fail) throw new Exception("Load failed");
+            return IntStream.range(offset, Math.min(size, offset + count)).boxed().toList();
+        }
+
+        @Override
+        public Integer placeholder(int index) {
+            return -index;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Parisi Alessandro - alessandro.parisi406@gmail.com
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX)
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package misc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.github.palexdev.virtualizedfx.utils.SizeIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SizeIndexTests {
+
+    @Test
+    void testUniform() {
+        SizeIndex index = new SizeIndex(100, 32.0);
+        assertFalse(index.hasDeltas());
+        assertEquals(3200.0, index.total());
+        assertEquals(320.0, index.offsetOf(10));
+        assertEquals(0, index.indexAt(-10.0));
+        assertEquals(10, index.indexAt(320.0));
+        assertEquals(10, index.indexAt(351.9));
+        assertEquals(99, index.indexAt(10_000.0));
+    }
+
+    @Test
+    void testSetAndSearch() {
+        SizeIndex index = new SizeIndex(10, 10.0);
+        assertTrue(index.set(3, 50.0));
+        assertFalse(index.set(3, 50.0));
+        assertTrue(index.hasDeltas());
+
+        assertEquals(50.0, index.get(3));
+        assertEquals(30.0, index.offsetOf(3));
+        assertEquals(80.0, index.offsetOf(4));
+        assertEquals(140.0, index.total());
+        assertEquals(3, index.indexAt(79.0));
+        assertEquals(4, index.indexAt(80.0));
+
+        index.setBase(20.0);
+        assertEquals(60.0, index.get(3));
+        assertEquals(240.0, index.total());
+
+        index.reset(3);
+        assertEquals(200.0, index.total());
+    }
+
+    @Test
+    void testStructuralChanges() {
+        Random random = new Random(7);
+        SizeIndex index = new SizeIndex(50, 5.0);
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) expected.add(5.0);
+
+        for (int op = 0; op < 500; op++) {
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    if (expected.isEmpty()) continue;
+                    int i = random.nextInt(expected.size());
+                    double v = random.nextInt(40);
+                    index.set(i, v);
+                    expected.set(i, v);
+                }
+                case 2 -> {
+                    int i = random.nextInt(expected.size() + 1);
+                    int count = random.nextInt(4);
+                    index.insert(i, count);
+                    for (int j = 0; j < count; j++) expected.add(i, 5.0);
+                }
+                default -> {
+                    if (expected.isEmpty()) continue;
+                    int i = random.nextInt(expected.size());
+                    int count = random.nextInt(expected.size() - i) + 1;
+                    index.remove(i, count);
+                    expected.subList(i, i + count).clear();
+                }
+            }
+            assertState(expected, index);
+        }
+    }
+
+    private void assertState(List<Double> expected, SizeIndex index) {
+        assertEquals(expected.size(), index.size());
+        double offset = 0.0;
+        for (int i = 0; i < expected.size(); i++) {
+            double size = expected.get(i);
+            assertEquals(size, index.get(i), 1e-9);
+            assertEquals(offset, index.offsetOf(i), 1e-9);
+            if (size > 0) assertEquals(i, index.indexAt(offset + size / 2));
+            offset += size;
+        }
+        assertEquals(offset, index.total(), 1e-9);
+    }
+}
@@ -21,6 +21,9 @@ package src.utils;
 import java.util.concurrent.TimeoutException;
 
 import javafx.scene.Scene;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.ScrollEvent.HorizontalTextScrollUnits;
+import javafx.scene.input.ScrollEvent.VerticalTextScrollUnits;
 import javafx.scene.layout.StackPane;
 import org.testfx.api.FxToolkit;
 
@@ -73,6 +76,17 @@ public class TestFXUtils {
         return pane;
     }
 
+    /// Builds a vertical [ScrollEvent] with the given delta, negative values scroll down.
+    public static ScrollEvent scrollEvent(double deltaY) {
+        return new ScrollEvent(
+            ScrollEvent.SCROLL, 0, 0, 0, 0,
+            false, false, false, false, false, false,
+            0, deltaY, 0, deltaY,
+            HorizontalTextScrollUnits.NONE, 0, VerticalTextScrollUnits.NONE, 0,
+            0, null
+        );
+    }
+
     public static class Counter {
         public int created = 0;
         private int layoutCnt = 0;